@@ -20,6 +20,7 @@ plugins {
     id("com.github.ben-manes.versions") version "0.51.0"
     id("io.franzbecker.gradle-lombok") version "5.0.0"
     id("org.flywaydb.flyway") version "10.17.3"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "de.bund.digitalservice"
@@ -63,6 +64,15 @@ testlogger {
     theme = ThemeType.MOCHA
 }
 
+jmh {
+    // the benchmarks read the docx files of the test resources
+    includeTests.set(true)
+    // report the allocation rate next to the throughput
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    project.findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+}
+
 configurations {
     compileOnly {
         extendsFrom(annotationProcessor.get())
@@ -171,6 +181,9 @@ dependencies {
     implementation("org.postgresql:postgresql:42.7.4")
 
     implementation("com.sendinblue:sib-api-v3-sdk:7.0.0")
+    // the sdk pins okio 1.x, which doesn't work with the okhttp 4 client of the mail sender
+    implementation("com.squareup.okhttp3:okhttp:4.12.0")
+    implementation("com.squareup.okio:okio:3.6.0")
     // CVE-2022-4244
     implementation("org.codehaus.plexus:plexus-utils:4.0.1")
 
@@ -0,0 +1,454 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocxMetadataProperty;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.docx4j.XmlUtils;
+import org.docx4j.dml.wordprocessingDrawing.Inline;
+import org.docx4j.jaxb.Context;
+import org.docx4j.model.table.TblFactory;
+import org.docx4j.openpackaging.packages.WordprocessingMLPackage;
+import org.docx4j.openpackaging.parts.PartName;
+import org.docx4j.openpackaging.parts.WordprocessingML.BinaryPart;
+import org.docx4j.openpackaging.parts.WordprocessingML.FootnotesPart;
+import org.docx4j.openpackaging.parts.WordprocessingML.ImagePngPart;
+import org.docx4j.openpackaging.parts.WordprocessingML.MainDocumentPart;
+import org.docx4j.openpackaging.parts.WordprocessingML.MetafileEmfPart;
+import org.docx4j.openpackaging.parts.WordprocessingML.NumberingDefinitionsPart;
+import org.docx4j.wml.BooleanDefaultTrue;
+import org.docx4j.wml.CTBorder;
+import org.docx4j.wml.CTCnf;
+import org.docx4j.wml.CTFtnEdn;
+import org.docx4j.wml.CTFtnEdnRef;
+import org.docx4j.wml.CTShd;
+import org.docx4j.wml.CTTblPrBase;
+import org.docx4j.wml.CTTblPrBase.TblStyle;
+import org.docx4j.wml.CTTblStylePr;
+import org.docx4j.wml.Drawing;
+import org.docx4j.wml.HpsMeasure;
+import org.docx4j.wml.ObjectFactory;
+import org.docx4j.wml.P;
+import org.docx4j.wml.PPr;
+import org.docx4j.wml.PPrBase.NumPr;
+import org.docx4j.wml.PPrBase.PStyle;
+import org.docx4j.wml.R;
+import org.docx4j.wml.RPr;
+import org.docx4j.wml.STBorder;
+import org.docx4j.wml.STShd;
+import org.docx4j.wml.STTblStyleOverrideType;
+import org.docx4j.wml.Style;
+import org.docx4j.wml.Tbl;
+import org.docx4j.wml.TblBorders;
+import org.docx4j.wml.Tc;
+import org.docx4j.wml.TcPr;
+import org.docx4j.wml.Text;
+import org.docx4j.wml.Tr;
+import org.freehep.graphicsio.emf.EMFConstants;
+import org.freehep.graphicsio.emf.EMFHandleManager;
+import org.freehep.graphicsio.emf.EMFOutputStream;
+import org.freehep.graphicsio.emf.gdi.CreateBrushIndirect;
+import org.freehep.graphicsio.emf.gdi.EMFRectangle;
+import org.freehep.graphicsio.emf.gdi.EOF;
+import org.freehep.graphicsio.emf.gdi.Ellipse;
+import org.freehep.graphicsio.emf.gdi.LogBrush32;
+import org.freehep.graphicsio.emf.gdi.SelectObject;
+
+/**
+ * Synthetic docx files for the benchmarks of the docx conversion. Every document has metadata
+ * properties and the given number of pages of one {@link Kind}, a page has about {@value
+ * #PARAGRAPHS_PER_PAGE} paragraphs.
+ */
+public final class DocxBenchmarkCorpus {
+  static final int PARAGRAPHS_PER_PAGE = 25;
+
+  private static final ObjectFactory FACTORY = Context.getWmlObjectFactory();
+  private static final String TABLE_STYLE_ID = "BenchmarkTable";
+  private static final String BORDER_NUMBER_STYLE_ID = "RandNummer";
+  private static final int DISTINCT_IMAGES = 8;
+  private static final String WORDS =
+      "Die Revision der Klägerin gegen das Urteil des Oberlandesgerichts wird auf ihre Kosten"
+          + " zurückgewiesen, weil das Berufungsgericht die Voraussetzungen des Anspruchs"
+          + " rechtsfehlerfrei verneint hat";
+
+  /** Content of the pages of a synthetic docx file. */
+  public enum Kind {
+    /** formatted paragraphs with border numbers */
+    TEXT,
+    /** one table with a conditional table style per page */
+    TABLES,
+    /** two inline PNG images per page */
+    IMAGES,
+    /** one inline EMF image per page */
+    EMF,
+    /** numbering list entries in up to nine levels */
+    LISTS,
+    /** paragraphs with footnote references */
+    FOOTNOTES
+  }
+
+  private DocxBenchmarkCorpus() {}
+
+  /**
+   * Generate a docx file.
+   *
+   * @param kind content of the pages
+   * @param pages number of pages
+   * @return the bytes of the docx file
+   * @throws Exception if the docx file couldn't be generated
+   */
+  public static byte[] generate(Kind kind, int pages) throws Exception {
+    WordprocessingMLPackage mlPackage = WordprocessingMLPackage.createPackage();
+    MainDocumentPart mainDocumentPart = mlPackage.getMainDocumentPart();
+    addMetadata(mlPackage);
+
+    switch (kind) {
+      case TEXT -> addTextPages(mainDocumentPart, pages);
+      case TABLES -> addTablePages(mainDocumentPart, pages);
+      case IMAGES -> addImagePages(
+          mainDocumentPart, pages, generateImageParts(mlPackage, false), 2);
+      case EMF -> addImagePages(mainDocumentPart, pages, generateImageParts(mlPackage, true), 1);
+      case LISTS -> addListPages(mainDocumentPart, pages);
+      case FOOTNOTES -> addFootnotePages(mainDocumentPart, pages);
+    }
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    mlPackage.save(outputStream);
+    return outputStream.toByteArray();
+  }
+
+  private static void addMetadata(WordprocessingMLPackage mlPackage) {
+    mlPackage.addDocPropsCustomPart();
+    var customPart = mlPackage.getDocPropsCustomPart();
+    customPart.setProperty(DocxMetadataProperty.FILE_NUMBER.getKey(), "I ZR 1/24");
+    customPart.setProperty(DocxMetadataProperty.DECISION_DATE.getKey(), "01.02.2024");
+    customPart.setProperty(DocxMetadataProperty.COURT_TYPE.getKey(), "BGH");
+    customPart.setProperty(DocxMetadataProperty.DOCUMENT_TYPE.getKey(), "Urteil");
+    customPart.setProperty(DocxMetadataProperty.ECLI.getKey(), "ECLI:DE:BGH:2024:010224UIZR1.24.0");
+  }
+
+  private static void addTextPages(MainDocumentPart mainDocumentPart, int pages) {
+    mainDocumentPart
+        .getStyleDefinitionsPart()
+        .getJaxbElement()
+        .getStyle()
+        .add(generateBorderNumberStyle());
+
+    int borderNumber = 1;
+    for (int page = 0; page < pages; page++) {
+      for (int i = 0; i < PARAGRAPHS_PER_PAGE; i++) {
+        if (i % 5 == 0) {
+          mainDocumentPart.addObject(generateBorderNumber(borderNumber++));
+        }
+        mainDocumentPart.addObject(generateParagraph(page * PARAGRAPHS_PER_PAGE + i));
+      }
+    }
+  }
+
+  private static void addTablePages(MainDocumentPart mainDocumentPart, int pages) {
+    mainDocumentPart
+        .getStyleDefinitionsPart()
+        .getJaxbElement()
+        .getStyle()
+        .add(generateTableStyle());
+
+    for (int page = 0; page < pages; page++) {
+      for (int i = 0; i < 5; i++) {
+        mainDocumentPart.addObject(generateParagraph(page * 5 + i));
+      }
+      mainDocumentPart.addObject(generateTable(page, 10, 5));
+    }
+  }
+
+  private static void addImagePages(
+      MainDocumentPart mainDocumentPart, int pages, List<String> relationshipIds, int imagesPerPage)
+      throws Exception {
+    int image = 0;
+    for (int page = 0; page < pages; page++) {
+      for (int i = 0; i < PARAGRAPHS_PER_PAGE - 5; i++) {
+        mainDocumentPart.addObject(generateParagraph(page * PARAGRAPHS_PER_PAGE + i));
+      }
+      for (int i = 0; i < imagesPerPage; i++) {
+        String relationshipId = relationshipIds.get(image % relationshipIds.size());
+        mainDocumentPart.addObject(generateImageParagraph(relationshipId, image++));
+      }
+    }
+  }
+
+  private static void addListPages(MainDocumentPart mainDocumentPart, int pages) throws Exception {
+    NumberingDefinitionsPart numberingPart = new NumberingDefinitionsPart();
+    mainDocumentPart.addTargetPart(numberingPart);
+    numberingPart.unmarshalDefaultNumbering();
+
+    int entry = 0;
+    for (int page = 0; page < pages; page++) {
+      mainDocumentPart.addObject(generateParagraph(page));
+      for (int i = 0; i < PARAGRAPHS_PER_PAGE - 1; i++) {
+        // walk down to the ninth level and up again: 0, 1, ..., 8, 7, ..., 1, 0, 1, ...
+        int position = entry % 16;
+        int level = position <= 8 ? position : 16 - position;
+        mainDocumentPart.addObject(generateListEntry(entry++, level));
+      }
+    }
+  }
+
+  private static void addFootnotePages(MainDocumentPart mainDocumentPart, int pages)
+      throws Exception {
+    FootnotesPart footnotesPart = new FootnotesPart();
+    footnotesPart.setJaxbElement(FACTORY.createCTFootnotes());
+    mainDocumentPart.addTargetPart(footnotesPart);
+
+    int footnote = 1;
+    for (int page = 0; page < pages; page++) {
+      for (int i = 0; i < PARAGRAPHS_PER_PAGE; i++) {
+        P paragraph = generateParagraph(page * PARAGRAPHS_PER_PAGE + i);
+        if (i % 2 == 0) {
+          CTFtnEdnRef reference = FACTORY.createCTFtnEdnRef();
+          reference.setId(BigInteger.valueOf(footnote));
+          R run = FACTORY.createR();
+          run.getContent().add(FACTORY.createRFootnoteReference(reference));
+          paragraph.getContent().add(run);
+
+          CTFtnEdn note = FACTORY.createCTFtnEdn();
+          note.setId(BigInteger.valueOf(footnote));
+          note.getContent().add(generateParagraph(footnote));
+          footnotesPart.getJaxbElement().getFootnote().add(note);
+          footnote++;
+        }
+        mainDocumentPart.addObject(paragraph);
+      }
+    }
+  }
+
+  private static P generateParagraph(int index) {
+    P paragraph = FACTORY.createP();
+    paragraph.getContent().add(generateRun(index + ". " + WORDS, index % 3 == 0, 20 + index % 5));
+    paragraph.getContent().add(generateRun(" " + WORDS + ".", false, 24));
+    return paragraph;
+  }
+
+  private static R generateRun(String value, boolean bold, int size) {
+    Text text = FACTORY.createText();
+    text.setValue(value);
+    text.setSpace("preserve");
+
+    RPr rPr = FACTORY.createRPr();
+    HpsMeasure hpsMeasure = FACTORY.createHpsMeasure();
+    hpsMeasure.setVal(BigInteger.valueOf(size));
+    rPr.setSz(hpsMeasure);
+    if (bold) {
+      rPr.setB(new BooleanDefaultTrue());
+    }
+
+    R run = FACTORY.createR();
+    run.setRPr(rPr);
+    run.getContent().add(FACTORY.createRT(text));
+    return run;
+  }
+
+  private static Style generateBorderNumberStyle() {
+    Style.Name name = FACTORY.createStyleName();
+    name.setVal(BORDER_NUMBER_STYLE_ID);
+    Style style = FACTORY.createStyle();
+    style.setType("paragraph");
+    style.setStyleId(BORDER_NUMBER_STYLE_ID);
+    style.setName(name);
+    return style;
+  }
+
+  private static P generateBorderNumber(int number) {
+    PStyle pStyle = FACTORY.createPPrBasePStyle();
+    pStyle.setVal(BORDER_NUMBER_STYLE_ID);
+    PPr pPr = FACTORY.createPPr();
+    pPr.setPStyle(pStyle);
+
+    P paragraph = FACTORY.createP();
+    paragraph.setPPr(pPr);
+    paragraph.getContent().add(generateRun(String.valueOf(number), false, 24));
+    return paragraph;
+  }
+
+  private static P generateListEntry(int index, int level) {
+    NumPr numPr = FACTORY.createPPrBaseNumPr();
+    NumPr.NumId numId = FACTORY.createPPrBaseNumPrNumId();
+    numId.setVal(BigInteger.ONE);
+    numPr.setNumId(numId);
+    NumPr.Ilvl ilvl = FACTORY.createPPrBaseNumPrIlvl();
+    ilvl.setVal(BigInteger.valueOf(level));
+    numPr.setIlvl(ilvl);
+    PPr pPr = FACTORY.createPPr();
+    pPr.setNumPr(numPr);
+
+    P paragraph = generateParagraph(index);
+    paragraph.setPPr(pPr);
+    return paragraph;
+  }
+
+  private static Style generateTableStyle() {
+    CTBorder border = new CTBorder();
+    border.setVal(STBorder.SINGLE);
+    border.setSz(BigInteger.valueOf(4));
+    TblBorders borders = new TblBorders();
+    borders.setTop(border);
+    borders.setLeft(border);
+    borders.setBottom(border);
+    borders.setRight(border);
+    borders.setInsideH(border);
+    borders.setInsideV(border);
+    CTTblPrBase tblPr = new CTTblPrBase();
+    tblPr.setTblBorders(borders);
+
+    Style style = new Style();
+    style.setType("table");
+    style.setStyleId(TABLE_STYLE_ID);
+    style.setTblPr(tblPr);
+    for (STTblStyleOverrideType type : STTblStyleOverrideType.values()) {
+      CTShd shd = new CTShd();
+      shd.setVal(STShd.CLEAR);
+      shd.setFill(String.format("%06x", 0xf0f0f0 - type.ordinal() * 0x101010));
+      TcPr tcPr = new TcPr();
+      tcPr.setShd(shd);
+      RPr rPr = new RPr();
+      rPr.setB(new BooleanDefaultTrue());
+      CTTblStylePr tblStylePr = new CTTblStylePr();
+      tblStylePr.setType(type);
+      tblStylePr.setTcPr(tcPr);
+      tblStylePr.setRPr(rPr);
+      style.getTblStylePr().add(tblStylePr);
+    }
+    return style;
+  }
+
+  private static Tbl generateTable(int index, int rows, int columns) {
+    Tbl table = TblFactory.createTable(rows, columns, 1800);
+    TblStyle tblStyle = FACTORY.createCTTblPrBaseTblStyle();
+    tblStyle.setVal(TABLE_STYLE_ID);
+    table.getTblPr().setTblStyle(tblStyle);
+
+    for (int row = 0; row < table.getContent().size(); row++) {
+      Tr tr = (Tr) XmlUtils.unwrap(table.getContent().get(row));
+      for (int column = 0; column < tr.getContent().size(); column++) {
+        Tc tc = (Tc) XmlUtils.unwrap(tr.getContent().get(column));
+        CTCnf cnf = FACTORY.createCTCnf();
+        cnf.setVal(row == 0 ? "100000000000" : row % 2 == 1 ? "000000100000" : "000000010000");
+        TcPr tcPr = tc.getTcPr() == null ? FACTORY.createTcPr() : tc.getTcPr();
+        tcPr.setCnfStyle(cnf);
+        tc.setTcPr(tcPr);
+        tc.getContent().clear();
+        P paragraph = FACTORY.createP();
+        paragraph
+            .getContent()
+            .add(generateRun("cell " + index + "-" + row + "-" + column, false, 20));
+        tc.getContent().add(paragraph);
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Add distinct images to the package. Court documents repeat the same logos and stamps, so the
+   * pages use a small number of distinct images.
+   *
+   * @return the relationship ids of the images
+   */
+  private static List<String> generateImageParts(WordprocessingMLPackage mlPackage, boolean emf)
+      throws Exception {
+    List<String> relationshipIds = new ArrayList<>();
+    for (int i = 0; i < DISTINCT_IMAGES; i++) {
+      BinaryPart part;
+      if (emf) {
+        part = new MetafileEmfPart(new PartName("/word/media/benchmark" + i + ".emf"));
+        part.setBinaryData(generateEmf(i));
+      } else {
+        part = new ImagePngPart(new PartName("/word/media/benchmark" + i + ".png"));
+        part.setBinaryData(generatePng(i));
+      }
+      var relationship = mlPackage.getMainDocumentPart().addTargetPart(part);
+      relationshipIds.add(relationship.getId());
+    }
+    return relationshipIds;
+  }
+
+  private static byte[] generatePng(int index) throws IOException {
+    BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+    var graphics = image.createGraphics();
+    graphics.setColor(new Color(0x1f3864 + index * 0x101010));
+    graphics.fillRect(0, 0, 200, 100);
+    graphics.setColor(Color.WHITE);
+    graphics.drawString("image " + index, 20, 50);
+    graphics.dispose();
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", outputStream);
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Generate an EMF image with a background and a stamp. The records are written directly, because
+   * the EMF graphics of freehep need a screen for the header of the file.
+   */
+  private static byte[] generateEmf(int index) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    Rectangle bounds = new Rectangle(0, 0, 200, 100);
+    EMFHandleManager handles = new EMFHandleManager();
+    try (EMFOutputStream emf =
+        new EMFOutputStream(
+            outputStream, bounds, handles, "ris", "stamp " + index, new Dimension(1920, 1080))) {
+      int background = handles.getHandle();
+      emf.writeTag(
+          new CreateBrushIndirect(
+              background,
+              new LogBrush32(EMFConstants.BS_SOLID, new Color(0x1f3864 + index * 0x101010), 0)));
+      emf.writeTag(new SelectObject(background));
+      emf.writeTag(new EMFRectangle(bounds));
+
+      int stamp = handles.getHandle();
+      emf.writeTag(
+          new CreateBrushIndirect(stamp, new LogBrush32(EMFConstants.BS_SOLID, Color.WHITE, 0)));
+      emf.writeTag(new SelectObject(stamp));
+      emf.writeTag(new Ellipse(new Rectangle(20 + index * 10, 20, 60, 60)));
+      emf.writeTag(new EOF());
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static P generateImageParagraph(String relationshipId, int index) throws Exception {
+    String xml =
+        "<wp:inline distT=\"0\" distB=\"0\" distL=\"0\" distR=\"0\""
+            + " xmlns:wp=\"http://schemas.openxmlformats.org/drawingml/2006/wordprocessingDrawing\""
+            + " xmlns:a=\"http://schemas.openxmlformats.org/drawingml/2006/main\""
+            + " xmlns:pic=\"http://schemas.openxmlformats.org/drawingml/2006/picture\""
+            + " xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">"
+            + "<wp:extent cx=\"1905000\" cy=\"952500\"/>"
+            + "<wp:docPr id=\""
+            + (index + 1)
+            + "\" name=\"image "
+            + index
+            + "\"/>"
+            + "<a:graphic><a:graphicData"
+            + " uri=\"http://schemas.openxmlformats.org/drawingml/2006/picture\">"
+            + "<pic:pic><pic:nvPicPr><pic:cNvPr id=\"0\" name=\"image\"/><pic:cNvPicPr/>"
+            + "</pic:nvPicPr><pic:blipFill><a:blip r:embed=\""
+            + relationshipId
+            + "\"/><a:stretch><a:fillRect/></a:stretch></pic:blipFill>"
+            + "<pic:spPr><a:xfrm><a:off x=\"0\" y=\"0\"/><a:ext cx=\"1905000\" cy=\"952500\"/>"
+            + "</a:xfrm><a:prstGeom prst=\"rect\"><a:avLst/></a:prstGeom></pic:spPr>"
+            + "</pic:pic></a:graphicData></a:graphic></wp:inline>";
+    Inline inline = (Inline) XmlUtils.unwrap(XmlUtils.unmarshalString(xml));
+
+    Drawing drawing = FACTORY.createDrawing();
+    drawing.getAnchorOrInline().add(inline);
+    R run = FACTORY.createR();
+    run.getContent().add(FACTORY.createRDrawing(drawing));
+    P paragraph = FACTORY.createP();
+    paragraph.getContent().add(run);
+    return paragraph;
+  }
+}
@@ -0,0 +1,169 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.adapter.DocxBenchmarkCorpus.Kind;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ConversionContext;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocumentationUnitDocxListUtils;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverter;
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocumentationUnitDocx;
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import de.bund.digitalservice.ris.caselaw.domain.docx.MetadataProperty;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.docx4j.openpackaging.packages.WordprocessingMLPackage;
+import org.docx4j.wml.Style;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion of the synthetic docx files of the {@link DocxBenchmarkCorpus} end to end
+ * and in its stages: load the docx file, read the styles and the conversion context, convert the
+ * elements, render the html and read the metadata.
+ *
+ * <p>The stages use the results of the previous stages, which are prepared once per trial. The html
+ * rendering includes the packing of the lists and border numbers, which changes the elements, so it
+ * gets newly converted elements per invocation.
+ *
+ * <p>The {@link EmfRenderCache} and the conversion context are shared by all invocations of a
+ * trial, so {@link #endToEnd()} and {@link #convertElements()} are warm cache benchmarks: the EMF
+ * images are rendered only in the first invocation, like for a docx file with the logos and stamps
+ * of former conversions. The {@code ColdCache} variants get a new cache per invocation and render
+ * all EMF images, like for a docx file with new images. For documents without EMF images both
+ * variants measure the same.
+ *
+ * <p>Run with {@code ./gradlew jmh}, the gc profiler reports the allocation rate next to the
+ * throughput. A single benchmark is selected with {@code -PjmhIncludes=<regex>}, e.g. {@code
+ * -PjmhIncludes=DocxConversionBenchmark.endToEnd}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DocxConversionBenchmark {
+  @Param({"TEXT", "TABLES", "IMAGES", "EMF", "LISTS", "FOOTNOTES"})
+  private Kind kind;
+
+  @Param({"10", "100", "1000"})
+  private int pages;
+
+  private EmfRenderCache emfRenderCache;
+  private DocxConverterService service;
+  private byte[] docx;
+  private WordprocessingMLPackage mlPackage;
+  private ConversionContext context;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws Exception {
+    // the EMF images are cached over all invocations like over the conversions of the application
+    emfRenderCache = new EmfRenderCache(2, 256, 10);
+    service =
+        new DocxConverterService(
+            null, new DocxConverter(), null, null, null, emfRenderCache, 200, 4);
+    docx = DocxBenchmarkCorpus.generate(kind, pages);
+    mlPackage = WordprocessingMLPackage.load(new ByteArrayInputStream(docx));
+    context = service.readConversionContext(mlPackage);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDownTrial() {
+    service.destroy();
+    emfRenderCache.destroy();
+  }
+
+  @Benchmark
+  public Docx2Html endToEnd() {
+    return service.convert(new ByteArrayInputStream(docx));
+  }
+
+  @Benchmark
+  public Docx2Html endToEndColdCache(ColdCache coldCache) {
+    return coldCache.service.convert(new ByteArrayInputStream(docx));
+  }
+
+  @Benchmark
+  public WordprocessingMLPackage load() throws Exception {
+    return WordprocessingMLPackage.load(new ByteArrayInputStream(docx));
+  }
+
+  @Benchmark
+  public Map<String, Style> readStyles() {
+    return service.readStyles(mlPackage);
+  }
+
+  @Benchmark
+  public ConversionContext readConversionContext() {
+    return service.readConversionContext(mlPackage);
+  }
+
+  @Benchmark
+  public List<DocumentationUnitDocx> convertElements() {
+    return service.convertContent(mlPackage.getMainDocumentPart().getContent(), context);
+  }
+
+  /** Read the context and convert the elements, the EMF images are rendered in the background. */
+  @Benchmark
+  public List<DocumentationUnitDocx> convertElementsColdCache(ColdCache coldCache) {
+    return coldCache.service.convertContent(
+        mlPackage.getMainDocumentPart().getContent(),
+        coldCache.service.readConversionContext(mlPackage));
+  }
+
+  @Benchmark
+  public String renderHtml(ConvertedElements convertedElements) {
+    return DocxConverterService.toHtml(
+        DocumentationUnitDocxListUtils.packList(convertedElements.elements));
+  }
+
+  @Benchmark
+  public List<MetadataProperty> readMetadata() {
+    return service.readDocumentProperties(mlPackage);
+  }
+
+  /** Converted elements for the html rendering, which attaches them to the border numbers. */
+  @State(Scope.Thread)
+  public static class ConvertedElements {
+    private List<DocumentationUnitDocx> elements;
+
+    @Setup(Level.Invocation)
+    public void setUp(DocxConversionBenchmark benchmark) {
+      elements =
+          benchmark.service.convertContent(
+              benchmark.mlPackage.getMainDocumentPart().getContent(), benchmark.context);
+    }
+  }
+
+  /** Converter with an empty EMF cache for every invocation. */
+  @State(Scope.Thread)
+  public static class ColdCache {
+    private EmfRenderCache emfRenderCache;
+    private DocxConverterService service;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+      emfRenderCache = new EmfRenderCache(2, 256, 10);
+      service =
+          new DocxConverterService(
+              null, new DocxConverter(), null, null, null, emfRenderCache, 200, 4);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+      service.destroy();
+      emfRenderCache.destroy();
+    }
+  }
+}
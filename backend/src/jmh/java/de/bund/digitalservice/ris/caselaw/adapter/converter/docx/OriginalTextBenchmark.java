@@ -0,0 +1,89 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+import org.docx4j.openpackaging.packages.WordprocessingMLPackage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+/**
+ * Compares the extraction of the original text of a docx file with a DOM and XPath (the former
+ * implementation of {@code DocxConverterService.getOriginalText}) and with the {@link
+ * OriginalTextExtractor} on the docx files of the test resources.
+ *
+ * <p>Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OriginalTextBenchmark {
+  @Param({"attachment.docx", "attachment_ecli.docx", "with_metadata.docx"})
+  private String fixture;
+
+  private String xml;
+  private DocumentBuilderFactory documentBuilderFactory;
+
+  @Setup
+  public void setUp() throws Exception {
+    try (InputStream inputStream =
+        OriginalTextBenchmark.class.getClassLoader().getResourceAsStream("fixtures/" + fixture)) {
+      xml = WordprocessingMLPackage.load(inputStream).getMainDocumentPart().getXML();
+    }
+    documentBuilderFactory = createDocumentBuilderFactory();
+  }
+
+  @Benchmark
+  public String domAndXPath() throws Exception {
+    Document doc =
+        documentBuilderFactory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+    NodeList nodeList =
+        (NodeList)
+            XPathFactory.newInstance()
+                .newXPath()
+                .compile("/document//t")
+                .evaluate(doc, XPathConstants.NODESET);
+
+    StringBuilder sb = new StringBuilder();
+    for (var i = 0; i < nodeList.getLength(); i++) {
+      sb.append(nodeList.item(i).getTextContent());
+    }
+    return sb.toString();
+  }
+
+  @Benchmark
+  public String stax() throws Exception {
+    return OriginalTextExtractor.extractText(xml);
+  }
+
+  /** The secure factory of the former implementation, so the comparison stays fair. */
+  private static DocumentBuilderFactory createDocumentBuilderFactory() throws Exception {
+    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+    factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+    factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+    factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+    factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+    return factory;
+  }
+}
@@ -0,0 +1,146 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import jakarta.xml.bind.JAXBElement;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.xml.namespace.QName;
+import org.docx4j.wml.CTBorder;
+import org.docx4j.wml.CTCnf;
+import org.docx4j.wml.CTTblPrBase.TblStyle;
+import org.docx4j.wml.CTTblStylePr;
+import org.docx4j.wml.ObjectFactory;
+import org.docx4j.wml.P;
+import org.docx4j.wml.R;
+import org.docx4j.wml.RPr;
+import org.docx4j.wml.STTblStyleOverrideType;
+import org.docx4j.wml.Style;
+import org.docx4j.wml.Tbl;
+import org.docx4j.wml.TblPr;
+import org.docx4j.wml.Tc;
+import org.docx4j.wml.TcPr;
+import org.docx4j.wml.TcPrInner.TcBorders;
+import org.docx4j.wml.Text;
+import org.docx4j.wml.Tr;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion of a table heavy docx file: tables with a table style, which uses all
+ * conditional formats, and cells, which activate all conditional formats.
+ *
+ * <p>Every invocation uses a new {@link ConversionContext}, so the resolved table styles are cached
+ * like for the conversion of one docx file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableConversionBenchmark {
+  private static final String STYLE_ID = "table-style";
+  private static final ObjectFactory FACTORY = new ObjectFactory();
+
+  @Param({"10", "50"})
+  private int tableCount;
+
+  @Param({"30"})
+  private int rowCount;
+
+  @Param({"6"})
+  private int columnCount;
+
+  private List<Tbl> tables;
+  private Map<String, Style> styles;
+
+  @Setup
+  public void setUp() {
+    styles = Map.of(STYLE_ID, generateTableStyle());
+    tables = new ArrayList<>();
+    for (int i = 0; i < tableCount; i++) {
+      tables.add(generateTable());
+    }
+  }
+
+  @Benchmark
+  public String convertTables() {
+    var context = ConversionContext.builder().styles(styles).build();
+    var sb = new StringBuilder();
+    for (Tbl table : tables) {
+      sb.append(
+          DocxTableBuilder.newInstance()
+              .setTable(table)
+              .setContext(context)
+              .build()
+              .toHtmlString());
+    }
+    return sb.toString();
+  }
+
+  private Style generateTableStyle() {
+    Style style = new Style();
+    int size = 2;
+    for (STTblStyleOverrideType type : STTblStyleOverrideType.values()) {
+      CTTblStylePr tblStylePr = new CTTblStylePr();
+      tblStylePr.setType(type);
+      TcPr tcPr = new TcPr();
+      TcBorders tcBorders = new TcBorders();
+      CTBorder border = new CTBorder();
+      border.setSz(BigInteger.valueOf(size));
+      tcBorders.setLeft(border);
+      tcPr.setTcBorders(tcBorders);
+      tblStylePr.setTcPr(tcPr);
+      RPr rPr = new RPr();
+      rPr.setB(FACTORY.createBooleanDefaultTrue());
+      tblStylePr.setRPr(rPr);
+      style.getTblStylePr().add(tblStylePr);
+      size += 2;
+    }
+    return style;
+  }
+
+  private Tbl generateTable() {
+    Tbl table = new Tbl();
+    TblPr tblPr = new TblPr();
+    TblStyle tblStyle = new TblStyle();
+    tblStyle.setVal(STYLE_ID);
+    tblPr.setTblStyle(tblStyle);
+    table.setTblPr(tblPr);
+
+    for (int row = 0; row < rowCount; row++) {
+      Tr tr = new Tr();
+      for (int column = 0; column < columnCount; column++) {
+        Text text = new Text();
+        text.setValue("r" + row + "c" + column);
+        R r = new R();
+        r.getContent().add(FACTORY.createRT(text));
+        P p = new P();
+        p.getContent().add(r);
+
+        CTCnf cnf = new CTCnf();
+        cnf.setVal(Integer.toBinaryString(4095));
+        TcPr tcPr = new TcPr();
+        tcPr.setCnfStyle(cnf);
+        Tc tc = new Tc();
+        tc.setTcPr(tcPr);
+        tc.getContent().add(p);
+        tr.getContent().add(new JAXBElement<>(new QName("tc"), Tc.class, tc));
+      }
+      table.getContent().add(tr);
+    }
+
+    return table;
+  }
+}
@@ -0,0 +1,127 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.transformer.AttachmentTransformer;
+import de.bund.digitalservice.ris.caselaw.domain.Attachment;
+import de.bund.digitalservice.ris.caselaw.domain.AttachmentException;
+import de.bund.digitalservice.ris.caselaw.domain.AttachmentService;
+import de.bund.digitalservice.ris.caselaw.domain.StringUtils;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * Validation and metadata of the attachments, which are stored in the bucket. The upload and the
+ * deletion of the files are implemented by the blocking {@link S3AttachmentService} and the {@link
+ * S3AsyncAttachmentService}.
+ */
+@Slf4j
+abstract class AbstractS3AttachmentService implements AttachmentService {
+  protected final AttachmentRepository repository;
+  protected final DatabaseDocumentationUnitRepository documentationUnitRepository;
+  protected final DocxConversionCache conversionCache;
+
+  @Value("${otc.obs.bucket-name}")
+  protected String bucketName;
+
+  protected AbstractS3AttachmentService(
+      AttachmentRepository repository,
+      DatabaseDocumentationUnitRepository documentationUnitRepository,
+      DocxConversionCache conversionCache) {
+    this.repository = repository;
+    this.documentationUnitRepository = documentationUnitRepository;
+    this.conversionCache = conversionCache;
+  }
+
+  @Override
+  public Attachment attachFileToDocumentationUnit(
+      UUID documentationUnitId, Path file, HttpHeaders httpHeaders) {
+    var fileUuid = UUID.randomUUID();
+    String fileName =
+        httpHeaders.containsKey("X-Filename")
+            ? httpHeaders.getFirst("X-Filename")
+            : "Kein Dateiname gefunden";
+
+    checkDocx(file);
+
+    putObjectIntoBucket(buildPutObjectRequest(fileUuid.toString(), httpHeaders), file);
+
+    AttachmentDTO attachmentDTO =
+        AttachmentDTO.builder()
+            .id(fileUuid)
+            .s3ObjectPath(fileUuid.toString())
+            .documentationUnit(
+                documentationUnitRepository.findById(documentationUnitId).orElseThrow())
+            .filename(fileName)
+            .format("docx")
+            .uploadTimestamp(Instant.now())
+            .build();
+
+    return AttachmentTransformer.transformToDomain(repository.save(attachmentDTO));
+  }
+
+  /**
+   * Check that the file is a docx file. Only the central directory of the zip file is read, the
+   * entries aren't inflated.
+   *
+   * @param file the uploaded file
+   * @throws ResponseStatusException with status unsupported media type, if the file isn't a docx
+   *     file
+   */
+  void checkDocx(Path file) {
+    try (var zip = new ZipFile(file.toFile())) {
+      if (zip.stream()
+          .map(ZipEntry::getName)
+          .anyMatch(name -> name.startsWith("word/document") && name.endsWith(".xml"))) {
+        return;
+      }
+    } catch (IOException e) {
+      throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+    }
+    throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+  }
+
+  /**
+   * Upload the file into the bucket.
+   *
+   * @param putObjectRequest request with the bucket, the key and the content type of the file
+   * @param file the uploaded file
+   */
+  protected abstract void putObjectIntoBucket(PutObjectRequest putObjectRequest, Path file);
+
+  protected static void checkS3Path(String s3Path) {
+    if (StringUtils.returnTrueIfNullOrBlank(s3Path)) {
+      throw new AttachmentException("s3Path cant be null");
+    }
+  }
+
+  private PutObjectRequest buildPutObjectRequest(String fileUuid, HttpHeaders httpHeaders) {
+    MediaType mediaType = httpHeaders.getContentType();
+    if (mediaType == null) {
+      mediaType = MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    log.debug(
+        "upload header information: mediaType{}, contentLength={}",
+        mediaType,
+        httpHeaders.getContentLength());
+
+    return PutObjectRequest.builder()
+        .bucket(bucketName)
+        .key(fileUuid)
+        .contentType(mediaType.toString())
+        .build();
+  }
+}
@@ -10,6 +10,7 @@ import de.bund.digitalservice.ris.caselaw.domain.ApiKey;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOfficeUserGroup;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessDescriptor;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.Procedure;
 import de.bund.digitalservice.ris.caselaw.domain.ProcedureService;
@@ -100,9 +101,10 @@ public class AuthService {
    * Creates a Spring bean that checks if a user has read access to a {@link DocumentationUnit} by
    * its {@link DocumentationUnit#documentNumber() documentNumber}.
    *
-   * <p>The function retrieves the {@link DocumentationUnit} using the {@link
-   * DocumentationUnit#documentNumber() documentNumber} and checks if the user has read access.
-   * Returns {@link Boolean#FALSE false} if the {@link DocumentationUnit} is not found.
+   * <p>The function retrieves the {@link DocumentationUnitAccessDescriptor} of the {@link
+   * DocumentationUnit} using the {@link DocumentationUnit#documentNumber() documentNumber} and
+   * checks if the user has read access. Returns {@link Boolean#FALSE false} if the {@link
+   * DocumentationUnit} is not found.
    *
    * @return a {@link Function} that accepts a {@link DocumentationUnit#documentNumber()
    *     documentNumber} as {@link String} and returns {@link Boolean#TRUE true} if the user has
@@ -111,7 +113,8 @@ public class AuthService {
   @Bean
   public Function<String, Boolean> userHasReadAccessByDocumentNumber() {
     return documentNumber ->
-        Optional.ofNullable(documentationUnitService.getByDocumentNumber(documentNumber))
+        Optional.ofNullable(
+                documentationUnitService.getAccessDescriptorByDocumentNumber(documentNumber))
             .map(this::userHasReadAccess)
             .orElse(false);
   }
@@ -120,8 +123,9 @@ public class AuthService {
    * Creates a Spring bean that checks if a user has read access to a {@link DocumentationUnit} by
    * its {@link UUID}.
    *
-   * <p>The function retrieves the {@link DocumentationUnit} and checks if the user has read access.
-   * Returns {@link Boolean#FALSE false} if the {@link DocumentationUnit} is not found.
+   * <p>The function retrieves the {@link DocumentationUnitAccessDescriptor} of the {@link
+   * DocumentationUnit} and checks if the user has read access. Returns {@link Boolean#FALSE false}
+   * if the {@link DocumentationUnit} is not found.
    *
    * @return a {@link Function} that accepts a {@link UUID} and returns {@link Boolean#TRUE true} if
    *     the user has read access, otherwise {@link Boolean#FALSE false}.
@@ -129,7 +133,7 @@ public class AuthService {
   @Bean
   public Function<UUID, Boolean> userHasReadAccessByDocumentationUnitId() {
     return uuid ->
-        Optional.ofNullable(documentationUnitService.getByUuid(uuid))
+        Optional.ofNullable(documentationUnitService.getAccessDescriptorByUuid(uuid))
             .map(this::userHasReadAccess)
             .orElse(false);
   }
@@ -172,9 +176,10 @@ public class AuthService {
    * Creates a Spring bean that checks if a user has the same {@link DocumentationOffice} as the
    * {@link DocumentationUnit} by its {@link UUID}.
    *
-   * <p>The function retrieves the {@link DocumentationUnit} by its {@link UUID} and verifies if the
-   * user has the same {@link DocumentationOffice}. Returns {@link Boolean#FALSE false} if the
-   * {@link DocumentationUnit} is not found.
+   * <p>The function retrieves the {@link DocumentationUnitAccessDescriptor} of the {@link
+   * DocumentationUnit} by its {@link UUID} and verifies if the user has the same {@link
+   * DocumentationOffice}. Returns {@link Boolean#FALSE false} if the {@link DocumentationUnit} is
+   * not found.
    *
    * @return a {@link Function} that accepts a {@link UUID} and returns {@link Boolean#TRUE true} if
    *     the user has the same {@link DocumentationOffice}, otherwise {@link Boolean#FALSE false}.
@@ -182,7 +187,7 @@ public class AuthService {
   @Bean
   public Function<UUID, Boolean> userHasSameDocumentationOffice() {
     return uuid ->
-        Optional.ofNullable(documentationUnitService.getByUuid(uuid))
+        Optional.ofNullable(documentationUnitService.getAccessDescriptorByUuid(uuid))
             .map(this::userHasSameDocOfficeAsDocument)
             .orElse(false);
   }
@@ -191,9 +196,10 @@ public class AuthService {
    * Creates a Spring bean that checks if a {@link Procedure} associated with a {@link
    * DocumentationUnit} is assigned to the current {@link OidcUser}.
    *
-   * <p>The function retrieves the {@link Procedure} of the {@link DocumentationUnit} by the given
-   * {@link UUID} and verifies if it is assigned to the current {@link OidcUser}. Returns {@link
-   * Boolean#FALSE false} if no {@link DocumentationUnit} or {@link Procedure} is found.
+   * <p>The function retrieves the user group of the current {@link Procedure} of the {@link
+   * DocumentationUnit} by the given {@link UUID} and verifies if it is assigned to the current
+   * {@link OidcUser}. Returns {@link Boolean#FALSE false} if no {@link DocumentationUnit} or {@link
+   * Procedure} is found.
    *
    * @return a {@link Function} that accepts a {@link UUID} and returns {@link Boolean#TRUE true} if
    *     the {@link Procedure} is assigned to the current user, otherwise {@link Boolean#FALSE
@@ -202,13 +208,12 @@ public class AuthService {
   @Bean
   public Function<UUID, Boolean> isAssignedViaProcedure() {
     return uuid -> {
-      var documentationUnit = Optional.ofNullable(documentationUnitService.getByUuid(uuid));
+      var accessDescriptor =
+          Optional.ofNullable(documentationUnitService.getAccessDescriptorByUuid(uuid));
       Optional<OidcUser> oidcUser = getOidcUser();
-      if (documentationUnit.isPresent() && oidcUser.isPresent()) {
-        var procedure = documentationUnit.get().coreData().procedure();
-        if (procedure != null) {
-          return isProcedureAssignedToUser(procedure, oidcUser.get());
-        }
+      if (accessDescriptor.isPresent() && oidcUser.isPresent()) {
+        return isProcedureAssignedToUser(
+            accessDescriptor.get().procedureUserGroupId(), oidcUser.get());
       }
       return false;
     };
@@ -234,27 +239,32 @@ public class AuthService {
             .allMatch(allowedPaths::contains);
   }
 
-  private boolean isProcedureAssignedToUser(Procedure procedure, OidcUser oidcUser) {
+  private boolean isProcedureAssignedToUser(UUID procedureUserGroupId, OidcUser oidcUser) {
+    if (procedureUserGroupId == null) {
+      return false;
+    }
     var userGroupIdOfUser =
         userService.getUserGroup(oidcUser).map(DocumentationOfficeUserGroup::id).orElse(null);
-    return procedure.userGroupId() != null && procedure.userGroupId().equals(userGroupIdOfUser);
+    return procedureUserGroupId.equals(userGroupIdOfUser);
   }
 
-  private boolean userHasReadAccess(DocumentationUnit documentationUnit) {
+  private boolean userHasReadAccess(DocumentationUnitAccessDescriptor accessDescriptor) {
     List<PublicationStatus> published =
         List.of(PublicationStatus.PUBLISHED, PublicationStatus.PUBLISHING);
     // legacy documents are published
-    return documentationUnit.status() == null
-        || (documentationUnit.status().publicationStatus() != null
-            && published.contains(documentationUnit.status().publicationStatus()))
-        || userHasSameDocOfficeAsDocument(documentationUnit);
+    return accessDescriptor.status() == null
+        || (accessDescriptor.status().publicationStatus() != null
+            && published.contains(accessDescriptor.status().publicationStatus()))
+        || userHasSameDocOfficeAsDocument(accessDescriptor);
   }
 
-  private boolean userHasSameDocOfficeAsDocument(DocumentationUnit documentationUnit) {
+  private boolean userHasSameDocOfficeAsDocument(
+      DocumentationUnitAccessDescriptor accessDescriptor) {
     Optional<OidcUser> oidcUser = getOidcUser();
     if (oidcUser.isPresent()) {
       DocumentationOffice documentationOffice = userService.getDocumentationOffice(oidcUser.get());
-      return documentationUnit.coreData().documentationOffice().equals(documentationOffice);
+      return accessDescriptor.documentationOffice() != null
+          && accessDescriptor.documentationOffice().equals(documentationOffice);
     }
     return false;
   }
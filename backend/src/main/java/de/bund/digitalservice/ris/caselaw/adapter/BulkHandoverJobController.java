@@ -0,0 +1,83 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJob;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJobService;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverRequest;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitHandoverException;
+import java.net.URI;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Handover of many documentation units at once. The documentation units are handed over like in
+ * {@link DocumentationUnitController#handoverDocumentationUnitAsMail} by a background job. The
+ * client polls the job for the progress of the documentation units. An enqueued documentation unit
+ * is exported and its handover mail is in the outbox, the delivery of the mail is shown in the
+ * handover log of the documentation unit.
+ */
+@RestController
+@RequestMapping("api/v1/caselaw/documentunits/handover/jobs")
+@Slf4j
+public class BulkHandoverJobController {
+  private final BulkHandoverJobService jobService;
+
+  public BulkHandoverJobController(BulkHandoverJobService jobService) {
+    this.jobService = jobService;
+  }
+
+  /**
+   * Start a job to hand over the documentation units of the list and of the search filter. Only
+   * documentation units of the documentation office of the user are handed over.
+   *
+   * @param oidcUser the logged-in user, used to forward the response emails
+   * @param request the list of documentation units and/or the search filter
+   * @return the pending job, the location header contains the url of the job, or an empty response
+   *     with status code 400 if no or too many documentation units are selected
+   */
+  @PostMapping(
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE)
+  @PreAuthorize("@userIsInternal.apply(#oidcUser)")
+  public ResponseEntity<BulkHandoverJob> createBulkHandoverJob(
+      @AuthenticationPrincipal OidcUser oidcUser, @RequestBody BulkHandoverRequest request) {
+    BulkHandoverJob job;
+    try {
+      job = jobService.createJob(oidcUser, request);
+    } catch (DocumentationUnitHandoverException e) {
+      log.warn("Couldn't create bulk handover job: {}", e.getMessage());
+      return ResponseEntity.badRequest().build();
+    }
+
+    return ResponseEntity.accepted()
+        .location(URI.create("/api/v1/caselaw/documentunits/handover/jobs/" + job.id()))
+        .body(job);
+  }
+
+  /**
+   * Get the status of a bulk handover job with the progress of every documentation unit.
+   *
+   * @param oidcUser the logged-in user
+   * @param jobId id of the job
+   * @return the job or 404 if the documentation office of the user has no job with this id
+   */
+  @GetMapping(value = "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+  @PreAuthorize("@userIsInternal.apply(#oidcUser)")
+  public ResponseEntity<BulkHandoverJob> getBulkHandoverJob(
+      @AuthenticationPrincipal OidcUser oidcUser, @PathVariable UUID jobId) {
+    return jobService
+        .getJob(oidcUser, jobId)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+}
@@ -0,0 +1,210 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverItem;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverItemStatus;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJob;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJobService;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMail;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverService;
+import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Worker for the bulk handover jobs.
+ *
+ * <p>Claims the pending jobs and runs at most {@code handover.bulk.max-running-jobs} of them at the
+ * same time in its own threads, so a long job doesn't block the other scheduled tasks. The
+ * documentation units of a job are validated and exported in batches of {@code
+ * handover.bulk.batch-size}, the documentation units of a batch are handed over in parallel by
+ * {@code handover.bulk.parallelism} threads. At most {@code handover.bulk.mails-per-minute}
+ * documentation units are handed over per minute over all jobs of the instance, so a big job
+ * doesn't flood the mail interface of the jDV.
+ *
+ * <p>The mail rate limit isn't shared between the instances: with n instances running bulk handover
+ * jobs at the same time, up to n times {@code handover.bulk.mails-per-minute} mails are sent per
+ * minute. So the limit has to be set to the allowed rate of the jDV divided by the number of
+ * instances.
+ *
+ * <p>The result of every documentation unit is saved immediately. If the job is interrupted, the
+ * next worker continues with the documentation units which aren't handed over yet. On shutdown the
+ * worker waits up to {@code handover.bulk.shutdown-timeout} for the running handovers and sets its
+ * running jobs back to pending, so another instance continues them at once.
+ */
+@Component
+@Slf4j
+public class BulkHandoverJobWorker implements DisposableBean {
+  private final BulkHandoverJobService jobService;
+  private final HandoverService handoverService;
+  private final int maxRunningJobs;
+  private final int batchSize;
+  private final long mailIntervalNanos;
+  private final ExecutorService jobExecutor;
+  private final ExecutorService handoverExecutor;
+  private final Duration shutdownTimeout;
+  private final AtomicInteger runningJobs = new AtomicInteger();
+  private final Set<UUID> runningJobIds = ConcurrentHashMap.newKeySet();
+
+  private long nextMailSlot = System.nanoTime();
+
+  public BulkHandoverJobWorker(
+      BulkHandoverJobService jobService,
+      HandoverService handoverService,
+      @Value("${handover.bulk.max-running-jobs:1}") int maxRunningJobs,
+      @Value("${handover.bulk.batch-size:20}") int batchSize,
+      @Value("${handover.bulk.parallelism:4}") int parallelism,
+      // per instance, see the class comment
+      @Value("${handover.bulk.mails-per-minute:60}") int mailsPerMinute,
+      @Value("${handover.bulk.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+    this.jobService = jobService;
+    this.handoverService = handoverService;
+    this.maxRunningJobs = maxRunningJobs;
+    this.batchSize = batchSize;
+    this.mailIntervalNanos = mailsPerMinute > 0 ? TimeUnit.MINUTES.toNanos(1) / mailsPerMinute : 0;
+    this.shutdownTimeout = shutdownTimeout;
+    this.jobExecutor =
+        Executors.newFixedThreadPool(
+            maxRunningJobs, new CustomizableThreadFactory("bulk-handover-job-"));
+    this.handoverExecutor =
+        Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("bulk-handover-"));
+  }
+
+  /** Start all waiting jobs, as long as less than the maximal number of jobs are running. */
+  @Scheduled(
+      fixedDelayString = "${handover.bulk.poll-interval:PT5S}",
+      initialDelayString = "${handover.bulk.poll-interval:PT5S}")
+  public void processJobs() {
+    while (runningJobs.get() < maxRunningJobs) {
+      Optional<BulkHandoverJob> job = jobService.claimNextJob();
+      if (job.isEmpty()) {
+        return;
+      }
+
+      runningJobs.incrementAndGet();
+      runningJobIds.add(job.get().id());
+      jobExecutor.execute(
+          () -> {
+            try {
+              run(job.get());
+            } finally {
+              runningJobIds.remove(job.get().id());
+              runningJobs.decrementAndGet();
+            }
+          });
+    }
+  }
+
+  /**
+   * Interrupt the running jobs and set them back to pending. The documentation units which aren't
+   * handed over stay pending.
+   */
+  @Override
+  public void destroy() {
+    // jobs which finish while waiting for the termination aren't running anymore and stay finished
+    Set<UUID> interruptedJobIds = Set.copyOf(runningJobIds);
+    jobExecutor.shutdownNow();
+    handoverExecutor.shutdownNow();
+    try {
+      if (!jobExecutor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        log.warn("Bulk handover jobs didn't stop within {}", shutdownTimeout);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (!interruptedJobIds.isEmpty()) {
+      jobService.releaseJobs(interruptedJobIds);
+    }
+  }
+
+  private void run(BulkHandoverJob job) {
+    List<BulkHandoverItem> pendingItems =
+        job.items().stream()
+            .filter(item -> item.status() == BulkHandoverItemStatus.PENDING)
+            .toList();
+
+    try {
+      for (int from = 0; from < pendingItems.size(); from += batchSize) {
+        List<BulkHandoverItem> batch =
+            pendingItems.subList(from, Math.min(from + batchSize, pendingItems.size()));
+        // wait interruptibly, the handovers of a shut down executor never complete
+        CompletableFuture.allOf(
+                batch.stream()
+                    .map(
+                        item ->
+                            CompletableFuture.runAsync(() -> handOver(job, item), handoverExecutor))
+                    .toArray(CompletableFuture[]::new))
+            .get();
+      }
+      if (!Thread.currentThread().isInterrupted() && !jobService.finishJob(job)) {
+        log.warn(
+            "Bulk handover job {} isn't finished, it has pending documentation units", job.id());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.info("Bulk handover job {} interrupted, it is continued later", job.id());
+    } catch (ExecutionException | RuntimeException e) {
+      // the job stays running and is claimed again, when it is stale
+      log.error("Error in bulk handover job {}", job.id(), e);
+    }
+  }
+
+  private void handOver(BulkHandoverJob job, BulkHandoverItem item) {
+    if (!awaitMailSlot()) {
+      // shut down, the documentation unit stays pending
+      return;
+    }
+
+    try {
+      HandoverMail handoverMail =
+          handoverService.handoverAsMail(item.documentationUnitId(), job.issuerAddress());
+      jobService.completeItem(job, item, handoverMail);
+    } catch (DocumentationUnitNotExistsException | RuntimeException e) {
+      log.warn(
+          "Bulk handover job {} couldn't hand over documentation unit {}",
+          job.id(),
+          item.documentationUnitId(),
+          e);
+      jobService.failItem(job, item, e.getMessage());
+    }
+  }
+
+  /**
+   * Reserve the next free slot of the mail rate limit and wait for it.
+   *
+   * @return false, if the thread was interrupted while waiting
+   */
+  private boolean awaitMailSlot() {
+    long wait;
+    synchronized (this) {
+      long now = System.nanoTime();
+      long slot = Math.max(now, nextMailSlot);
+      nextMailSlot = slot + mailIntervalNanos;
+      wait = slot - now;
+    }
+
+    try {
+      TimeUnit.NANOSECONDS.sleep(wait);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConversionRejectedException;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStoreException;
 import de.bund.digitalservice.ris.caselaw.domain.exception.ImportApiKeyException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -18,5 +20,25 @@ public class CaselawExceptionHandler extends ResponseEntityExceptionHandler {
     return new ResponseEntity<>(apiError, new HttpHeaders(), HttpStatus.BAD_REQUEST);
   }
 
+  @ExceptionHandler({DocxConversionRejectedException.class})
+  public ResponseEntity<Object> handleDocxConversionRejectedException(
+      DocxConversionRejectedException ex) {
+
+    ApiError apiError = new ApiError(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()));
+
+    return new ResponseEntity<>(apiError, headers, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  @ExceptionHandler({ImageStoreException.class})
+  public ResponseEntity<Object> handleImageStoreException(ImageStoreException ex) {
+
+    ApiError apiError =
+        new ApiError(HttpStatus.SERVICE_UNAVAILABLE, "Images are unavailable. Please retry later.");
+
+    return new ResponseEntity<>(apiError, new HttpHeaders(), HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
   private record ApiError(HttpStatus status, String message) {}
 }
@@ -26,6 +26,7 @@ public class DatabaseDocumentationOfficeUserGroupService
   private final DatabaseDocumentationOfficeUserGroupRepository repository;
   private final DatabaseDocumentationOfficeRepository documentationOfficeRepository;
   private List<DocumentationOfficeUserGroupDTO> documentationOfficeUserGroups;
+  private List<DocumentationOfficeUserGroup> userGroups;
 
   private final List<DocumentationOfficeConfigUserGroup> userGroupsFromConfig;
 
@@ -36,6 +37,7 @@ public class DatabaseDocumentationOfficeUserGroupService
     this.repository = repository;
     this.documentationOfficeRepository = documentationOfficeRepository;
     this.documentationOfficeUserGroups = new ArrayList<>();
+    this.userGroups = List.of();
     this.userGroupsFromConfig = documentationOfficeConfigUserGroups;
   }
 
@@ -46,6 +48,9 @@ public class DatabaseDocumentationOfficeUserGroupService
    *   <li>sync the user group database with the statically configured list of user groups
    *   <li>load the user groups into memory for performance reasons (-> right checks)
    * </ol>
+   *
+   * <p>The user groups are transformed into domain objects once. The resulting list is immutable
+   * and stays the same instance until the next sync, so consumers can build indices on top of it.
    */
   @EventListener
   public void onApplicationEvent(ContextRefreshedEvent event) {
@@ -72,22 +77,24 @@ public class DatabaseDocumentationOfficeUserGroupService
     }
 
     this.documentationOfficeUserGroups = this.repository.findAll();
+    this.userGroups =
+        this.documentationOfficeUserGroups.stream()
+            .map(DocumentationOfficeUserGroupTransformer::transformToDomain)
+            .toList();
   }
 
   /**
    * Retrieves all {@link DocumentationOfficeUserGroup user group} as domain objects.
    *
-   * <p>This method transforms a list of user groups from internal representation to domain objects
-   * using the {@link DocumentationOfficeUserGroupTransformer}. It returns a list of these
-   * transformed user groups.
+   * <p>The user groups are transformed from internal representation to domain objects using the
+   * {@link DocumentationOfficeUserGroupTransformer} when they are loaded on application start. This
+   * method returns the unmodifiable list of these transformed user groups without copying it.
    *
    * @return a {@link List} of {@link DocumentationOfficeUserGroup} in domain form
    */
   @Override
   public List<DocumentationOfficeUserGroup> getAllUserGroups() {
-    return this.documentationOfficeUserGroups.stream()
-        .map(DocumentationOfficeUserGroupTransformer::transformToDomain)
-        .toList();
+    return this.userGroups;
   }
 
   /**
@@ -9,7 +9,9 @@ import com.gravity9.jsonpatch.JsonPatch;
 import com.gravity9.jsonpatch.JsonPatchException;
 import com.gravity9.jsonpatch.JsonPatchOperation;
 import com.gravity9.jsonpatch.RemoveOperation;
+import com.gravity9.jsonpatch.ReplaceOperation;
 import com.gravity9.jsonpatch.diff.JsonDiff;
+import de.bund.digitalservice.ris.caselaw.adapter.JsonPatchConflictResolver.Resolution;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitPatchRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationUnitPatchDTO;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
@@ -18,10 +20,7 @@ import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitPatc
 import de.bund.digitalservice.ris.caselaw.domain.mapper.PatchMapperService;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -30,6 +29,7 @@ import org.springframework.stereotype.Service;
 public class DatabasePatchMapperService implements PatchMapperService {
   private final ObjectMapper objectMapper;
   private final DatabaseDocumentationUnitPatchRepository repository;
+  private final JsonPatchConflictResolver conflictResolver = new JsonPatchConflictResolver();
 
   public DatabasePatchMapperService(
       ObjectMapper objectMapper, DatabaseDocumentationUnitPatchRepository repository) {
@@ -61,20 +61,14 @@ public class DatabasePatchMapperService implements PatchMapperService {
 
   @Override
   public JsonPatch removePatchForSamePath(JsonPatch patch1, JsonPatch patch2) {
-    Map<String, List<JsonPatchOperation>> pathList1 =
-        patch1.getOperations().stream().collect(Collectors.groupingBy(JsonPatchOperation::getPath));
-    Map<String, List<JsonPatchOperation>> pathList2 =
-        patch2.getOperations().stream().collect(Collectors.groupingBy(JsonPatchOperation::getPath));
-
-    List<JsonPatchOperation> operations = new ArrayList<>(patch1.getOperations());
-    for (Entry<String, List<JsonPatchOperation>> entry : pathList2.entrySet()) {
-      if (pathList1.containsKey(entry.getKey())) {
-        List<JsonPatchOperation> toRemove = pathList1.get(entry.getKey());
-        toRemove.forEach(operations::remove);
-      }
+    Resolution resolution =
+        conflictResolver.resolve(patch1.getOperations(), patch2.getOperations());
+
+    if (!resolution.conflicts().isEmpty()) {
+      log.debug("remove conflicting operations: {}", resolution.conflicts());
     }
 
-    return new JsonPatch(operations);
+    return new JsonPatch(resolution.operations());
   }
 
   @Override
@@ -135,36 +129,48 @@ public class DatabasePatchMapperService implements PatchMapperService {
       JsonPatch patch1,
       JsonPatch patch2,
       JsonPatch patch3) {
-    Map<String, List<JsonPatchOperation>> pathList2 =
-        patch2.getOperations().stream().collect(Collectors.groupingBy(JsonPatchOperation::getPath));
-    Map<String, List<JsonPatchOperation>> pathList3 =
-        patch3.getOperations().stream().collect(Collectors.groupingBy(JsonPatchOperation::getPath));
-
-    List<String> errorPaths = new ArrayList<>();
-    List<JsonPatchOperation> operations = new ArrayList<>(patch1.getOperations());
-    for (Entry<String, List<JsonPatchOperation>> entry : pathList3.entrySet()) {
-      if (pathList2.containsKey(entry.getKey())) {
-        List<JsonPatchOperation> toRemove = pathList2.get(entry.getKey());
-        log.debug("remove path '{}': {}", entry.getKey(), toRemove);
-        toRemove.forEach(
-            patch -> {
-              if (patch instanceof AddOperation) {
-                operations.add(new RemoveOperation(entry.getKey()));
-              } else if (patch instanceof RemoveOperation) {
-                JsonNode node =
-                    objectMapper.convertValue(existingDocumentationUnit, JsonNode.class);
-                JsonNode value = node.at(JsonPointer.valueOf(entry.getKey()));
-                operations.add(new AddOperation(entry.getKey(), value));
-              }
-            });
-        operations.addAll(entry.getValue());
-        errorPaths.add(entry.getKey());
-      } else {
-        log.debug("add backend patches '{}'", entry.getValue());
-        operations.addAll(entry.getValue());
-      }
+    Resolution resolution =
+        conflictResolver.resolve(patch2.getOperations(), patch3.getOperations());
+
+    if (!resolution.conflicts().isEmpty()) {
+      log.debug("revert conflicting operations: {}", resolution.conflicts());
+    }
+
+    List<JsonPatchOperation> operations = new ArrayList<>(resolution.clientOperations());
+
+    // conflicts which can't be reverted without the old values are replaced by the server values
+    if (!resolution.replacedPaths().isEmpty()) {
+      log.debug("replace paths: {}", resolution.replacedPaths());
+      JsonNode serverNode =
+          objectMapper.convertValue(
+              applyPatchToEntity(new JsonPatch(resolution.operations()), existingDocumentationUnit),
+              JsonNode.class);
+      resolution.replacedPaths().forEach(path -> addServerValue(serverNode, path, operations));
+    }
+
+    // the generated changes of the server are based on the patched documentation unit
+    operations.addAll(patch1.getOperations());
+
+    return new RisJsonPatch(0L, new JsonPatch(operations), resolution.conflictPaths());
+  }
+
+  /**
+   * Generate the operation to set the value of the path in the client to the value of the server.
+   * The path never contains an array index, so it is the same in the client and the server.
+   */
+  private static void addServerValue(
+      JsonNode serverNode, String path, List<JsonPatchOperation> operations) {
+    if (path.isEmpty()) {
+      operations.add(new ReplaceOperation(path, serverNode));
+      return;
     }
 
-    return new RisJsonPatch(0L, new JsonPatch(operations), errorPaths);
+    JsonPointer pointer = JsonPointer.valueOf(path);
+    JsonNode value = serverNode.at(pointer);
+    if (!value.isMissingNode()) {
+      operations.add(new AddOperation(path, value));
+    } else if (serverNode.at(pointer.head()).isObject()) {
+      operations.add(new RemoveOperation(path));
+    }
   }
 }
@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConversionRejectedException;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentationUnitTransformerException;
 import de.bund.digitalservice.ris.caselaw.domain.AttachmentService;
 import de.bund.digitalservice.ris.caselaw.domain.ConverterService;
@@ -22,7 +23,8 @@ import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitExce
 import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
 import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitPatchException;
 import jakarta.validation.Valid;
-import java.nio.ByteBuffer;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
@@ -99,12 +101,14 @@ public class DocumentationUnitController {
    * Attach a content file (docx) to the documentation unit. This file is used to fill the
    * categories of the documentation unit.
    *
-   * <p>Do a conversion into html and parse the footer for ECLI information.
+   * <p>Do a conversion into html and parse the footer for ECLI information. The file is streamed
+   * into a temporary file, which is deleted after the request.
    *
    * @param uuid UUID of the documentation unit
-   * @param bytes bytes of the content file
+   * @param body input stream of the content file
    * @param httpHeaders http headers with the X-Filename information
    * @return the into html converted content of the file with some additional metadata (ECLI)
+   * @throws IOException if the content file couldn't be stored temporarily
    */
   @PutMapping(
       value = "/{uuid}/file",
@@ -114,17 +118,27 @@ public class DocumentationUnitController {
   public ResponseEntity<Docx2Html> attachFileToDocumentationUnit(
       @AuthenticationPrincipal OidcUser oidcUser,
       @PathVariable UUID uuid,
-      @RequestBody byte[] bytes,
-      @RequestHeader HttpHeaders httpHeaders) {
-    var docx2html =
-        converterService.getConvertedObject(
-            attachmentService
-                .attachFileToDocumentationUnit(uuid, ByteBuffer.wrap(bytes), httpHeaders)
-                .s3path());
+      InputStream body,
+      @RequestHeader HttpHeaders httpHeaders)
+      throws IOException {
+    Docx2Html docx2html;
+    try (var upload = SpooledUpload.of(body)) {
+      docx2html =
+          converterService.getConvertedObject(
+              upload.file(),
+              () ->
+                  attachmentService
+                      .attachFileToDocumentationUnit(uuid, upload.file(), httpHeaders)
+                      .s3path());
+    }
     documentationUnitDocxMetadataInitializationService.initializeCoreData(uuid, docx2html);
     if (docx2html == null) {
       return ResponseEntity.unprocessableEntity().build();
     }
+    var accessDescriptor = service.getAccessDescriptorByUuid(uuid);
+    if (accessDescriptor != null) {
+      docx2html = ImageUrls.scopeToDocumentationUnit(docx2html, accessDescriptor.documentNumber());
+    }
     return ResponseEntity.status(HttpStatus.OK).body(docx2html);
   }
 
@@ -338,15 +352,20 @@ public class DocumentationUnitController {
   @GetMapping(value = "/{uuid}/docx/{s3Path}", produces = MediaType.APPLICATION_JSON_VALUE)
   @PreAuthorize("@userHasReadAccessByDocumentationUnitId.apply(#uuid)")
   public ResponseEntity<Docx2Html> getHtml(@PathVariable UUID uuid, @PathVariable String s3Path) {
-    if (service.getByUuid(uuid) == null) {
+    var documentationUnit = service.getByUuid(uuid);
+    if (documentationUnit == null) {
       return ResponseEntity.notFound().build();
     }
 
     try {
-      var docx2Html = converterService.getConvertedObject(s3Path);
+      var docx2Html =
+          ImageUrls.scopeToDocumentationUnit(
+              converterService.getConvertedObject(s3Path), documentationUnit.documentNumber());
       return ResponseEntity.ok()
           .cacheControl(CacheControl.maxAge(Duration.ofDays(1))) // Set cache duration
           .body(docx2Html);
+    } catch (DocxConversionRejectedException ex) {
+      throw ex;
     } catch (Exception ex) {
       log.error("Error by getting docx for documentation unit {}", uuid, ex);
       return ResponseEntity.internalServerError().build();
@@ -0,0 +1,133 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverter;
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * Cache for the converted docx files, stored as gzipped json in the bucket next to the docx files.
+ *
+ * <p>The key of a cache entry contains the path of the docx file and the {@link
+ * DocxConverter#VERSION}, e.g. {@code docx2html/<path>/v1.json.gz}. The docx files are stored under
+ * a random UUID and never changed, a new converter version results in a new key, so an outdated
+ * entry is never read.
+ *
+ * <p>Errors of the cache are logged and handled as cache miss. The conversion doesn't fail because
+ * of the cache.
+ */
+@Component
+@Slf4j
+public class DocxConversionCache {
+  private static final String PREFIX = "docx2html/";
+
+  private final S3Client client;
+  private final ObjectMapper objectMapper;
+
+  @Value("${otc.obs.bucket-name}")
+  private String bucketName;
+
+  public DocxConversionCache(S3Client client, ObjectMapper objectMapper) {
+    this.client = client;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Get the cache key of the docx file. The key is built without a request to the bucket: a docx
+   * file is stored under a new random path and never overwritten, so the path identifies its
+   * content.
+   *
+   * @param s3Path path of the docx file in the bucket
+   * @return the cache key
+   */
+  public String getKey(String s3Path) {
+    return PREFIX + s3Path + "/v" + DocxConverter.VERSION + ".json.gz";
+  }
+
+  /**
+   * Read the cached conversion result.
+   *
+   * @param key cache key of the docx file
+   * @return the cached conversion result or an empty optional for a cache miss
+   */
+  public Optional<Docx2Html> get(String key) {
+    var request = GetObjectRequest.builder().bucket(bucketName).key(key).build();
+
+    try (InputStream inputStream = new GZIPInputStream(client.getObject(request))) {
+      return Optional.of(objectMapper.readValue(inputStream, Docx2Html.class));
+    } catch (NoSuchKeyException e) {
+      return Optional.empty();
+    } catch (SdkException | IOException e) {
+      log.warn("Couldn't read cached docx conversion '{}'", key, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Store the conversion result in the cache.
+   *
+   * @param key cache key of the docx file
+   * @param docx2Html the conversion result
+   */
+  public void put(String key, Docx2Html docx2Html) {
+    try {
+      var outputStream = new ByteArrayOutputStream();
+      try (var gzipOutputStream = new GZIPOutputStream(outputStream)) {
+        objectMapper.writeValue(gzipOutputStream, docx2Html);
+      }
+
+      client.putObject(
+          PutObjectRequest.builder()
+              .bucket(bucketName)
+              .key(key)
+              .contentType("application/json")
+              .contentEncoding("gzip")
+              .build(),
+          RequestBody.fromBytes(outputStream.toByteArray()));
+    } catch (SdkException | IOException e) {
+      log.warn("Couldn't cache docx conversion '{}'", key, e);
+    }
+  }
+
+  /**
+   * Remove all cached conversion results of the docx file, e.g. if the file is deleted.
+   *
+   * @param s3Path path of the docx file in the bucket
+   */
+  public void evict(String s3Path) {
+    try {
+      client
+          .listObjectsV2Paginator(
+              ListObjectsV2Request.builder()
+                  .bucket(bucketName)
+                  .prefix(PREFIX + s3Path + "/")
+                  .build())
+          .contents()
+          .stream()
+          .map(S3Object::key)
+          .forEach(
+              key ->
+                  client.deleteObject(
+                      DeleteObjectRequest.builder().bucket(bucketName).key(key).build()));
+    } catch (SdkException e) {
+      log.warn("Couldn't remove cached docx conversions of '{}'", s3Path, e);
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConversionRejectedException;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverterException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded worker pool for the docx conversions.
+ *
+ * <p>The conversion of a docx file loads the whole file into the memory and renders the images,
+ * which takes some seconds for big files. To keep the api responsive during a burst of uploads, at
+ * most {@code docx.conversion.parallelism} conversions run at the same time and at most {@code
+ * docx.conversion.queue-length} conversions wait for a free worker. Further conversions are
+ * rejected with a {@link DocxConversionRejectedException}, which results in a 503 response with a
+ * Retry-After header.
+ *
+ * <p>Background conversions (e.g. of the asynchronous conversion jobs) use at most {@code
+ * docx.conversion.background-capacity} of the running and waiting places, the remaining places are
+ * reserved for the conversions a user waits for. A backlog of background conversions therefore
+ * doesn't reject the interactive conversions.
+ *
+ * <p>The queue wait time, the conversion time, the number of running conversions and the number of
+ * rejected conversions are published as metrics.
+ */
+@Component
+public class DocxConversionExecutor implements DisposableBean {
+  private final ThreadPoolExecutor executor;
+  private final Duration retryAfter;
+  private final Semaphore backgroundPermits;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Timer queueWaitTimer;
+  private final Timer conversionTimer;
+  private final Counter rejectedCounter;
+
+  public DocxConversionExecutor(
+      @Value("${docx.conversion.parallelism:4}") int parallelism,
+      @Value("${docx.conversion.queue-length:16}") int queueLength,
+      @Value("${docx.conversion.retry-after-seconds:10}") long retryAfterSeconds,
+      @Value("${docx.conversion.background-capacity:4}") int backgroundCapacity,
+      ObjectProvider<MeterRegistry> meterRegistryProvider) {
+
+    this.executor =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueLength),
+            new CustomizableThreadFactory("docx-conversion-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.retryAfter = Duration.ofSeconds(retryAfterSeconds);
+    this.backgroundPermits = new Semaphore(backgroundCapacity);
+
+    MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    this.queueWaitTimer =
+        Timer.builder("docx.conversion.queue.wait")
+            .description("Time a docx conversion waits for a free worker")
+            .register(meterRegistry);
+    this.conversionTimer =
+        Timer.builder("docx.conversion.duration")
+            .description("Duration of a docx conversion")
+            .register(meterRegistry);
+    this.rejectedCounter =
+        Counter.builder("docx.conversion.rejected")
+            .description("Docx conversions rejected because of a full queue")
+            .register(meterRegistry);
+    Gauge.builder("docx.conversion.in.flight", inFlight, AtomicInteger::get)
+        .description("Running docx conversions")
+        .register(meterRegistry);
+    Gauge.builder("docx.conversion.queue.size", executor, e -> e.getQueue().size())
+        .description("Docx conversions waiting for a free worker")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Run the conversion in the worker pool and wait for the result.
+   *
+   * @param conversion the conversion to run
+   * @return the result of the conversion
+   * @param <T> type of the result
+   * @throws DocxConversionRejectedException if all workers are busy and the queue is full
+   */
+  public <T> T execute(Supplier<T> conversion) {
+    return await(submit(conversion));
+  }
+
+  /**
+   * Wait for the result of a conversion started with {@link #submit(Supplier)}.
+   *
+   * @param future future of the conversion
+   * @return the result of the conversion
+   * @param <T> type of the result
+   */
+  public <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new DocxConverterException("Interrupted while waiting for the docx conversion", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new DocxConverterException("Docx conversion failed", e);
+    }
+  }
+
+  /**
+   * Run the conversion in the worker pool without waiting for the result.
+   *
+   * @param conversion the conversion to run
+   * @return future of the conversion result, completed in the worker thread
+   * @param <T> type of the result
+   * @throws DocxConversionRejectedException if all workers are busy and the queue is full
+   */
+  public <T> CompletableFuture<T> submit(Supplier<T> conversion) {
+    long submitted = System.nanoTime();
+    ConversionFuture<T> result = new ConversionFuture<>();
+
+    try {
+      result.task =
+          executor.submit(
+              () -> {
+                queueWaitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                inFlight.incrementAndGet();
+                try {
+                  result.complete(conversionTimer.record(conversion));
+                } catch (RuntimeException | Error e) {
+                  result.completeExceptionally(e);
+                } finally {
+                  inFlight.decrementAndGet();
+                }
+              });
+      return result;
+    } catch (RejectedExecutionException e) {
+      rejectedCounter.increment();
+      throw new DocxConversionRejectedException(retryAfter, e);
+    }
+  }
+
+  /**
+   * Run a background conversion in the worker pool without waiting for the result, see {@link
+   * #submit(Supplier)}. Only up to the background capacity, so the remaining capacity stays free
+   * for the conversions a user waits for.
+   *
+   * @param conversion the conversion to run
+   * @return future of the conversion result, completed in the worker thread
+   * @param <T> type of the result
+   * @throws DocxConversionRejectedException if the background capacity is used up or the queue is
+   *     full
+   */
+  public <T> CompletableFuture<T> submitBackground(Supplier<T> conversion) {
+    if (!backgroundPermits.tryAcquire()) {
+      rejectedCounter.increment();
+      throw new DocxConversionRejectedException(retryAfter, null);
+    }
+
+    CompletableFuture<T> result;
+    try {
+      result = submit(conversion);
+    } catch (RuntimeException e) {
+      backgroundPermits.release();
+      throw e;
+    }
+    result.whenComplete((value, exception) -> backgroundPermits.release());
+    return result;
+  }
+
+  /**
+   * Check if another background conversion can be started.
+   *
+   * @return true if the background capacity isn't used up
+   */
+  public boolean hasBackgroundCapacity() {
+    return backgroundPermits.availablePermits() > 0;
+  }
+
+  /**
+   * Result of a conversion in the worker pool. Cancelling it cancels the task in the pool, so a
+   * waiting conversion is removed from the queue and a running conversion is interrupted. A {@link
+   * CompletableFuture} alone doesn't know the thread which completes it.
+   */
+  private class ConversionFuture<T> extends CompletableFuture<T> {
+    private volatile Future<?> task;
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (task != null && task.cancel(mayInterruptIfRunning) && task instanceof Runnable runnable) {
+        executor.remove(runnable);
+      }
+      return cancelled;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,113 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.domain.Attachment;
+import de.bund.digitalservice.ris.caselaw.domain.AttachmentService;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessDescriptor;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitService;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJob;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJobService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Asynchronous variant of the content file (docx) upload. The file is stored like in {@link
+ * DocumentationUnitController#attachFileToDocumentationUnit}, but the conversion and the
+ * initialization of the core data run in the background. The client polls the job until it is
+ * finished.
+ */
+@RestController
+@RequestMapping("api/v1/caselaw/documentunits")
+public class DocxConversionJobController {
+  private final AttachmentService attachmentService;
+  private final DocxConversionJobService jobService;
+  private final DocumentationUnitService documentationUnitService;
+
+  public DocxConversionJobController(
+      AttachmentService attachmentService,
+      DocxConversionJobService jobService,
+      DocumentationUnitService documentationUnitService) {
+    this.attachmentService = attachmentService;
+    this.jobService = jobService;
+    this.documentationUnitService = documentationUnitService;
+  }
+
+  /**
+   * Attach a content file (docx) to the documentation unit and start a job for the conversion.
+   *
+   * @param uuid UUID of the documentation unit
+   * @param body input stream of the content file
+   * @param httpHeaders http headers with the X-Filename information
+   * @return the pending job, the location header contains the url of the job
+   * @throws IOException if the content file couldn't be stored temporarily
+   */
+  @PutMapping(
+      value = "/{uuid}/file/async",
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      consumes = "application/vnd.openxmlformats-officedocument.wordprocessingml.document")
+  @PreAuthorize("@userIsInternal.apply(#oidcUser) and @userHasSameDocumentationOffice.apply(#uuid)")
+  public ResponseEntity<DocxConversionJob> attachFileToDocumentationUnitAsync(
+      @AuthenticationPrincipal OidcUser oidcUser,
+      @PathVariable UUID uuid,
+      InputStream body,
+      @RequestHeader HttpHeaders httpHeaders)
+      throws IOException {
+    Attachment attachment;
+    try (var upload = SpooledUpload.of(body)) {
+      attachment =
+          attachmentService.attachFileToDocumentationUnit(uuid, upload.file(), httpHeaders);
+    }
+    var job = jobService.createJob(uuid, attachment.s3path());
+
+    return ResponseEntity.accepted()
+        .location(URI.create("/api/v1/caselaw/documentunits/" + uuid + "/file/jobs/" + job.id()))
+        .body(job);
+  }
+
+  /**
+   * Get the status of a conversion job. If the job is succeeded, the result contains the into html
+   * converted content of the file with some additional metadata (ECLI).
+   *
+   * @param uuid UUID of the documentation unit
+   * @param jobId id of the conversion job
+   * @return the job or 404 if the documentation unit has no job with this id
+   */
+  @GetMapping(value = "/{uuid}/file/jobs/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+  @PreAuthorize("@userIsInternal.apply(#oidcUser) and @userHasSameDocumentationOffice.apply(#uuid)")
+  public ResponseEntity<DocxConversionJob> getConversionJob(
+      @AuthenticationPrincipal OidcUser oidcUser,
+      @PathVariable UUID uuid,
+      @PathVariable UUID jobId) {
+    Optional<String> documentNumber =
+        Optional.ofNullable(documentationUnitService.getAccessDescriptorByUuid(uuid))
+            .map(DocumentationUnitAccessDescriptor::documentNumber);
+
+    return jobService
+        .getJob(uuid, jobId)
+        .map(
+            job ->
+                documentNumber
+                    .map(
+                        number ->
+                            job.toBuilder()
+                                .result(ImageUrls.scopeToDocumentationUnit(job.result(), number))
+                                .build())
+                    .orElse(job))
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+}
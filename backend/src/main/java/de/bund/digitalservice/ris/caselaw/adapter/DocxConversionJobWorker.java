@@ -0,0 +1,154 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConversionRejectedException;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitDocxMetadataInitializationService;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJob;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJobService;
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Worker for the asynchronous docx conversion jobs.
+ *
+ * <p>Claims the pending jobs and runs them as background conversions in the {@link
+ * DocxConversionExecutor}, so they share the bounded conversion workers with the synchronous
+ * conversions, but don't use the capacity reserved for them. Jobs are only claimed while background
+ * capacity is free. If the conversion is rejected anyway, the claimed job is put back into the
+ * queue and is claimed again with the next run.
+ *
+ * <p>The update time of the running jobs is refreshed every {@code
+ * docx.conversion.jobs.heartbeat-interval}, so a long conversion isn't claimed again by another
+ * instance as stale job. The interval must be shorter than {@code
+ * docx.conversion.jobs.stale-after}.
+ */
+@Component
+@Slf4j
+public class DocxConversionJobWorker {
+  private static final String CONVERSION_ERROR_MESSAGE = "Couldn't convert the docx file";
+
+  private final DocxConversionJobService jobService;
+  private final DocxConverterService converterService;
+  private final DocxConversionExecutor conversionExecutor;
+  private final DocumentationUnitDocxMetadataInitializationService
+      documentationUnitDocxMetadataInitializationService;
+  private final Set<UUID> runningJobIds = ConcurrentHashMap.newKeySet();
+
+  public DocxConversionJobWorker(
+      DocxConversionJobService jobService,
+      DocxConverterService converterService,
+      DocxConversionExecutor conversionExecutor,
+      DocumentationUnitDocxMetadataInitializationService
+          documentationUnitDocxMetadataInitializationService) {
+    this.jobService = jobService;
+    this.converterService = converterService;
+    this.conversionExecutor = conversionExecutor;
+    this.documentationUnitDocxMetadataInitializationService =
+        documentationUnitDocxMetadataInitializationService;
+  }
+
+  /** Start the conversion of the waiting jobs, as long as background capacity is free. */
+  @Scheduled(
+      fixedDelayString = "${docx.conversion.jobs.poll-interval:PT1S}",
+      initialDelayString = "${docx.conversion.jobs.poll-interval:PT1S}")
+  public void processJobs() {
+    while (conversionExecutor.hasBackgroundCapacity()) {
+      Optional<DocxConversionJob> job = jobService.claimNextJob();
+      if (job.isEmpty() || !start(job.get())) {
+        return;
+      }
+    }
+  }
+
+  /** Refresh the update time of the jobs, which are converted by this instance at the moment. */
+  @Scheduled(
+      fixedDelayString = "${docx.conversion.jobs.heartbeat-interval:PT1M}",
+      initialDelayString = "${docx.conversion.jobs.heartbeat-interval:PT1M}")
+  public void refreshRunningJobs() {
+    if (runningJobIds.isEmpty()) {
+      return;
+    }
+
+    try {
+      jobService.refreshRunningJobs(Set.copyOf(runningJobIds));
+    } catch (RuntimeException e) {
+      log.error("Couldn't refresh the running docx conversion jobs", e);
+    }
+  }
+
+  /** Delete the finished jobs and their converted files after the retention time. */
+  @Scheduled(
+      fixedDelayString = "${docx.conversion.jobs.cleanup-interval:PT1H}",
+      initialDelayString = "${docx.conversion.jobs.cleanup-interval:PT1H}")
+  public void deleteFinishedJobs() {
+    int deleted = jobService.deleteFinishedJobs();
+    if (deleted > 0) {
+      log.info("Deleted {} finished docx conversion jobs", deleted);
+    }
+  }
+
+  private boolean start(DocxConversionJob job) {
+    runningJobIds.add(job.id());
+    try {
+      converterService
+          .getConvertedObjectAsync(job.s3Path())
+          .whenComplete((docx2Html, exception) -> finish(job, docx2Html, exception));
+      return true;
+    } catch (DocxConversionRejectedException e) {
+      runningJobIds.remove(job.id());
+      jobService.releaseJob(job);
+      return false;
+    }
+  }
+
+  private void finish(DocxConversionJob job, Docx2Html docx2Html, Throwable exception) {
+    try {
+      saveResult(job, docx2Html, exception);
+    } finally {
+      runningJobIds.remove(job.id());
+    }
+  }
+
+  private void saveResult(DocxConversionJob job, Docx2Html docx2Html, Throwable exception) {
+    if (exception instanceof CompletionException completionException
+        && completionException.getCause() != null) {
+      exception = completionException.getCause();
+    }
+
+    if (exception != null) {
+      fail(job, exception);
+      return;
+    }
+    if (docx2Html == null) {
+      jobService.failJob(job, CONVERSION_ERROR_MESSAGE);
+      return;
+    }
+
+    try {
+      documentationUnitDocxMetadataInitializationService.initializeCoreData(
+          job.documentationUnitId(), docx2Html);
+      jobService.completeJob(job, docx2Html);
+    } catch (RuntimeException e) {
+      fail(job, e);
+    }
+  }
+
+  /**
+   * Log the exception and fail the job with a generic error message. The job is returned to the
+   * client, so it mustn't contain internal details of the exception.
+   */
+  private void fail(DocxConversionJob job, Throwable exception) {
+    log.error(
+        "Error in docx conversion job {} for documentation unit {}",
+        job.id(),
+        job.documentationUnitId(),
+        exception);
+    jobService.failJob(job, CONVERSION_ERROR_MESSAGE);
+  }
+}
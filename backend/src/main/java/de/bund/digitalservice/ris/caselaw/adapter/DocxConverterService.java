@@ -1,9 +1,15 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ConversionContext;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocumentationUnitDocxListUtils;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConversionRejectedException;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverter;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverterException;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.EmfRenderer;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.FooterConverter;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStore;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.OriginalTextExtractor;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.RunElementConverter;
 import de.bund.digitalservice.ris.caselaw.domain.ConverterService;
 import de.bund.digitalservice.ris.caselaw.domain.docx.DocumentationUnitDocx;
 import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
@@ -13,28 +19,29 @@ import de.bund.digitalservice.ris.caselaw.domain.docx.ECLIElement;
 import de.bund.digitalservice.ris.caselaw.domain.docx.FooterElement;
 import de.bund.digitalservice.ris.caselaw.domain.docx.MetadataProperty;
 import de.bund.digitalservice.ris.caselaw.domain.docx.ParagraphElement;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Function;
-import java.util.regex.Matcher;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
+import java.util.stream.Stream;
+import javax.xml.stream.XMLStreamException;
 import lombok.extern.slf4j.Slf4j;
 import org.docx4j.model.listnumbering.ListNumberingDefinition;
 import org.docx4j.model.structure.HeaderFooterPolicy;
@@ -46,33 +53,67 @@ import org.docx4j.openpackaging.parts.WordprocessingML.ImageJpegPart;
 import org.docx4j.openpackaging.parts.WordprocessingML.ImagePngPart;
 import org.docx4j.openpackaging.parts.WordprocessingML.MetafileEmfPart;
 import org.docx4j.wml.Style;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
+/**
+ * Converts the content files (docx) of the documentation units into html.
+ *
+ * <p>The stages of the conversion (load, read styles and context, convert elements, render html,
+ * read metadata) are package-private, so the benchmarks of the jmh source set can measure them
+ * separately.
+ */
 @Service
 @Slf4j
-public class DocxConverterService implements ConverterService {
+public class DocxConverterService implements ConverterService, DisposableBean {
+  // the last part of an ECLI: the ordinal number of the decision
+  private static final Pattern ECLI_ORDINAL_NUMBER = Pattern.compile("[\\w.]{1,25}");
+
   private final S3Client client;
-  private final DocumentBuilderFactory documentBuilderFactory;
   private final DocxConverter converter;
+  private final DocxConversionExecutor conversionExecutor;
+  private final DocxConversionCache conversionCache;
+  private final ImageStore imageStore;
+  private final EmfRenderer emfRenderer;
+  private final int parallelThreshold;
+  private final ForkJoinPool elementPool;
 
   @Value("${otc.obs.bucket-name}")
   private String bucketName;
 
   public DocxConverterService(
-      S3Client client, DocumentBuilderFactory documentBuilderFactory, DocxConverter converter) {
+      S3Client client,
+      DocxConverter converter,
+      DocxConversionExecutor conversionExecutor,
+      DocxConversionCache conversionCache,
+      ImageStore imageStore,
+      EmfRenderer emfRenderer,
+      @Value("${docx.conversion.parallel-threshold:200}") int parallelThreshold,
+      @Value("${docx.conversion.element-parallelism:4}") int elementParallelism) {
     this.client = client;
-    this.documentBuilderFactory = documentBuilderFactory;
     this.converter = converter;
+    this.conversionExecutor = conversionExecutor;
+    this.conversionCache = conversionCache;
+    this.imageStore = imageStore;
+    this.emfRenderer = emfRenderer;
+    this.parallelThreshold = parallelThreshold;
+    this.elementPool =
+        new ForkJoinPool(
+            elementParallelism,
+            pool -> {
+              ForkJoinWorkerThread thread =
+                  ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+              thread.setName("docx-elements-" + thread.getPoolIndex());
+              return thread;
+            },
+            null,
+            false);
   }
 
   public String getOriginalText(WordprocessingMLPackage mlPackage) {
@@ -80,52 +121,121 @@ public class DocxConverterService implements ConverterService {
       return "<no word file selected>";
     }
 
-    String originalText;
-    originalText = mlPackage.getMainDocumentPart().getXML();
-
     try {
-      DocumentBuilder dBuilder = documentBuilderFactory.newDocumentBuilder();
-      Document doc = dBuilder.parse(new InputSource(new StringReader(originalText)));
-      XPath xPath = XPathFactory.newInstance().newXPath();
-      String expression = "/document//t";
-      NodeList nodeList =
-          (NodeList) xPath.compile(expression).evaluate(doc, XPathConstants.NODESET);
-
-      StringBuilder sb = new StringBuilder();
-      for (var i = 0; i < nodeList.getLength(); i++) {
-        sb.append(nodeList.item(i).getTextContent());
-      }
-      originalText = sb.toString();
-    } catch (IOException
-        | SAXException
-        | XPathExpressionException
-        | ParserConfigurationException e) {
+      return OriginalTextExtractor.extractText(mlPackage.getMainDocumentPart().getXML());
+    } catch (XMLStreamException e) {
       throw new DocxConverterException("Couldn't read all text elements of docx xml!", e);
     }
-
-    return originalText;
   }
 
   /**
    * Convert docx file to a object with the html content of the word file and some metadata
-   * extracted of the docx file.
+   * extracted of the docx file. The result is cached per file content and converter version, a
+   * cached result is returned without a new conversion.
    *
    * @param fileName name of the file in the bucket
    * @return the generated object with html content and metadata, if the file name is null a empty
    *     mono is returned
+   * @throws DocxConversionRejectedException if too many conversions are running or waiting
    */
   public Docx2Html getConvertedObject(String fileName) {
     if (fileName == null) {
       return null;
     }
 
+    String cacheKey = conversionCache.getKey(fileName);
+    Optional<Docx2Html> cached = getCached(cacheKey);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+
+    return conversionExecutor.execute(() -> convertAndCache(fileName, cacheKey));
+  }
+
+  /**
+   * Convert docx file like {@link #getConvertedObject(String)}, but don't wait for the result. The
+   * conversion runs as background conversion, see {@link
+   * DocxConversionExecutor#submitBackground(Supplier)}.
+   *
+   * @param fileName name of the file in the bucket
+   * @return future of the generated object, completed in the conversion worker
+   * @throws DocxConversionRejectedException if too many background conversions are running or
+   *     waiting
+   */
+  public CompletableFuture<Docx2Html> getConvertedObjectAsync(String fileName) {
+    String cacheKey = conversionCache.getKey(fileName);
+    Optional<Docx2Html> cached = getCached(cacheKey);
+    if (cached.isPresent()) {
+      return CompletableFuture.completedFuture(cached.get());
+    }
+
+    return conversionExecutor.submitBackground(() -> convertAndCache(fileName, cacheKey));
+  }
+
+  /**
+   * Convert an uploaded docx file from its local copy, while the file is stored in the bucket. This
+   * saves the download of the just stored file. The result is cached for the stored file.
+   *
+   * <p>The upload runs in the calling thread and the conversion in a conversion worker. If the
+   * upload fails, its exception is thrown and the result of the conversion is dropped.
+   *
+   * @param file local copy of the uploaded docx file
+   * @param upload stores the file in the bucket and returns the path of the stored file
+   * @return the generated object with html content and metadata
+   * @throws DocxConversionRejectedException if too many conversions are running or waiting
+   */
+  public Docx2Html getConvertedObject(Path file, Supplier<String> upload) {
+    CompletableFuture<Docx2Html> conversion = conversionExecutor.submit(() -> convert(file));
+
+    String s3Path;
+    try {
+      s3Path = upload.get();
+    } catch (RuntimeException e) {
+      conversion.cancel(false);
+      throw e;
+    }
+
+    Docx2Html docx2Html = conversionExecutor.await(conversion);
+    conversionCache.put(conversionCache.getKey(s3Path), docx2Html);
+    return docx2Html;
+  }
+
+  private Optional<Docx2Html> getCached(String cacheKey) {
+    if (cacheKey == null) {
+      return Optional.empty();
+    }
+
+    return conversionCache.get(cacheKey);
+  }
+
+  private Docx2Html convertAndCache(String fileName, String cacheKey) {
+    Docx2Html docx2Html = convert(fileName);
+    if (cacheKey != null) {
+      conversionCache.put(cacheKey, docx2Html);
+    }
+    return docx2Html;
+  }
+
+  private Docx2Html convert(String fileName) {
     GetObjectRequest request = GetObjectRequest.builder().bucket(bucketName).key(fileName).build();
 
     ResponseBytes<GetObjectResponse> response =
         client.getObject(request, ResponseTransformer.toBytes());
 
-    List<DocumentationUnitDocx> documentationUnitDocxList;
-    documentationUnitDocxList = parseAsDocumentationUnitDocxList(response.asInputStream());
+    return convert(response.asInputStream());
+  }
+
+  private Docx2Html convert(Path file) {
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file))) {
+      return convert(inputStream);
+    } catch (IOException e) {
+      throw new DocxConverterException("Couldn't read uploaded docx file", e);
+    }
+  }
+
+  Docx2Html convert(InputStream inputStream) {
+    List<DocumentationUnitDocx> documentationUnitDocxList =
+        parseAsDocumentationUnitDocxList(inputStream);
     List<DocumentationUnitDocx> packedList =
         DocumentationUnitDocxListUtils.packList(documentationUnitDocxList);
     List<String> ecliList =
@@ -137,10 +247,7 @@ public class DocxConverterService implements ConverterService {
 
     String content = null;
     if (!packedList.isEmpty()) {
-      content =
-          packedList.stream()
-              .map(DocumentationUnitDocx::toHtmlString)
-              .collect(Collectors.joining());
+      content = toHtml(packedList);
     }
 
     Map<DocxMetadataProperty, String> properties =
@@ -152,6 +259,19 @@ public class DocxConverterService implements ConverterService {
     return new Docx2Html(content, ecliList, properties);
   }
 
+  /** Write the html of all elements in one pass into one buffer. */
+  static String toHtml(List<DocumentationUnitDocx> elements) {
+    StringBuilder html = new StringBuilder();
+    try {
+      for (DocumentationUnitDocx element : elements) {
+        element.appendHtml(html);
+      }
+    } catch (IOException e) {
+      throw new DocxConverterException("Couldn't write html", e);
+    }
+    return html.toString();
+  }
+
   /**
    * Convert the content file (docx) into a list of DocumentationUnitDocx elements. Read the styles,
    * images, footers and numbering definitions from the docx file.
@@ -171,18 +291,12 @@ public class DocxConverterService implements ConverterService {
       throw new DocxConverterException("Couldn't load docx file!", e);
     }
 
-    converter.setStyles(readStyles(mlPackage));
-    converter.setImages(readImages(mlPackage));
-    converter.setFooters(readFooters(mlPackage, converter));
-    converter.setListNumberingDefinitions(readListNumberingDefinitions(mlPackage));
+    ConversionContext context = readConversionContext(mlPackage);
 
     List<DocumentationUnitDocx> documentationUnitDocxList =
-        mlPackage.getMainDocumentPart().getContent().stream()
-            .map(converter::convert)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+        convertContent(mlPackage.getMainDocumentPart().getContent(), context);
 
-    Set<FooterElement> footerElements = parseFooterAndIdentifyECLI();
+    Set<FooterElement> footerElements = parseFooterAndIdentifyECLI(context);
     documentationUnitDocxList.addAll(
         0, footerElements.stream().filter(ECLIElement.class::isInstance).toList());
     documentationUnitDocxList.addAll(
@@ -197,7 +311,36 @@ public class DocxConverterService implements ConverterService {
     return documentationUnitDocxList;
   }
 
-  private List<MetadataProperty> readDocumentProperties(WordprocessingMLPackage mlPackage) {
+  /**
+   * Convert the content elements of the main document. The elements are independent of each other
+   * (the border numbers and numbering lists are processed afterwards), so documents with at least
+   * {@code docx.conversion.parallel-threshold} elements are converted in parallel chunks. The
+   * chunks run on a dedicated fork-join pool of {@code docx.conversion.element-parallelism} threads
+   * and not on the common pool, because the conversion of an element waits for its rendered EMF
+   * images. The result keeps the order of the elements in both cases.
+   *
+   * @param content content elements of the main document
+   * @param context meta information of the docx file
+   * @return list of the converted elements
+   */
+  List<DocumentationUnitDocx> convertContent(List<Object> content, ConversionContext context) {
+    if (content.size() < parallelThreshold) {
+      return convertContent(content.stream(), context);
+    }
+
+    // a parallel stream started in a fork-join pool runs its tasks in this pool
+    return elementPool.submit(() -> convertContent(content.parallelStream(), context)).join();
+  }
+
+  private List<DocumentationUnitDocx> convertContent(
+      Stream<Object> content, ConversionContext context) {
+    return content
+        .map(part -> converter.convert(part, context))
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  List<MetadataProperty> readDocumentProperties(WordprocessingMLPackage mlPackage) {
     DocPropsCustomPart customProps = mlPackage.getDocPropsCustomPart();
     List<MetadataProperty> props = new ArrayList<>();
 
@@ -214,15 +357,35 @@ public class DocxConverterService implements ConverterService {
     return props;
   }
 
-  private Set<FooterElement> parseFooterAndIdentifyECLI() {
-    Set<FooterElement> footerElements = new HashSet<>();
+  /**
+   * Read the meta information of the docx file, which is needed to convert the content elements.
+   * The footers are converted with the styles and images of the docx file, so they are read last.
+   * The EMF images of the content are rendered in the background meanwhile.
+   *
+   * @param mlPackage the loaded docx file
+   * @return the conversion context of the docx file
+   */
+  ConversionContext readConversionContext(WordprocessingMLPackage mlPackage) {
+    ConversionContext context =
+        ConversionContext.builder()
+            .styles(readStyles(mlPackage))
+            .images(readImages(mlPackage))
+            .listNumberingDefinitions(readListNumberingDefinitions(mlPackage))
+            .imageStore(imageStore)
+            .emfRenderer(emfRenderer)
+            .build();
+
+    RunElementConverter.prepareEmfImages(mlPackage.getMainDocumentPart().getContent(), context);
+
+    return context.toBuilder().footers(readFooters(mlPackage, context)).build();
+  }
 
-    // Check if footers are null
-    if (converter.getFooters() == null) {
-      return footerElements;
-    }
-    converter
-        .getFooters()
+  private Set<FooterElement> parseFooterAndIdentifyECLI(ConversionContext context) {
+    // keep the order of the footers in the docx file, so the result is deterministic
+    Set<FooterElement> footerElements = new LinkedHashSet<>();
+
+    context
+        .footers()
         .forEach(
             footer -> {
               if (footer == null || footer.getText() == null) {
@@ -277,14 +440,11 @@ public class DocxConverterService implements ConverterService {
       return false;
     }
 
-    Pattern pattern = Pattern.compile("[\\w.]{1,25}");
-    Matcher matcher = pattern.matcher(parts[4]);
-
-    return matcher.matches();
+    return ECLI_ORDINAL_NUMBER.matcher(parts[4]).matches();
   }
 
   private List<ParagraphElement> readFooters(
-      WordprocessingMLPackage mlPackage, DocxConverter converter) {
+      WordprocessingMLPackage mlPackage, ConversionContext context) {
     if (mlPackage == null
         || mlPackage.getDocumentModel() == null
         || mlPackage.getDocumentModel().getSections() == null) {
@@ -303,19 +463,19 @@ public class DocxConverterService implements ConverterService {
               if (headerFooterPolicy.getDefaultFooter() != null) {
                 footers.add(
                     FooterConverter.convert(
-                        headerFooterPolicy.getDefaultFooter().getContent(), converter));
+                        headerFooterPolicy.getDefaultFooter().getContent(), context));
               }
 
               if (headerFooterPolicy.getFirstFooter() != null) {
                 footers.add(
                     FooterConverter.convert(
-                        headerFooterPolicy.getFirstFooter().getContent(), converter));
+                        headerFooterPolicy.getFirstFooter().getContent(), context));
               }
 
               if (headerFooterPolicy.getEvenFooter() != null) {
                 footers.add(
                     FooterConverter.convert(
-                        headerFooterPolicy.getEvenFooter().getContent(), converter));
+                        headerFooterPolicy.getEvenFooter().getContent(), context));
               }
             });
 
@@ -336,7 +496,7 @@ public class DocxConverterService implements ConverterService {
         .getInstanceListDefinitions();
   }
 
-  private Map<String, Style> readStyles(WordprocessingMLPackage mlPackage) {
+  Map<String, Style> readStyles(WordprocessingMLPackage mlPackage) {
     if (mlPackage == null
         || mlPackage.getMainDocumentPart() == null
         || mlPackage.getMainDocumentPart().getStyleDefinitionsPart() == null) {
@@ -396,4 +556,9 @@ public class DocxConverterService implements ConverterService {
 
     return images;
   }
+
+  @Override
+  public void destroy() {
+    elementPool.shutdownNow();
+  }
 }
@@ -0,0 +1,173 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.EMF2PNGConverter;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.EmfRenderer;
+import java.awt.Dimension;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders the EMF images of the docx files on a dedicated worker pool and keeps the rendered PNG
+ * images in memory.
+ *
+ * <p>Court documents often contain the same EMF logos and stamps, so the cache key is the content
+ * hash of the EMF image and the target size. At most {@code docx.emf.cache-size} images are cached,
+ * the least recently used image is removed first. The same image is rendered only once, also if it
+ * is requested by concurrent conversions.
+ *
+ * <p>At most {@code docx.emf.parallelism} images are rendered at the same time. Every image is
+ * rendered in its own daemon thread, which is watched by a worker of the pool: if the rendering
+ * takes longer than {@code docx.emf.timeout-seconds} after it started, the worker interrupts and
+ * abandons the thread and takes the next image. The renderer doesn't react to interrupts, so the
+ * abandoned thread runs until the rendering ends, but it doesn't block the pool. The timed out
+ * image stays in the cache as not renderable, so it isn't rendered again with the next conversion.
+ * A conversion uses the original EMF image for an image which isn't rendered.
+ */
+@Component
+@Slf4j
+public class EmfRenderCache implements EmfRenderer, DisposableBean {
+  private final ExecutorService executor;
+  private final ThreadFactory renderingThreadFactory;
+  private final Duration timeout;
+  private final BiFunction<byte[], Dimension, byte[]> renderer;
+  private final Map<String, Future<Optional<byte[]>>> cache;
+
+  @Autowired
+  public EmfRenderCache(
+      @Value("${docx.emf.parallelism:2}") int parallelism,
+      @Value("${docx.emf.cache-size:256}") int cacheSize,
+      @Value("${docx.emf.timeout-seconds:10}") long timeoutSeconds) {
+    this(
+        parallelism,
+        cacheSize,
+        Duration.ofSeconds(timeoutSeconds),
+        EMF2PNGConverter::convertEMF2PNG);
+  }
+
+  EmfRenderCache(
+      int parallelism,
+      int cacheSize,
+      Duration timeout,
+      BiFunction<byte[], Dimension, byte[]> renderer) {
+    this.executor =
+        Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("emf-watchdog-"));
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("emf-rendering-");
+    threadFactory.setDaemon(true);
+    this.renderingThreadFactory = threadFactory;
+    this.timeout = timeout;
+    this.renderer = renderer;
+    this.cache =
+        Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, Future<Optional<byte[]>>> e) {
+                return size() > cacheSize;
+              }
+            });
+  }
+
+  @Override
+  public void prepare(byte[] emf, Dimension size) {
+    getOrSubmit(key(emf, size), emf, size);
+  }
+
+  @Override
+  public Optional<byte[]> render(byte[] emf, Dimension size) {
+    String key = key(emf, size);
+    Future<Optional<byte[]>> future = getOrSubmit(key, emf, size);
+
+    // the waiting time in the queue is bounded by the timeout of the renderings in front
+    try {
+      return future.get();
+    } catch (CancellationException e) {
+      // the renderer is shut down
+      return Optional.empty();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Optional.empty();
+    } catch (ExecutionException e) {
+      log.error("Couldn't render emf image", e.getCause());
+      cache.remove(key, future);
+      return Optional.empty();
+    }
+  }
+
+  private Future<Optional<byte[]>> getOrSubmit(String key, byte[] emf, Dimension size) {
+    return cache.computeIfAbsent(key, k -> executor.submit(() -> renderWithTimeout(emf, size)));
+  }
+
+  /**
+   * Render the image in its own thread and wait at most the timeout for it. Runs in a worker of the
+   * pool, so the timeout starts with the rendering and not with the request of the image.
+   *
+   * @return the PNG image or an empty optional, if the rendering timed out or the renderer returned
+   *     the original image
+   */
+  private Optional<byte[]> renderWithTimeout(byte[] emf, Dimension size)
+      throws InterruptedException {
+    FutureTask<byte[]> rendering = new FutureTask<>(() -> renderer.apply(emf, size));
+    renderingThreadFactory.newThread(rendering).start();
+
+    try {
+      byte[] png = rendering.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+      return png == emf ? Optional.empty() : Optional.ofNullable(png);
+    } catch (TimeoutException e) {
+      log.warn(
+          "Rendering of emf image took longer than {}, abandon it and don't render it again",
+          timeout);
+      rendering.cancel(true);
+      return Optional.empty();
+    } catch (InterruptedException e) {
+      rendering.cancel(true);
+      throw e;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static String key(byte[] emf, Dimension size) {
+    String dimension = size == null ? "original" : size.width + "x" + size.height;
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(emf))
+          + "-"
+          + dimension;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 isn't available", e);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    // the waiting images are never rendered, release the conversions waiting for them
+    for (Runnable waiting : executor.shutdownNow()) {
+      if (waiting instanceof Future<?> future) {
+        future.cancel(false);
+      }
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMail;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxEntry;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxService;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxStatus;
+import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
+import de.bund.digitalservice.ris.caselaw.domain.MailAttachment;
+import de.bund.digitalservice.ris.caselaw.domain.MailServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dispatcher for the handover mails in the outbox.
+ *
+ * <p>Claims the due outbox entries and sends their mails with the {@link HttpMailSender}. The id of
+ * the outbox entry is passed as idempotency key, so the mail service recognizes a mail which is
+ * sent again after a lost acknowledgement (e.g. the instance was stopped before the entry was
+ * marked as sent).
+ *
+ * <p>A run sends at most {@code mail.exporter.outbox.batch-size} mails, so a long outbox doesn't
+ * block the other scheduled tasks. The remaining entries are sent with the next runs. Entries which
+ * failed finally are counted in the metric {@code handover.mail.outbox.failed}, to alert on them.
+ *
+ * <p>If the mail service is known to be unavailable (open circuit breaker), the entry is postponed
+ * without using up an attempt and the run is stopped, because the other entries would be rejected
+ * as well.
+ */
+@Component
+@Slf4j
+public class HandoverMailOutboxDispatcher {
+  private final HandoverMailOutboxService outboxService;
+  private final HttpMailSender mailSender;
+  private final String senderAddress;
+  private final int batchSize;
+  private final Counter failedCounter;
+
+  @Autowired
+  public HandoverMailOutboxDispatcher(
+      HandoverMailOutboxService outboxService,
+      HttpMailSender mailSender,
+      @Value("${mail.exporter.senderAddress:export.test@neuris}") String senderAddress,
+      @Value("${mail.exporter.outbox.batch-size:50}") int batchSize,
+      ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    this(
+        outboxService,
+        mailSender,
+        senderAddress,
+        batchSize,
+        meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new));
+  }
+
+  HandoverMailOutboxDispatcher(
+      HandoverMailOutboxService outboxService,
+      HttpMailSender mailSender,
+      String senderAddress,
+      int batchSize,
+      MeterRegistry meterRegistry) {
+    this.outboxService = outboxService;
+    this.mailSender = mailSender;
+    this.senderAddress = senderAddress;
+    this.batchSize = batchSize;
+    this.failedCounter =
+        Counter.builder("handover.mail.outbox.failed")
+            .description("Handover mails which couldn't be sent after all attempts")
+            .register(meterRegistry);
+  }
+
+  /** Send the mails of the due outbox entries, at most one batch per run. */
+  @Scheduled(
+      fixedDelayString = "${mail.exporter.outbox.poll-interval:PT5S}",
+      initialDelayString = "${mail.exporter.outbox.poll-interval:PT5S}")
+  public void dispatchMails() {
+    for (int i = 0; i < batchSize; i++) {
+      Optional<HandoverMailOutboxEntry> entry = outboxService.claimNextEntry();
+      if (entry.isEmpty() || !dispatch(entry.get())) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Send the mail of the entry.
+   *
+   * @return false if the mail service is unavailable and further entries can't be sent either
+   */
+  private boolean dispatch(HandoverMailOutboxEntry entry) {
+    HandoverMail handoverMail = entry.handoverMail();
+    try {
+      mailSender.sendMail(
+          senderAddress,
+          handoverMail.receiverAddress(),
+          handoverMail.mailSubject(),
+          "neuris",
+          Collections.singletonList(
+              MailAttachment.builder()
+                  .fileName(handoverMail.fileName())
+                  .fileContent(handoverMail.xml())
+                  .build()),
+          handoverMail.documentationUnitId().toString(),
+          entry.id().toString());
+    } catch (MailServiceUnavailableException e) {
+      log.info(
+          "Handover mail {} postponed, the mail service is unavailable: {}",
+          entry.id(),
+          e.getMessage());
+      outboxService.postpone(entry, e.getMessage());
+      return false;
+    } catch (RuntimeException e) {
+      log.warn(
+          "Attempt {} to send handover mail {} for documentation unit {} failed",
+          entry.attempts(),
+          entry.id(),
+          handoverMail.documentationUnitId(),
+          e);
+      HandoverMailOutboxEntry failedEntry = outboxService.markAttemptFailed(entry, e.getMessage());
+      if (failedEntry != null && failedEntry.status() == HandoverMailOutboxStatus.FAILED) {
+        failedCounter.increment();
+        log.error(
+            "Handover mail {} for documentation unit {} couldn't be sent after {} attempts",
+            entry.id(),
+            handoverMail.documentationUnitId(),
+            entry.attempts());
+      }
+      return true;
+    }
+
+    outboxService.markSent(entry);
+    return true;
+  }
+}
@@ -1,13 +1,15 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStore;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStoreException;
 import de.bund.digitalservice.ris.caselaw.domain.CoreData;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitHandoverException;
 import de.bund.digitalservice.ris.caselaw.domain.HandoverMail;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxService;
 import de.bund.digitalservice.ris.caselaw.domain.HandoverRepository;
-import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
-import de.bund.digitalservice.ris.caselaw.domain.MailAttachment;
 import de.bund.digitalservice.ris.caselaw.domain.MailService;
+import de.bund.digitalservice.ris.caselaw.domain.Texts;
 import de.bund.digitalservice.ris.caselaw.domain.XmlExporter;
 import de.bund.digitalservice.ris.caselaw.domain.XmlTransformationResult;
 import de.bund.digitalservice.ris.caselaw.domain.court.Court;
@@ -26,51 +28,58 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 
-/** Implementation of the {@link MailService} interface that sends juris-XML files via email. */
+/**
+ * Implementation of the {@link MailService} interface that sends juris-XML files via email. The
+ * mails are put into the outbox and sent asynchronously by the {@link
+ * HandoverMailOutboxDispatcher}.
+ */
 @Service
 public class HandoverMailService implements MailService {
   private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
   private final XmlExporter xmlExporter;
 
-  private final HttpMailSender mailSender;
+  private final HandoverMailOutboxService outboxService;
 
   private final HandoverRepository repository;
 
   private final Environment env;
 
-  @Value("${mail.exporter.senderAddress:export.test@neuris}")
-  private String senderAddress;
+  private final ImageStore imageStore;
 
   @Value("${mail.exporter.jurisUsername:invalid-user}")
   private String jurisUsername;
 
   public HandoverMailService(
       XmlExporter xmlExporter,
-      HttpMailSender mailSender,
+      HandoverMailOutboxService outboxService,
       HandoverRepository repository,
-      Environment env) {
+      Environment env,
+      ImageStore imageStore) {
     this.xmlExporter = xmlExporter;
-    this.mailSender = mailSender;
+    this.outboxService = outboxService;
     this.repository = repository;
     this.env = env;
+    this.imageStore = imageStore;
   }
 
   /**
-   * Hands over a documentation unit as XML to jDV via email.
+   * Hands over a documentation unit as XML to jDV via email. The handover is saved together with
+   * its entry in the outbox, the mail is sent after the return.
    *
    * @param documentationUnit the documentation unit to hand over
    * @param receiverAddress the email address of the receiver
    * @param issuerAddress the email address of the issuer
    * @return the result of the handover
-   * @throws DocumentationUnitHandoverException if the XML export fails
+   * @throws DocumentationUnitHandoverException if the XML export fails, the images are unavailable
+   *     or the receiver is missing
    */
   @Override
   public HandoverMail handOver(
       DocumentationUnit documentationUnit, String receiverAddress, String issuerAddress) {
     XmlTransformationResult xml;
     try {
-      xml = xmlExporter.transformToXml(getTestDocumentationUnit(documentationUnit));
+      xml = xmlExporter.transformToXml(getTestDocumentationUnit(inlineImages(documentationUnit)));
     } catch (ParserConfigurationException | TransformerException ex) {
       throw new DocumentationUnitHandoverException("Couldn't generate xml.", ex);
     }
@@ -80,11 +89,11 @@ public class HandoverMailService implements MailService {
     HandoverMail handoverMail =
         generateXmlHandoverMail(
             documentationUnit.uuid(), receiverAddress, mailSubject, xml, issuerAddress);
-    generateAndSendMail(handoverMail);
+    checkMail(handoverMail);
     if (!handoverMail.success()) {
       return handoverMail;
     }
-    return repository.save(handoverMail);
+    return outboxService.enqueue(handoverMail);
   }
 
   /**
@@ -103,12 +112,13 @@ public class HandoverMailService implements MailService {
    *
    * @param documentationUnit the documentation unit
    * @return the XML export result, containing the XML and possibly errors
-   * @throws DocumentationUnitHandoverException if the XML export fails
+   * @throws DocumentationUnitHandoverException if the XML export fails or the images are
+   *     unavailable
    */
   @Override
   public XmlTransformationResult getXmlPreview(DocumentationUnit documentationUnit) {
     try {
-      return xmlExporter.transformToXml(documentationUnit);
+      return xmlExporter.transformToXml(inlineImages(documentationUnit));
     } catch (ParserConfigurationException | TransformerException ex) {
       throw new DocumentationUnitHandoverException("Couldn't generate xml.", ex);
     }
@@ -136,8 +146,7 @@ public class HandoverMailService implements MailService {
     return subject;
   }
 
-  private void generateAndSendMail(HandoverMail handoverMail)
-      throws DocumentationUnitHandoverException {
+  private void checkMail(HandoverMail handoverMail) throws DocumentationUnitHandoverException {
     if (handoverMail == null) {
       throw new DocumentationUnitHandoverException("No xml mail is set");
     }
@@ -149,18 +158,6 @@ public class HandoverMailService implements MailService {
     if (handoverMail.receiverAddress() == null) {
       throw new DocumentationUnitHandoverException("No receiver mail address is set");
     }
-
-    mailSender.sendMail(
-        senderAddress,
-        handoverMail.receiverAddress(),
-        handoverMail.mailSubject(),
-        "neuris",
-        Collections.singletonList(
-            MailAttachment.builder()
-                .fileName(handoverMail.fileName())
-                .fileContent(handoverMail.xml())
-                .build()),
-        handoverMail.documentationUnitId().toString());
   }
 
   private HandoverMail generateXmlHandoverMail(
@@ -189,6 +186,50 @@ public class HandoverMailService implements MailService {
         .build();
   }
 
+  /**
+   * Replace the references to the stored images of the converted docx file by the image data, so
+   * the exported xml is complete without access to the image endpoint.
+   *
+   * @param documentationUnit the documentation unit
+   * @return the documentation unit with inlined images or the same instance, if the texts contain
+   *     no image references
+   * @throws DocumentationUnitHandoverException if the images are unavailable
+   */
+  private DocumentationUnit inlineImages(DocumentationUnit documentationUnit) {
+    Texts texts = documentationUnit.texts();
+    if (texts == null) {
+      return documentationUnit;
+    }
+
+    Texts inlinedTexts;
+    try {
+      inlinedTexts = inlineImages(texts);
+    } catch (ImageStoreException ex) {
+      throw new DocumentationUnitHandoverException("Couldn't read the images.", ex);
+    }
+    if (inlinedTexts.equals(texts)) {
+      return documentationUnit;
+    }
+
+    return documentationUnit.toBuilder().texts(inlinedTexts).build();
+  }
+
+  private Texts inlineImages(Texts texts) {
+    return Texts.builder()
+        .decisionName(imageStore.inlineImages(texts.decisionName()))
+        .headline(imageStore.inlineImages(texts.headline()))
+        .guidingPrinciple(imageStore.inlineImages(texts.guidingPrinciple()))
+        .headnote(imageStore.inlineImages(texts.headnote()))
+        .otherHeadnote(imageStore.inlineImages(texts.otherHeadnote()))
+        .tenor(imageStore.inlineImages(texts.tenor()))
+        .reasons(imageStore.inlineImages(texts.reasons()))
+        .caseFacts(imageStore.inlineImages(texts.caseFacts()))
+        .decisionReasons(imageStore.inlineImages(texts.decisionReasons()))
+        .dissentingOpinion(imageStore.inlineImages(texts.dissentingOpinion()))
+        .otherLongText(imageStore.inlineImages(texts.otherLongText()))
+        .build();
+  }
+
   private DocumentationUnit getTestDocumentationUnit(DocumentationUnit documentationUnit) {
     if (env.matchesProfiles("production")) {
       return documentationUnit.toBuilder()
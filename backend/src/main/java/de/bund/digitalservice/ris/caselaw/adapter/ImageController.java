@@ -0,0 +1,66 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStore;
+import java.time.Duration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Serves the images of converted docx files. The url contains the content hash of the image, so the
+ * response never changes and can be cached by the browser without revalidation. The url is scoped
+ * to the documentation unit, which contains the image (see {@link ImageUrls}), so only users with
+ * read access to the documentation unit get the image.
+ *
+ * <p>The image isn't checked to be part of the documentation unit in the url: the same image is
+ * stored only once and shared by all documentation units with this image (see {@link
+ * S3ImageStore}). The hash works as a capability. It can only be known by a user, who has the image
+ * content already or has read a documentation unit with a reference to the image. A user without
+ * read access to any documentation unit with the image can't guess the SHA-256 hash, so the image
+ * isn't disclosed to other users by the shared storage.
+ */
+@RestController
+@RequestMapping("api/v1/caselaw/documentunits/{documentNumber}/images")
+public class ImageController {
+  private final ImageStore imageStore;
+
+  public ImageController(ImageStore imageStore) {
+    this.imageStore = imageStore;
+  }
+
+  /**
+   * Get a stored image.
+   *
+   * @param documentNumber document number of the documentation unit, which contains the image
+   * @param hash SHA-256 hash of the image content
+   * @param request web request to check the If-None-Match header
+   * @return the image, 304 if the browser has the image already, 404 for an unknown image or 503 if
+   *     the images are unavailable
+   */
+  @GetMapping("/{hash:[0-9a-f]{64}}")
+  @PreAuthorize("@userHasReadAccessByDocumentNumber.apply(#documentNumber)")
+  public ResponseEntity<byte[]> getImage(
+      @PathVariable String documentNumber, @PathVariable String hash, WebRequest request) {
+    if (request.checkNotModified(hash)) {
+      return null;
+    }
+
+    return imageStore
+        .get(hash)
+        .map(
+            image ->
+                ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(image.contentType()))
+                    .cacheControl(
+                        CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable())
+                    .eTag(hash)
+                    .body(image.bytes()))
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+}
@@ -0,0 +1,57 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Urls of the stored images of converted docx files.
+ *
+ * <p>The converted html references an image only by the hash of its content, so the cached
+ * conversion result can be shared by all documentation units with the same docx file. Before the
+ * html is returned to the client, the references are scoped to the documentation unit, so the
+ * {@link ImageController} can check the read access of the user to this documentation unit.
+ */
+final class ImageUrls {
+  /** Path of an image reference in the converted html, followed by the hash of the image. */
+  static final String UNSCOPED_PATH = "/api/v1/caselaw/images/";
+
+  /**
+   * Reference to a stored image in a src attribute, scoped to a documentation unit or not. The
+   * first group is the hash of the image.
+   */
+  static final Pattern IMAGE_REFERENCE =
+      Pattern.compile("src=\"/api/v1/caselaw/(?:documentunits/[^/\"]+/)?images/([0-9a-f]{64})\"");
+
+  private static final Pattern UNSCOPED_REFERENCE =
+      Pattern.compile("src=\"" + Pattern.quote(UNSCOPED_PATH) + "([0-9a-f]{64})\"");
+
+  private ImageUrls() {}
+
+  /**
+   * Scope the image references of the converted html to the documentation unit.
+   *
+   * @param docx2Html converted docx file, may be null
+   * @param documentNumber document number of the documentation unit, which gets the html
+   * @return the converted docx file with scoped image references or the same instance, if the html
+   *     contains no unscoped image references
+   */
+  static Docx2Html scopeToDocumentationUnit(Docx2Html docx2Html, String documentNumber) {
+    if (docx2Html == null
+        || docx2Html.html() == null
+        || !docx2Html.html().contains(UNSCOPED_PATH)) {
+      return docx2Html;
+    }
+
+    String path =
+        "/api/v1/caselaw/documentunits/"
+            + UriUtils.encodePathSegment(documentNumber, "UTF-8")
+            + "/images/";
+    String html =
+        UNSCOPED_REFERENCE
+            .matcher(docx2Html.html())
+            .replaceAll(match -> Matcher.quoteReplacement("src=\"" + path + match.group(1) + "\""));
+    return new Docx2Html(html, docx2Html.ecliList(), docx2Html.properties());
+  }
+}
@@ -0,0 +1,701 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.gravity9.jsonpatch.AddOperation;
+import com.gravity9.jsonpatch.CopyOperation;
+import com.gravity9.jsonpatch.DualPathOperation;
+import com.gravity9.jsonpatch.JsonPatchOperation;
+import com.gravity9.jsonpatch.MoveOperation;
+import com.gravity9.jsonpatch.PathValueOperation;
+import com.gravity9.jsonpatch.RemoveOperation;
+import com.gravity9.jsonpatch.ReplaceOperation;
+import com.gravity9.jsonpatch.TestOperation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves conflicts between two json patches which are created concurrently against the same
+ * version of a documentation unit.
+ *
+ * <p>Two operations conflict if one of their paths is equal to, an ancestor of or a descendant of a
+ * path of the other operation, e.g. <code>/coreData/fileNumbers</code> and <code>
+ * /coreData/fileNumbers/2</code>. Non conflicting operations are rebased: array indices are shifted
+ * by the inserts and removes of the other patch, so that an operation on <code>
+ * /coreData/fileNumbers/2</code> becomes an operation on <code>/coreData/fileNumbers/1</code> if
+ * the other patch removed <code>/coreData/fileNumbers/0</code>.
+ *
+ * <p>All paths are inserted into a JSON pointer prefix trie. Operations can only interact if they
+ * are in the subtree of the same array (or of the same leaf path if there is no array on the path),
+ * so the trie splits both patches into independent groups in linear time. Only the operations
+ * inside a group are transformed pairwise against each other.
+ *
+ * <p>The client which sent the first patch has to be brought to the same state as the server. The
+ * conflicting operations are reverted in the client in reverse order at the path where their result
+ * is in the client document, followed by the rebased concurrent operations. An operation can only
+ * be reverted without its old value, if it inserted an array element or if the value is overwritten
+ * by the concurrent operation it conflicts with. For all other conflicts the whole subtree of the
+ * group is replaced by the value of the server.
+ */
+class JsonPatchConflictResolver {
+
+  /**
+   * Result of a conflict resolution.
+   *
+   * @param operations the non conflicting operations of the first patch, rebased to be applied
+   *     after the concurrent operations
+   * @param concurrentOperations all concurrent operations in the same order as the input, rebased
+   *     to be applied after the accepted operations of the first patch
+   * @param conflicts the operations of the first patch which conflict with concurrent operations or
+   *     depend on a conflicting operation
+   * @param conflictPaths the paths of the conflicting operations without duplicates
+   * @param clientOperations operations for the client of the first patch: the reverts of the
+   *     conflicting operations followed by the rebased concurrent operations, without the
+   *     operations in the replaced paths
+   * @param replacedPaths paths which have to be replaced by the value of the server in the client
+   *     of the first patch, because their conflicts can't be reverted
+   */
+  record Resolution(
+      List<JsonPatchOperation> operations,
+      List<JsonPatchOperation> concurrentOperations,
+      List<JsonPatchOperation> conflicts,
+      List<String> conflictPaths,
+      List<JsonPatchOperation> clientOperations,
+      List<String> replacedPaths) {}
+
+  /**
+   * Resolve the conflicts between the operations and the concurrent operations. Both lists must be
+   * based on the same version of the document.
+   *
+   * @param operations operations which should be applied after the concurrent operations
+   * @param concurrentOperations operations which are already applied to the document
+   * @return the resolution with rebased operations and conflicts
+   */
+  Resolution resolve(
+      List<JsonPatchOperation> operations, List<JsonPatchOperation> concurrentOperations) {
+
+    List<Operation> ownOperations = toOperations(operations);
+    List<Operation> otherOperations = toOperations(concurrentOperations);
+
+    Operation[] accepted = ownOperations.toArray(new Operation[0]);
+    Operation[] rebasedOwn = new Operation[ownOperations.size()];
+    Operation[] rebasedOther = otherOperations.toArray(new Operation[0]);
+    Operation[] overwritten = new Operation[ownOperations.size()];
+
+    List<Operation> reverts = new ArrayList<>();
+    boolean[] replacedOther = new boolean[otherOperations.size()];
+    List<String> replacedPaths = new ArrayList<>();
+    for (Group group : group(ownOperations, otherOperations)) {
+      resolveGroup(group.own(), group.other(), accepted, rebasedOwn, rebasedOther, overwritten);
+
+      List<Operation> groupReverts = revert(group.own(), ownOperations, accepted, overwritten);
+      if (groupReverts == null) {
+        group.other().forEach(index -> replacedOther[index] = true);
+        group.roots().forEach(root -> replacedPaths.add(format(root)));
+      } else {
+        reverts.addAll(groupReverts);
+      }
+    }
+
+    List<JsonPatchOperation> resultOperations = new ArrayList<>();
+    List<JsonPatchOperation> conflicts = new ArrayList<>();
+    Map<String, Boolean> conflictPaths = new LinkedHashMap<>();
+    for (int i = 0; i < ownOperations.size(); i++) {
+      if (accepted[i] == null) {
+        conflicts.add(operations.get(i));
+        conflictPaths.put(operations.get(i).getPath(), true);
+      } else {
+        resultOperations.add(rebasedOwn[i].toJsonPatchOperation());
+      }
+    }
+
+    List<JsonPatchOperation> resultConcurrentOperations = new ArrayList<>();
+    List<JsonPatchOperation> clientOperations = new ArrayList<>();
+    reverts.forEach(revert -> clientOperations.add(revert.toJsonPatchOperation()));
+    for (int j = 0; j < rebasedOther.length; j++) {
+      JsonPatchOperation operation = rebasedOther[j].toJsonPatchOperation();
+      resultConcurrentOperations.add(operation);
+      if (!replacedOther[j]) {
+        clientOperations.add(operation);
+      }
+    }
+
+    return new Resolution(
+        resultOperations,
+        resultConcurrentOperations,
+        conflicts,
+        new ArrayList<>(conflictPaths.keySet()),
+        clientOperations,
+        replacedPaths);
+  }
+
+  /**
+   * Transform the operations of one group against each other. An operation which conflicts with a
+   * concurrent operation is dropped. The following operations of the same patch are corrected as if
+   * the dropped operation never existed, operations which depend on the dropped operation are
+   * dropped too.
+   *
+   * @param own indices of the own operations in this group
+   * @param other indices of the concurrent operations in this group
+   * @param accepted own operations based on the original document, null for dropped operations
+   * @param rebasedOwn own operations rebased to be applied after the concurrent operations
+   * @param rebasedOther concurrent operations rebased to be applied after the accepted operations
+   * @param overwritten the concurrent operation which overwrites the value of a dropped operation
+   */
+  private static void resolveGroup(
+      List<Integer> own,
+      List<Integer> other,
+      Operation[] accepted,
+      Operation[] rebasedOwn,
+      Operation[] rebasedOther,
+      Operation[] overwritten) {
+
+    Operation[] current = new Operation[other.size()];
+    for (int j = 0; j < other.size(); j++) {
+      current[j] = rebasedOther[other.get(j)];
+    }
+
+    for (int i = 0; i < own.size(); i++) {
+      Operation operation = accepted[own.get(i)];
+      if (operation == null) {
+        continue;
+      }
+
+      Operation[] transformed = transformAgainst(operation, current);
+      if (transformed == null) {
+        overwritten[own.get(i)] = findOverwriting(operation, current);
+        drop(own, i, accepted);
+        continue;
+      }
+
+      rebasedOwn[own.get(i)] = transformed[0];
+      System.arraycopy(transformed, 1, current, 0, current.length);
+    }
+
+    for (int j = 0; j < other.size(); j++) {
+      rebasedOther[other.get(j)] = current[j];
+    }
+  }
+
+  /**
+   * Drop the operation at the given position and correct all following operations of the same
+   * patch. Following operations which depend on the dropped one are dropped too.
+   */
+  private static void drop(List<Integer> own, int position, Operation[] accepted) {
+    Operation dropped = accepted[own.get(position)];
+    accepted[own.get(position)] = null;
+
+    for (int k = position + 1; k < own.size(); k++) {
+      Operation following = accepted[own.get(k)];
+      if (following == null) {
+        continue;
+      }
+      if (following.dependsOn(dropped)) {
+        drop(own, k, accepted);
+      } else {
+        // swap the dropped operation behind the following one to keep both in the same version
+        Operation unshifted = following.unshiftBy(dropped);
+        accepted[own.get(k)] = unshifted;
+        dropped = dropped.shiftBy(unshifted);
+      }
+    }
+  }
+
+  /**
+   * Transform one operation against a list of concurrent operations and the concurrent operations
+   * against the operation.
+   *
+   * @return the transformed operation at index 0 followed by the transformed concurrent operations
+   *     or null if the operation conflicts with one of the concurrent operations
+   */
+  private static Operation[] transformAgainst(Operation operation, Operation[] concurrent) {
+    Operation[] result = new Operation[concurrent.length + 1];
+    Operation current = operation;
+    for (int j = 0; j < concurrent.length; j++) {
+      if (current.overlaps(concurrent[j])) {
+        return null;
+      }
+      result[j + 1] = concurrent[j].shiftBy(current);
+      current = current.shiftBy(concurrent[j]);
+    }
+    result[0] = current;
+    return result;
+  }
+
+  /**
+   * Find the first concurrent operation which conflicts with the operation and check if it
+   * overwrites the whole value of the operation.
+   *
+   * @return the overwriting concurrent operation or null
+   */
+  private static Operation findOverwriting(Operation operation, Operation[] concurrent) {
+    Operation current = operation;
+    for (Operation other : concurrent) {
+      if (current.overlaps(other)) {
+        return other.overwrites(current) ? other : null;
+      }
+      current = current.shiftBy(other);
+    }
+    return null;
+  }
+
+  /**
+   * Generate the operations which revert the dropped operations of a group in the client. The
+   * client applied all own operations, so every dropped operation is moved behind the following
+   * remaining operations of the group first. The dropped operations are reverted from the last to
+   * the first one.
+   *
+   * @return the reverting operations or null if a dropped operation can't be reverted
+   */
+  private static List<Operation> revert(
+      List<Integer> own,
+      List<Operation> ownOperations,
+      Operation[] accepted,
+      Operation[] overwritten) {
+
+    List<Operation> sequence = new ArrayList<>();
+    own.forEach(index -> sequence.add(ownOperations.get(index)));
+
+    List<Operation> reverts = new ArrayList<>();
+    for (int position = own.size() - 1; position >= 0; position--) {
+      int index = own.get(position);
+      if (accepted[index] != null) {
+        continue;
+      }
+
+      Operation moved = sequence.remove(position);
+      for (int k = position; k < sequence.size(); k++) {
+        Operation unshifted = sequence.get(k).unshiftBy(moved);
+        sequence.set(k, unshifted);
+        moved = moved.shiftBy(unshifted);
+      }
+
+      if (!moved.revertInto(overwritten[index], reverts)) {
+        return null;
+      }
+    }
+    return reverts;
+  }
+
+  /**
+   * Split the operations into groups of operations which could interact with each other. Every path
+   * is inserted into a prefix trie. The interaction root of a path is the array on the path nearest
+   * to the document root or the path itself if there is no array. All operations in the subtree of
+   * the top most interaction root form a group.
+   *
+   * @return list of groups in the order of their first operation
+   */
+  private static List<Group> group(List<Operation> ownOperations, List<Operation> otherOperations) {
+
+    TrieNode root = new TrieNode();
+    int size = ownOperations.size() + otherOperations.size();
+    for (int i = 0; i < size; i++) {
+      Operation operation =
+          i < ownOperations.size()
+              ? ownOperations.get(i)
+              : otherOperations.get(i - ownOperations.size());
+      for (String[] path : operation.touchedPaths()) {
+        root.insert(path, i);
+      }
+    }
+
+    UnionFind groups = new UnionFind(size);
+    Map<Integer, String[]> roots = new HashMap<>();
+    root.collectGroups(groups, new ArrayList<>(), roots);
+
+    Map<Integer, Group> result = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      Group group =
+          result.computeIfAbsent(
+              groups.find(i),
+              key -> new Group(new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+      if (i < ownOperations.size()) {
+        group.own().add(i);
+      } else {
+        group.other().add(i - ownOperations.size());
+      }
+    }
+    roots.forEach((operation, path) -> result.get(groups.find(operation)).roots().add(path));
+    result
+        .values()
+        .forEach(
+            group -> group.roots().sort(Comparator.comparing(JsonPatchConflictResolver::format)));
+
+    return new ArrayList<>(result.values());
+  }
+
+  private static List<Operation> toOperations(List<JsonPatchOperation> operations) {
+    List<Operation> result = new ArrayList<>(operations.size());
+    operations.forEach(operation -> result.add(Operation.of(operation)));
+    return result;
+  }
+
+  private static boolean isArrayIndex(String token) {
+    if (token.isEmpty() || token.length() > 9) {
+      return false;
+    }
+    if (token.length() > 1 && token.charAt(0) == '0') {
+      return false;
+    }
+    for (int i = 0; i < token.length(); i++) {
+      if (token.charAt(i) < '0' || token.charAt(i) > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isArrayPosition(String token) {
+    return "-".equals(token) || isArrayIndex(token);
+  }
+
+  private static String[] parse(String path) {
+    if (path == null || path.isEmpty()) {
+      return new String[0];
+    }
+    return path.substring(1).split("/", -1);
+  }
+
+  private static String format(String[] path) {
+    if (path.length == 0) {
+      return "";
+    }
+    return "/" + String.join("/", path);
+  }
+
+  private static boolean isPrefix(String[] prefix, String[] path) {
+    if (prefix.length > path.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      if (!prefix[i].equals(path[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Same as {@link #isPrefix(String[], String[])}, but an append token matches every index. */
+  private static boolean matchesPrefix(String[] prefix, String[] path) {
+    if (prefix.length > path.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      boolean append =
+          ("-".equals(prefix[i]) && isArrayIndex(path[i]))
+              || ("-".equals(path[i]) && isArrayIndex(prefix[i]));
+      if (!append && !prefix[i].equals(path[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean overlaps(String[] path1, String[] path2) {
+    return isPrefix(path1, path2) || isPrefix(path2, path1);
+  }
+
+  /**
+   * Shift the array index of the path by an insert into or a remove from the array. The array is
+   * given by all but the last token of the changed path.
+   */
+  private static String[] shift(String[] path, String[] changedPath, int delta) {
+    if (changedPath.length == 0 || path.length < changedPath.length) {
+      return path;
+    }
+
+    int arrayDepth = changedPath.length - 1;
+    String changedToken = changedPath[arrayDepth];
+    String token = path[arrayDepth];
+    if (!isArrayIndex(changedToken) || !isArrayIndex(token)) {
+      return path;
+    }
+    for (int i = 0; i < arrayDepth; i++) {
+      if (!changedPath[i].equals(path[i])) {
+        return path;
+      }
+    }
+
+    int changedIndex = Integer.parseInt(changedToken);
+    int index = Integer.parseInt(token);
+    if (delta > 0 ? index < changedIndex : index <= changedIndex) {
+      return path;
+    }
+
+    String[] shifted = Arrays.copyOf(path, path.length);
+    shifted[arrayDepth] = String.valueOf(index + delta);
+    return shifted;
+  }
+
+  /**
+   * Operations which could interact with each other.
+   *
+   * @param own indices of the own operations
+   * @param other indices of the concurrent operations
+   * @param roots paths of the top most interaction roots of the operations
+   */
+  private record Group(List<Integer> own, List<Integer> other, List<String[]> roots) {}
+
+  /** Internal representation of a json patch operation with parsed paths. */
+  private record Operation(
+      String op, String[] path, String[] from, JsonNode value, JsonPatchOperation original) {
+
+    static Operation of(JsonPatchOperation operation) {
+      String[] from = null;
+      if (operation instanceof DualPathOperation dualPathOperation) {
+        from = parse(dualPathOperation.getFrom());
+      }
+      JsonNode value = null;
+      if (operation instanceof PathValueOperation pathValueOperation) {
+        value = pathValueOperation.getValue();
+      }
+      return new Operation(operation.getOp(), parse(operation.getPath()), from, value, operation);
+    }
+
+    List<String[]> touchedPaths() {
+      return from == null ? Collections.singletonList(path) : List.of(path, from);
+    }
+
+    boolean overlaps(Operation other) {
+      for (String[] ownPath : touchedPaths()) {
+        for (String[] otherPath : other.touchedPaths()) {
+          if (JsonPatchConflictResolver.overlaps(ownPath, otherPath)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Check if this operation depends on the result of the given previous operation of the same
+     * patch. An append (<code>-</code>) could have created every index of the array.
+     */
+    boolean dependsOn(Operation previous) {
+      for (String[] ownPath : touchedPaths()) {
+        for (String[] previousPath : previous.touchedPaths()) {
+          if (matchesPrefix(ownPath, previousPath) || matchesPrefix(previousPath, ownPath)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Check if this concurrent operation replaces or removes the whole value, which the given
+     * operation changed. An add into an array only shifts the existing elements.
+     */
+    boolean overwrites(Operation other) {
+      if (from != null || !isPrefix(path, other.path)) {
+        return false;
+      }
+      return switch (op) {
+        case "replace", "remove" -> true;
+        case "add" -> path.length == 0 || !isArrayPosition(path[path.length - 1]);
+        default -> false;
+      };
+    }
+
+    /**
+     * Append the operations which revert this operation in the client. The old value isn't known,
+     * so only the structure is restored: an inserted array element is removed, a removed value is
+     * added again as null and a replaced value is kept. This is only correct, if the value is
+     * overwritten afterward by the concurrent operation.
+     *
+     * @param overwriting the concurrent operation, which overwrites the value or null
+     * @param reverts list for the reverting operations
+     * @return false if the operation can't be reverted
+     */
+    boolean revertInto(Operation overwriting, List<Operation> reverts) {
+      if ("test".equals(op)) {
+        return true;
+      }
+      String last = path.length == 0 ? null : path[path.length - 1];
+      if ("add".equals(op) && last != null && isArrayIndex(last)) {
+        reverts.add(new Operation("remove", path, null, null, null));
+        return true;
+      }
+      if (overwriting == null || (last != null && "-".equals(last))) {
+        return false;
+      }
+
+      return switch (op) {
+        case "add" -> {
+          // the member is only removed, if the overwriting operation adds it again
+          if ("add".equals(overwriting.op)) {
+            reverts.add(new Operation("remove", path, null, null, null));
+          }
+          yield true;
+        }
+        case "remove" -> {
+          reverts.add(new Operation("add", path, null, NullNode.getInstance(), null));
+          yield true;
+        }
+        case "replace" -> true;
+        default -> false;
+      };
+    }
+
+    /** Rebase this operation to be applied after the given (non overlapping) operation. */
+    Operation shiftBy(Operation other) {
+      return switch (other.op) {
+        case "add", "copy" -> shifted(other.path, 1, null, 0);
+        case "remove" -> shifted(other.path, -1, null, 0);
+        case "move" -> shifted(other.from, -1, other.path, 1);
+        default -> this; // replace and test operations don't change the structure
+      };
+    }
+
+    /**
+     * Rebase this operation as if the given previous operation (of the same patch) was never
+     * applied.
+     */
+    Operation unshiftBy(Operation previous) {
+      return switch (previous.op) {
+        case "add", "copy" -> shifted(previous.path, -1, null, 0);
+        case "remove" -> shifted(previous.path, 1, null, 0);
+        case "move" -> shifted(previous.path, -1, previous.from, 1);
+        default -> this; // replace and test operations don't change the structure
+      };
+    }
+
+    private Operation shifted(
+        String[] changedPath1, int delta1, String[] changedPath2, int delta2) {
+      String[] newPath = shift(path, changedPath1, delta1);
+      String[] newFrom = from == null ? null : shift(from, changedPath1, delta1);
+      if (changedPath2 != null) {
+        newPath = shift(newPath, changedPath2, delta2);
+        newFrom = newFrom == null ? null : shift(newFrom, changedPath2, delta2);
+      }
+
+      if (newPath == path && newFrom == from) {
+        return this;
+      }
+      return new Operation(op, newPath, newFrom, value, null);
+    }
+
+    JsonPatchOperation toJsonPatchOperation() {
+      if (original != null) {
+        return original;
+      }
+
+      String newPath = format(path);
+      return switch (op) {
+        case "add" -> new AddOperation(newPath, value);
+        case "replace" -> new ReplaceOperation(newPath, value);
+        case "test" -> new TestOperation(newPath, value);
+        case "remove" -> new RemoveOperation(newPath);
+        case "move" -> new MoveOperation(format(from), newPath);
+        case "copy" -> new CopyOperation(format(from), newPath);
+        default -> throw new IllegalStateException("Unknown json patch operation: " + op);
+      };
+    }
+
+    @Override
+    public String toString() {
+      return op + " " + format(path);
+    }
+  }
+
+  /** Node of the JSON pointer prefix trie. */
+  private static class TrieNode {
+    private final Map<String, TrieNode> children = new HashMap<>();
+    private final List<Integer> operations = new ArrayList<>();
+    private boolean interactionRoot;
+
+    void insert(String[] path, int operation) {
+      TrieNode node = this;
+      boolean rootFound = false;
+      for (int i = 0; i < path.length; i++) {
+        if (!rootFound && (isArrayIndex(path[i]) || "-".equals(path[i]))) {
+          node.interactionRoot = true;
+          rootFound = true;
+        }
+        node = node.children.computeIfAbsent(path[i], key -> new TrieNode());
+      }
+      if (!rootFound) {
+        node.interactionRoot = true;
+      }
+      node.operations.add(operation);
+    }
+
+    /**
+     * Union all operations in the subtree of the top most interaction roots.
+     *
+     * @param groups union find of the operations
+     * @param path path of this node
+     * @param roots the path of every top most interaction root by one of its operations
+     */
+    void collectGroups(UnionFind groups, List<String> path, Map<Integer, String[]> roots) {
+      if (interactionRoot) {
+        int operation = unionSubtree(groups, -1);
+        if (operation != -1) {
+          roots.put(operation, path.toArray(new String[0]));
+        }
+        return;
+      }
+      children.forEach(
+          (token, child) -> {
+            path.add(token);
+            child.collectGroups(groups, path, roots);
+            path.remove(path.size() - 1);
+          });
+    }
+
+    private int unionSubtree(UnionFind groups, int representative) {
+      int current = representative;
+      for (Integer operation : operations) {
+        if (current == -1) {
+          current = operation;
+        } else {
+          groups.union(current, operation);
+        }
+      }
+      for (TrieNode child : children.values()) {
+        current = child.unionSubtree(groups, current);
+      }
+      return current;
+    }
+  }
+
+  /** Minimal union find with path compression to merge the groups of operations. */
+  private static class UnionFind {
+    private final int[] parent;
+
+    UnionFind(int size) {
+      parent = new int[size];
+      for (int i = 0; i < size; i++) {
+        parent[i] = i;
+      }
+    }
+
+    int find(int element) {
+      int root = element;
+      while (parent[root] != root) {
+        root = parent[root];
+      }
+      int current = element;
+      while (parent[current] != root) {
+        int next = parent[current];
+        parent[current] = root;
+        current = next;
+      }
+      return root;
+    }
+
+    void union(int element1, int element2) {
+      int root1 = find(element1);
+      int root2 = find(element2);
+      if (root1 != root2) {
+        parent[root2] = root1;
+      }
+    }
+  }
+}
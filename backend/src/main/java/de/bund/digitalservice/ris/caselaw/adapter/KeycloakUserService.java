@@ -5,18 +5,36 @@ import de.bund.digitalservice.ris.caselaw.domain.DocumentationOfficeUserGroup;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOfficeUserGroupService;
 import de.bund.digitalservice.ris.caselaw.domain.User;
 import de.bund.digitalservice.ris.caselaw.domain.UserService;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+/**
+ * Resolves the user, their documentation office and user group from the {@link OidcUser} of
+ * Keycloak.
+ *
+ * <p>The user groups of the {@link DocumentationOfficeUserGroupService} are indexed by their path
+ * name. The index is only rebuilt if the service returns another list of user groups (after a sync
+ * of the user groups). The resolved user is memorized in the request attributes, because it is
+ * needed several times per request by the controllers, the authorization checks and the
+ * repositories.
+ */
 @Service
 public class KeycloakUserService implements UserService {
   private static final Logger LOGGER = LoggerFactory.getLogger(KeycloakUserService.class);
+  private static final String RESOLVED_USER_ATTRIBUTE =
+      KeycloakUserService.class.getName() + ".resolvedUser";
   private final DocumentationOfficeUserGroupService documentationOfficeUserGroupService;
+  private volatile UserGroupIndex userGroupIndex = new UserGroupIndex(List.of(), Map.of());
 
   public KeycloakUserService(
       DocumentationOfficeUserGroupService documentationOfficeUserGroupService) {
@@ -25,9 +43,7 @@ public class KeycloakUserService implements UserService {
 
   @Override
   public User getUser(OidcUser oidcUser) {
-    return extractDocumentationOffice(oidcUser)
-        .map(documentationOffice -> createUser(oidcUser, documentationOffice))
-        .orElse(createUser(oidcUser, null));
+    return resolveUser(oidcUser).user();
   }
 
   @Override
@@ -51,16 +67,70 @@ public class KeycloakUserService implements UserService {
 
   @Override
   public Optional<DocumentationOfficeUserGroup> getUserGroup(OidcUser oidcUser) {
+    return resolveUser(oidcUser).userGroup();
+  }
+
+  private ResolvedUser resolveUser(OidcUser oidcUser) {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes != null
+        && requestAttributes.getAttribute(RESOLVED_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            instanceof ResolvedUser resolvedUser
+        && resolvedUser.oidcUser() == oidcUser) {
+      return resolvedUser;
+    }
+
+    Optional<DocumentationOfficeUserGroup> userGroup = findUserGroup(oidcUser);
+    ResolvedUser resolvedUser =
+        new ResolvedUser(
+            oidcUser,
+            userGroup,
+            createUser(
+                oidcUser, userGroup.map(DocumentationOfficeUserGroup::docOffice).orElse(null)));
+
+    if (requestAttributes != null) {
+      requestAttributes.setAttribute(
+          RESOLVED_USER_ATTRIBUTE, resolvedUser, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    return resolvedUser;
+  }
+
+  private Optional<DocumentationOfficeUserGroup> findUserGroup(OidcUser oidcUser) {
     List<String> userGroups = Objects.requireNonNull(oidcUser.getAttribute("groups"));
-    var matchingUserGroup =
-        this.documentationOfficeUserGroupService.getAllUserGroups().stream()
-            .filter(group -> userGroups.contains(group.userGroupPathName()))
-            .findFirst();
-    if (matchingUserGroup.isEmpty()) {
+    UserGroupIndex index = getUserGroupIndex();
+
+    // the first matching user group in the order of the user group service wins
+    int matchingPosition = Integer.MAX_VALUE;
+    for (String userGroup : userGroups) {
+      Integer position = index.positionByPathName().get(userGroup);
+      if (position != null && position < matchingPosition) {
+        matchingPosition = position;
+      }
+    }
+
+    if (matchingPosition == Integer.MAX_VALUE) {
       LOGGER.warn(
           "No doc office user group associated with given Keycloak user groups: {}", userGroups);
+      return Optional.empty();
     }
-    return matchingUserGroup;
+    return Optional.of(index.userGroups().get(matchingPosition));
+  }
+
+  private UserGroupIndex getUserGroupIndex() {
+    List<DocumentationOfficeUserGroup> userGroups =
+        documentationOfficeUserGroupService.getAllUserGroups();
+    UserGroupIndex index = this.userGroupIndex;
+    if (index.userGroups() == userGroups) {
+      return index;
+    }
+
+    Map<String, Integer> positionByPathName = new HashMap<>();
+    for (int i = 0; i < userGroups.size(); i++) {
+      positionByPathName.putIfAbsent(userGroups.get(i).userGroupPathName(), i);
+    }
+    index = new UserGroupIndex(userGroups, Collections.unmodifiableMap(positionByPathName));
+    this.userGroupIndex = index;
+    return index;
   }
 
   private User createUser(OidcUser oidcUser, DocumentationOffice documentationOffice) {
@@ -72,7 +142,9 @@ public class KeycloakUserService implements UserService {
         .build();
   }
 
-  private Optional<DocumentationOffice> extractDocumentationOffice(OidcUser oidcUser) {
-    return getUserGroup(oidcUser).map(DocumentationOfficeUserGroup::docOffice);
-  }
+  private record UserGroupIndex(
+      List<DocumentationOfficeUserGroup> userGroups, Map<String, Integer> positionByPathName) {}
+
+  private record ResolvedUser(
+      OidcUser oidcUser, Optional<DocumentationOfficeUserGroup> userGroup, User user) {}
 }
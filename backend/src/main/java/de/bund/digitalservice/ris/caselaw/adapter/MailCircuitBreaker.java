@@ -0,0 +1,130 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.domain.MailServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Circuit breaker for the calls of the mail service.
+ *
+ * <p>After {@code failureThreshold} consecutive failed calls the circuit is opened and every call
+ * fails immediately for {@code openDuration}, so an unavailable mail service doesn't block the
+ * callers until their timeouts. After that a single trial call is permitted (half open): if it
+ * succeeds the circuit is closed again, otherwise it is opened for another {@code openDuration}.
+ *
+ * <p>The calls are counted by outcome (success, failure, rejected) in {@code mail.sender.calls},
+ * the state of the circuit is published in {@code mail.sender.circuit.state} (0 closed, 1 open, 2
+ * half open).
+ */
+public class MailCircuitBreaker {
+  /** State of the circuit */
+  public enum State {
+    /** calls are permitted */
+    CLOSED,
+    /** calls are rejected */
+    OPEN,
+    /** a single trial call is permitted */
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final Duration openDuration;
+  private final Clock clock;
+  private final Counter successCounter;
+  private final Counter failureCounter;
+  private final Counter rejectedCounter;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private Instant openUntil;
+  private boolean trialCallRunning;
+
+  public MailCircuitBreaker(
+      int failureThreshold, Duration openDuration, MeterRegistry meterRegistry) {
+    this(failureThreshold, openDuration, meterRegistry, Clock.systemUTC());
+  }
+
+  MailCircuitBreaker(
+      int failureThreshold, Duration openDuration, MeterRegistry meterRegistry, Clock clock) {
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+    this.clock = clock;
+
+    this.successCounter = callCounter(meterRegistry, "success");
+    this.failureCounter = callCounter(meterRegistry, "failure");
+    this.rejectedCounter = callCounter(meterRegistry, "rejected");
+    Gauge.builder("mail.sender.circuit.state", this, breaker -> breaker.getState().ordinal())
+        .description("State of the circuit breaker of the mail service")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Check if a call is permitted. Every permitted call has to be finished with {@link #onSuccess()}
+   * or {@link #onFailure()}, also if it ends with an unexpected error, otherwise a trial call keeps
+   * the circuit half open.
+   *
+   * @throws MailServiceUnavailableException if the circuit is open
+   */
+  public synchronized void acquirePermission() {
+    if (isOpenDurationOver()) {
+      state = State.HALF_OPEN;
+    }
+
+    if (state == State.OPEN || (state == State.HALF_OPEN && trialCallRunning)) {
+      rejectedCounter.increment();
+      throw new MailServiceUnavailableException(
+          "Mail service unavailable, the circuit breaker is open.");
+    }
+
+    if (state == State.HALF_OPEN) {
+      trialCallRunning = true;
+    }
+  }
+
+  /** Finish a permitted call, which succeeded. Closes the circuit. */
+  public synchronized void onSuccess() {
+    successCounter.increment();
+    consecutiveFailures = 0;
+    trialCallRunning = false;
+    state = State.CLOSED;
+  }
+
+  /**
+   * Finish a permitted call, which failed because of the mail service. Opens the circuit after a
+   * failed trial call or too many consecutive failures.
+   */
+  public synchronized void onFailure() {
+    failureCounter.increment();
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+      state = State.OPEN;
+      openUntil = clock.instant().plus(openDuration);
+    }
+    trialCallRunning = false;
+  }
+
+  /**
+   * Get the current state of the circuit. An open circuit is reported as half open after {@code
+   * openDuration}, also if no call was tried since.
+   *
+   * @return the state of the circuit
+   */
+  public synchronized State getState() {
+    return isOpenDurationOver() ? State.HALF_OPEN : state;
+  }
+
+  private boolean isOpenDurationOver() {
+    return state == State.OPEN && !clock.instant().isBefore(openUntil);
+  }
+
+  private static Counter callCounter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("mail.sender.calls")
+        .description("Calls of the mail service")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,145 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.domain.AttachmentException;
+import de.bund.digitalservice.ris.caselaw.domain.AttachmentService;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+/**
+ * Stores the attachments of the documentation units with the asynchronous S3 client, which splits
+ * large files into a multipart upload and sends concurrent requests. Used instead of the {@link
+ * S3AttachmentService}, if {@code otc.obs.async-attachments} is set.
+ *
+ * <p>The {@link AttachmentService} is blocking, so every operation waits for its requests like the
+ * blocking client and throws the same exceptions. The asynchronous client only speeds up the single
+ * operation: the uploaded file is streamed from the local copy in parts and the attachments of a
+ * documentation unit are deleted with one {@code DeleteObjects} request per 1000 keys, the batches
+ * are sent concurrently.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "otc.obs.async-attachments", havingValue = "true")
+public class S3AsyncAttachmentService extends AbstractS3AttachmentService {
+  // maximal number of keys of a DeleteObjects request
+  static final int MAX_KEYS_PER_DELETE = 1000;
+
+  private final S3AsyncClient s3AsyncClient;
+
+  public S3AsyncAttachmentService(
+      AttachmentRepository repository,
+      S3AsyncClient s3AsyncClient,
+      DatabaseDocumentationUnitRepository documentationUnitRepository,
+      DocxConversionCache conversionCache) {
+    super(repository, documentationUnitRepository, conversionCache);
+    this.s3AsyncClient = s3AsyncClient;
+  }
+
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public void deleteByS3Path(String s3Path) {
+    checkS3Path(s3Path);
+
+    await(
+        s3AsyncClient.deleteObject(
+            DeleteObjectRequest.builder().bucket(bucketName).key(s3Path).build()));
+    conversionCache.evict(s3Path);
+
+    repository.deleteByS3ObjectPath(s3Path);
+  }
+
+  /**
+   * Delete the files of all attachments of a documentation unit from the bucket. The keys are
+   * deleted in batches of at most {@value #MAX_KEYS_PER_DELETE} keys, all batches are sent
+   * concurrently.
+   *
+   * @param documentationUnitId the UUID of the documentation unit
+   * @throws AttachmentException if an attachment has no path or a file couldn't be deleted. The
+   *     other files are deleted anyway.
+   */
+  @Override
+  public void deleteAllObjectsFromBucketForDocumentationUnit(UUID documentationUnitId) {
+    List<String> s3Paths =
+        repository.findAllByDocumentationUnitId(documentationUnitId).stream()
+            .map(AttachmentDTO::getS3ObjectPath)
+            .toList();
+    s3Paths.forEach(S3AsyncAttachmentService::checkS3Path);
+
+    List<CompletableFuture<DeleteObjectsResponse>> batches = new ArrayList<>();
+    for (int from = 0; from < s3Paths.size(); from += MAX_KEYS_PER_DELETE) {
+      List<String> batch =
+          s3Paths.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, s3Paths.size()));
+      batches.add(s3AsyncClient.deleteObjects(buildDeleteObjectsRequest(batch)));
+    }
+    await(CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)));
+
+    Set<String> failedS3Paths = new HashSet<>();
+    for (CompletableFuture<DeleteObjectsResponse> batch : batches) {
+      for (S3Error error : batch.join().errors()) {
+        log.error(
+            "Couldn't delete attachment '{}': {} {}", error.key(), error.code(), error.message());
+        failedS3Paths.add(error.key());
+      }
+    }
+
+    s3Paths.stream()
+        .filter(s3Path -> !failedS3Paths.contains(s3Path))
+        .forEach(conversionCache::evict);
+
+    if (!failedS3Paths.isEmpty()) {
+      throw new AttachmentException(
+          "Couldn't delete " + failedS3Paths.size() + " attachments of the documentation unit");
+    }
+  }
+
+  @Override
+  protected void putObjectIntoBucket(PutObjectRequest putObjectRequest, Path file) {
+    await(s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromFile(file)));
+  }
+
+  private DeleteObjectsRequest buildDeleteObjectsRequest(List<String> s3Paths) {
+    List<ObjectIdentifier> objects =
+        s3Paths.stream().map(s3Path -> ObjectIdentifier.builder().key(s3Path).build()).toList();
+
+    // quiet: the response only contains the keys, which couldn't be deleted
+    return DeleteObjectsRequest.builder()
+        .bucket(bucketName)
+        .delete(Delete.builder().objects(objects).quiet(true).build())
+        .build();
+  }
+
+  /**
+   * Wait for the request. The exception of a failed request is thrown like by the blocking client.
+   */
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+}
@@ -22,6 +22,8 @@ import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -137,4 +139,22 @@ public class S3AsyncMockClient implements S3AsyncClient {
 
     return CompletableFuture.completedFuture(DeleteObjectResponse.builder().build());
   }
+
+  @Override
+  public CompletableFuture<DeleteObjectsResponse> deleteObjects(
+      DeleteObjectsRequest deleteObjectsRequest) {
+
+    deleteObjectsRequest
+        .delete()
+        .objects()
+        .forEach(
+            object ->
+                deleteObject(
+                    DeleteObjectRequest.builder()
+                        .bucket(deleteObjectsRequest.bucket())
+                        .key(object.key())
+                        .build()));
+
+    return CompletableFuture.completedFuture(DeleteObjectsResponse.builder().build());
+  }
 }
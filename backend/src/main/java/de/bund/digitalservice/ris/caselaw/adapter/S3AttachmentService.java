@@ -3,150 +3,61 @@ package de.bund.digitalservice.ris.caselaw.adapter;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
-import de.bund.digitalservice.ris.caselaw.adapter.transformer.AttachmentTransformer;
-import de.bund.digitalservice.ris.caselaw.domain.Attachment;
-import de.bund.digitalservice.ris.caselaw.domain.AttachmentException;
-import de.bund.digitalservice.ris.caselaw.domain.AttachmentService;
-import de.bund.digitalservice.ris.caselaw.domain.StringUtils;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.file.Path;
 import java.util.UUID;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 
-@Slf4j
+/**
+ * Stores the attachments of the documentation units with the blocking S3 client. Used, if {@code
+ * otc.obs.async-attachments} isn't set, see {@link S3AsyncAttachmentService}.
+ */
 @Service
-public class S3AttachmentService implements AttachmentService {
-  private final AttachmentRepository repository;
+@ConditionalOnProperty(
+    name = "otc.obs.async-attachments",
+    havingValue = "false",
+    matchIfMissing = true)
+public class S3AttachmentService extends AbstractS3AttachmentService {
   private final S3Client s3Client;
-  private final DatabaseDocumentationUnitRepository documentationUnitRepository;
-
-  @Value("${otc.obs.bucket-name}")
-  private String bucketName;
 
   public S3AttachmentService(
       AttachmentRepository repository,
       S3Client s3Client,
-      DatabaseDocumentationUnitRepository documentationUnitRepository) {
-    this.repository = repository;
+      DatabaseDocumentationUnitRepository documentationUnitRepository,
+      DocxConversionCache conversionCache) {
+    super(repository, documentationUnitRepository, conversionCache);
     this.s3Client = s3Client;
-    this.documentationUnitRepository = documentationUnitRepository;
-  }
-
-  public Attachment attachFileToDocumentationUnit(
-      UUID documentationUnitId, ByteBuffer byteBuffer, HttpHeaders httpHeaders) {
-    var fileUuid = UUID.randomUUID();
-    String fileName =
-        httpHeaders.containsKey("X-Filename")
-            ? httpHeaders.getFirst("X-Filename")
-            : "Kein Dateiname gefunden";
-
-    checkDocx(byteBuffer);
-
-    putObjectIntoBucket(fileUuid.toString(), byteBuffer, httpHeaders);
-
-    AttachmentDTO attachmentDTO =
-        AttachmentDTO.builder()
-            .id(fileUuid)
-            .s3ObjectPath(fileUuid.toString())
-            .documentationUnit(
-                documentationUnitRepository.findById(documentationUnitId).orElseThrow())
-            .filename(fileName)
-            .format("docx")
-            .uploadTimestamp(Instant.now())
-            .build();
-
-    return AttachmentTransformer.transformToDomain(repository.save(attachmentDTO));
   }
 
+  @Override
   @Transactional(transactionManager = "jpaTransactionManager")
   public void deleteByS3Path(String s3Path) {
     deleteObjectFromBucket(s3Path);
     repository.deleteByS3ObjectPath(s3Path);
   }
 
+  @Override
   public void deleteAllObjectsFromBucketForDocumentationUnit(UUID uuid) {
     repository.findAllByDocumentationUnitId(uuid).stream()
         .map(AttachmentDTO::getS3ObjectPath)
         .forEach(this::deleteObjectFromBucket);
   }
 
-  void checkDocx(ByteBuffer byteBuffer) {
-    var zip = new ZipInputStream(new ByteArrayInputStream(byteBufferToArray(byteBuffer)));
-    ZipEntry entry;
-    try {
-      while ((entry = zip.getNextEntry()) != null) {
-        if (entry.getName().startsWith("word/document") && entry.getName().endsWith(".xml")) {
-          return;
-        }
-      }
-    } catch (IOException e) {
-      throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
-    }
-    throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
-  }
-
-  private byte[] byteBufferToArray(ByteBuffer byteBuffer) {
-    byteBuffer.rewind();
-    byte[] byteBufferArray = new byte[byteBuffer.remaining()];
-    byteBuffer.get(byteBufferArray);
-    byteBuffer.rewind();
-    return byteBufferArray;
-  }
-
-  private PutObjectResponse putObjectIntoBucket(
-      String fileUuid, ByteBuffer byteBuffer, HttpHeaders httpHeaders) {
-
-    var contentLength = httpHeaders.getContentLength();
-
-    Map<String, String> metadata = new HashMap<>();
-    MediaType mediaType = httpHeaders.getContentType();
-    if (mediaType == null) {
-      mediaType = MediaType.APPLICATION_OCTET_STREAM;
-    }
-
-    log.debug("upload header information: mediaType{}, contentLength={}", mediaType, contentLength);
-
-    var requestBody = RequestBody.fromByteBuffer(byteBuffer);
-    var putObjectRequestBuilder =
-        PutObjectRequest.builder()
-            .bucket(bucketName)
-            .key(fileUuid)
-            .contentType(mediaType.toString())
-            .metadata(metadata);
-
-    if (contentLength >= 0) {
-      putObjectRequestBuilder.contentLength(contentLength);
-    }
-
-    var putObjectRequest = putObjectRequestBuilder.build();
-
-    return s3Client.putObject(putObjectRequest, requestBody);
+  @Override
+  protected void putObjectIntoBucket(PutObjectRequest putObjectRequest, Path file) {
+    s3Client.putObject(putObjectRequest, RequestBody.fromFile(file));
   }
 
   private void deleteObjectFromBucket(String s3Path) {
-    if (StringUtils.returnTrueIfNullOrBlank(s3Path)) {
-      throw new AttachmentException("s3Path cant be null");
-    }
+    checkS3Path(s3Path);
 
     var deleteObjectRequest = DeleteObjectRequest.builder().bucket(bucketName).key(s3Path).build();
     s3Client.deleteObject(deleteObjectRequest);
+    conversionCache.evict(s3Path);
   }
 }
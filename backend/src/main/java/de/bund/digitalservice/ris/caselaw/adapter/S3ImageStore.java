@@ -0,0 +1,118 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStore;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStoreException;
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocxImagePart;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * Stores the images of converted docx files in the bucket, keyed by the SHA-256 hash of their
+ * content. The same image is stored only once, even if it's used in many documents. The images are
+ * served by the {@link ImageController}, the references in the html are described in {@link
+ * ImageUrls}.
+ *
+ * <p>The images are never deleted, because the html of a documentation unit may still reference
+ * them after the docx file is removed.
+ */
+@Component
+@Slf4j
+public class S3ImageStore implements ImageStore {
+  private static final String PREFIX = "images/";
+
+  private final S3Client client;
+
+  @Value("${otc.obs.bucket-name}")
+  private String bucketName;
+
+  public S3ImageStore(S3Client client) {
+    this.client = client;
+  }
+
+  @Override
+  public Optional<String> store(String contentType, byte[] bytes) {
+    String hash = hash(bytes);
+    String key = PREFIX + hash;
+
+    try {
+      if (!exists(key)) {
+        client.putObject(
+            PutObjectRequest.builder().bucket(bucketName).key(key).contentType(contentType).build(),
+            RequestBody.fromBytes(bytes));
+      }
+      return Optional.of(ImageUrls.UNSCOPED_PATH + hash);
+    } catch (SdkException e) {
+      log.warn("Couldn't store image '{}', inline it instead", hash, e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public Optional<DocxImagePart> get(String hash) {
+    try {
+      var response =
+          client.getObjectAsBytes(
+              GetObjectRequest.builder().bucket(bucketName).key(PREFIX + hash).build());
+      return Optional.of(
+          new DocxImagePart(response.response().contentType(), response.asByteArray()));
+    } catch (NoSuchKeyException e) {
+      return Optional.empty();
+    } catch (SdkException e) {
+      log.warn("Couldn't read image '{}'", hash, e);
+      throw new ImageStoreException("Couldn't read image '" + hash + "'", e);
+    }
+  }
+
+  @Override
+  public String inlineImages(String html) {
+    if (html == null || !html.contains("/images/")) {
+      return html;
+    }
+
+    return ImageUrls.IMAGE_REFERENCE
+        .matcher(html)
+        .replaceAll(
+            match ->
+                get(match.group(1))
+                    .map(
+                        image ->
+                            Matcher.quoteReplacement(
+                                "src=\"data:"
+                                    + image.contentType()
+                                    + ";base64, "
+                                    + Base64.getEncoder().encodeToString(image.bytes())
+                                    + "\""))
+                    .orElse(Matcher.quoteReplacement(match.group())));
+  }
+
+  private boolean exists(String key) {
+    try {
+      client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build());
+      return true;
+    } catch (NoSuchKeyException e) {
+      return false;
+    }
+  }
+
+  private static String hash(byte[] bytes) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 isn't available", e);
+    }
+  }
+}
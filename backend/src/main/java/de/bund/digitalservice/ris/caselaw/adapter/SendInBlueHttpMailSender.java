@@ -3,12 +3,17 @@ package de.bund.digitalservice.ris.caselaw.adapter;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitHandoverException;
 import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
 import de.bund.digitalservice.ris.caselaw.domain.MailAttachment;
+import de.bund.digitalservice.ris.caselaw.domain.MailServiceUnavailableException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
 import sendinblue.ApiClient;
 import sendinblue.ApiException;
-import sendinblue.Configuration;
 import sendinblue.auth.ApiKeyAuth;
 import sibApi.TransactionalEmailsApi;
 import sibModel.SendSmtpEmail;
@@ -19,12 +24,55 @@ import sibModel.SendSmtpEmailTo;
 /**
  * Implementation of the {@link HttpMailSender} interface that sends emails using the SendInBlue
  * Service API.
+ *
+ * <p>All mails are sent with the same thread-safe api client. Its http client keeps up to {@value
+ * #MAX_IDLE_CONNECTIONS} idle connections alive for reuse and limits the time to connect and to
+ * wait for the response, so a hanging mail service doesn't block the sending thread. The calls are
+ * guarded by a {@link MailCircuitBreaker}: connection errors, timeouts and server errors of the
+ * mail service open the circuit, rejected mails (4xx) don't.
  */
 public class SendInBlueHttpMailSender implements HttpMailSender {
-  private final String apiKey;
+  private static final int MAX_IDLE_CONNECTIONS = 5;
+  private static final Duration KEEP_ALIVE = Duration.ofMinutes(5);
 
-  public SendInBlueHttpMailSender(String apiKey) {
-    this.apiKey = apiKey;
+  private final TransactionalEmailsApi api;
+  private final MailCircuitBreaker circuitBreaker;
+
+  /**
+   * Create the mail sender with its api client.
+   *
+   * @param apiKey the api key of the SendInBlue account
+   * @param basePath the base url of the api or null for the SendInBlue api
+   * @param connectTimeout maximal time to establish a connection
+   * @param readTimeout maximal time to write the request and to wait for data of the response
+   * @param circuitBreaker circuit breaker for the calls
+   */
+  public SendInBlueHttpMailSender(
+      String apiKey,
+      String basePath,
+      Duration connectTimeout,
+      Duration readTimeout,
+      MailCircuitBreaker circuitBreaker) {
+    OkHttpClient httpClient =
+        new OkHttpClient.Builder()
+            .connectTimeout(connectTimeout)
+            .readTimeout(readTimeout)
+            .writeTimeout(readTimeout)
+            .connectionPool(
+                new ConnectionPool(
+                    MAX_IDLE_CONNECTIONS, KEEP_ALIVE.toMillis(), TimeUnit.MILLISECONDS))
+            .build();
+
+    ApiClient apiClient = new ApiClient();
+    apiClient.setHttpClient(httpClient);
+    if (basePath != null) {
+      apiClient.setBasePath(basePath);
+    }
+    ApiKeyAuth apiKeyAuth = (ApiKeyAuth) apiClient.getAuthentication("api-key");
+    apiKeyAuth.setApiKey(apiKey);
+
+    this.api = new TransactionalEmailsApi(apiClient);
+    this.circuitBreaker = circuitBreaker;
   }
 
   /**
@@ -45,12 +93,33 @@ public class SendInBlueHttpMailSender implements HttpMailSender {
       String content,
       List<MailAttachment> mailAttachments,
       String tag) {
+    sendMail(senderAddress, receiverAddress, subject, content, mailAttachments, tag, null);
+  }
 
-    ApiClient defaultClient = Configuration.getDefaultApiClient();
-    ApiKeyAuth apiKeyAuth = (ApiKeyAuth) defaultClient.getAuthentication("api-key");
-    apiKeyAuth.setApiKey(apiKey);
+  /**
+   * Sends an email using the SendInBlue API. The idempotency key is passed in the {@code
+   * idempotencyKey} header, so the API recognizes a retried mail and doesn't deliver it twice.
+   *
+   * @param senderAddress the sender's email address
+   * @param receiverAddress the receiver's email address
+   * @param subject the email subject
+   * @param content the email content
+   * @param mailAttachments the email attachments
+   * @param tag the tag to assign to the email, used to track the email in SendInBlue
+   * @param idempotencyKey key to recognize a repeated send of the same mail, can be null
+   * @throws DocumentationUnitHandoverException if the mail couldn't be sent
+   * @throws MailServiceUnavailableException if the circuit is open, the mail wasn't sent
+   */
+  @Override
+  public void sendMail(
+      String senderAddress,
+      String receiverAddress,
+      String subject,
+      String content,
+      List<MailAttachment> mailAttachments,
+      String tag,
+      String idempotencyKey) {
 
-    TransactionalEmailsApi api = new TransactionalEmailsApi();
     SendSmtpEmailSender sender = new SendSmtpEmailSender();
     sender.setEmail(senderAddress);
     sender.setName("Neuris XML Exporter");
@@ -76,11 +145,34 @@ public class SendInBlueHttpMailSender implements HttpMailSender {
     sendSmtpEmail.setSubject(subject);
     sendSmtpEmail.setAttachment(attachmentList);
     sendSmtpEmail.setTags(tags);
+    if (idempotencyKey != null) {
+      sendSmtpEmail.setHeaders(Map.of("idempotencyKey", idempotencyKey));
+    }
 
+    circuitBreaker.acquirePermission();
+    // every other outcome than an answer of the mail service counts as failure, also errors
+    boolean mailServiceFailure = true;
     try {
       api.sendTransacEmail(sendSmtpEmail);
+      mailServiceFailure = false;
     } catch (ApiException e) {
+      mailServiceFailure = isMailServiceFailure(e);
       throw new DocumentationUnitHandoverException("Couldn't send email.", e);
+    } finally {
+      if (mailServiceFailure) {
+        circuitBreaker.onFailure();
+      } else {
+        circuitBreaker.onSuccess();
+      }
     }
   }
+
+  /**
+   * Check if the call failed because of the mail service and not because of the mail: the service
+   * wasn't reachable or didn't answer in time (no status code), rate limited the call or had an
+   * internal error.
+   */
+  private static boolean isMailServiceFailure(ApiException e) {
+    return e.getCode() == 0 || e.getCode() == 429 || e.getCode() >= 500;
+  }
 }
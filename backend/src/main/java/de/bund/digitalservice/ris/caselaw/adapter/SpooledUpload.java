@@ -0,0 +1,53 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Request body of an upload, stored in a temporary file. The body is copied in small chunks, so the
+ * heap usage of an upload doesn't grow with the size of the file. The file is deleted on close.
+ */
+@Slf4j
+public class SpooledUpload implements AutoCloseable {
+  private final Path file;
+
+  private SpooledUpload(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Copy the request body into a new temporary file.
+   *
+   * @param body input stream of the request body
+   * @return the stored upload
+   * @throws IOException if the body couldn't be read or the file couldn't be written
+   */
+  public static SpooledUpload of(InputStream body) throws IOException {
+    Path file = Files.createTempFile("upload-", ".tmp");
+    try {
+      Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+
+    return new SpooledUpload(file);
+  }
+
+  public Path file() {
+    return file;
+  }
+
+  @Override
+  public void close() {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Couldn't delete temporary upload file '{}'", file, e);
+    }
+  }
+}
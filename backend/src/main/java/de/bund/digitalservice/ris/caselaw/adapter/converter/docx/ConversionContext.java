@@ -0,0 +1,57 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocxImagePart;
+import de.bund.digitalservice.ris.caselaw.domain.docx.ParagraphElement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import org.docx4j.model.listnumbering.ListNumberingDefinition;
+import org.docx4j.wml.Style;
+
+/**
+ * Meta information of one docx file, which is needed to convert its content elements.
+ *
+ * <p>The context is created once per docx file and passed to the {@link DocxConverter} and the
+ * builders. It isn't changed during the conversion, so different docx files can be converted in
+ * parallel by the same converter. Missing information is replaced by empty collections.
+ *
+ * @param styles styles of the docx file by style id
+ * @param images images of the docx file by relationship id
+ * @param footers converted footers of the docx file
+ * @param listNumberingDefinitions numbering definitions of the docx file by numbering id
+ * @param imageStore store for the images, which are referenced by url in the html. If null, the
+ *     images are inlined as base64 data.
+ * @param emfRenderer renderer for the EMF images. If null, the images are rendered directly with
+ *     the {@link EMF2PNGConverter}.
+ * @param listNumbering compiled numbering definitions. If null, a new model for the numbering
+ *     definitions is created.
+ * @param tableStyles resolved conditional formats of the table styles. If null, a new cache for the
+ *     styles is created.
+ */
+@Builder(toBuilder = true)
+public record ConversionContext(
+    Map<String, Style> styles,
+    Map<String, DocxImagePart> images,
+    List<ParagraphElement> footers,
+    Map<String, ListNumberingDefinition> listNumberingDefinitions,
+    ImageStore imageStore,
+    EmfRenderer emfRenderer,
+    ListNumberingModel listNumbering,
+    TableStyleCache tableStyles) {
+
+  public static final ConversionContext EMPTY = ConversionContext.builder().build();
+
+  public ConversionContext {
+    styles = styles == null ? Collections.emptyMap() : Collections.unmodifiableMap(styles);
+    images = images == null ? Collections.emptyMap() : Collections.unmodifiableMap(images);
+    footers = footers == null ? Collections.emptyList() : Collections.unmodifiableList(footers);
+    listNumberingDefinitions =
+        listNumberingDefinitions == null
+            ? Collections.emptyMap()
+            : Collections.unmodifiableMap(listNumberingDefinitions);
+    listNumbering =
+        listNumbering == null ? new ListNumberingModel(listNumberingDefinitions) : listNumbering;
+    tableStyles = tableStyles == null ? new TableStyleCache(styles) : tableStyles;
+  }
+}
@@ -6,9 +6,7 @@ import de.bund.digitalservice.ris.caselaw.domain.docx.NumberingListEntry;
 import de.bund.digitalservice.ris.caselaw.domain.docx.NumberingListEntryIndex;
 import jakarta.xml.bind.JAXBElement;
 import java.util.List;
-import org.docx4j.model.listnumbering.AbstractListNumberingDefinition;
-import org.docx4j.model.listnumbering.ListLevel;
-import org.docx4j.model.listnumbering.ListNumberingDefinition;
+import java.util.Optional;
 import org.docx4j.wml.P;
 import org.docx4j.wml.PPr;
 import org.docx4j.wml.PPrBase.NumPr;
@@ -38,7 +36,7 @@ public class DocumentationUnitDocxBuilder extends DocxBuilder {
     } else if (isNumberingListEntry()) {
       return convertToNumberingListEntry();
     } else if (isParagraph()) {
-      return ParagraphConverter.convert(paragraph, converter);
+      return ParagraphConverter.convert(paragraph, context);
     }
 
     return null;
@@ -208,42 +206,28 @@ public class DocumentationUnitDocxBuilder extends DocxBuilder {
     String numId = null;
     String iLvl = null;
 
-    ListNumberingDefinition listNumberingDefinition = null;
     if (numPr != null && numPr.getNumId() != null && numPr.getNumId().getVal() != null) {
       numId = numPr.getNumId().getVal().toString();
-      listNumberingDefinition = converter.getListNumberingDefinitions().get(numId);
     }
 
     if (numPr != null && numPr.getIlvl() != null && numPr.getIlvl().getVal() != null) {
       iLvl = numPr.getIlvl().getVal().toString();
     }
 
-    ListLevel listLevel = null;
-    if (listNumberingDefinition != null) {
-      AbstractListNumberingDefinition abstractListDefinition =
-          listNumberingDefinition.getAbstractListDefinition();
-
-      if (abstractListDefinition != null && iLvl != null) {
-        listLevel = abstractListDefinition.getListLevels().get(iLvl);
-      }
-    }
+    Optional<NumberingListEntryIndex> numberingListEntryIndex =
+        context.listNumbering().getEntryIndex(numId, iLvl);
 
     // Unless we find a counter example, we treat the presence of a numPr element with numId 0
     // as a list entry that brings its own numbering symbol inside the paragraph part,
     // --> we therefore convert it as a paragraph instead of a list
-    if (numId == null || numId.equals("0") || listLevel == null) {
-      return ParagraphConverter.convert(paragraph, converter);
+    if (numId == null || numId.equals("0") || numberingListEntryIndex.isEmpty()) {
+      return ParagraphConverter.convert(paragraph, context);
     } else {
-      NumberingListEntryIndex numberingListEntryIndex = setNumberingListEntryIndex(listLevel, iLvl);
       return new NumberingListEntry(
-          ParagraphConverter.convert(paragraph, converter), numberingListEntryIndex);
+          ParagraphConverter.convert(paragraph, context), numberingListEntryIndex.get());
     }
   }
 
-  private NumberingListEntryIndex setNumberingListEntryIndex(ListLevel listLevel, String iLvl) {
-    return NumberingListEntryIndexGenerator.generate(listLevel, iLvl);
-  }
-
   private boolean isParagraph() {
     return paragraph != null;
   }
@@ -8,13 +8,14 @@ import de.bund.digitalservice.ris.caselaw.domain.docx.ParagraphElement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class DocumentationUnitDocxListUtils {
   private static final Logger LOGGER =
       LoggerFactory.getLogger(DocumentationUnitDocxListUtils.class);
+  private static final Pattern ROMAN_NUMERAL = Pattern.compile("^[IVX]+\\.$");
 
   private DocumentationUnitDocxListUtils() {}
 
@@ -44,29 +45,26 @@ public class DocumentationUnitDocxListUtils {
     }
   }
 
-  public static List<DocumentationUnitDocx> packList(List<DocumentationUnitDocx> unpackedList) {
-    if (unpackedList == null) {
-      return Collections.emptyList();
-    }
-
-    AtomicReference<BorderNumber> finalBorderNumber = new AtomicReference<>();
-
-    List<DocumentationUnitDocx> mergedList = firstRun(unpackedList, finalBorderNumber);
-    return secondRun(mergedList, finalBorderNumber);
-  }
-
   /**
-   * first run through: - pack consecutive NumberingListEntry's into one NumberingList element per
-   * block, build a new list --> mergedList - identify last BorderNumber
+   * Pack the converted elements of a docx file in one pass through the list:
+   *
+   * <ul>
+   *   <li>consecutive NumberingListEntry's are packed into one NumberingList element per block
+   *   <li>all elements between BorderNumber's get attached to the BorderNumber on top. Three
+   *       conditions can break this rule: a paragraph that is centered, the last BorderNumber in
+   *       the document or a paragraph with a roman numeral (I., II., ...). If no BorderNumber is
+   *       active as current parent, the element goes into the packed list without a parent.
+   * </ul>
    *
    * @param unpackedList list of unpacked elements
-   * @return merged list of document unit docx objects
+   * @return packed list of documentation unit docx objects
    */
-  private static List<DocumentationUnitDocx> firstRun(
-      List<DocumentationUnitDocx> unpackedList, AtomicReference<BorderNumber> finalBorderNumber) {
-
-    List<DocumentationUnitDocx> mergedList = new ArrayList<>();
+  public static List<DocumentationUnitDocx> packList(List<DocumentationUnitDocx> unpackedList) {
+    if (unpackedList == null) {
+      return Collections.emptyList();
+    }
 
+    ListPacker packer = new ListPacker(findFinalBorderNumber(unpackedList));
     NumberingList currentNumberingList = null;
 
     for (DocumentationUnitDocx element : unpackedList) {
@@ -77,49 +75,51 @@ public class DocumentationUnitDocxListUtils {
         currentNumberingList.addNumberingListEntry(numberingListEntry);
       } else {
         if (currentNumberingList != null) {
-          mergedList.add(currentNumberingList);
+          packer.add(currentNumberingList);
         }
         currentNumberingList = null;
-        mergedList.add(element);
-      }
-      if (element instanceof BorderNumber borderNumber) {
-        finalBorderNumber.set(borderNumber);
+        packer.add(element);
       }
     }
     if (currentNumberingList != null) {
-      mergedList.add(currentNumberingList);
+      packer.add(currentNumberingList);
     }
 
-    return mergedList;
+    return packer.packedList;
   }
 
-  /**
-   * second run through: - All elements between BorderNumber's get attached to the BorderNumber on
-   * top. Two conditions can break this rule: a paragraph that is centered or if it's the last
-   * BorderNumber in the document. - If no BorderNumber is active as current parent, the element
-   * goes into the packedList without a parent.
-   *
-   * @param mergedList - result of the first run
-   * @return packed list of documentation unit docx objects
-   */
-  @SuppressWarnings("java:S3776")
-  private static List<DocumentationUnitDocx> secondRun(
-      List<DocumentationUnitDocx> mergedList, AtomicReference<BorderNumber> finalBorderNumber) {
+  /** Search the last BorderNumber from the end of the list. */
+  private static BorderNumber findFinalBorderNumber(List<DocumentationUnitDocx> unpackedList) {
+    for (int i = unpackedList.size() - 1; i >= 0; i--) {
+      if (unpackedList.get(i) instanceof BorderNumber borderNumber) {
+        return borderNumber;
+      }
+    }
 
-    List<DocumentationUnitDocx> packedList = new ArrayList<>();
+    return null;
+  }
+
+  /** Attaches the elements to the current BorderNumber, see {@link #packList(List)}. */
+  private static class ListPacker {
+    private final List<DocumentationUnitDocx> packedList = new ArrayList<>();
+    private final BorderNumber finalBorderNumber;
+    private BorderNumber currentBorderNumber;
 
-    BorderNumber currentBorderNumber = null;
+    private ListPacker(BorderNumber finalBorderNumber) {
+      this.finalBorderNumber = finalBorderNumber;
+    }
 
-    for (DocumentationUnitDocx element : mergedList) {
+    private void add(DocumentationUnitDocx element) {
       // if we encounter a BorderNumber, this is the new parent of all following elements
       // until a new BorderNumber or a BorderNumber-block-breaking condition comes along
       if (element instanceof BorderNumber borderNumber) {
         currentBorderNumber = borderNumber;
         packedList.add(element);
-        continue;
+        return;
       }
       // BorderNumber-block-breaking condition 1: centered paragraphs
-      if (element instanceof ParagraphElement paragraphElement
+      if (currentBorderNumber != null
+          && element instanceof ParagraphElement paragraphElement
           && paragraphElement.getStyleString().contains("text-align: center;")) {
         currentBorderNumber = null;
       }
@@ -127,18 +127,12 @@ public class DocumentationUnitDocxListUtils {
       // document (as scanned for above) only gets one child attached (otherwise
       // the whole rest of the document would get absorbed into the final BorderNumber)
       if (currentBorderNumber != null
-          && currentBorderNumber == finalBorderNumber.get()
+          && currentBorderNumber == finalBorderNumber
           && currentBorderNumber.getChildrenSize() >= 1) {
         currentBorderNumber = null;
       }
       // BorderNumber-block-breaking condition 3: paragraphs with the pattern I. or II. or III.
-      if (element instanceof ParagraphElement paragraphElement
-              && paragraphElement.getText().trim().matches("^[IVX]+\\.$")
-          || element instanceof NumberingList numberingList
-              && numberingList.getEntries().size() == 1
-              && numberingList.getEntries().get(0).paragraphElement()
-                  instanceof ParagraphElement numberingListEntryParagraph
-              && numberingListEntryParagraph.getText().trim().matches("^[IVX]+\\.$")) {
+      if (currentBorderNumber != null && isRomanNumeralHeading(element)) {
         currentBorderNumber = null;
       }
 
@@ -152,6 +146,14 @@ public class DocumentationUnitDocxListUtils {
       }
     }
 
-    return packedList;
+    private static boolean isRomanNumeralHeading(DocumentationUnitDocx element) {
+      return element instanceof ParagraphElement paragraphElement
+              && ROMAN_NUMERAL.matcher(paragraphElement.getText().trim()).matches()
+          || element instanceof NumberingList numberingList
+              && numberingList.getEntries().size() == 1
+              && numberingList.getEntries().get(0).paragraphElement()
+                  instanceof ParagraphElement numberingListEntryParagraph
+              && ROMAN_NUMERAL.matcher(numberingListEntryParagraph.getText().trim()).matches();
+    }
   }
 }
@@ -3,10 +3,10 @@ package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
 import de.bund.digitalservice.ris.caselaw.domain.docx.DocumentationUnitDocx;
 
 public abstract class DocxBuilder {
-  protected DocxConverter converter;
+  protected ConversionContext context = ConversionContext.EMPTY;
 
-  public DocxBuilder setConverter(DocxConverter converter) {
-    this.converter = converter;
+  public DocxBuilder setContext(ConversionContext context) {
+    this.context = context;
     return this;
   }
 
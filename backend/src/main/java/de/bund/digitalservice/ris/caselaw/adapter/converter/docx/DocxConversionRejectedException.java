@@ -0,0 +1,20 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import java.time.Duration;
+
+/**
+ * Thrown if a docx conversion isn't accepted, because all conversion workers are busy and the
+ * waiting queue is full. The client should retry the request after the given duration.
+ */
+public class DocxConversionRejectedException extends RuntimeException {
+  private final Duration retryAfter;
+
+  public DocxConversionRejectedException(Duration retryAfter, Exception exception) {
+    super("Too many docx conversions. Please retry later.", exception);
+    this.retryAfter = retryAfter;
+  }
+
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
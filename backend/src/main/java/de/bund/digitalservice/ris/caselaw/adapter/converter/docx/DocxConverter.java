@@ -1,58 +1,33 @@
 package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
 
-import de.bund.digitalservice.ris.caselaw.domain.Converter;
 import de.bund.digitalservice.ris.caselaw.domain.docx.DocumentationUnitDocx;
-import de.bund.digitalservice.ris.caselaw.domain.docx.DocxImagePart;
 import de.bund.digitalservice.ris.caselaw.domain.docx.ErrorElement;
-import de.bund.digitalservice.ris.caselaw.domain.docx.ParagraphElement;
 import jakarta.xml.bind.JAXBElement;
-import java.util.List;
-import java.util.Map;
-import org.docx4j.model.listnumbering.ListNumberingDefinition;
 import org.docx4j.wml.P;
-import org.docx4j.wml.Style;
 import org.docx4j.wml.Tbl;
 
-public class DocxConverter implements Converter<DocumentationUnitDocx> {
-  private Map<String, Style> styles;
-  private Map<String, DocxImagePart> images;
-  private List<ParagraphElement> footers;
-  private Map<String, ListNumberingDefinition> listNumberingDefinitions;
-
-  public Map<String, DocxImagePart> getImages() {
-    return images;
-  }
-
-  public void setImages(Map<String, DocxImagePart> images) {
-    this.images = images;
-  }
-
-  public Map<String, Style> getStyles() {
-    return styles;
-  }
-
-  public void setStyles(Map<String, Style> styles) {
-    this.styles = styles;
-  }
-
-  public Map<String, ListNumberingDefinition> getListNumberingDefinitions() {
-    return listNumberingDefinitions;
-  }
-
-  public void setListNumberingDefinitions(
-      Map<String, ListNumberingDefinition> listNumberingDefinitions) {
-    this.listNumberingDefinitions = listNumberingDefinitions;
-  }
-
-  public List<ParagraphElement> getFooters() {
-    return footers;
-  }
-
-  public void setFooters(List<ParagraphElement> footers) {
-    this.footers = footers;
-  }
-
-  public DocumentationUnitDocx convert(Object part) {
+/**
+ * Converter for the content elements of a docx file.
+ *
+ * <p>The converter has no state. All meta information of the docx file (styles, images, footers and
+ * numbering definitions) is given as {@link ConversionContext} with every call, so one instance is
+ * used for all concurrent conversions.
+ */
+public class DocxConverter {
+  /**
+   * Version of the conversion result. Increase it with every change of the converter which changes
+   * the generated html, so the cached conversion results of older versions aren't used anymore.
+   */
+  public static final int VERSION = 3;
+
+  /**
+   * Convert a docx4j content element into the internal representation.
+   *
+   * @param part docx4j content element (paragraph or table)
+   * @param context meta information of the docx file the element belongs to
+   * @return the converted element or an {@link ErrorElement} for unsupported elements
+   */
+  public DocumentationUnitDocx convert(Object part, ConversionContext context) {
     DocxBuilder builder;
 
     if (part instanceof P p) {
@@ -63,7 +38,7 @@ public class DocxConverter implements Converter<DocumentationUnitDocx> {
       return new ErrorElement(part.getClass().getName());
     }
 
-    builder.setConverter(this);
+    builder.setContext(context);
 
     return builder.build();
   }
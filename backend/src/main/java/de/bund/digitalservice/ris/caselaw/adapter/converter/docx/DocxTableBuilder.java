@@ -10,9 +10,7 @@ import de.bund.digitalservice.ris.caselaw.domain.docx.TableElement;
 import de.bund.digitalservice.ris.caselaw.domain.docx.TableRowElement;
 import jakarta.xml.bind.JAXBElement;
 import java.util.ArrayList;
-import java.util.EnumMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.docx4j.sharedtypes.STOnOff;
@@ -23,7 +21,6 @@ import org.docx4j.wml.CTTblLook;
 import org.docx4j.wml.CTTblPrBase;
 import org.docx4j.wml.CTTblStylePr;
 import org.docx4j.wml.P;
-import org.docx4j.wml.STTblStyleOverrideType;
 import org.docx4j.wml.Style;
 import org.docx4j.wml.Tbl;
 import org.docx4j.wml.TblBorders;
@@ -66,7 +63,7 @@ public class DocxTableBuilder extends DocxBuilder {
       return;
     }
 
-    Style style = converter.getStyles().get(table.getTblPr().getTblStyle().getVal());
+    Style style = context.styles().get(table.getTblPr().getTblStyle().getVal());
     if (style == null) {
       return;
     }
@@ -76,24 +73,8 @@ public class DocxTableBuilder extends DocxBuilder {
     }
 
     AtomicInteger tblLookValue = getTableLookValue(table.getTblPr().getTblLook());
-
-    Map<STTblStyleOverrideType, Integer> orderMap = generateTableStyleOrderMap();
-    style.getTblStylePr().stream()
-        .sorted(
-            (o1, o2) -> {
-              int value1 = Integer.MIN_VALUE;
-              if (o1 != null && o1.getType() != null && orderMap.containsKey(o1.getType())) {
-                value1 = orderMap.get(o1.getType());
-              }
-              int value2 = Integer.MAX_VALUE;
-              if (o2 != null && o2.getType() != null && orderMap.containsKey(o2.getType())) {
-                value2 = orderMap.get(o2.getType());
-              }
-
-              return value1 - value2;
-            })
-        .forEach(
-            tblStylePr -> addTableStyleProperties(tableElement, tblStylePr, tblLookValue.get()));
+    addConditionalTableStyles(
+        tableElement, table.getTblPr().getTblStyle().getVal(), tblLookValue.get());
   }
 
   private AtomicInteger getTableLookValue(CTTblLook tblLook) {
@@ -151,173 +132,36 @@ public class DocxTableBuilder extends DocxBuilder {
             });
   }
 
-  private Map<STTblStyleOverrideType, Integer> generateTableStyleOrderMap() {
-    EnumMap<STTblStyleOverrideType, Integer> orderMap = new EnumMap<>(STTblStyleOverrideType.class);
-    orderMap.put(STTblStyleOverrideType.WHOLE_TABLE, 1);
-    orderMap.put(STTblStyleOverrideType.BAND_1_VERT, 2);
-    orderMap.put(STTblStyleOverrideType.BAND_2_VERT, 3);
-    orderMap.put(STTblStyleOverrideType.BAND_1_HORZ, 4);
-    orderMap.put(STTblStyleOverrideType.BAND_2_HORZ, 5);
-    orderMap.put(STTblStyleOverrideType.FIRST_ROW, 6);
-    orderMap.put(STTblStyleOverrideType.LAST_ROW, 7);
-    orderMap.put(STTblStyleOverrideType.FIRST_COL, 8);
-    orderMap.put(STTblStyleOverrideType.LAST_COL, 9);
-    orderMap.put(STTblStyleOverrideType.NE_CELL, 10);
-    orderMap.put(STTblStyleOverrideType.NW_CELL, 11);
-    orderMap.put(STTblStyleOverrideType.SE_CELL, 12);
-    orderMap.put(STTblStyleOverrideType.SW_CELL, 13);
-    return orderMap;
-  }
-
-  private void addTableStyleProperties(
-      TableElement tableElement, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    if (tableElement.rows == null || tableElement.rows.isEmpty()) {
+  private void addConditionalTableStyles(
+      TableElement tableElement, String styleId, int tblLookValue) {
+    if (tableElement.rows == null) {
       return;
     }
 
-    switch (tblStylePr.getType()) {
-      case WHOLE_TABLE -> addTableStyleForWholeTable(tableElement, tblStylePr, tblLookValue);
-      case BAND_1_VERT -> addTableStyleForOddColumns(tableElement, tblStylePr, tblLookValue);
-      case BAND_2_VERT -> addTableStyleForEvenColumns(tableElement, tblStylePr, tblLookValue);
-      case BAND_1_HORZ -> addTableStyleForOddRows(tableElement, tblStylePr, tblLookValue);
-      case BAND_2_HORZ -> addTableStyleForEvenRows(tableElement, tblStylePr, tblLookValue);
-      case FIRST_ROW -> addStyleForFirstRow(tableElement, tblStylePr, tblLookValue);
-      case LAST_ROW -> addStyleForLastRow(tableElement, tblStylePr, tblLookValue);
-      case FIRST_COL -> addStyleForFirstCol(tableElement, tblStylePr, tblLookValue);
-      case LAST_COL -> addStyleForLastCol(tableElement, tblStylePr, tblLookValue);
-      case NE_CELL -> {
-        TableRowElement row = tableElement.rows.get(0);
-        if (row.cells() != null && !row.cells().isEmpty()) {
-          addStyleForCell(row.cells().get(row.cells().size() - 1), tblStylePr, tblLookValue);
-        }
-      }
-      case NW_CELL -> {
-        TableRowElement row = tableElement.rows.get(0);
-        if (row.cells() != null && !row.cells().isEmpty()) {
-          addStyleForCell(row.cells().get(0), tblStylePr, tblLookValue);
-        }
-      }
-      case SE_CELL -> {
-        TableRowElement row = tableElement.rows.get(tableElement.rows.size() - 1);
-        if (row.cells() != null && !row.cells().isEmpty()) {
-          addStyleForCell(row.cells().get(row.cells().size() - 1), tblStylePr, tblLookValue);
-        }
-      }
-      case SW_CELL -> {
-        TableRowElement row = tableElement.rows.get(tableElement.rows.size() - 1);
-        if (row.cells() != null && !row.cells().isEmpty()) {
-          addStyleForCell(row.cells().get(0), tblStylePr, tblLookValue);
-        }
-      }
-      default -> LOGGER.error("unsupported table style property: {}", tblStylePr.getType());
-    }
-  }
-
-  private void addTableStyleForWholeTable(
-      TableElement tableElement, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    tableElement.rows.forEach(rowElement -> addStyleForRow(rowElement, tblStylePr, tblLookValue));
-  }
-
-  private void addTableStyleForOddRows(
-      TableElement tableElement, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    for (int i = 0; i < tableElement.rows.size(); i++) {
-      if (i % 2 == 0) {
+    int rowCount = tableElement.rows.size();
+    for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+      List<TableCellElement> cells = tableElement.rows.get(rowIndex).cells();
+      if (cells == null) {
         continue;
       }
 
-      addStyleForRow(tableElement.rows.get(i), tblStylePr, tblLookValue);
-    }
-  }
-
-  private void addTableStyleForOddColumns(
-      TableElement tableElement, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    tableElement.rows.forEach(
-        row -> {
-          if (row.cells() != null) {
-            for (int i = 0; i < row.cells().size(); i++) {
-              if (i % 2 == 0) {
-                continue;
-              }
-
-              addStyleForCell(row.cells().get(i), tblStylePr, tblLookValue);
-            }
-          }
-        });
-  }
+      for (int columnIndex = 0; columnIndex < cells.size(); columnIndex++) {
+        TableCellElement tableCell = cells.get(columnIndex);
+        if (tableCell.getUsedStyles() == null) {
+          continue;
+        }
 
-  private void addTableStyleForEvenRows(
-      TableElement tableElement, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    for (int i = 0; i < tableElement.rows.size(); i++) {
-      if (i % 2 == 1) {
-        continue;
+        int position =
+            TableStyleCache.getCellPosition(rowIndex, rowCount, columnIndex, cells.size());
+        context
+            .tableStyles()
+            .getCellFormats(styleId, tblLookValue | tableCell.getUsedStyles(), position)
+            .forEach(tblStylePr -> addStyleForCell(tableCell, tblStylePr));
       }
-
-      addStyleForRow(tableElement.rows.get(i), tblStylePr, tblLookValue);
     }
   }
 
-  private void addTableStyleForEvenColumns(
-      TableElement tableElement, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    tableElement.rows.forEach(
-        row -> {
-          if (row.cells() != null) {
-            for (int i = 0; i < row.cells().size(); i++) {
-              if (i % 2 == 1) {
-                continue;
-              }
-
-              addStyleForCell(row.cells().get(i), tblStylePr, tblLookValue);
-            }
-          }
-        });
-  }
-
-  private void addStyleForFirstCol(
-      TableElement tableElement, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    tableElement.rows.forEach(
-        row -> {
-          if (row.cells() == null || row.cells().isEmpty()) {
-            return;
-          }
-
-          addStyleForCell(row.cells().get(0), tblStylePr, tblLookValue);
-        });
-  }
-
-  private void addStyleForLastCol(
-      TableElement tableElement, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    tableElement.rows.forEach(
-        row -> {
-          if (row.cells() == null || row.cells().isEmpty()) {
-            return;
-          }
-
-          addStyleForCell(row.cells().get(row.cells().size() - 1), tblStylePr, tblLookValue);
-        });
-  }
-
-  private void addStyleForLastRow(
-      TableElement tableElement, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    TableRowElement lastRow = tableElement.rows.get(tableElement.rows.size() - 1);
-    addStyleForRow(lastRow, tblStylePr, tblLookValue);
-  }
-
-  private void addStyleForFirstRow(
-      TableElement tableElement, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    TableRowElement firstRow = tableElement.rows.get(0);
-    addStyleForRow(firstRow, tblStylePr, tblLookValue);
-  }
-
-  private void addStyleForRow(TableRowElement row, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    row.cells().forEach(tableCell -> addStyleForCell(tableCell, tblStylePr, tblLookValue));
-  }
-
-  private void addStyleForCell(
-      TableCellElement tableCell, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    if (!useStyleForCell(tableCell, tblStylePr, tblLookValue)) {
-      return;
-    }
-
+  private void addStyleForCell(TableCellElement tableCell, CTTblStylePr tblStylePr) {
     addExternalTcStyle(tableCell, tblStylePr.getTcPr());
     tableCell.paragraphElements.forEach(
         element -> {
@@ -332,35 +176,6 @@ public class DocxTableBuilder extends DocxBuilder {
         });
   }
 
-  private boolean useStyleForCell(
-      TableCellElement tableCell, CTTblStylePr tblStylePr, Integer tblLookValue) {
-    if (tableCell.getUsedStyles() == null) {
-      return false;
-    }
-
-    int usedStyles = 0;
-    if (tblLookValue != null) {
-      usedStyles = tblLookValue;
-    }
-    usedStyles |= tableCell.getUsedStyles();
-
-    return switch (tblStylePr.getType()) {
-      case FIRST_ROW -> (2048 & usedStyles) != 0;
-      case LAST_ROW -> (1024 & usedStyles) != 0;
-      case FIRST_COL -> (512 & usedStyles) != 0;
-      case LAST_COL -> (256 & usedStyles) != 0;
-      case BAND_1_VERT -> (128 & usedStyles) != 0;
-      case BAND_2_VERT -> (64 & usedStyles) != 0;
-      case BAND_1_HORZ -> (32 & usedStyles) != 0;
-      case BAND_2_HORZ -> (16 & usedStyles) != 0;
-      case NE_CELL -> (8 & usedStyles) != 0;
-      case NW_CELL -> (4 & usedStyles) != 0;
-      case SE_CELL -> (2 & usedStyles) != 0;
-      case SW_CELL -> (1 & usedStyles) != 0;
-      case WHOLE_TABLE -> true;
-    };
-  }
-
   private void addTableProperties(TableElement tableElement) {
     if (table.getTblPr() == null) {
       return;
@@ -368,7 +183,7 @@ public class DocxTableBuilder extends DocxBuilder {
 
     if (table.getTblPr().getTblStyle() != null) {
       var tblStyleKey = table.getTblPr().getTblStyle().getVal();
-      Style style = converter.getStyles().get(tblStyleKey);
+      Style style = context.styles().get(tblStyleKey);
       addTableProperties(tableElement, style.getTblPr());
     }
 
@@ -508,7 +323,7 @@ public class DocxTableBuilder extends DocxBuilder {
 
     if (table.getTblPr().getTblStyle() != null) {
       String tableStyleKey = table.getTblPr().getTblStyle().getVal();
-      Style style = converter.getStyles().get(tableStyleKey);
+      Style style = context.styles().get(tableStyleKey);
       if (style.getTblPr() != null) {
         addBordersToCells(cells, style.getTblPr().getTblBorders());
       }
@@ -555,7 +370,7 @@ public class DocxTableBuilder extends DocxBuilder {
         .forEach(
             element -> {
               if (element instanceof P p) {
-                paragraphElements.add(ParagraphConverter.convert(p, converter));
+                paragraphElements.add(ParagraphConverter.convert(p, context));
               } else {
                 LOGGER.error("unknown tr element: {}", element);
               }
@@ -570,7 +385,7 @@ public class DocxTableBuilder extends DocxBuilder {
   private void addTcStyle(TableCellElement cellElement, Tc tc) {
     if (table.getTblPr().getTblStyle() != null) {
       var tblStyleKey = table.getTblPr().getTblStyle().getVal();
-      Style style = converter.getStyles().get(tblStyleKey);
+      Style style = context.styles().get(tblStyleKey);
       addTcStyle(cellElement, style.getTcPr());
     }
 
@@ -0,0 +1,25 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import java.awt.Dimension;
+import java.util.Optional;
+
+/** Renders the EMF images of a docx file as PNG, see {@link EMF2PNGConverter}. */
+public interface EmfRenderer {
+  /**
+   * Start the rendering of the image in the background, without waiting for the result. Used for
+   * all images of a docx file before the conversion, so the images are rendered in parallel.
+   *
+   * @param emf bytes of the EMF image
+   * @param size size of the image in the document
+   */
+  void prepare(byte[] emf, Dimension size);
+
+  /**
+   * Render the image and wait for the result.
+   *
+   * @param emf bytes of the EMF image
+   * @param size size of the image in the document
+   * @return the bytes of the PNG image or an empty optional, if the image couldn't be rendered
+   */
+  Optional<byte[]> render(byte[] emf, Dimension size);
+}
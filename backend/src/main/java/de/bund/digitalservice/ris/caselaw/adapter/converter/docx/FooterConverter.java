@@ -13,16 +13,16 @@ public class FooterConverter {
    * Convert a list of docx4j content elements to {@link ParagraphElement}
    *
    * @param content list of docx4j objects
-   * @param converter converter to convert the objects to domain objects
+   * @param context meta information of the docx file
    * @return a parent paragraph element with the content elements as children
    */
-  public static ParagraphElement convert(List<Object> content, DocxConverter converter) {
+  public static ParagraphElement convert(List<Object> content, ConversionContext context) {
     AtomicReference<ParagraphElement> paragraphElement = new AtomicReference<>();
 
     content.forEach(
         c -> {
           if (c instanceof P p) {
-            paragraphElement.set(ParagraphConverter.convert(p, converter));
+            paragraphElement.set(ParagraphConverter.convert(p, context));
           }
         });
 
@@ -0,0 +1,39 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocxImagePart;
+import java.util.Optional;
+
+/**
+ * Store for the images of converted docx files, so the html references them instead of inlining.
+ */
+public interface ImageStore {
+
+  /**
+   * Store an image of a docx file.
+   *
+   * @param contentType content type of the image
+   * @param bytes content of the image
+   * @return the url of the stored image or an empty optional, if the image couldn't be stored. In
+   *     this case the image is inlined into the html as data url.
+   */
+  Optional<String> store(String contentType, byte[] bytes);
+
+  /**
+   * Read a stored image.
+   *
+   * @param hash SHA-256 hash of the image content
+   * @return the image or an empty optional, if no image with this hash is stored
+   * @throws ImageStoreException if the store isn't available
+   */
+  Optional<DocxImagePart> get(String hash);
+
+  /**
+   * Replace the references to stored images by data urls with the base64 encoded image, e.g. for
+   * the export of the html. References to unknown images are kept.
+   *
+   * @param html html with image references
+   * @return html with inlined images
+   * @throws ImageStoreException if the store isn't available
+   */
+  String inlineImages(String html);
+}
@@ -0,0 +1,8 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+/** Thrown if the {@link ImageStore} isn't available, e.g. because the bucket can't be reached. */
+public class ImageStoreException extends RuntimeException {
+  public ImageStoreException(String message, Exception exception) {
+    super(message, exception);
+  }
+}
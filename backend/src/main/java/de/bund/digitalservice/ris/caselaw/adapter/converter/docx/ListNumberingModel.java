@@ -0,0 +1,72 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.NumberingListEntryIndex;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.docx4j.model.listnumbering.AbstractListNumberingDefinition;
+import org.docx4j.model.listnumbering.ListLevel;
+import org.docx4j.model.listnumbering.ListNumberingDefinition;
+
+/**
+ * Numbering definitions of one docx file, compiled into the {@link NumberingListEntryIndex} of the
+ * used list levels.
+ *
+ * <p>The model is created once per docx file. The properties of a list level are resolved for the
+ * first entry of the level, all further entries of the level share the same index. Levels, which
+ * aren't used in the document, are never resolved. The model can be used by parallel conversions of
+ * the same docx file.
+ */
+public class ListNumberingModel {
+  private final Map<String, ListNumberingDefinition> listNumberingDefinitions;
+  private final Map<LevelKey, Optional<NumberingListEntryIndex>> entryIndexes =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Create the model for the numbering definitions of a docx file.
+   *
+   * @param listNumberingDefinitions numbering definitions of the docx file by numbering id
+   */
+  public ListNumberingModel(Map<String, ListNumberingDefinition> listNumberingDefinitions) {
+    this.listNumberingDefinitions =
+        listNumberingDefinitions == null ? Collections.emptyMap() : listNumberingDefinitions;
+  }
+
+  /**
+   * Get the index for the entries of a list level.
+   *
+   * @param numId numbering id of the list
+   * @param iLvl level of the entry in the list
+   * @return the index or an empty optional, if the list level isn't defined
+   */
+  public Optional<NumberingListEntryIndex> getEntryIndex(String numId, String iLvl) {
+    if (numId == null || iLvl == null) {
+      return Optional.empty();
+    }
+
+    return entryIndexes.computeIfAbsent(new LevelKey(numId, iLvl), this::compile);
+  }
+
+  private Optional<NumberingListEntryIndex> compile(LevelKey key) {
+    ListNumberingDefinition listNumberingDefinition = listNumberingDefinitions.get(key.numId());
+    if (listNumberingDefinition == null) {
+      return Optional.empty();
+    }
+
+    AbstractListNumberingDefinition abstractListDefinition =
+        listNumberingDefinition.getAbstractListDefinition();
+    if (abstractListDefinition == null) {
+      return Optional.empty();
+    }
+
+    ListLevel listLevel = abstractListDefinition.getListLevels().get(key.iLvl());
+    if (listLevel == null) {
+      return Optional.empty();
+    }
+
+    return Optional.of(NumberingListEntryIndexGenerator.generate(listLevel, key.iLvl()));
+  }
+
+  private record LevelKey(String numId, String iLvl) {}
+}
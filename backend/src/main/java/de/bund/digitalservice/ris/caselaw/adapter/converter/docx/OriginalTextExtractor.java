@@ -0,0 +1,71 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import java.io.StringReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Extract the text of the text elements ({@code w:t}) of a docx document xml.
+ *
+ * <p>The xml is read with a StAX reader in one forward pass. In contrast to a DOM, only the current
+ * element is kept in memory, so the memory usage doesn't grow with the size of the document.
+ */
+public class OriginalTextExtractor {
+  private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+  private OriginalTextExtractor() {}
+
+  private static XMLInputFactory createXmlInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  /**
+   * Concatenate the text of all text elements in the document element.
+   *
+   * @param xml xml of the main document part
+   * @return the text of the document without any formatting
+   * @throws XMLStreamException if the xml couldn't be parsed
+   */
+  public static String extractText(String xml) throws XMLStreamException {
+    StringBuilder sb = new StringBuilder();
+
+    XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+    try {
+      boolean inDocument = false;
+      int depth = 0;
+      int textDepth = -1;
+
+      while (reader.hasNext()) {
+        int event = reader.next();
+
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          depth++;
+          if (depth == 1) {
+            inDocument = reader.getLocalName().equals("document");
+          } else if (inDocument && textDepth < 0 && reader.getLocalName().equals("t")) {
+            textDepth = depth;
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          if (depth == textDepth) {
+            textDepth = -1;
+          }
+          depth--;
+        } else if (textDepth > 0
+            && (event == XMLStreamConstants.CHARACTERS
+                || event == XMLStreamConstants.CDATA
+                || event == XMLStreamConstants.SPACE)) {
+          sb.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+        }
+      }
+    } finally {
+      reader.close();
+    }
+
+    return sb.toString();
+  }
+}
@@ -28,10 +28,10 @@ public class ParagraphConverter {
    *
    * @see DocxConverter
    * @param paragraph original docx4j {@link org.docx4j.wml.P} element
-   * @param converter reference to the converter
+   * @param context meta information of the docx file
    * @return the internal representation as {@link ParagraphElement}
    */
-  public static ParagraphElement convert(P paragraph, DocxConverter converter) {
+  public static ParagraphElement convert(P paragraph, ConversionContext context) {
     if (paragraph == null) {
       return null;
     }
@@ -60,7 +60,7 @@ public class ParagraphConverter {
             "margin-left", HTML_INDENT_SIZE_IN_PX * numberOfEstimatedIndentations + "px");
       }
 
-      String alignment = getAlignment(paragraphProperties, converter);
+      String alignment = getAlignment(paragraphProperties, context);
       if (alignment != null) {
         paragraphElement.setAlignment(alignment);
       }
@@ -69,14 +69,14 @@ public class ParagraphConverter {
     paragraph.getContent().stream()
         .filter(R.class::isInstance)
         .map(R.class::cast)
-        .forEach(run -> RunElementConverter.convert(run, paragraphElement, converter));
+        .forEach(run -> RunElementConverter.convert(run, paragraphElement, context));
 
     sortParagraphElements(paragraphElement);
 
     return paragraphElement;
   }
 
-  private static String getAlignment(PPr pPr, DocxConverter converter) {
+  private static String getAlignment(PPr pPr, ConversionContext context) {
     if (pPr == null) {
       return null;
     }
@@ -85,7 +85,7 @@ public class ParagraphConverter {
 
     var pStyle = pPr.getPStyle();
     if (pStyle != null && pStyle.getVal() != null) {
-      Style style = converter.getStyles().get(pStyle.getVal());
+      Style style = context.styles().get(pStyle.getVal());
       if (style != null && style.getPPr() != null) {
         jc = style.getPPr().getJc();
       }
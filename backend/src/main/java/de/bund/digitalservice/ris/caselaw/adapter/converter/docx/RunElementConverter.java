@@ -13,9 +13,12 @@ import java.awt.Dimension;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import org.docx4j.TraversalUtil;
 import org.docx4j.dml.CTNonVisualDrawingProps;
 import org.docx4j.dml.CTPositiveSize2D;
+import org.docx4j.dml.Graphic;
 import org.docx4j.dml.GraphicData;
 import org.docx4j.dml.wordprocessingDrawing.Anchor;
 import org.docx4j.dml.wordprocessingDrawing.CTPosH;
@@ -23,6 +26,7 @@ import org.docx4j.dml.wordprocessingDrawing.CTWrapSquare;
 import org.docx4j.dml.wordprocessingDrawing.Inline;
 import org.docx4j.dml.wordprocessingDrawing.STAlignH;
 import org.docx4j.dml.wordprocessingDrawing.STWrapText;
+import org.docx4j.finders.ClassFinder;
 import org.docx4j.vml.CTImageData;
 import org.docx4j.vml.CTShape;
 import org.docx4j.wml.Drawing;
@@ -43,6 +47,7 @@ import org.slf4j.LoggerFactory;
  */
 public class RunElementConverter {
   private static final Logger LOGGER = LoggerFactory.getLogger(RunElementConverter.class);
+  private static final String EMF_CONTENT_TYPE = "image/x-emf";
 
   private RunElementConverter() {}
 
@@ -51,16 +56,16 @@ public class RunElementConverter {
    *
    * @param run the start R element
    * @param paragraphElement the parent paragraph element
-   * @param converter the used docx converter (contains meta information of the docx file)
+   * @param context meta information of the docx file (styles, images, ...)
    */
-  public static void convert(R run, ParagraphElement paragraphElement, DocxConverter converter) {
+  public static void convert(R run, ParagraphElement paragraphElement, ConversionContext context) {
     run.getContent()
         .forEach(
-            element -> parseRunChildrenElement(element, run.getRPr(), paragraphElement, converter));
+            element -> parseRunChildrenElement(element, run.getRPr(), paragraphElement, context));
   }
 
   private static void parseRunChildrenElement(
-      Object element, RPr rPr, ParagraphElement paragraphElement, DocxConverter converter) {
+      Object element, RPr rPr, ParagraphElement paragraphElement, ConversionContext context) {
     if (element instanceof JAXBElement<?> jaxbElement) {
       var declaredType = jaxbElement.getDeclaredType();
 
@@ -69,16 +74,16 @@ public class RunElementConverter {
 
         if (!text.isEmpty()) {
           paragraphElement.addRunElement(
-              generateRunTextElement(text, rPr, paragraphElement, converter));
+              generateRunTextElement(text, rPr, paragraphElement, context));
         }
       } else if (declaredType == Drawing.class) {
         RunElement imageElement =
-            parseDrawing(paragraphElement, (Drawing) jaxbElement.getValue(), converter);
+            parseDrawing(paragraphElement, (Drawing) jaxbElement.getValue(), context);
         paragraphElement.addRunElement(imageElement);
       } else if (declaredType == R.Tab.class) {
         paragraphElement.addRunElement(new RunTabElement());
       } else if (declaredType == Pict.class) {
-        parsePict(paragraphElement, (Pict) jaxbElement.getValue(), converter);
+        parsePict(paragraphElement, (Pict) jaxbElement.getValue(), context);
       } else if (declaredType == LastRenderedPageBreak.class) {
         // ignored because in our web presentation of the docx file there are no page breaks
       } else if (declaredType == FldChar.class) {
@@ -98,27 +103,78 @@ public class RunElementConverter {
     }
   }
 
+  /**
+   * Start the rendering of all EMF images in the content elements, so the images are rendered in
+   * parallel before the conversion of the elements needs them. Does nothing if the context has no
+   * {@link EmfRenderer}.
+   *
+   * @param content content elements of the docx file
+   * @param context meta information of the docx file (images, emf renderer)
+   */
+  public static void prepareEmfImages(List<Object> content, ConversionContext context) {
+    if (context.emfRenderer() == null) {
+      return;
+    }
+
+    // the images are read from the drawings, so their content isn't traversed
+    ClassFinder finder =
+        new ClassFinder(Drawing.class) {
+          @Override
+          public boolean shouldTraverse(Object o) {
+            return !(o instanceof Drawing);
+          }
+        };
+    new TraversalUtil(content, finder);
+
+    for (Object result : finder.results) {
+      for (Object drawingObject : ((Drawing) result).getAnchorOrInline()) {
+        if (drawingObject instanceof Inline inline) {
+          prepareEmfImage(inline.getGraphic(), inline.getExtent(), context);
+        } else if (drawingObject instanceof Anchor anchor) {
+          prepareEmfImage(anchor.getGraphic(), anchor.getExtent(), context);
+        }
+      }
+    }
+  }
+
+  private static void prepareEmfImage(
+      Graphic graphic, CTPositiveSize2D extent, ConversionContext context) {
+    if (graphic == null
+        || graphic.getGraphicData() == null
+        || graphic.getGraphicData().getPic() == null
+        || graphic.getGraphicData().getPic().getBlipFill() == null
+        || graphic.getGraphicData().getPic().getBlipFill().getBlip() == null) {
+      return;
+    }
+
+    var embed = graphic.getGraphicData().getPic().getBlipFill().getBlip().getEmbed();
+    var image = context.images().get(embed);
+    if (image != null && EMF_CONTENT_TYPE.equals(image.contentType())) {
+      context.emfRenderer().prepare(image.bytes(), parseImageSize(extent));
+    }
+  }
+
   private static RunElement generateRunTextElement(
-      String text, RPrAbstract rPr, ParagraphElement paragraph, DocxConverter converter) {
+      String text, RPrAbstract rPr, ParagraphElement paragraph, ConversionContext context) {
     RunTextElement runTextElement = new RunTextElement();
 
     runTextElement.setText(text);
-    addStyle(runTextElement, rPr, paragraph, converter);
+    addStyle(runTextElement, rPr, paragraph, context);
 
     return runTextElement;
   }
 
   private static RunElement parseDrawing(
-      ParagraphElement parent, Drawing drawing, DocxConverter converter) {
+      ParagraphElement parent, Drawing drawing, ConversionContext context) {
     if (drawing.getAnchorOrInline().size() != 1) {
       throw new DocxConverterException("more than one graphic data in a drawing");
     }
 
     var drawingObject = drawing.getAnchorOrInline().get(0);
     if (drawingObject instanceof Inline inline) {
-      return parseInlineImageElement(inline, converter);
+      return parseInlineImageElement(inline, context);
     } else if (drawingObject instanceof Anchor anchor) {
-      return parseAnchorImageElement(parent, anchor, converter);
+      return parseAnchorImageElement(parent, anchor, context);
     } else {
       LOGGER.error("unsupported drawing object");
       return new ErrorRunElement(
@@ -126,13 +182,13 @@ public class RunElementConverter {
     }
   }
 
-  private static void parsePict(ParagraphElement parent, Pict pict, DocxConverter converter) {
+  private static void parsePict(ParagraphElement parent, Pict pict, ConversionContext context) {
     pict.getAnyAndAny()
         .forEach(
             child -> {
               if (child instanceof JAXBElement<?> jaxbElement) {
                 if (jaxbElement.getDeclaredType() == CTShape.class) {
-                  parseCTShape(parent, (CTShape) jaxbElement.getValue(), converter);
+                  parseCTShape(parent, (CTShape) jaxbElement.getValue(), context);
                 } else {
                   LOGGER.error(
                       "unknown jaxb child '{}' in pict element: {}",
@@ -140,7 +196,7 @@ public class RunElementConverter {
                       jaxbElement.getValue());
                 }
               } else if (child instanceof CTShape shape) {
-                parseCTShape(parent, shape, converter);
+                parseCTShape(parent, shape, context);
               } else {
                 LOGGER.info("unknown child in pict element: {}", child);
               }
@@ -148,13 +204,13 @@ public class RunElementConverter {
   }
 
   private static void parseCTShape(
-      ParagraphElement parent, CTShape shape, DocxConverter converter) {
+      ParagraphElement parent, CTShape shape, ConversionContext context) {
     shape
         .getEGShapeElements()
         .forEach(
             jaxbElement -> {
               if (jaxbElement.getValue() instanceof CTImageData imageData) {
-                parseCTImageData(parent, imageData, shape.getStyle(), converter);
+                parseCTImageData(parent, imageData, shape.getStyle(), context);
               } else {
                 LOGGER.info(
                     "unknown shape child '{}': {}", jaxbElement.getName(), jaxbElement.getValue());
@@ -163,18 +219,16 @@ public class RunElementConverter {
   }
 
   private static void parseCTImageData(
-      ParagraphElement parent, CTImageData imageData, String style, DocxConverter converter) {
-    DocxImagePart image = converter.getImages().get(imageData.getId());
+      ParagraphElement parent, CTImageData imageData, String style, ConversionContext context) {
+    DocxImagePart image = context.images().get(imageData.getId());
     AnchorImageElement imageElement = new AnchorImageElement();
-    imageElement.setContentType(image.contentType());
-    var base64 = Base64.getEncoder().encodeToString(image.bytes());
-    imageElement.setBase64Representation(base64);
+    setImage(imageElement, image.contentType(), image.bytes(), context);
     StyleConverter.getListFromString(style).forEach(imageElement::addStyle);
     parent.addRunElement(imageElement);
   }
 
   private static RunElement parseAnchorImageElement(
-      ParagraphElement parent, Anchor anchor, DocxConverter converter) {
+      ParagraphElement parent, Anchor anchor, ConversionContext context) {
     if (anchor == null
         || anchor.getGraphic() == null
         || anchor.getGraphic().getGraphicData() == null) {
@@ -185,7 +239,7 @@ public class RunElementConverter {
 
     RunElement runElement =
         parseGraphicData(
-            anchor.getGraphic().getGraphicData(), size, AnchorImageElement.class, converter);
+            anchor.getGraphic().getGraphicData(), size, AnchorImageElement.class, context);
 
     if (runElement instanceof AnchorImageElement imageElement) {
       imageElement.setAlternateText(parseImageAlternateText(anchor.getDocPr()));
@@ -207,7 +261,7 @@ public class RunElementConverter {
     return runElement;
   }
 
-  private static RunElement parseInlineImageElement(Inline inline, DocxConverter converter) {
+  private static RunElement parseInlineImageElement(Inline inline, ConversionContext context) {
     if (inline == null
         || inline.getGraphic() == null
         || inline.getGraphic().getGraphicData() == null) {
@@ -218,7 +272,7 @@ public class RunElementConverter {
 
     RunElement runElement =
         parseGraphicData(
-            inline.getGraphic().getGraphicData(), size, InlineImageElement.class, converter);
+            inline.getGraphic().getGraphicData(), size, InlineImageElement.class, context);
 
     if (runElement instanceof InlineImageElement imageElement) {
       imageElement.setAlternateText(parseImageAlternateText(inline.getDocPr()));
@@ -281,7 +335,7 @@ public class RunElementConverter {
       GraphicData graphicData,
       Dimension size,
       Class<? extends InlineImageElement> clazz,
-      DocxConverter converter) {
+      ConversionContext context) {
 
     InlineImageElement imageElement = new InlineImageElement();
     try {
@@ -297,10 +351,10 @@ public class RunElementConverter {
 
     if (pic != null) {
       var embed = pic.getBlipFill().getBlip().getEmbed();
-      var image = converter.getImages().get(embed);
+      var image = context.images().get(embed);
 
       if (image != null) {
-        addImageContent(imageElement, image, size);
+        addImageContent(imageElement, image, size, context);
       }
     } else {
       LOGGER.error("no picture");
@@ -315,30 +369,60 @@ public class RunElementConverter {
   }
 
   private static void addImageContent(
-      InlineImageElement element, DocxImagePart image, Dimension size) {
-    element.setContentType(image.contentType());
-
+      InlineImageElement element, DocxImagePart image, Dimension size, ConversionContext context) {
+    String contentType = image.contentType();
     byte[] bytes = image.bytes();
-    if (image.contentType().equals("image/x-emf")) {
-      bytes = EMF2PNGConverter.convertEMF2PNG(bytes, size);
-      element.setContentType("image/png");
+    if (contentType.equals(EMF_CONTENT_TYPE)) {
+      Optional<byte[]> png = renderEmf(bytes, size, context);
+      // an image which couldn't be rendered keeps the content type of the original image
+      if (png.isPresent()) {
+        bytes = png.get();
+        contentType = "image/png";
+      }
     }
 
-    element.setBase64Representation(Base64.getEncoder().encodeToString(bytes));
+    setImage(element, contentType, bytes, context);
 
     element.setSize(size);
   }
 
+  private static Optional<byte[]> renderEmf(byte[] emf, Dimension size, ConversionContext context) {
+    if (context.emfRenderer() != null) {
+      return context.emfRenderer().render(emf, size);
+    }
+
+    byte[] png = EMF2PNGConverter.convertEMF2PNG(emf, size);
+    return png == emf ? Optional.empty() : Optional.of(png);
+  }
+
+  /**
+   * Reference the image by the url of the image store. Without image store or if the image couldn't
+   * be stored, the image is inlined as base64 data.
+   */
+  private static void setImage(
+      InlineImageElement element, String contentType, byte[] bytes, ConversionContext context) {
+    element.setContentType(contentType);
+
+    Optional<String> src = Optional.empty();
+    if (context.imageStore() != null) {
+      src = context.imageStore().store(contentType, bytes);
+    }
+
+    src.ifPresentOrElse(
+        element::setSrc,
+        () -> element.setBase64Representation(Base64.getEncoder().encodeToString(bytes)));
+  }
+
   private static void addStyle(
       RunTextElement textElement,
       RPrAbstract rPr,
       ParagraphElement paragraph,
-      DocxConverter converter) {
+      ConversionContext context) {
     if (rPr != null) {
       RunElementStyleAdapter.addStyles(textElement, rPr);
     } else {
       if (paragraph != null && paragraph.getStyleReference() != null) {
-        var style = converter.getStyles().get(paragraph.getStyleReference());
+        var style = context.styles().get(paragraph.getStyleReference());
 
         if (style != null && style.getRPr() != null) {
           RunElementStyleAdapter.addStyles(textElement, style.getRPr());
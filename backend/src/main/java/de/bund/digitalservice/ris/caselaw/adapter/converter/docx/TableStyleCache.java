@@ -0,0 +1,144 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.docx4j.wml.CTTblStylePr;
+import org.docx4j.wml.STTblStyleOverrideType;
+import org.docx4j.wml.Style;
+
+/**
+ * Conditional formats of the table styles of one docx file, resolved once per combination of table
+ * style and cell position.
+ *
+ * <p>The cell position and the activated conditional formats of a cell (table look and cnf style)
+ * use the bit layout of the cnf style ({@code w:cnfStyle}), e.g. 2048 for the first row. A
+ * conditional format is used for a cell, if the cell is at the position of the format and the
+ * format is activated for the cell. The cells of a table mostly share a few of these combinations,
+ * so the formats of a combination are sorted and filtered only once per docx file.
+ *
+ * <p>The cache is part of the {@link ConversionContext} and can be used by parallel conversions of
+ * the same docx file.
+ */
+public class TableStyleCache {
+  static final int FIRST_ROW = 2048;
+  static final int LAST_ROW = 1024;
+  static final int FIRST_COLUMN = 512;
+  static final int LAST_COLUMN = 256;
+  static final int ODD_COLUMN = 128;
+  static final int EVEN_COLUMN = 64;
+  static final int ODD_ROW = 32;
+  static final int EVEN_ROW = 16;
+  static final int NORTH_EAST_CELL = 8;
+  static final int NORTH_WEST_CELL = 4;
+  static final int SOUTH_EAST_CELL = 2;
+  static final int SOUTH_WEST_CELL = 1;
+
+  private final Map<String, Style> styles;
+  private final Map<CellFormatKey, List<CTTblStylePr>> cellFormats = new ConcurrentHashMap<>();
+
+  public TableStyleCache(Map<String, Style> styles) {
+    this.styles = styles == null ? Collections.emptyMap() : styles;
+  }
+
+  /**
+   * Get the conditional formats of the table style, which are used for a cell.
+   *
+   * @param styleId id of the table style
+   * @param usedStyles activated conditional formats of the cell (table look and cnf style)
+   * @param position position of the cell, see {@link #getCellPosition(int, int, int, int)}
+   * @return the formats in the order, in which they are applied to the cell. Empty, if the table
+   *     style doesn't exist.
+   */
+  List<CTTblStylePr> getCellFormats(String styleId, int usedStyles, int position) {
+    Style style = styles.get(styleId);
+    if (style == null) {
+      return Collections.emptyList();
+    }
+
+    return cellFormats.computeIfAbsent(
+        new CellFormatKey(styleId, usedStyles & position),
+        key -> resolveCellFormats(style, key.flags()));
+  }
+
+  /**
+   * Get the position of a cell in the bit layout of the cnf style. The columns and rows are counted
+   * from 0, so the second row is the first odd row.
+   *
+   * @param row index of the row
+   * @param rowCount number of rows of the table
+   * @param column index of the cell in the row
+   * @param columnCount number of cells of the row
+   * @return the position flags of the cell
+   */
+  static int getCellPosition(int row, int rowCount, int column, int columnCount) {
+    boolean firstRow = row == 0;
+    boolean lastRow = row == rowCount - 1;
+    boolean firstColumn = column == 0;
+    boolean lastColumn = column == columnCount - 1;
+
+    int position = 0;
+    position |= firstRow ? FIRST_ROW : 0;
+    position |= lastRow ? LAST_ROW : 0;
+    position |= firstColumn ? FIRST_COLUMN : 0;
+    position |= lastColumn ? LAST_COLUMN : 0;
+    position |= column % 2 == 1 ? ODD_COLUMN : EVEN_COLUMN;
+    position |= row % 2 == 1 ? ODD_ROW : EVEN_ROW;
+    position |= firstRow && lastColumn ? NORTH_EAST_CELL : 0;
+    position |= firstRow && firstColumn ? NORTH_WEST_CELL : 0;
+    position |= lastRow && lastColumn ? SOUTH_EAST_CELL : 0;
+    position |= lastRow && firstColumn ? SOUTH_WEST_CELL : 0;
+
+    return position;
+  }
+
+  private static List<CTTblStylePr> resolveCellFormats(Style style, int flags) {
+    return style.getTblStylePr().stream()
+        .filter(Objects::nonNull)
+        .filter(tblStylePr -> tblStylePr.getType() != null)
+        .filter(tblStylePr -> isUsed(tblStylePr.getType(), flags))
+        .sorted(Comparator.comparingInt(tblStylePr -> getOrder(tblStylePr.getType())))
+        .toList();
+  }
+
+  private static boolean isUsed(STTblStyleOverrideType type, int flags) {
+    return switch (type) {
+      case WHOLE_TABLE -> true;
+      case FIRST_ROW -> (FIRST_ROW & flags) != 0;
+      case LAST_ROW -> (LAST_ROW & flags) != 0;
+      case FIRST_COL -> (FIRST_COLUMN & flags) != 0;
+      case LAST_COL -> (LAST_COLUMN & flags) != 0;
+      case BAND_1_VERT -> (ODD_COLUMN & flags) != 0;
+      case BAND_2_VERT -> (EVEN_COLUMN & flags) != 0;
+      case BAND_1_HORZ -> (ODD_ROW & flags) != 0;
+      case BAND_2_HORZ -> (EVEN_ROW & flags) != 0;
+      case NE_CELL -> (NORTH_EAST_CELL & flags) != 0;
+      case NW_CELL -> (NORTH_WEST_CELL & flags) != 0;
+      case SE_CELL -> (SOUTH_EAST_CELL & flags) != 0;
+      case SW_CELL -> (SOUTH_WEST_CELL & flags) != 0;
+    };
+  }
+
+  private static int getOrder(STTblStyleOverrideType type) {
+    return switch (type) {
+      case WHOLE_TABLE -> 1;
+      case BAND_1_VERT -> 2;
+      case BAND_2_VERT -> 3;
+      case BAND_1_HORZ -> 4;
+      case BAND_2_HORZ -> 5;
+      case FIRST_ROW -> 6;
+      case LAST_ROW -> 7;
+      case FIRST_COL -> 8;
+      case LAST_COL -> 9;
+      case NE_CELL -> 10;
+      case NW_CELL -> 11;
+      case SE_CELL -> 12;
+      case SW_CELL -> 13;
+    };
+  }
+
+  private record CellFormatKey(String styleId, int flags) {}
+}
@@ -0,0 +1,43 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJobStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Entity for the bulk handover jobs. */
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(schema = "public", name = "bulk_handover_job")
+public class BulkHandoverJobDTO {
+  @Id private UUID id;
+
+  @Column(name = "documentation_office_id")
+  private UUID documentationOfficeId;
+
+  @Column(name = "issuer_address")
+  private String issuerAddress;
+
+  @Enumerated(EnumType.STRING)
+  private BulkHandoverJobStatus status;
+
+  @Column(name = "created_at")
+  private Instant createdAt;
+
+  @Column(name = "updated_at")
+  private Instant updatedAt;
+}
@@ -0,0 +1,52 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverItemStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/** Entity for the progress of a documentation unit in a bulk handover job. */
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(schema = "public", name = "bulk_handover_job_item")
+public class BulkHandoverJobItemDTO {
+  @Id private UUID id;
+
+  @Column(name = "job_id")
+  private UUID jobId;
+
+  private Integer rank;
+
+  @Column(name = "documentation_unit_id")
+  private UUID documentationUnitId;
+
+  @Column(name = "document_number")
+  private String documentNumber;
+
+  @Enumerated(EnumType.STRING)
+  private BulkHandoverItemStatus status;
+
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  @Column(name = "status_messages")
+  private List<String> statusMessages;
+
+  @Column(name = "updated_at")
+  private Instant updatedAt;
+}
@@ -0,0 +1,18 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/** Repository for the progress of the documentation units of the bulk handover jobs. */
+@Repository
+public interface DatabaseBulkHandoverJobItemRepository
+    extends JpaRepository<BulkHandoverJobItemDTO, UUID> {
+
+  List<BulkHandoverJobItemDTO> findAllByJobIdOrderByRank(UUID jobId);
+
+  Optional<BulkHandoverJobItemDTO> findByJobIdAndDocumentationUnitId(
+      UUID jobId, UUID documentationUnitId);
+}
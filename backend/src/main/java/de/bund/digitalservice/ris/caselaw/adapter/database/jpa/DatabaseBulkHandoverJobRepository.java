@@ -0,0 +1,89 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** Repository for the bulk handover jobs. */
+@Repository
+public interface DatabaseBulkHandoverJobRepository extends JpaRepository<BulkHandoverJobDTO, UUID> {
+
+  /**
+   * Find and lock the oldest pending job or the oldest stale running job. Rows locked by another
+   * transaction are skipped, so multiple instances can claim jobs at the same time.
+   *
+   * @param staleBefore running jobs with an older update time are stale
+   * @return the locked job
+   */
+  @Query(
+      value =
+          """
+          SELECT * FROM public.bulk_handover_job
+          WHERE status = 'PENDING' OR (status = 'RUNNING' AND updated_at < :staleBefore)
+          ORDER BY created_at
+          LIMIT 1
+          FOR UPDATE SKIP LOCKED
+          """,
+      nativeQuery = true)
+  Optional<BulkHandoverJobDTO> findNextClaimableJob(@Param("staleBefore") Instant staleBefore);
+
+  /**
+   * Finish the running job, if none of its items is pending anymore.
+   *
+   * @param id id of the job
+   * @param updatedAt time of the status change
+   * @return number of finished jobs, 0 or 1
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          UPDATE public.bulk_handover_job SET status = 'FINISHED', updated_at = :updatedAt
+          WHERE id = :id AND status = 'RUNNING' AND NOT EXISTS (
+            SELECT 1 FROM public.bulk_handover_job_item
+            WHERE job_id = :id AND status = 'PENDING')
+          """,
+      nativeQuery = true)
+  int finishJob(@Param("id") UUID id, @Param("updatedAt") Instant updatedAt);
+
+  /**
+   * Refresh the update time of the running job, so it isn't claimed as stale by another instance. A
+   * job, which isn't running anymore, is left unchanged.
+   *
+   * @param id id of the job
+   * @param updatedAt time of the last progress
+   * @return number of updated jobs, 0 or 1
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          UPDATE public.bulk_handover_job SET updated_at = :updatedAt
+          WHERE id = :id AND status = 'RUNNING'
+          """,
+      nativeQuery = true)
+  int touchRunningJob(@Param("id") UUID id, @Param("updatedAt") Instant updatedAt);
+
+  /**
+   * Set the running jobs back to pending.
+   *
+   * @param ids ids of the jobs
+   * @param updatedAt time of the status change
+   * @return number of jobs set back to pending
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          UPDATE public.bulk_handover_job SET status = 'PENDING', updated_at = :updatedAt
+          WHERE id IN (:ids) AND status = 'RUNNING'
+          """,
+      nativeQuery = true)
+  int releaseRunningJobs(@Param("ids") Collection<UUID> ids, @Param("updatedAt") Instant updatedAt);
+}
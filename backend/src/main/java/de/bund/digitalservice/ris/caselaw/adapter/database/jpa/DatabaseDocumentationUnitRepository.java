@@ -14,6 +14,55 @@ public interface DatabaseDocumentationUnitRepository
     extends JpaRepository<DocumentationUnitDTO, UUID> {
   Optional<DocumentationUnitDTO> findByDocumentNumber(String documentNumber);
 
+  /*
+  Select only the fields needed by the authorization checks: the documentation office, the latest
+  status and the user group of the current procedure (the procedure with the highest rank). The
+  lateral joins only read the status and procedure rows of the one documentation unit, so the whole
+  documentation unit with its collections isn't loaded.
+  */
+  String SELECT_ACCESS_DESCRIPTOR =
+      """
+      SELECT
+        documentation_unit.id AS "id",
+        documentation_unit.document_number AS "documentNumber",
+        documentation_unit.version AS "version",
+        documentation_office.id AS "documentationOfficeId",
+        documentation_office.abbreviation AS "documentationOfficeAbbreviation",
+        latest_status.publication_status AS "publicationStatus",
+        latest_status.with_error AS "withError",
+        current_procedure.documentation_office_user_group_id AS "procedureUserGroupId"
+      FROM
+        incremental_migration.documentation_unit documentation_unit
+        LEFT JOIN incremental_migration.documentation_office documentation_office
+          ON documentation_office.id = documentation_unit.documentation_office_id
+        LEFT JOIN LATERAL (
+          SELECT CAST(status.publication_status AS text) AS publication_status, status.with_error
+          FROM incremental_migration.status status
+          WHERE status.documentation_unit_id = documentation_unit.id
+          ORDER BY status.created_at DESC
+          LIMIT 1
+        ) latest_status ON TRUE
+        LEFT JOIN LATERAL (
+          SELECT assigned_procedure.documentation_office_user_group_id
+          FROM incremental_migration.documentation_unit_procedure documentation_unit_procedure
+            JOIN incremental_migration.procedure assigned_procedure
+              ON assigned_procedure.id = documentation_unit_procedure.procedure_id
+          WHERE documentation_unit_procedure.documentation_unit_id = documentation_unit.id
+          ORDER BY documentation_unit_procedure.rank DESC
+          LIMIT 1
+        ) current_procedure ON TRUE
+      """;
+
+  @Query(nativeQuery = true, value = SELECT_ACCESS_DESCRIPTOR + "WHERE documentation_unit.id = :id")
+  Optional<DocumentationUnitAccessDescriptorDTO> findAccessDescriptorById(@Param("id") UUID id);
+
+  @Query(
+      nativeQuery = true,
+      value =
+          SELECT_ACCESS_DESCRIPTOR + "WHERE documentation_unit.document_number = :documentNumber")
+  Optional<DocumentationUnitAccessDescriptorDTO> findAccessDescriptorByDocumentNumber(
+      @Param("documentNumber") String documentNumber);
+
   String SELECT_STATUS_WHERE_LATEST =
       "SELECT 1 FROM StatusDTO status WHERE status.documentationUnitDTO.id = documentationUnit.id AND status.createdAt = (SELECT MAX(s.createdAt) FROM StatusDTO s WHERE s.documentationUnitDTO.id = documentationUnit.id)";
 
@@ -0,0 +1,70 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** Repository for the asynchronous conversion jobs of attached docx files. */
+@Repository
+public interface DatabaseDocxConversionJobRepository
+    extends JpaRepository<DocxConversionJobDTO, UUID> {
+
+  /**
+   * Find and lock the oldest pending job or the oldest stale running job. Rows locked by another
+   * transaction are skipped, so multiple instances can claim jobs at the same time.
+   *
+   * @param staleBefore running jobs with an older update time are stale
+   * @return the locked job
+   */
+  @Query(
+      value =
+          """
+          SELECT * FROM public.docx_conversion_job
+          WHERE status = 'PENDING' OR (status = 'RUNNING' AND updated_at < :staleBefore)
+          ORDER BY created_at
+          LIMIT 1
+          FOR UPDATE SKIP LOCKED
+          """,
+      nativeQuery = true)
+  Optional<DocxConversionJobDTO> findNextClaimableJob(@Param("staleBefore") Instant staleBefore);
+
+  /**
+   * Refresh the update time of the running jobs, so they aren't claimed again as stale jobs while
+   * they are converted.
+   *
+   * @param ids ids of the running jobs
+   * @param updatedAt new update time
+   * @return number of refreshed jobs
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          UPDATE public.docx_conversion_job SET updated_at = :updatedAt
+          WHERE id IN (:ids) AND status = 'RUNNING'
+          """,
+      nativeQuery = true)
+  int refreshRunningJobs(@Param("ids") Collection<UUID> ids, @Param("updatedAt") Instant updatedAt);
+
+  /**
+   * Delete the succeeded and failed jobs which are finished before the given time.
+   *
+   * @param finishedBefore finished jobs with an older update time are deleted
+   * @return number of deleted jobs
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          DELETE FROM public.docx_conversion_job
+          WHERE status IN ('SUCCEEDED', 'FAILED') AND updated_at < :finishedBefore
+          """,
+      nativeQuery = true)
+  int deleteFinishedJobs(@Param("finishedBefore") Instant finishedBefore);
+}
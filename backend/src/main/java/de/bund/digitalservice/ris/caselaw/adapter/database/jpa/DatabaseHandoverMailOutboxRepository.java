@@ -0,0 +1,37 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** Repository for the outbox of the handover mails. */
+@Repository
+public interface DatabaseHandoverMailOutboxRepository
+    extends JpaRepository<HandoverMailOutboxDTO, UUID> {
+
+  /**
+   * Find and lock the oldest due pending entry or the oldest stale sending entry. Rows locked by
+   * another transaction are skipped, so multiple instances can dispatch mails at the same time.
+   *
+   * @param now pending entries with an earlier next attempt time are due
+   * @param staleBefore sending entries with an older update time are stale
+   * @return the locked entry
+   */
+  @Query(
+      value =
+          """
+          SELECT * FROM public.handover_mail_outbox
+          WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+            OR (status = 'SENDING' AND updated_at < :staleBefore)
+          ORDER BY created_at
+          LIMIT 1
+          FOR UPDATE SKIP LOCKED
+          """,
+      nativeQuery = true)
+  Optional<HandoverMailOutboxDTO> findNextClaimableEntry(
+      @Param("now") Instant now, @Param("staleBefore") Instant staleBefore);
+}
@@ -0,0 +1,25 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import java.util.UUID;
+
+/**
+ * An interface representing the information of a documentation unit needed for the authorization
+ * checks
+ */
+public interface DocumentationUnitAccessDescriptorDTO {
+  UUID getId();
+
+  String getDocumentNumber();
+
+  Long getVersion();
+
+  UUID getDocumentationOfficeId();
+
+  String getDocumentationOfficeAbbreviation();
+
+  String getPublicationStatus();
+
+  Boolean getWithError();
+
+  UUID getProcedureUserGroupId();
+}
@@ -0,0 +1,49 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJobStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Entity for the asynchronous conversion jobs of attached docx files. */
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(schema = "public", name = "docx_conversion_job")
+public class DocxConversionJobDTO {
+  @Id private UUID id;
+
+  @Column(name = "documentation_unit_id")
+  private UUID documentationUnitId;
+
+  @Column(name = "s3_object_path")
+  private String s3ObjectPath;
+
+  @Enumerated(EnumType.STRING)
+  private DocxConversionJobStatus status;
+
+  /** json representation of the converted file */
+  private String result;
+
+  @Column(name = "error_message")
+  private String errorMessage;
+
+  @Column(name = "created_at")
+  private Instant createdAt;
+
+  @Column(name = "updated_at")
+  private Instant updatedAt;
+}
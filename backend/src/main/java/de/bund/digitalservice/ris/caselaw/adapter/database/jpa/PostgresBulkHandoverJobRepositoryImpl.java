@@ -0,0 +1,157 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverItem;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJob;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJobRepository;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJobStatus;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Postgres repository for the bulk handover jobs. Every documentation unit of a job is stored in
+ * its own row, so the progress of a documentation unit is saved without rewriting the whole job.
+ */
+@Repository
+public class PostgresBulkHandoverJobRepositoryImpl implements BulkHandoverJobRepository {
+  private final DatabaseBulkHandoverJobRepository repository;
+  private final DatabaseBulkHandoverJobItemRepository itemRepository;
+
+  public PostgresBulkHandoverJobRepositoryImpl(
+      DatabaseBulkHandoverJobRepository repository,
+      DatabaseBulkHandoverJobItemRepository itemRepository) {
+    this.repository = repository;
+    this.itemRepository = itemRepository;
+  }
+
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public BulkHandoverJob create(BulkHandoverJob job) {
+    BulkHandoverJobDTO jobDTO =
+        repository.save(
+            BulkHandoverJobDTO.builder()
+                .id(job.id())
+                .documentationOfficeId(job.documentationOfficeId())
+                .issuerAddress(job.issuerAddress())
+                .status(job.status())
+                .createdAt(job.createdAt())
+                .updatedAt(job.updatedAt())
+                .build());
+
+    List<BulkHandoverJobItemDTO> itemDTOs = new ArrayList<>();
+    for (int i = 0; i < job.items().size(); i++) {
+      BulkHandoverItem item = job.items().get(i);
+      itemDTOs.add(
+          BulkHandoverJobItemDTO.builder()
+              .id(UUID.randomUUID())
+              .jobId(job.id())
+              .rank(i + 1)
+              .documentationUnitId(item.documentationUnitId())
+              .documentNumber(item.documentNumber())
+              .status(item.status())
+              .statusMessages(item.statusMessages())
+              .updatedAt(item.updatedAt())
+              .build());
+    }
+
+    return transformToDomain(jobDTO, itemRepository.saveAll(itemDTOs));
+  }
+
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public Optional<BulkHandoverJob> findById(UUID id) {
+    return repository.findById(id).map(this::transformToDomain);
+  }
+
+  /**
+   * Lock the next claimable job and set it to running in the same transaction, so no other instance
+   * can claim it.
+   *
+   * @param staleBefore running jobs with an older update time are claimed again
+   * @return the claimed job
+   */
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public Optional<BulkHandoverJob> claimNextJob(Instant staleBefore) {
+    return repository
+        .findNextClaimableJob(staleBefore)
+        .map(
+            job -> {
+              job.setStatus(BulkHandoverJobStatus.RUNNING);
+              job.setUpdatedAt(Instant.now());
+              return transformToDomain(repository.save(job));
+            });
+  }
+
+  /**
+   * Save the progress of a documentation unit. Only the update time of the job is refreshed, so a
+   * job released or finished in the meantime keeps its status.
+   *
+   * @param jobId id of the job
+   * @param item the processed documentation unit
+   */
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public void saveItem(UUID jobId, BulkHandoverItem item) {
+    BulkHandoverJobItemDTO itemDTO =
+        itemRepository
+            .findByJobIdAndDocumentationUnitId(jobId, item.documentationUnitId())
+            .orElseThrow();
+    itemDTO.setStatus(item.status());
+    itemDTO.setStatusMessages(item.statusMessages());
+    itemDTO.setUpdatedAt(item.updatedAt());
+    itemRepository.save(itemDTO);
+
+    repository.touchRunningJob(jobId, item.updatedAt());
+  }
+
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public boolean finishJob(UUID jobId, Instant updatedAt) {
+    return repository.finishJob(jobId, updatedAt) > 0;
+  }
+
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public int releaseRunningJobs(Collection<UUID> jobIds, Instant updatedAt) {
+    if (jobIds.isEmpty()) {
+      return 0;
+    }
+    return repository.releaseRunningJobs(jobIds, updatedAt);
+  }
+
+  private BulkHandoverJob transformToDomain(BulkHandoverJobDTO jobDTO) {
+    return transformToDomain(jobDTO, itemRepository.findAllByJobIdOrderByRank(jobDTO.getId()));
+  }
+
+  private static BulkHandoverJob transformToDomain(
+      BulkHandoverJobDTO jobDTO, List<BulkHandoverJobItemDTO> itemDTOs) {
+    return BulkHandoverJob.builder()
+        .id(jobDTO.getId())
+        .documentationOfficeId(jobDTO.getDocumentationOfficeId())
+        .issuerAddress(jobDTO.getIssuerAddress())
+        .status(jobDTO.getStatus())
+        .items(
+            itemDTOs.stream()
+                .map(
+                    itemDTO ->
+                        BulkHandoverItem.builder()
+                            .documentationUnitId(itemDTO.getDocumentationUnitId())
+                            .documentNumber(itemDTO.getDocumentNumber())
+                            .status(itemDTO.getStatus())
+                            .statusMessages(
+                                Objects.requireNonNullElse(itemDTO.getStatusMessages(), List.of()))
+                            .updatedAt(itemDTO.getUpdatedAt())
+                            .build())
+                .toList())
+        .createdAt(jobDTO.getCreatedAt())
+        .updatedAt(jobDTO.getUpdatedAt())
+        .build();
+  }
+}
@@ -1,11 +1,16 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
 
+import de.bund.digitalservice.ris.caselaw.adapter.transformer.CourtTransformer;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentTypeTransformer;
+import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentationUnitAccessDescriptorTransformer;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentationUnitListItemTransformer;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentationUnitTransformer;
 import de.bund.digitalservice.ris.caselaw.domain.ContentRelatedIndexing;
+import de.bund.digitalservice.ris.caselaw.domain.CoreData;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOfficeUserGroup;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessDescriptor;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitListItem;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitRepository;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitSearchInput;
@@ -107,6 +112,21 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
     }
   }
 
+  @Override
+  public Optional<DocumentationUnitAccessDescriptor> findAccessDescriptorByUuid(UUID uuid) {
+    return repository
+        .findAccessDescriptorById(uuid)
+        .map(DocumentationUnitAccessDescriptorTransformer::transformToDomain);
+  }
+
+  @Override
+  public Optional<DocumentationUnitAccessDescriptor> findAccessDescriptorByDocumentNumber(
+      String documentNumber) {
+    return repository
+        .findAccessDescriptorByDocumentNumber(documentNumber)
+        .map(DocumentationUnitAccessDescriptorTransformer::transformToDomain);
+  }
+
   @Override
   public DocumentationUnit createNewDocumentationUnit(
       String documentNumber, DocumentationOffice documentationOffice) {
@@ -147,6 +167,39 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
       return;
     }
 
+    saveDocumentationUnit(documentationUnitDTO, documentationUnit);
+  }
+
+  @Transactional(transactionManager = "jpaTransactionManager")
+  @Override
+  public void saveInitializedCoreData(DocumentationUnit documentationUnit) {
+    DocumentationUnitDTO documentationUnitDTO =
+        repository.findById(documentationUnit.uuid()).orElse(null);
+    if (documentationUnitDTO == null) {
+      log.info("Can't save non-existing docUnit with id = " + documentationUnit.uuid());
+      return;
+    }
+
+    CoreData coreData = documentationUnit.coreData();
+    if (coreData != null && coreData.procedure() != null) {
+      addProcedure(documentationUnitDTO, coreData.procedure());
+    }
+
+    // the transformation derives the legal effect only from a changed court, so a new court is
+    // set as current court first
+    if (documentationUnitDTO.getCourt() == null && coreData != null && coreData.court() != null) {
+      documentationUnitDTO =
+          documentationUnitDTO.toBuilder()
+              .court(CourtTransformer.transformToDTO(coreData.court()))
+              .build();
+    }
+
+    saveDocumentationUnit(documentationUnitDTO, documentationUnit);
+  }
+
+  private void saveDocumentationUnit(
+      DocumentationUnitDTO documentationUnitDTO, DocumentationUnit documentationUnit) {
+
     // ---
     // Doing database-related (pre) transformation
 
@@ -292,8 +345,17 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
       return;
     }
     var documentationUnitDTO = documentationUnitDTOOptional.get();
-    Procedure procedure = documentationUnit.coreData().procedure();
+    addProcedure(documentationUnitDTO, documentationUnit.coreData().procedure());
+
+    repository.save(documentationUnitDTO);
+  }
 
+  /**
+   * Add the procedure as last procedure of the documentation unit, if it isn't already the last
+   * one. A procedure without id is created, if the documentation office doesn't have a procedure
+   * with the label yet.
+   */
+  private void addProcedure(DocumentationUnitDTO documentationUnitDTO, Procedure procedure) {
     List<DocumentationUnitProcedureDTO> documentationUnitProcedureDTOs = new ArrayList<>();
 
     ProcedureDTO procedureDTO =
@@ -339,8 +401,6 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
 
     documentationUnitDTO.getProcedures().clear();
     documentationUnitDTO.getProcedures().addAll(documentationUnitProcedureDTOs);
-
-    repository.save(documentationUnitDTO);
   }
 
   private ProcedureDTO getOrCreateProcedure(
@@ -549,15 +609,11 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
             null,
             documentationOfficeDTO);
 
-    var userGroup = userService.getUserGroup(oidcUser);
     boolean isInternalUser = userService.isInternal(oidcUser);
-    List<ProcedureDTO> assignedProcedures;
-    if (userGroup.isPresent() && !isInternalUser) {
-      assignedProcedures =
-          procedureRepository.findAllByDocumentationOfficeUserGroupDTO_Id(userGroup.get().id());
-    } else {
-      assignedProcedures = List.of();
-    }
+    UUID userGroupId =
+        isInternalUser
+            ? null
+            : userService.getUserGroup(oidcUser).map(DocumentationOfficeUserGroup::id).orElse(null);
     return allResults.map(
         item ->
             DocumentationUnitListItemTransformer.transformToDomain(item).toBuilder()
@@ -565,7 +621,7 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
                     hasSameDocumentationOffice(item, documentationOffice) && isInternalUser)
                 .isEditable(
                     hasSameDocumentationOffice(item, documentationOffice)
-                        && (isInternalUser || isUserAssigned(assignedProcedures, item)))
+                        && (isInternalUser || isUserAssigned(userGroupId, item)))
                 .build());
   }
 
@@ -574,15 +630,19 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
     return item.getDocumentationOffice().getId().equals(documentationOffice.uuid());
   }
 
-  private boolean isUserAssigned(
-      List<ProcedureDTO> assignedProcedures, DocumentationUnitListItemDTO item) {
-    if (!item.getProcedures().isEmpty()) {
-      var docUnitProcedureId = item.getProcedures().get(0).getProcedure().getId();
-      return assignedProcedures.stream()
-          .anyMatch(procedure -> procedure.getId().equals(docUnitProcedureId));
-    } else {
+  /**
+   * Check if the procedure of the documentation unit is assigned to the user group. The assigned
+   * user group is part of the procedure, which is loaded together with the search result. So no
+   * additional query for the assigned procedures of the user group is needed.
+   */
+  private boolean isUserAssigned(UUID userGroupId, DocumentationUnitListItemDTO item) {
+    if (userGroupId == null || item.getProcedures().isEmpty()) {
       return false;
     }
+
+    var assignedUserGroup =
+        item.getProcedures().get(0).getProcedure().getDocumentationOfficeUserGroupDTO();
+    return assignedUserGroup != null && userGroupId.equals(assignedUserGroup.getId());
   }
 
   @Override
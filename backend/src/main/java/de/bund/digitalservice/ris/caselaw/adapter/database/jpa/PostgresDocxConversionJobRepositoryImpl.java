@@ -0,0 +1,121 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJob;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJobRepository;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJobStatus;
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Postgres repository for the asynchronous conversion jobs of attached docx files. The converted
+ * file of a succeeded job is stored as json.
+ */
+@Repository
+public class PostgresDocxConversionJobRepositoryImpl implements DocxConversionJobRepository {
+  private final DatabaseDocxConversionJobRepository repository;
+  private final ObjectMapper objectMapper;
+
+  public PostgresDocxConversionJobRepositoryImpl(
+      DatabaseDocxConversionJobRepository repository, ObjectMapper objectMapper) {
+    this.repository = repository;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public DocxConversionJob save(DocxConversionJob job) {
+    return transformToDomain(repository.save(transformToDTO(job)));
+  }
+
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public Optional<DocxConversionJob> findById(UUID id) {
+    return repository.findById(id).map(this::transformToDomain);
+  }
+
+  /**
+   * Lock the next claimable job and set it to running in the same transaction, so no other instance
+   * can claim it.
+   *
+   * @param staleBefore running jobs with an older update time are claimed again
+   * @return the claimed job
+   */
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public Optional<DocxConversionJob> claimNextJob(Instant staleBefore) {
+    return repository
+        .findNextClaimableJob(staleBefore)
+        .map(
+            job -> {
+              job.setStatus(DocxConversionJobStatus.RUNNING);
+              job.setUpdatedAt(Instant.now());
+              return transformToDomain(repository.save(job));
+            });
+  }
+
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public int refreshRunningJobs(Collection<UUID> ids, Instant updatedAt) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    return repository.refreshRunningJobs(ids, updatedAt);
+  }
+
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public int deleteFinishedJobs(Instant finishedBefore) {
+    return repository.deleteFinishedJobs(finishedBefore);
+  }
+
+  private DocxConversionJobDTO transformToDTO(DocxConversionJob job) {
+    String result = null;
+    if (job.result() != null) {
+      try {
+        result = objectMapper.writeValueAsString(job.result());
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException("Couldn't serialize result of docx conversion job", e);
+      }
+    }
+
+    return DocxConversionJobDTO.builder()
+        .id(job.id())
+        .documentationUnitId(job.documentationUnitId())
+        .s3ObjectPath(job.s3Path())
+        .status(job.status())
+        .result(result)
+        .errorMessage(job.errorMessage())
+        .createdAt(job.createdAt())
+        .updatedAt(job.updatedAt())
+        .build();
+  }
+
+  private DocxConversionJob transformToDomain(DocxConversionJobDTO job) {
+    Docx2Html result = null;
+    if (job.getResult() != null) {
+      try {
+        result = objectMapper.readValue(job.getResult(), Docx2Html.class);
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException("Couldn't read result of docx conversion job", e);
+      }
+    }
+
+    return DocxConversionJob.builder()
+        .id(job.getId())
+        .documentationUnitId(job.getDocumentationUnitId())
+        .s3Path(job.getS3ObjectPath())
+        .status(job.getStatus())
+        .result(result)
+        .errorMessage(job.getErrorMessage())
+        .createdAt(job.getCreatedAt())
+        .updatedAt(job.getUpdatedAt())
+        .build();
+  }
+}
@@ -0,0 +1,124 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import de.bund.digitalservice.ris.caselaw.adapter.transformer.HandoverMailTransformer;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMail;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxEntry;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxRepository;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxStatus;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Postgres repository for the outbox of the handover mails. An outbox entry references the saved
+ * handover mail, so the xml isn't stored twice.
+ */
+@Repository
+public class PostgresHandoverMailOutboxRepositoryImpl implements HandoverMailOutboxRepository {
+  private final DatabaseHandoverMailOutboxRepository repository;
+  private final DatabaseXmlHandoverMailRepository handoverMailRepository;
+  private final DatabaseDocumentationUnitRepository documentationUnitRepository;
+
+  public PostgresHandoverMailOutboxRepositoryImpl(
+      DatabaseHandoverMailOutboxRepository repository,
+      DatabaseXmlHandoverMailRepository handoverMailRepository,
+      DatabaseDocumentationUnitRepository documentationUnitRepository) {
+    this.repository = repository;
+    this.handoverMailRepository = handoverMailRepository;
+    this.documentationUnitRepository = documentationUnitRepository;
+  }
+
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public HandoverMail saveAndEnqueue(HandoverMail handoverMail, Instant now) {
+    DocumentationUnitDTO documentationUnitDTO =
+        documentationUnitRepository.findById(handoverMail.documentationUnitId()).orElseThrow();
+
+    HandoverMailDTO handoverMailDTO =
+        handoverMailRepository.save(
+            HandoverMailTransformer.transformToDTO(handoverMail, documentationUnitDTO.getId()));
+
+    repository.save(
+        HandoverMailOutboxDTO.builder()
+            .id(UUID.randomUUID())
+            .handoverMail(handoverMailDTO)
+            .status(HandoverMailOutboxStatus.PENDING)
+            .attempts(0)
+            .nextAttemptAt(now)
+            .createdAt(now)
+            .updatedAt(now)
+            .build());
+
+    return HandoverMailTransformer.transformToDomain(
+        handoverMailDTO, handoverMail.documentationUnitId());
+  }
+
+  /**
+   * Save the status of the entry. For a failed entry the status of the handover mail is saved too,
+   * so the handover log shows the failure.
+   *
+   * @param entry the changed entry
+   * @return the saved entry
+   */
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public HandoverMailOutboxEntry save(HandoverMailOutboxEntry entry) {
+    HandoverMailOutboxDTO outboxDTO = repository.findById(entry.id()).orElseThrow();
+    if (entry.status() == HandoverMailOutboxStatus.FAILED) {
+      HandoverMailDTO handoverMailDTO = outboxDTO.getHandoverMail();
+      HandoverMailDTO failedHandoverMailDTO =
+          HandoverMailTransformer.transformToDTO(
+                  entry.handoverMail(), handoverMailDTO.getDocumentationUnitId())
+              .toBuilder()
+              .id(handoverMailDTO.getId())
+              .build();
+      outboxDTO.setHandoverMail(handoverMailRepository.save(failedHandoverMailDTO));
+    }
+    outboxDTO.setStatus(entry.status());
+    outboxDTO.setAttempts(entry.attempts());
+    outboxDTO.setNextAttemptAt(entry.nextAttemptAt());
+    outboxDTO.setErrorMessage(entry.errorMessage());
+    outboxDTO.setUpdatedAt(entry.updatedAt());
+    return transformToDomain(repository.save(outboxDTO));
+  }
+
+  /**
+   * Lock the next claimable entry and set it to sending in the same transaction, so no other
+   * instance can claim it. The claim counts as send attempt.
+   *
+   * @param now pending entries with an earlier next attempt time are due
+   * @param staleBefore sending entries with an older update time are claimed again
+   * @return the claimed entry
+   */
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public Optional<HandoverMailOutboxEntry> claimNextEntry(Instant now, Instant staleBefore) {
+    return repository
+        .findNextClaimableEntry(now, staleBefore)
+        .map(
+            entry -> {
+              entry.setStatus(HandoverMailOutboxStatus.SENDING);
+              entry.setAttempts(entry.getAttempts() + 1);
+              entry.setUpdatedAt(now);
+              return transformToDomain(repository.save(entry));
+            });
+  }
+
+  private static HandoverMailOutboxEntry transformToDomain(HandoverMailOutboxDTO entry) {
+    HandoverMailDTO handoverMailDTO = entry.getHandoverMail();
+    return HandoverMailOutboxEntry.builder()
+        .id(entry.getId())
+        .handoverMail(
+            HandoverMailTransformer.transformToDomain(
+                handoverMailDTO, handoverMailDTO.getDocumentationUnitId()))
+        .status(entry.getStatus())
+        .attempts(entry.getAttempts())
+        .nextAttemptAt(entry.getNextAttemptAt())
+        .errorMessage(entry.getErrorMessage())
+        .createdAt(entry.getCreatedAt())
+        .updatedAt(entry.getUpdatedAt())
+        .build();
+  }
+}
@@ -0,0 +1,47 @@
+package de.bund.digitalservice.ris.caselaw.adapter.transformer;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationUnitAccessDescriptorDTO;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessDescriptor;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import de.bund.digitalservice.ris.caselaw.domain.Status;
+
+public class DocumentationUnitAccessDescriptorTransformer {
+
+  private DocumentationUnitAccessDescriptorTransformer() {}
+
+  public static DocumentationUnitAccessDescriptor transformToDomain(
+      DocumentationUnitAccessDescriptorDTO accessDescriptorDTO) {
+    if (accessDescriptorDTO == null) {
+      return null;
+    }
+
+    DocumentationOffice documentationOffice = null;
+    if (accessDescriptorDTO.getDocumentationOfficeId() != null) {
+      documentationOffice =
+          DocumentationOffice.builder()
+              .uuid(accessDescriptorDTO.getDocumentationOfficeId())
+              .abbreviation(accessDescriptorDTO.getDocumentationOfficeAbbreviation())
+              .build();
+    }
+
+    Status status = null;
+    if (accessDescriptorDTO.getPublicationStatus() != null) {
+      status =
+          Status.builder()
+              .publicationStatus(
+                  PublicationStatus.valueOf(accessDescriptorDTO.getPublicationStatus()))
+              .withError(Boolean.TRUE.equals(accessDescriptorDTO.getWithError()))
+              .build();
+    }
+
+    return DocumentationUnitAccessDescriptor.builder()
+        .uuid(accessDescriptorDTO.getId())
+        .documentNumber(accessDescriptorDTO.getDocumentNumber())
+        .version(accessDescriptorDTO.getVersion())
+        .documentationOffice(documentationOffice)
+        .status(status)
+        .procedureUserGroupId(accessDescriptorDTO.getProcedureUserGroupId())
+        .build();
+  }
+}
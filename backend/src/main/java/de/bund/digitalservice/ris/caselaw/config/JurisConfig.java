@@ -2,11 +2,16 @@ package de.bund.digitalservice.ris.caselaw.config;
 
 import de.bund.digitalservice.ris.caselaw.adapter.ImapStoreFactory;
 import de.bund.digitalservice.ris.caselaw.adapter.JurisStub;
+import de.bund.digitalservice.ris.caselaw.adapter.MailCircuitBreaker;
 import de.bund.digitalservice.ris.caselaw.adapter.SendInBlueHttpMailSender;
 import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
 import de.bund.digitalservice.ris.caselaw.domain.MailStoreFactory;
 import de.bund.digitalservice.ris.domain.export.juris.response.ImportMessageWrapper;
 import de.bund.digitalservice.ris.domain.export.juris.response.ProcessMessageWrapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,10 +29,33 @@ public class JurisConfig {
   @Value("${mail.exporter.apiKey:apiKey}")
   private String apiKey;
 
+  @Value("${mail.exporter.api.base-path:#{null}}")
+  private String apiBasePath;
+
+  @Value("${mail.exporter.api.connect-timeout:PT5S}")
+  private Duration apiConnectTimeout;
+
+  @Value("${mail.exporter.api.read-timeout:PT30S}")
+  private Duration apiReadTimeout;
+
+  @Value("${mail.exporter.api.circuit-breaker.failure-threshold:5}")
+  private int circuitBreakerFailureThreshold;
+
+  @Value("${mail.exporter.api.circuit-breaker.open-duration:PT1M}")
+  private Duration circuitBreakerOpenDuration;
+
   @Bean
   @Profile({"production", "uat"})
-  public HttpMailSender httpMailSender() {
-    return new SendInBlueHttpMailSender(apiKey);
+  public HttpMailSender httpMailSender(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    return new SendInBlueHttpMailSender(
+        apiKey,
+        apiBasePath,
+        apiConnectTimeout,
+        apiReadTimeout,
+        new MailCircuitBreaker(
+            circuitBreakerFailureThreshold,
+            circuitBreakerOpenDuration,
+            meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new)));
   }
 
   @Bean
@@ -1,15 +1,19 @@
 package de.bund.digitalservice.ris.caselaw.config;
 
+import de.bund.digitalservice.ris.caselaw.adapter.S3AsyncMockClient;
 import de.bund.digitalservice.ris.caselaw.adapter.S3MockClient;
 import java.net.URI;
 import java.net.URISyntaxException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 
 @Configuration
@@ -23,6 +27,12 @@ public class OtcObsConfig {
   @Value("${otc.obs.secretAccessKey:test}")
   private String secretAccessKey;
 
+  @Value("${otc.obs.async.max-concurrency:32}")
+  private int asyncMaxConcurrency;
+
+  @Value("${otc.obs.async.multipart-part-size-mb:8}")
+  private long multipartPartSizeMb;
+
   @Bean
   @Profile({"staging", "production", "uat"})
   public S3Client amazonS3() throws URISyntaxException {
@@ -40,4 +50,36 @@ public class OtcObsConfig {
   public S3Client amazonS3Mock() {
     return new S3MockClient();
   }
+
+  /**
+   * Non-blocking client for the attachments, used if {@code otc.obs.async-attachments} is set.
+   * Files above the part size are uploaded as streamed multipart uploads, the parts are read from
+   * the file while they are sent. At most {@code otc.obs.async.max-concurrency} requests share the
+   * connections of the netty event loop.
+   */
+  @Bean
+  @Profile({"staging", "production", "uat"})
+  @ConditionalOnProperty(name = "otc.obs.async-attachments", havingValue = "true")
+  public S3AsyncClient amazonS3Async() throws URISyntaxException {
+    long partSize = multipartPartSizeMb * 1024 * 1024;
+
+    return S3AsyncClient.builder()
+        .credentialsProvider(
+            StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(accessKeyId, secretAccessKey)))
+        .endpointOverride(new URI(endpoint))
+        .region(Region.of("eu-de"))
+        .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(asyncMaxConcurrency))
+        .multipartEnabled(true)
+        .multipartConfiguration(
+            multipart -> multipart.thresholdInBytes(partSize).minimumPartSizeInBytes(partSize))
+        .build();
+  }
+
+  @Bean
+  @Profile({"!production & !staging & !uat"})
+  @ConditionalOnProperty(name = "otc.obs.async-attachments", havingValue = "true")
+  public S3AsyncClient amazonS3AsyncMock() {
+    return new S3AsyncMockClient();
+  }
 }
@@ -1,12 +1,12 @@
 package de.bund.digitalservice.ris.caselaw.domain;
 
-import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.UUID;
 import org.springframework.http.HttpHeaders;
 
 public interface AttachmentService {
   Attachment attachFileToDocumentationUnit(
-      UUID documentationUnitId, ByteBuffer byteBuffer, HttpHeaders httpHeaders);
+      UUID documentationUnitId, Path file, HttpHeaders httpHeaders);
 
   void deleteByS3Path(String s3Path);
 
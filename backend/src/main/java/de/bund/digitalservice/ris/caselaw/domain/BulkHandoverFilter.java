@@ -0,0 +1,28 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.time.LocalDate;
+import lombok.Builder;
+
+/**
+ * Search filter to select the documentation units of a bulk handover, with the parameters of the
+ * documentation unit search. Only documentation units of the own documentation office are found.
+ *
+ * @param documentNumber (part of the) document number
+ * @param fileNumber (part of the) file number
+ * @param courtType type of the court
+ * @param courtLocation location of the court
+ * @param decisionDate decision date or start of the decision date range
+ * @param decisionDateEnd end of the decision date range
+ * @param publicationStatus publication status
+ * @param withError only documentation units with (true) or without (false) errors
+ */
+@Builder
+public record BulkHandoverFilter(
+    String documentNumber,
+    String fileNumber,
+    String courtType,
+    String courtLocation,
+    LocalDate decisionDate,
+    LocalDate decisionDateEnd,
+    String publicationStatus,
+    Boolean withError) {}
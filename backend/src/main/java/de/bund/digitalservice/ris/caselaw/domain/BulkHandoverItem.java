@@ -0,0 +1,23 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Progress of a single documentation unit in a bulk handover job.
+ *
+ * @param documentationUnitId the UUID of the documentation unit
+ * @param documentNumber the document number of the documentation unit, null if it doesn't exist
+ * @param status status of the handover
+ * @param statusMessages issues found during the validation or reason of the failure
+ * @param updatedAt time of the last status change
+ */
+@Builder(toBuilder = true)
+public record BulkHandoverItem(
+    UUID documentationUnitId,
+    String documentNumber,
+    BulkHandoverItemStatus status,
+    List<String> statusMessages,
+    Instant updatedAt) {}
@@ -0,0 +1,14 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+/** Status of a documentation unit in a bulk handover job */
+public enum BulkHandoverItemStatus {
+  /** the documentation unit isn't handed over yet */
+  PENDING,
+  /**
+   * the xml export of the documentation unit is saved and its handover mail is in the outbox. The
+   * mail is sent later, its delivery is shown in the handover log of the documentation unit.
+   */
+  ENQUEUED,
+  /** the documentation unit couldn't be handed over, see the status messages */
+  FAILED
+}
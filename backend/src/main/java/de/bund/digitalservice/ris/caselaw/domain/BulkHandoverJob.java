@@ -0,0 +1,29 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Handover of many documentation units in the background.
+ *
+ * @param id id of the job
+ * @param documentationOfficeId id of the documentation office of the issuer, only documentation
+ *     units of this office are handed over
+ * @param issuerAddress the email address of the issuer, used to redirect replies by the mail
+ *     interface
+ * @param status status of the job
+ * @param items the documentation units with their progress, in the order of the request
+ * @param createdAt creation time of the job
+ * @param updatedAt time of the last progress
+ */
+@Builder(toBuilder = true)
+public record BulkHandoverJob(
+    UUID id,
+    UUID documentationOfficeId,
+    String issuerAddress,
+    BulkHandoverJobStatus status,
+    List<BulkHandoverItem> items,
+    Instant createdAt,
+    Instant updatedAt) {}
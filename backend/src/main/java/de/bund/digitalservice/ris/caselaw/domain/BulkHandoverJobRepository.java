@@ -0,0 +1,59 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/** Repository for the bulk handover jobs and the progress of their documentation units. */
+public interface BulkHandoverJobRepository {
+
+  /**
+   * Save a new job with all its items.
+   *
+   * @param job the new job
+   * @return the saved job
+   */
+  BulkHandoverJob create(BulkHandoverJob job);
+
+  Optional<BulkHandoverJob> findById(UUID id);
+
+  /**
+   * Claim the oldest pending job for this instance and set it to running. Running jobs without
+   * progress since the given time are claimed again, because the instance which ran them is gone
+   * (e.g. by a deployment). Jobs claimed by another instance at the same time are skipped.
+   *
+   * @param staleBefore running jobs with an older update time are claimed again
+   * @return the claimed job or an empty optional if no job is waiting
+   */
+  Optional<BulkHandoverJob> claimNextJob(Instant staleBefore);
+
+  /**
+   * Save the progress of a documentation unit. The update time of the job is set to the update time
+   * of the item, so a running job with progress isn't claimed by another instance.
+   *
+   * @param jobId id of the job
+   * @param item the item with the new status
+   */
+  void saveItem(UUID jobId, BulkHandoverItem item);
+
+  /**
+   * Finish the running job, if none of its documentation units is pending anymore.
+   *
+   * @param jobId id of the job
+   * @param updatedAt time of the status change
+   * @return true if the job is finished, false if it has pending documentation units or isn't
+   *     running
+   */
+  boolean finishJob(UUID jobId, Instant updatedAt);
+
+  /**
+   * Set the running jobs back to pending, so they are claimed again without waiting for the stale
+   * duration.
+   *
+   * @param jobIds ids of the jobs
+   * @param updatedAt time of the status change
+   * @return number of jobs set back to pending
+   */
+  int releaseRunningJobs(Collection<UUID> jobIds, Instant updatedAt);
+}
@@ -0,0 +1,254 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service to manage the bulk handover jobs.
+ *
+ * <p>The documentation units of a job are selected when the job is created, so a job hands over the
+ * same documentation units, even if it is resumed later. Documentation units which don't exist or
+ * belong to another documentation office are marked as failed immediately. At most {@code
+ * handover.bulk.max-units} documentation units are handed over per job.
+ *
+ * <p>The jobs and the progress of every documentation unit are stored in the database. A running
+ * job without progress for {@code handover.bulk.stale-after} is claimed again by the next worker,
+ * which continues with the documentation units which aren't handed over yet.
+ */
+@Service
+public class BulkHandoverJobService {
+  private static final int SEARCH_PAGE_SIZE = 100;
+
+  private final BulkHandoverJobRepository repository;
+  private final DocumentationUnitService documentationUnitService;
+  private final UserService userService;
+  private final int maxUnits;
+  private final Duration staleAfter;
+
+  public BulkHandoverJobService(
+      BulkHandoverJobRepository repository,
+      DocumentationUnitService documentationUnitService,
+      UserService userService,
+      @Value("${handover.bulk.max-units:1000}") int maxUnits,
+      @Value("${handover.bulk.stale-after:PT10M}") Duration staleAfter) {
+    this.repository = repository;
+    this.documentationUnitService = documentationUnitService;
+    this.userService = userService;
+    this.maxUnits = maxUnits;
+    this.staleAfter = staleAfter;
+  }
+
+  /**
+   * Create a new pending job for the documentation units of the list and of the search filter.
+   *
+   * @param oidcUser the issuer of the handover
+   * @param request the selection of the documentation units
+   * @return the created job
+   * @throws DocumentationUnitHandoverException if no or too many documentation units are selected
+   */
+  public BulkHandoverJob createJob(OidcUser oidcUser, BulkHandoverRequest request) {
+    DocumentationOffice documentationOffice = userService.getDocumentationOffice(oidcUser);
+    Instant now = Instant.now();
+
+    Map<UUID, BulkHandoverItem> items = new LinkedHashMap<>();
+    if (request.documentationUnitIds() != null) {
+      for (UUID documentationUnitId : request.documentationUnitIds()) {
+        items.computeIfAbsent(documentationUnitId, id -> createItem(id, documentationOffice, now));
+        checkNumberOfUnits(items.size());
+      }
+    }
+    if (request.filter() != null) {
+      for (DocumentationUnitListItem listItem : search(oidcUser, request.filter())) {
+        items.computeIfAbsent(
+            listItem.uuid(), id -> pendingItem(id, listItem.documentNumber(), now).build());
+        checkNumberOfUnits(items.size());
+      }
+    }
+    if (items.isEmpty()) {
+      throw new DocumentationUnitHandoverException("No documentation units selected.");
+    }
+
+    return repository.create(
+        BulkHandoverJob.builder()
+            .id(UUID.randomUUID())
+            .documentationOfficeId(documentationOffice.uuid())
+            .issuerAddress(userService.getEmail(oidcUser))
+            .status(BulkHandoverJobStatus.PENDING)
+            .items(List.copyOf(items.values()))
+            .createdAt(now)
+            .updatedAt(now)
+            .build());
+  }
+
+  /**
+   * Get the job with the progress of its documentation units.
+   *
+   * @param oidcUser the current user
+   * @param jobId id of the job
+   * @return the job or an empty optional if the job doesn't exist or belongs to another
+   *     documentation office
+   */
+  public Optional<BulkHandoverJob> getJob(OidcUser oidcUser, UUID jobId) {
+    UUID documentationOfficeId = userService.getDocumentationOffice(oidcUser).uuid();
+    return repository
+        .findById(jobId)
+        .filter(job -> Objects.equals(job.documentationOfficeId(), documentationOfficeId));
+  }
+
+  /**
+   * Claim the next waiting job.
+   *
+   * @return the claimed job in status running or an empty optional
+   */
+  public Optional<BulkHandoverJob> claimNextJob() {
+    return repository.claimNextJob(Instant.now().minus(staleAfter));
+  }
+
+  /**
+   * Save the result of the handover of a documentation unit.
+   *
+   * @param job the running job
+   * @param item the pending item of the documentation unit
+   * @param handoverMail the result of the handover
+   * @return the enqueued or failed item, an enqueued item only means that the handover mail is in
+   *     the outbox
+   */
+  public BulkHandoverItem completeItem(
+      BulkHandoverJob job, BulkHandoverItem item, HandoverMail handoverMail) {
+    return saveItem(
+        job,
+        item.toBuilder()
+            .status(
+                handoverMail.success()
+                    ? BulkHandoverItemStatus.ENQUEUED
+                    : BulkHandoverItemStatus.FAILED)
+            .statusMessages(handoverMail.statusMessages())
+            .build());
+  }
+
+  /**
+   * Save the failure of the handover of a documentation unit.
+   *
+   * @param job the running job
+   * @param item the pending item of the documentation unit
+   * @param errorMessage reason of the failure
+   * @return the failed item
+   */
+  public BulkHandoverItem failItem(
+      BulkHandoverJob job, BulkHandoverItem item, String errorMessage) {
+    return saveItem(
+        job,
+        item.toBuilder()
+            .status(BulkHandoverItemStatus.FAILED)
+            .statusMessages(List.of(Objects.requireNonNullElse(errorMessage, "Handover failed")))
+            .build());
+  }
+
+  /**
+   * Finish the job after all documentation units are processed. A job with pending documentation
+   * units isn't finished.
+   *
+   * @param job the running job
+   * @return true if the job is finished, false if documentation units are still pending
+   */
+  public boolean finishJob(BulkHandoverJob job) {
+    return repository.finishJob(job.id(), Instant.now());
+  }
+
+  /**
+   * Set the running jobs back to pending, e.g. when the worker shuts down, so the next worker
+   * continues them without waiting for the stale duration.
+   *
+   * @param jobIds ids of the running jobs
+   */
+  public void releaseJobs(Collection<UUID> jobIds) {
+    repository.releaseRunningJobs(jobIds, Instant.now());
+  }
+
+  private BulkHandoverItem saveItem(BulkHandoverJob job, BulkHandoverItem item) {
+    BulkHandoverItem saved = item.toBuilder().updatedAt(Instant.now()).build();
+    repository.saveItem(job.id(), saved);
+    return saved;
+  }
+
+  private BulkHandoverItem createItem(
+      UUID documentationUnitId, DocumentationOffice documentationOffice, Instant now) {
+    DocumentationUnitAccessDescriptor accessDescriptor =
+        documentationUnitService.getAccessDescriptorByUuid(documentationUnitId);
+    if (accessDescriptor == null) {
+      return failedItem(documentationUnitId, null, "Documentation unit doesn't exist", now);
+    }
+    if (accessDescriptor.documentationOffice() == null
+        || !Objects.equals(
+            accessDescriptor.documentationOffice().uuid(), documentationOffice.uuid())) {
+      return failedItem(
+          documentationUnitId,
+          accessDescriptor.documentNumber(),
+          "Documentation unit belongs to another documentation office",
+          now);
+    }
+    return pendingItem(documentationUnitId, accessDescriptor.documentNumber(), now).build();
+  }
+
+  private List<DocumentationUnitListItem> search(OidcUser oidcUser, BulkHandoverFilter filter) {
+    List<DocumentationUnitListItem> result = new ArrayList<>();
+    Slice<DocumentationUnitListItem> slice;
+    int page = 0;
+    do {
+      slice =
+          documentationUnitService.searchByDocumentationUnitSearchInput(
+              PageRequest.of(page++, SEARCH_PAGE_SIZE),
+              oidcUser,
+              Optional.ofNullable(filter.documentNumber()),
+              Optional.ofNullable(filter.fileNumber()),
+              Optional.ofNullable(filter.courtType()),
+              Optional.ofNullable(filter.courtLocation()),
+              Optional.ofNullable(filter.decisionDate()),
+              Optional.ofNullable(filter.decisionDateEnd()),
+              Optional.ofNullable(filter.publicationStatus()),
+              Optional.ofNullable(filter.withError()),
+              Optional.of(true));
+      result.addAll(slice.getContent());
+      checkNumberOfUnits(result.size());
+    } while (slice.hasNext());
+    return result;
+  }
+
+  private void checkNumberOfUnits(int numberOfUnits) {
+    if (numberOfUnits > maxUnits) {
+      throw new DocumentationUnitHandoverException(
+          "Too many documentation units selected, at most " + maxUnits + " are allowed.");
+    }
+  }
+
+  private static BulkHandoverItem.BulkHandoverItemBuilder pendingItem(
+      UUID documentationUnitId, String documentNumber, Instant now) {
+    return BulkHandoverItem.builder()
+        .documentationUnitId(documentationUnitId)
+        .documentNumber(documentNumber)
+        .status(BulkHandoverItemStatus.PENDING)
+        .statusMessages(List.of())
+        .updatedAt(now);
+  }
+
+  private static BulkHandoverItem failedItem(
+      UUID documentationUnitId, String documentNumber, String message, Instant now) {
+    return pendingItem(documentationUnitId, documentNumber, now)
+        .status(BulkHandoverItemStatus.FAILED)
+        .statusMessages(List.of(message))
+        .build();
+  }
+}
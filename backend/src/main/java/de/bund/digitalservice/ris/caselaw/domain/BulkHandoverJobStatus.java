@@ -0,0 +1,11 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+/** Status of a bulk handover job */
+public enum BulkHandoverJobStatus {
+  /** the job waits for a free worker */
+  PENDING,
+  /** the documentation units are handed over */
+  RUNNING,
+  /** all documentation units are processed, see the status of the items */
+  FINISHED
+}
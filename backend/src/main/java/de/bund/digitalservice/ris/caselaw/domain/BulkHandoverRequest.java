@@ -0,0 +1,13 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Selection of the documentation units for a bulk handover. The documentation units of the list and
+ * the documentation units found by the filter are handed over.
+ *
+ * @param documentationUnitIds the UUIDs of the documentation units, can be null
+ * @param filter search filter for the documentation units, can be null
+ */
+public record BulkHandoverRequest(List<UUID> documentationUnitIds, BulkHandoverFilter filter) {}
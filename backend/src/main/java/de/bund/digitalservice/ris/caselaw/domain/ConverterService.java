@@ -1,7 +1,11 @@
 package de.bund.digitalservice.ris.caselaw.domain;
 
 import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.nio.file.Path;
+import java.util.function.Supplier;
 
 public interface ConverterService {
   Docx2Html getConvertedObject(String fileName);
+
+  Docx2Html getConvertedObject(Path file, Supplier<String> upload);
 }
@@ -0,0 +1,24 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Representing the information of a documentation unit which is needed for the authorization
+ * checks. It is loaded with a single query instead of the whole documentation unit.
+ *
+ * @param uuid (Universal unique identifier) the identifier of the documentation unit
+ * @param documentNumber (Dokumentnummer) of the documentation unit
+ * @param version version of the documentation unit
+ * @param documentationOffice (Dokumentationsstelle) the documentation unit belongs to
+ * @param status the latest (Status) of the documentation unit, null for legacy documentation units
+ * @param procedureUserGroupId id of the user group the current procedure (Vorgang) is assigned to
+ */
+@Builder
+public record DocumentationUnitAccessDescriptor(
+    UUID uuid,
+    String documentNumber,
+    Long version,
+    DocumentationOffice documentationOffice,
+    Status status,
+    UUID procedureUserGroupId) {}
@@ -0,0 +1,11 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.util.UUID;
+
+/**
+ * Published after a documentation unit was saved or deleted, so derived data of the documentation
+ * unit (e.g. the stored handover preview) can be dropped.
+ *
+ * @param documentationUnitId id of the changed documentation unit
+ */
+public record DocumentationUnitChangedEvent(UUID documentationUnitId) {}
@@ -17,6 +17,8 @@ import org.springframework.stereotype.Service;
 @Service
 @Slf4j
 public class DocumentationUnitDocxMetadataInitializationService {
+  private static final DateTimeFormatter DECISION_DATE_FORMATTER =
+      DateTimeFormatter.ofPattern("dd.MM.yyyy");
 
   private final DocumentationUnitRepository repository;
   private final CourtRepository courtRepository;
@@ -31,30 +33,32 @@ public class DocumentationUnitDocxMetadataInitializationService {
     this.documentTypeRepository = documentTypeRepository;
   }
 
+  /**
+   * Initialize the empty core data fields of a documentation unit with the metadata properties and
+   * the ECLI of an attached docx file. The properties are read in one pass, the court is looked up
+   * once for all court properties and the documentation unit is saved with one write.
+   *
+   * @param uuid the UUID of the documentation unit
+   * @param docx2html the converted docx file with its metadata properties and ECLIs
+   */
   public void initializeCoreData(UUID uuid, Docx2Html docx2html) {
     Optional<DocumentationUnit> documentationUnitOptional = repository.findByUuid(uuid);
     if (documentationUnitOptional.isEmpty()) {
       return;
     }
     DocumentationUnit documentationUnit = documentationUnitOptional.get();
-    CoreData.CoreDataBuilder builder = documentationUnitOptional.get().coreData().toBuilder();
+    CoreData.CoreDataBuilder builder = documentationUnit.coreData().toBuilder();
 
-    initializeFieldsFromProperties(docx2html.properties(), documentationUnit, builder);
+    Map<DocxMetadataProperty, String> properties = docx2html.properties();
+    initializeFieldsFromProperties(properties, documentationUnit, builder);
 
-    if (docx2html.ecliList().size() == 1) {
+    // the ECLI of the metadata has priority over the ECLI of the footer
+    if (docx2html.ecliList().size() == 1 && !properties.containsKey(DocxMetadataProperty.ECLI)) {
       handleEcli(documentationUnit, builder, docx2html.ecliList().get(0));
     }
 
-    DocumentationUnit updatedDocumentationUnit =
-        documentationUnit.toBuilder().coreData(builder.build()).build();
-    repository.saveProcedures(updatedDocumentationUnit);
-    // save new court first to avoid override of legal effect
-    repository.save(
-        documentationUnit.toBuilder()
-            .coreData(
-                documentationUnit.coreData().toBuilder().court(builder.build().court()).build())
-            .build());
-    repository.save(updatedDocumentationUnit);
+    repository.saveInitializedCoreData(
+        documentationUnit.toBuilder().coreData(builder.build()).build());
   }
 
   private void initializeFieldsFromProperties(
@@ -67,8 +71,9 @@ public class DocumentationUnitDocxMetadataInitializationService {
           switch (key) {
             case FILE_NUMBER -> handleFileNumber(documentationUnit, builder, value);
             case DECISION_DATE -> handleDecisionDate(documentationUnit, builder, value);
-            case COURT_TYPE, COURT_LOCATION, COURT ->
-                handleCourt(properties, documentationUnit, builder);
+            case COURT_TYPE, COURT_LOCATION, COURT -> {
+              // the court properties are resolved together below
+            }
             case APPRAISAL_BODY -> handleAppraisalBody(documentationUnit, builder, value);
             case DOCUMENT_TYPE -> handleDocumentType(documentationUnit, builder, value);
             case ECLI -> handleEcli(documentationUnit, builder, value);
@@ -76,6 +81,8 @@ public class DocumentationUnitDocxMetadataInitializationService {
             case LEGAL_EFFECT -> handleLegalEffect(documentationUnit, builder, value);
           }
         });
+
+    handleCourt(properties, documentationUnit, builder);
   }
 
   private void handleFileNumber(
@@ -88,7 +95,7 @@ public class DocumentationUnitDocxMetadataInitializationService {
   private void handleDecisionDate(
       DocumentationUnit documentationUnit, CoreData.CoreDataBuilder builder, String value) {
     if (documentationUnit.coreData().decisionDate() == null) {
-      builder.decisionDate(LocalDate.parse(value, DateTimeFormatter.ofPattern("dd.MM.yyyy")));
+      builder.decisionDate(LocalDate.parse(value, DECISION_DATE_FORMATTER));
     }
   }
 
@@ -96,21 +103,23 @@ public class DocumentationUnitDocxMetadataInitializationService {
       Map<DocxMetadataProperty, String> properties,
       DocumentationUnit documentationUnit,
       CoreData.CoreDataBuilder builder) {
-    if (documentationUnit.coreData().court() == null && builder.build().court() == null) {
-      String courtTypeProperty = properties.get(DocxMetadataProperty.COURT_TYPE);
-      String courtLocationProperty = properties.get(DocxMetadataProperty.COURT_LOCATION);
-      String courtProperty = properties.get(DocxMetadataProperty.COURT);
-
-      Optional<Court> court = Optional.empty();
-      if (courtTypeProperty != null) {
-        court = courtRepository.findByTypeAndLocation(courtTypeProperty, courtLocationProperty);
-      }
-      if (court.isEmpty() && courtProperty != null) {
-        court = courtRepository.findUniqueBySearchString(courtProperty);
-      }
-
-      builder.court(court.orElse(null));
+    if (documentationUnit.coreData().court() != null) {
+      return;
     }
+
+    String courtTypeProperty = properties.get(DocxMetadataProperty.COURT_TYPE);
+    String courtLocationProperty = properties.get(DocxMetadataProperty.COURT_LOCATION);
+    String courtProperty = properties.get(DocxMetadataProperty.COURT);
+
+    Optional<Court> court = Optional.empty();
+    if (courtTypeProperty != null) {
+      court = courtRepository.findByTypeAndLocation(courtTypeProperty, courtLocationProperty);
+    }
+    if (court.isEmpty() && courtProperty != null) {
+      court = courtRepository.findUniqueBySearchString(courtProperty);
+    }
+
+    court.ifPresent(builder::court);
   }
 
   private void handleAppraisalBody(
@@ -131,7 +140,7 @@ public class DocumentationUnitDocxMetadataInitializationService {
 
   private void handleEcli(
       DocumentationUnit documentationUnit, CoreData.CoreDataBuilder builder, String value) {
-    if (documentationUnit.coreData().ecli() == null && builder.build().ecli() == null) {
+    if (documentationUnit.coreData().ecli() == null) {
       builder.ecli(value);
     }
   }
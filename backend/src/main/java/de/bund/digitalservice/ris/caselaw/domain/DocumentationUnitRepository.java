@@ -28,6 +28,24 @@ public interface DocumentationUnitRepository {
    */
   Optional<DocumentationUnit> findByUuid(UUID uuid);
 
+  /**
+   * Find the information of a documentation unit needed for the authorization checks by its UUID
+   *
+   * @param uuid the UUID to search for
+   * @return the access descriptor of the documentation unit found
+   */
+  Optional<DocumentationUnitAccessDescriptor> findAccessDescriptorByUuid(UUID uuid);
+
+  /**
+   * Find the information of a documentation unit needed for the authorization checks by its
+   * document number
+   *
+   * @param documentNumber the document number
+   * @return the access descriptor of the documentation unit found
+   */
+  Optional<DocumentationUnitAccessDescriptor> findAccessDescriptorByDocumentNumber(
+      String documentNumber);
+
   /**
    * Create a new documentation unit with the given document number and documentation office
    *
@@ -66,6 +84,15 @@ public interface DocumentationUnitRepository {
    */
   void saveProcedures(DocumentationUnit documentationUnit);
 
+  /**
+   * Save the core data of a documentation unit, which is initialized from the metadata of an
+   * attached docx file, together with its procedure. A court, which is added by the initialization,
+   * is taken over without deriving the legal effect from it.
+   *
+   * @param documentationUnit the documentation unit with the initialized core data
+   */
+  void saveInitializedCoreData(DocumentationUnit documentationUnit);
+
   /**
    * Delete a documentation unit
    *
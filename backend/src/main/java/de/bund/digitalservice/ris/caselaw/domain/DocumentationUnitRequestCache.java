@@ -0,0 +1,183 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Memo of the documentation units loaded during one http request.
+ *
+ * <p>The authorization checks of the {@link
+ * org.springframework.security.access.prepost.PreAuthorize} annotations, the controller and the
+ * {@link DocumentationUnitService} load the same documentation unit multiple times per request. The
+ * memo is stored in the request attributes, so all of them share the loaded documentation unit and
+ * it is dropped with the end of the request. The documentation units and their {@link
+ * DocumentationUnitAccessDescriptor access descriptors} are stored by uuid and by document number.
+ *
+ * <p>Outside of a request (scheduled jobs, unit tests) nothing is memorized and every call loads
+ * the documentation unit again.
+ */
+class DocumentationUnitRequestCache {
+  private static final String ATTRIBUTE_NAME = DocumentationUnitRequestCache.class.getName();
+
+  /**
+   * Get the documentation unit with the given uuid from the memo or load it with the loader.
+   *
+   * @param uuid id of the documentation unit
+   * @param loader loader for the documentation unit, if it isn't memorized yet
+   * @return the memorized or loaded documentation unit
+   */
+  DocumentationUnit getByUuid(UUID uuid, Supplier<DocumentationUnit> loader) {
+    Optional<Memo> memo = getMemo();
+    if (memo.isPresent() && memo.get().byUuid().containsKey(uuid)) {
+      return memo.get().byUuid().get(uuid);
+    }
+
+    DocumentationUnit documentationUnit = loader.get();
+    put(documentationUnit);
+    return documentationUnit;
+  }
+
+  /**
+   * Get the documentation unit with the given document number from the memo or load it with the
+   * loader.
+   *
+   * @param documentNumber document number of the documentation unit
+   * @param loader loader for the documentation unit, if it isn't memorized yet
+   * @return the memorized or loaded documentation unit
+   */
+  DocumentationUnit getByDocumentNumber(String documentNumber, Supplier<DocumentationUnit> loader) {
+    Optional<Memo> memo = getMemo();
+    if (memo.isPresent() && memo.get().byDocumentNumber().containsKey(documentNumber)) {
+      return memo.get().byDocumentNumber().get(documentNumber);
+    }
+
+    DocumentationUnit documentationUnit = loader.get();
+    put(documentationUnit);
+    return documentationUnit;
+  }
+
+  /**
+   * Get the access descriptor of the documentation unit with the given uuid from the memo or load
+   * it with the loader. Not existing documentation units (loader returns null) aren't memorized.
+   *
+   * @param uuid id of the documentation unit
+   * @param loader loader for the access descriptor, if it isn't memorized yet
+   * @return the memorized or loaded access descriptor
+   */
+  DocumentationUnitAccessDescriptor getAccessDescriptorByUuid(
+      UUID uuid, Supplier<DocumentationUnitAccessDescriptor> loader) {
+    Optional<Memo> memo = getMemo();
+    if (memo.isPresent() && memo.get().accessDescriptorByUuid().containsKey(uuid)) {
+      return memo.get().accessDescriptorByUuid().get(uuid);
+    }
+
+    DocumentationUnitAccessDescriptor accessDescriptor = loader.get();
+    put(accessDescriptor);
+    return accessDescriptor;
+  }
+
+  /**
+   * Get the access descriptor of the documentation unit with the given document number from the
+   * memo or load it with the loader. Not existing documentation units (loader returns null) aren't
+   * memorized.
+   *
+   * @param documentNumber document number of the documentation unit
+   * @param loader loader for the access descriptor, if it isn't memorized yet
+   * @return the memorized or loaded access descriptor
+   */
+  DocumentationUnitAccessDescriptor getAccessDescriptorByDocumentNumber(
+      String documentNumber, Supplier<DocumentationUnitAccessDescriptor> loader) {
+    Optional<Memo> memo = getMemo();
+    if (memo.isPresent()
+        && memo.get().accessDescriptorByDocumentNumber().containsKey(documentNumber)) {
+      return memo.get().accessDescriptorByDocumentNumber().get(documentNumber);
+    }
+
+    DocumentationUnitAccessDescriptor accessDescriptor = loader.get();
+    put(accessDescriptor);
+    return accessDescriptor;
+  }
+
+  /**
+   * Memorize the (changed) documentation unit for the rest of the request. Documentation units
+   * without uuid are ignored.
+   *
+   * @param documentationUnit documentation unit to memorize
+   */
+  void put(DocumentationUnit documentationUnit) {
+    if (documentationUnit == null || documentationUnit.uuid() == null) {
+      return;
+    }
+
+    getMemo()
+        .ifPresent(
+            memo -> {
+              evict(memo, documentationUnit.uuid());
+              memo.byUuid().put(documentationUnit.uuid(), documentationUnit);
+              if (documentationUnit.documentNumber() != null) {
+                memo.byDocumentNumber().put(documentationUnit.documentNumber(), documentationUnit);
+              }
+            });
+  }
+
+  private static void put(DocumentationUnitAccessDescriptor accessDescriptor) {
+    if (accessDescriptor == null || accessDescriptor.uuid() == null) {
+      return;
+    }
+
+    getMemo()
+        .ifPresent(
+            memo -> {
+              memo.accessDescriptorByUuid().put(accessDescriptor.uuid(), accessDescriptor);
+              if (accessDescriptor.documentNumber() != null) {
+                memo.accessDescriptorByDocumentNumber()
+                    .put(accessDescriptor.documentNumber(), accessDescriptor);
+              }
+            });
+  }
+
+  /**
+   * Remove the documentation unit and its access descriptor with the given uuid from the memo.
+   *
+   * @param uuid id of the documentation unit
+   */
+  void evict(UUID uuid) {
+    getMemo().ifPresent(memo -> evict(memo, uuid));
+  }
+
+  private static void evict(Memo memo, UUID uuid) {
+    memo.byUuid().remove(uuid);
+    memo.byDocumentNumber().values().removeIf(unit -> uuid.equals(unit.uuid()));
+    memo.accessDescriptorByUuid().remove(uuid);
+    memo.accessDescriptorByDocumentNumber()
+        .values()
+        .removeIf(accessDescriptor -> uuid.equals(accessDescriptor.uuid()));
+  }
+
+  private static Optional<Memo> getMemo() {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes == null) {
+      return Optional.empty();
+    }
+
+    Object memo = requestAttributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+    if (memo instanceof Memo existingMemo) {
+      return Optional.of(existingMemo);
+    }
+
+    Memo newMemo = new Memo(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+    requestAttributes.setAttribute(ATTRIBUTE_NAME, newMemo, RequestAttributes.SCOPE_REQUEST);
+    return Optional.of(newMemo);
+  }
+
+  private record Memo(
+      Map<UUID, DocumentationUnit> byUuid,
+      Map<String, DocumentationUnit> byDocumentNumber,
+      Map<UUID, DocumentationUnitAccessDescriptor> accessDescriptorByUuid,
+      Map<String, DocumentationUnitAccessDescriptor> accessDescriptorByDocumentNumber) {}
+}
@@ -17,6 +17,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -34,6 +35,8 @@ public class DocumentationUnitService {
   private final DocumentNumberRecyclingService documentNumberRecyclingService;
   private final PatchMapperService patchMapperService;
   private final Validator validator;
+  private final ApplicationEventPublisher eventPublisher;
+  private final DocumentationUnitRequestCache requestCache = new DocumentationUnitRequestCache();
 
   public DocumentationUnitService(
       DocumentationUnitRepository repository,
@@ -41,7 +44,8 @@ public class DocumentationUnitService {
       DocumentNumberRecyclingService documentNumberRecyclingService,
       Validator validator,
       AttachmentService attachmentService,
-      PatchMapperService patchMapperService) {
+      PatchMapperService patchMapperService,
+      ApplicationEventPublisher eventPublisher) {
 
     this.repository = repository;
     this.documentNumberService = documentNumberService;
@@ -49,6 +53,7 @@ public class DocumentationUnitService {
     this.validator = validator;
     this.attachmentService = attachmentService;
     this.patchMapperService = patchMapperService;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional(transactionManager = "jpaTransactionManager")
@@ -102,17 +107,62 @@ public class DocumentationUnitService {
         PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()), oidcUser, searchInput);
   }
 
+  /**
+   * Get the documentation unit by its document number. The documentation unit is only loaded once
+   * per request and shared with the authorization checks and the controllers.
+   *
+   * @param documentNumber document number of the documentation unit
+   * @return the documentation unit or null, if the documentation unit couldn't be loaded
+   */
   public DocumentationUnit getByDocumentNumber(String documentNumber) {
     try {
-      var optionalDocumentationUnit = repository.findByDocumentNumber(documentNumber);
-      return optionalDocumentationUnit.orElseThrow();
+      return requestCache.getByDocumentNumber(
+          documentNumber, () -> repository.findByDocumentNumber(documentNumber).orElseThrow());
     } catch (Exception e) {
       return null;
     }
   }
 
+  /**
+   * Get the documentation unit by its uuid. The documentation unit is only loaded once per request
+   * and shared with the authorization checks and the controllers.
+   *
+   * @param documentationUnitId id of the documentation unit
+   * @return the documentation unit
+   * @throws java.util.NoSuchElementException if the documentation unit doesn't exist
+   */
   public DocumentationUnit getByUuid(UUID documentationUnitId) {
-    return repository.findByUuid(documentationUnitId).orElseThrow();
+    return requestCache.getByUuid(
+        documentationUnitId, () -> repository.findByUuid(documentationUnitId).orElseThrow());
+  }
+
+  /**
+   * Get the information of the documentation unit needed for the authorization checks by its uuid.
+   * Loads only the access relevant fields instead of the whole documentation unit. The access
+   * descriptor is only loaded once per request.
+   *
+   * @param documentationUnitId id of the documentation unit
+   * @return the access descriptor or null, if the documentation unit doesn't exist
+   */
+  public DocumentationUnitAccessDescriptor getAccessDescriptorByUuid(UUID documentationUnitId) {
+    return requestCache.getAccessDescriptorByUuid(
+        documentationUnitId,
+        () -> repository.findAccessDescriptorByUuid(documentationUnitId).orElse(null));
+  }
+
+  /**
+   * Get the information of the documentation unit needed for the authorization checks by its
+   * document number. Loads only the access relevant fields instead of the whole documentation unit.
+   * The access descriptor is only loaded once per request.
+   *
+   * @param documentNumber document number of the documentation unit
+   * @return the access descriptor or null, if the documentation unit doesn't exist
+   */
+  public DocumentationUnitAccessDescriptor getAccessDescriptorByDocumentNumber(
+      String documentNumber) {
+    return requestCache.getAccessDescriptorByDocumentNumber(
+        documentNumber,
+        () -> repository.findAccessDescriptorByDocumentNumber(documentNumber).orElse(null));
   }
 
   @Transactional(transactionManager = "jpaTransactionManager")
@@ -146,6 +196,8 @@ public class DocumentationUnitService {
 
     saveForRecycling(documentationUnit);
     repository.delete(documentationUnit);
+    requestCache.evict(documentationUnitId);
+    eventPublisher.publishEvent(new DocumentationUnitChangedEvent(documentationUnitId));
     return "Dokumentationseinheit gelöscht: " + documentationUnitId;
   }
 
@@ -261,11 +313,17 @@ public class DocumentationUnitService {
     repository.saveProcedures(documentationUnit);
 
     repository.save(documentationUnit);
+    requestCache.evict(documentationUnit.uuid());
+    eventPublisher.publishEvent(new DocumentationUnitChangedEvent(documentationUnit.uuid()));
+
+    DocumentationUnit updatedDocumentationUnit =
+        repository
+            .findByUuid(documentationUnit.uuid())
+            .orElseThrow(
+                () -> new DocumentationUnitNotExistsException(documentationUnit.documentNumber()));
+    requestCache.put(updatedDocumentationUnit);
 
-    return repository
-        .findByUuid(documentationUnit.uuid())
-        .orElseThrow(
-            () -> new DocumentationUnitNotExistsException(documentationUnit.documentNumber()));
+    return updatedDocumentationUnit;
   }
 
   public Slice<RelatedDocumentationUnit> searchLinkableDocumentationUnits(
@@ -0,0 +1,29 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Asynchronous conversion of an attached docx file into html.
+ *
+ * @param id id of the job
+ * @param documentationUnitId id of the documentation unit the file is attached to
+ * @param s3Path path of the docx file in the bucket
+ * @param status status of the job
+ * @param result the converted file, only set for succeeded jobs
+ * @param errorMessage reason of the failure, only set for failed jobs
+ * @param createdAt creation time of the job
+ * @param updatedAt time of the last status change
+ */
+@Builder(toBuilder = true)
+public record DocxConversionJob(
+    UUID id,
+    UUID documentationUnitId,
+    String s3Path,
+    DocxConversionJobStatus status,
+    Docx2Html result,
+    String errorMessage,
+    Instant createdAt,
+    Instant updatedAt) {}
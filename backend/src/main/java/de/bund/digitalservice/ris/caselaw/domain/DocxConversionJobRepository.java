@@ -0,0 +1,42 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/** Repository for the asynchronous docx conversion jobs. */
+public interface DocxConversionJobRepository {
+
+  DocxConversionJob save(DocxConversionJob job);
+
+  Optional<DocxConversionJob> findById(UUID id);
+
+  /**
+   * Claim the oldest pending job for this instance and set it to running. Running jobs without a
+   * status change since the given time are claimed again, because the instance which ran them is
+   * gone (e.g. by a deployment). Jobs claimed by another instance at the same time are skipped.
+   *
+   * @param staleBefore running jobs with an older update time are claimed again
+   * @return the claimed job or an empty optional if no job is waiting
+   */
+  Optional<DocxConversionJob> claimNextJob(Instant staleBefore);
+
+  /**
+   * Set the update time of the running jobs with the given ids, so they don't become stale while
+   * they are converted.
+   *
+   * @param ids ids of the running jobs
+   * @param updatedAt new update time
+   * @return number of refreshed jobs
+   */
+  int refreshRunningJobs(Collection<UUID> ids, Instant updatedAt);
+
+  /**
+   * Delete the succeeded and failed jobs with their results.
+   *
+   * @param finishedBefore finished jobs with an older update time are deleted
+   * @return number of deleted jobs
+   */
+  int deleteFinishedJobs(Instant finishedBefore);
+}
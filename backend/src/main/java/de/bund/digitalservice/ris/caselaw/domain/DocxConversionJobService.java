@@ -0,0 +1,139 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service to manage the asynchronous conversion jobs of attached docx files.
+ *
+ * <p>The jobs are stored in the database, so a job isn't lost if the instance which runs it is
+ * stopped. A running job without status change for {@code docx.conversion.jobs.stale-after} is
+ * claimed again by the next worker, so the worker refreshes the update time of its running jobs
+ * regularly. Finished jobs are deleted after {@code docx.conversion.jobs.keep-finished-for}, the
+ * client fetches the result directly after the conversion.
+ */
+@Service
+public class DocxConversionJobService {
+  private final DocxConversionJobRepository repository;
+  private final Duration staleAfter;
+  private final Duration keepFinishedFor;
+
+  public DocxConversionJobService(
+      DocxConversionJobRepository repository,
+      @Value("${docx.conversion.jobs.stale-after:PT10M}") Duration staleAfter,
+      @Value("${docx.conversion.jobs.keep-finished-for:P1D}") Duration keepFinishedFor) {
+    this.repository = repository;
+    this.staleAfter = staleAfter;
+    this.keepFinishedFor = keepFinishedFor;
+  }
+
+  /**
+   * Create a new pending job for the conversion of an attached docx file.
+   *
+   * @param documentationUnitId id of the documentation unit
+   * @param s3Path path of the docx file in the bucket
+   * @return the created job
+   */
+  public DocxConversionJob createJob(UUID documentationUnitId, String s3Path) {
+    Instant now = Instant.now();
+    return repository.save(
+        DocxConversionJob.builder()
+            .id(UUID.randomUUID())
+            .documentationUnitId(documentationUnitId)
+            .s3Path(s3Path)
+            .status(DocxConversionJobStatus.PENDING)
+            .createdAt(now)
+            .updatedAt(now)
+            .build());
+  }
+
+  /**
+   * Get the job of the documentation unit.
+   *
+   * @param documentationUnitId id of the documentation unit
+   * @param jobId id of the job
+   * @return the job or an empty optional if the job doesn't exist or belongs to another
+   *     documentation unit
+   */
+  public Optional<DocxConversionJob> getJob(UUID documentationUnitId, UUID jobId) {
+    return repository
+        .findById(jobId)
+        .filter(job -> job.documentationUnitId().equals(documentationUnitId));
+  }
+
+  /**
+   * Claim the next waiting job for the conversion.
+   *
+   * @return the claimed job in status running or an empty optional
+   */
+  public Optional<DocxConversionJob> claimNextJob() {
+    return repository.claimNextJob(Instant.now().minus(staleAfter));
+  }
+
+  /**
+   * Put a claimed job back into the queue, e.g. if there is no free conversion worker.
+   *
+   * @param job the claimed job
+   * @return the pending job
+   */
+  public DocxConversionJob releaseJob(DocxConversionJob job) {
+    return repository.save(
+        job.toBuilder().status(DocxConversionJobStatus.PENDING).updatedAt(Instant.now()).build());
+  }
+
+  /**
+   * Finish the job with the converted file.
+   *
+   * @param job the running job
+   * @param result the converted file
+   * @return the succeeded job
+   */
+  public DocxConversionJob completeJob(DocxConversionJob job, Docx2Html result) {
+    return repository.save(
+        job.toBuilder()
+            .status(DocxConversionJobStatus.SUCCEEDED)
+            .result(result)
+            .updatedAt(Instant.now())
+            .build());
+  }
+
+  /**
+   * Finish the job with an error.
+   *
+   * @param job the running job
+   * @param errorMessage reason of the failure
+   * @return the failed job
+   */
+  public DocxConversionJob failJob(DocxConversionJob job, String errorMessage) {
+    return repository.save(
+        job.toBuilder()
+            .status(DocxConversionJobStatus.FAILED)
+            .errorMessage(errorMessage)
+            .updatedAt(Instant.now())
+            .build());
+  }
+
+  /**
+   * Mark the jobs as still running, so they aren't claimed again by another worker.
+   *
+   * @param jobIds ids of the jobs which are converted at the moment
+   */
+  public void refreshRunningJobs(Collection<UUID> jobIds) {
+    repository.refreshRunningJobs(jobIds, Instant.now());
+  }
+
+  /**
+   * Delete the finished jobs with their results after the retention time.
+   *
+   * @return number of deleted jobs
+   */
+  public int deleteFinishedJobs() {
+    return repository.deleteFinishedJobs(Instant.now().minus(keepFinishedFor));
+  }
+}
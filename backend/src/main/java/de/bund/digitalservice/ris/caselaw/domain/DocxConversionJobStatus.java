@@ -0,0 +1,13 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+/** Status of an asynchronous docx conversion job */
+public enum DocxConversionJobStatus {
+  /** the job waits for a free conversion worker */
+  PENDING,
+  /** the docx file is converted and the core data is initialized */
+  RUNNING,
+  /** the conversion is finished, the result is available */
+  SUCCEEDED,
+  /** the conversion failed, see the error message */
+  FAILED
+}
@@ -0,0 +1,28 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Handover mail in the outbox, which is sent asynchronously after the handover is saved.
+ *
+ * @param id id of the entry, used as idempotency key for the mail service
+ * @param handoverMail the saved handover mail to send
+ * @param status status of the entry
+ * @param attempts number of the started send attempts
+ * @param nextAttemptAt earliest time of the next send attempt
+ * @param errorMessage reason of the last failed send attempt
+ * @param createdAt creation time of the entry, i.e. time of the handover
+ * @param updatedAt time of the last status change
+ */
+@Builder(toBuilder = true)
+public record HandoverMailOutboxEntry(
+    UUID id,
+    HandoverMail handoverMail,
+    HandoverMailOutboxStatus status,
+    int attempts,
+    Instant nextAttemptAt,
+    String errorMessage,
+    Instant createdAt,
+    Instant updatedAt) {}
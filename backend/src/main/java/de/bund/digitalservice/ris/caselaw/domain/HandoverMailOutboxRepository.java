@@ -0,0 +1,38 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/** Repository for the outbox of the handover mails. */
+public interface HandoverMailOutboxRepository {
+
+  /**
+   * Save the handover mail and a pending outbox entry for it in one transaction, so a saved
+   * handover is always sent and no mail is sent without a saved handover.
+   *
+   * @param handoverMail the handover mail to save and send
+   * @param now creation time of the outbox entry
+   * @return the saved handover mail
+   */
+  HandoverMail saveAndEnqueue(HandoverMail handoverMail, Instant now);
+
+  /**
+   * Save the status of an outbox entry. The handover mail itself isn't changed.
+   *
+   * @param entry the outbox entry
+   * @return the saved outbox entry
+   */
+  HandoverMailOutboxEntry save(HandoverMailOutboxEntry entry);
+
+  /**
+   * Claim the oldest pending entry, which is due for the next send attempt, and set it to sending.
+   * Sending entries without a status change since the given time are claimed again, because the
+   * instance which sent them is gone (e.g. by a deployment). Entries claimed by another instance at
+   * the same time are skipped.
+   *
+   * @param now pending entries with an earlier next attempt time are due
+   * @param staleBefore sending entries with an older update time are claimed again
+   * @return the claimed entry or an empty optional if no entry is due
+   */
+  Optional<HandoverMailOutboxEntry> claimNextEntry(Instant now, Instant staleBefore);
+}
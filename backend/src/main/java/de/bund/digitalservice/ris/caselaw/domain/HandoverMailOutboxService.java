@@ -0,0 +1,151 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service to manage the outbox of the handover mails.
+ *
+ * <p>A handover mail is saved together with its outbox entry and sent later by the dispatcher, so
+ * the handover doesn't wait for the mail service. A failed send attempt is repeated with an
+ * exponential backoff, starting with {@code mail.exporter.outbox.initial-backoff} and limited by
+ * {@code mail.exporter.outbox.max-backoff}. After {@code mail.exporter.outbox.max-attempts} failed
+ * attempts the entry is set to failed and the handover mail is marked as not successful, so the
+ * failure is shown in the handover log of the documentation unit. An attempt which didn't reach the
+ * mail service, because it is known to be unavailable, isn't counted. A sending entry without
+ * status change for {@code mail.exporter.outbox.stale-after} is claimed again by the next
+ * dispatcher.
+ */
+@Service
+public class HandoverMailOutboxService {
+  private final HandoverMailOutboxRepository repository;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final int maxAttempts;
+  private final Duration staleAfter;
+
+  public HandoverMailOutboxService(
+      HandoverMailOutboxRepository repository,
+      @Value("${mail.exporter.outbox.initial-backoff:PT30S}") Duration initialBackoff,
+      @Value("${mail.exporter.outbox.max-backoff:PT30M}") Duration maxBackoff,
+      @Value("${mail.exporter.outbox.max-attempts:10}") int maxAttempts,
+      @Value("${mail.exporter.outbox.stale-after:PT5M}") Duration staleAfter) {
+    this.repository = repository;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.maxAttempts = maxAttempts;
+    this.staleAfter = staleAfter;
+  }
+
+  /**
+   * Save the handover mail and put it into the outbox.
+   *
+   * @param handoverMail the handover mail to send
+   * @return the saved handover mail
+   */
+  public HandoverMail enqueue(HandoverMail handoverMail) {
+    return repository.saveAndEnqueue(handoverMail, Instant.now());
+  }
+
+  /**
+   * Claim the next due entry for a send attempt. The attempt is counted with the claim.
+   *
+   * @return the claimed entry in status sending or an empty optional
+   */
+  public Optional<HandoverMailOutboxEntry> claimNextEntry() {
+    Instant now = Instant.now();
+    return repository.claimNextEntry(now, now.minus(staleAfter));
+  }
+
+  /**
+   * Finish the entry after the mail service accepted the mail.
+   *
+   * @param entry the sending entry
+   * @return the sent entry
+   */
+  public HandoverMailOutboxEntry markSent(HandoverMailOutboxEntry entry) {
+    return repository.save(
+        entry.toBuilder()
+            .status(HandoverMailOutboxStatus.SENT)
+            .errorMessage(null)
+            .updatedAt(Instant.now())
+            .build());
+  }
+
+  /**
+   * Schedule the next send attempt after a failed attempt or set the entry to failed, if all
+   * attempts are used. The handover mail of a failed entry gets the reason of the failure as
+   * additional status message and isn't successful anymore.
+   *
+   * @param entry the sending entry
+   * @param errorMessage reason of the failure
+   * @return the pending or failed entry
+   */
+  public HandoverMailOutboxEntry markAttemptFailed(
+      HandoverMailOutboxEntry entry, String errorMessage) {
+    Instant now = Instant.now();
+    var builder = entry.toBuilder().errorMessage(errorMessage).updatedAt(now);
+    if (entry.attempts() >= maxAttempts) {
+      HandoverMail handoverMail = entry.handoverMail();
+      List<String> statusMessages = new ArrayList<>();
+      if (handoverMail.statusMessages() != null) {
+        statusMessages.addAll(handoverMail.statusMessages());
+      }
+      statusMessages.add("Handover mail couldn't be sent: " + errorMessage);
+
+      return repository.save(
+          builder
+              .status(HandoverMailOutboxStatus.FAILED)
+              .handoverMail(
+                  handoverMail.toBuilder().success(false).statusMessages(statusMessages).build())
+              .build());
+    }
+
+    return repository.save(
+        builder
+            .status(HandoverMailOutboxStatus.PENDING)
+            .nextAttemptAt(now.plus(getBackoff(entry.attempts())))
+            .build());
+  }
+
+  /**
+   * Return the entry to the outbox without counting the attempt, because the mail wasn't passed to
+   * the mail service (e.g. it is known to be unavailable). The next attempt is made after the
+   * initial backoff.
+   *
+   * @param entry the sending entry
+   * @param reason reason why the mail wasn't sent
+   * @return the pending entry
+   */
+  public HandoverMailOutboxEntry postpone(HandoverMailOutboxEntry entry, String reason) {
+    Instant now = Instant.now();
+    return repository.save(
+        entry.toBuilder()
+            .status(HandoverMailOutboxStatus.PENDING)
+            .attempts(Math.max(entry.attempts() - 1, 0))
+            .errorMessage(reason)
+            .nextAttemptAt(now.plus(initialBackoff))
+            .updatedAt(now)
+            .build());
+  }
+
+  /**
+   * Get the delay after the given number of failed attempts: the initial backoff doubled with every
+   * further attempt, but at most the maximal backoff.
+   *
+   * @param attempts number of failed attempts, at least 1
+   * @return the delay until the next attempt
+   */
+  Duration getBackoff(int attempts) {
+    Duration backoff = initialBackoff;
+    for (int i = 1; i < attempts && backoff.compareTo(maxBackoff) < 0; i++) {
+      backoff = backoff.multipliedBy(2);
+    }
+    return backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff;
+  }
+}
@@ -0,0 +1,13 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+/** Status of a handover mail in the outbox */
+public enum HandoverMailOutboxStatus {
+  /** the mail waits for the next send attempt */
+  PENDING,
+  /** the mail is sent by a dispatcher */
+  SENDING,
+  /** the mail service accepted the mail */
+  SENT,
+  /** all send attempts failed, see the error message */
+  FAILED
+}
@@ -0,0 +1,90 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Juris xml previews of the last previewed documentation units.
+ *
+ * <p>The preview is requested repeatedly for the same documentation unit, e.g. every time the
+ * handover page is opened. A preview is stored with the version of the documentation unit it was
+ * created for and is only returned for the same version. Every save of the documentation unit
+ * evicts the stored preview (see {@link #evict(UUID)}), even if the save didn't increment the
+ * version. The eviction only reaches the cache of this instance, a save on another instance is
+ * noticed by the incremented version. A stored preview is returned with the current time as
+ * creation date, like a newly created preview.
+ *
+ * <p>The size of the stored previews is limited to {@code maxBytes}, the least recently used
+ * preview is dropped first. A preview bigger than this limit isn't stored at all.
+ */
+class HandoverPreviewCache {
+  private final long maxBytes;
+  private final Map<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long bytes;
+
+  HandoverPreviewCache(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Get the stored preview of the documentation unit or create and store a new one.
+   *
+   * @param uuid id of the documentation unit
+   * @param version the current version of the documentation unit
+   * @param generator creates the preview, if no preview of the current version is stored
+   * @return the stored or created preview
+   */
+  XmlTransformationResult get(
+      UUID uuid, Long version, Supplier<XmlTransformationResult> generator) {
+    synchronized (this) {
+      Entry entry = entries.get(uuid);
+      if (entry != null && Objects.equals(entry.version(), version)) {
+        return entry.preview().toBuilder().creationDate(Instant.now()).build();
+      }
+    }
+
+    XmlTransformationResult preview = generator.get();
+    put(uuid, new Entry(version, preview, sizeOf(preview)));
+    return preview;
+  }
+
+  /**
+   * Drop the stored preview of the documentation unit, e.g. because it was saved or handed over.
+   *
+   * @param uuid id of the documentation unit
+   */
+  synchronized void evict(UUID uuid) {
+    Entry entry = entries.remove(uuid);
+    if (entry != null) {
+      bytes -= entry.bytes();
+    }
+  }
+
+  private synchronized void put(UUID uuid, Entry entry) {
+    evict(uuid);
+    if (entry.bytes() > maxBytes) {
+      return;
+    }
+
+    entries.put(uuid, entry);
+    bytes += entry.bytes();
+
+    Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+    while (bytes > maxBytes) {
+      bytes -= leastRecentlyUsed.next().bytes();
+      leastRecentlyUsed.remove();
+    }
+  }
+
+  private static long sizeOf(XmlTransformationResult preview) {
+    // two bytes per char, the status messages are small compared to the xml
+    return preview.xml() == null ? 0 : 2L * preview.xml().length();
+  }
+
+  private record Entry(Long version, XmlTransformationResult preview, long bytes) {}
+}
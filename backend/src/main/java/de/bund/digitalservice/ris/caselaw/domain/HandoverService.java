@@ -7,10 +7,12 @@ import java.io.StringWriter;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
@@ -18,6 +20,7 @@ import javax.xml.transform.stream.StreamResult;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.ListUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.w3c.dom.Node;
 import org.xml.sax.SAXException;
@@ -25,11 +28,26 @@ import org.xml.sax.SAXException;
 @Service
 @Slf4j
 public class HandoverService {
+  // size of the stored xml previews
+  private static final long PREVIEW_CACHE_MAX_BYTES = 32L * 1024 * 1024;
+
+  private static final TransformerFactory TRANSFORMER_FACTORY =
+      TransformerFactory.newDefaultInstance();
+  private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY =
+      createDocumentBuilderFactory();
+
+  // transformers and document builders aren't thread-safe, but reusable in the same thread
+  private static final ThreadLocal<Transformer> PRETTIFY_TRANSFORMER =
+      ThreadLocal.withInitial(HandoverService::createPrettifyTransformer);
+  private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER =
+      ThreadLocal.withInitial(HandoverService::createDocumentBuilder);
 
   private final DocumentationUnitRepository repository;
   private final HandoverReportRepository handoverReportRepository;
   private final MailService mailService;
   private final DeltaMigrationRepository deltaMigrationRepository;
+  private final HandoverPreviewCache previewCache =
+      new HandoverPreviewCache(PREVIEW_CACHE_MAX_BYTES);
 
   @Value("${mail.exporter.recipientAddress:neuris@example.com}")
   private String recipientAddress;
@@ -63,6 +81,7 @@ public class HandoverService {
 
     HandoverMail handoverMail =
         mailService.handOver(documentationUnit, recipientAddress, issuerAddress);
+    previewCache.evict(documentationUnitId);
     if (!handoverMail.success()) {
       log.warn("Failed to send mail for documentation unit {}", documentationUnitId);
     }
@@ -71,7 +90,8 @@ public class HandoverService {
   }
 
   /**
-   * Create a preview juris xml for a documentation unit.
+   * Create a preview juris xml for a documentation unit. The preview is reused until the
+   * documentation unit is saved or handed over.
    *
    * @param documentUuid the UUID of the documentation unit
    * @return the export result, containing the juris xml and export metadata
@@ -82,7 +102,20 @@ public class HandoverService {
         repository
             .findByUuid(documentUuid)
             .orElseThrow(() -> new DocumentationUnitNotExistsException(documentUuid));
-    return mailService.getXmlPreview(documentationUnit);
+    return previewCache.get(
+        documentUuid,
+        documentationUnit.version(),
+        () -> mailService.getXmlPreview(documentationUnit));
+  }
+
+  /**
+   * Drop the stored preview of a saved or deleted documentation unit.
+   *
+   * @param event the event with the id of the changed documentation unit
+   */
+  @EventListener
+  public void onDocumentationUnitChanged(DocumentationUnitChangedEvent event) {
+    previewCache.evict(event.documentationUnitId());
   }
 
   /**
@@ -116,25 +149,55 @@ public class HandoverService {
    */
   public static String prettifyXml(String xml) {
     try {
-      Transformer transformer = TransformerFactory.newDefaultInstance().newTransformer();
-      transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-      transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
-
-      DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-      factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-      factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+      DocumentBuilder documentBuilder = DOCUMENT_BUILDER.get();
+      documentBuilder.reset();
       Node node =
-          factory
-              .newDocumentBuilder()
-              .parse(new ByteArrayInputStream(xml.getBytes()))
-              .getDocumentElement();
+          documentBuilder.parse(new ByteArrayInputStream(xml.getBytes())).getDocumentElement();
 
       StreamResult result = new StreamResult(new StringWriter());
-      transformer.transform(new DOMSource(node), result);
+      PRETTIFY_TRANSFORMER.get().transform(new DOMSource(node), result);
       return result.getWriter().toString();
 
-    } catch (TransformerException | IOException | ParserConfigurationException | SAXException e) {
+    } catch (TransformerException | IOException | SAXException | IllegalStateException e) {
+      // don't reuse a transformer or document builder in an unknown state
+      PRETTIFY_TRANSFORMER.remove();
+      DOCUMENT_BUILDER.remove();
       return "Could not prettify XML";
     }
   }
+
+  private static DocumentBuilderFactory createDocumentBuilderFactory() {
+    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    try {
+      factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+      factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+    } catch (ParserConfigurationException e) {
+      throw new IllegalStateException("Couldn't disable the external entities", e);
+    }
+    return factory;
+  }
+
+  private static DocumentBuilder createDocumentBuilder() {
+    try {
+      synchronized (DOCUMENT_BUILDER_FACTORY) {
+        return DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+      }
+    } catch (ParserConfigurationException e) {
+      throw new IllegalStateException("Couldn't create the document builder", e);
+    }
+  }
+
+  private static Transformer createPrettifyTransformer() {
+    try {
+      Transformer transformer;
+      synchronized (TRANSFORMER_FACTORY) {
+        transformer = TRANSFORMER_FACTORY.newTransformer();
+      }
+      transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+      transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
+      return transformer;
+    } catch (TransformerConfigurationException e) {
+      throw new IllegalStateException("Couldn't create the transformer", e);
+    }
+  }
 }
@@ -10,4 +10,27 @@ public interface HttpMailSender {
       String content,
       List<MailAttachment> mailAttachments,
       String tag);
+
+  /**
+   * Send a mail, which is sent at most once per idempotency key by the mail service. A mail service
+   * without support for idempotency keys sends the mail without the key.
+   *
+   * @param senderAddress the sender's email address
+   * @param receiverAddress the receiver's email address
+   * @param subject the email subject
+   * @param content the email content
+   * @param mailAttachments the email attachments
+   * @param tag the tag to assign to the email
+   * @param idempotencyKey key to recognize a repeated send of the same mail
+   */
+  default void sendMail(
+      String senderAddress,
+      String receiverAddress,
+      String subject,
+      String content,
+      List<MailAttachment> mailAttachments,
+      String tag,
+      String idempotencyKey) {
+    sendMail(senderAddress, receiverAddress, subject, content, mailAttachments, tag);
+  }
 }
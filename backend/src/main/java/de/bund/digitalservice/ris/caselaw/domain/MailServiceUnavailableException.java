@@ -0,0 +1,11 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+/**
+ * Exception thrown when a mail isn't sent, because the mail service is known to be unavailable
+ * (e.g. the circuit breaker is open). The mail wasn't passed to the mail service.
+ */
+public class MailServiceUnavailableException extends DocumentationUnitHandoverException {
+  public MailServiceUnavailableException(String message) {
+    super(message);
+  }
+}
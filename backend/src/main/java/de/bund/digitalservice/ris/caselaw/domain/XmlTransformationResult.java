@@ -14,7 +14,7 @@ import lombok.Builder;
  *     (<documentNumber>.xml)
  * @param creationDate the date when the documentation unit XML export was created
  */
-@Builder
+@Builder(toBuilder = true)
 public record XmlTransformationResult(
     String xml,
     boolean success,
@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,23 +18,19 @@ public class BorderNumber implements DocumentationUnitDocx {
   }
 
   @Override
-  public String toHtmlString() {
-    StringBuilder sb = new StringBuilder();
-
-    sb.append("<border-number>");
-    sb.append("<number>");
-    sb.append(number);
-    sb.append("</number>");
+  public void appendHtml(Appendable out) throws IOException {
+    out.append("<border-number>");
+    out.append("<number>");
+    out.append(number);
+    out.append("</number>");
     if (!children.isEmpty()) {
-      sb.append("<content>");
+      out.append("<content>");
       for (DocumentationUnitDocx child : children) {
-        sb.append(child.toHtmlString());
+        child.appendHtml(out);
       }
-      sb.append("</content>");
+      out.append("</content>");
     }
-    sb.append("</border-number>");
-
-    return sb.toString();
+    out.append("</border-number>");
   }
 
   public void addChild(DocumentationUnitDocx element) {
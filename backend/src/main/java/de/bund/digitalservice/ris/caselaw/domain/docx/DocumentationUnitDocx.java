@@ -2,8 +2,34 @@ package de.bund.digitalservice.ris.caselaw.domain.docx;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @JsonInclude(Include.NON_NULL)
 public interface DocumentationUnitDocx {
-  String toHtmlString();
+  /**
+   * Write the html of the element into the output. Elements with children write the html of their
+   * children into the same output, so the html of the whole element tree is written in one pass
+   * without intermediate strings.
+   *
+   * @param out output for the html, e.g. a {@link StringBuilder} or a {@link java.io.Writer}
+   * @throws IOException if the output couldn't be written
+   */
+  void appendHtml(Appendable out) throws IOException;
+
+  /**
+   * Get the html of the element.
+   *
+   * @return the html of the element and its children
+   */
+  default String toHtmlString() {
+    StringBuilder sb = new StringBuilder();
+    try {
+      appendHtml(sb);
+    } catch (IOException e) {
+      // a StringBuilder doesn't throw IOExceptions
+      throw new UncheckedIOException(e);
+    }
+    return sb.toString();
+  }
 }
@@ -1,5 +1,10 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum DocxMetadataProperty {
   FILE_NUMBER("Aktenzeichen"),
   DECISION_DATE("Entscheidungsdatum"),
@@ -14,6 +19,10 @@ public enum DocxMetadataProperty {
   PROCEDURE("Vorgang"),
   LEGAL_EFFECT("Rechtskraft");
 
+  private static final Map<String, DocxMetadataProperty> BY_KEY =
+      Arrays.stream(values())
+          .collect(Collectors.toUnmodifiableMap(DocxMetadataProperty::getKey, Function.identity()));
+
   private final String key;
 
   private DocxMetadataProperty(String key) {
@@ -25,11 +34,6 @@ public enum DocxMetadataProperty {
   }
 
   public static DocxMetadataProperty fromKey(String key) {
-    for (DocxMetadataProperty field : values()) {
-      if (field.getKey().equals(key)) {
-        return field;
-      }
-    }
-    return null;
+    return key == null ? null : BY_KEY.get(key);
   }
 }
@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import org.springframework.beans.factory.annotation.Value;
 
 public class ErrorElement implements DocumentationUnitDocx {
@@ -13,11 +14,11 @@ public class ErrorElement implements DocumentationUnitDocx {
   }
 
   @Override
-  public String toHtmlString() {
+  public void appendHtml(Appendable out) throws IOException {
     if (active) {
-      return "<p><span style=\"color: #FF0000;\">unknown element: " + name + "</span></p>";
-    } else {
-      return "";
+      out.append("<p><span style=\"color: #FF0000;\">unknown element: ")
+          .append(name)
+          .append("</span></p>");
     }
   }
 
@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import org.springframework.beans.factory.annotation.Value;
 
 public class ErrorRunElement extends ErrorElement implements RunElement {
@@ -11,11 +12,11 @@ public class ErrorRunElement extends ErrorElement implements RunElement {
   }
 
   @Override
-  public String toHtmlString() {
+  public void appendHtml(Appendable out) throws IOException {
     if (active) {
-      return "<span style=\"color: #FF0000;\">unknown run element: " + name + "</span>";
-    } else {
-      return "";
+      out.append("<span style=\"color: #FF0000;\">unknown run element: ")
+          .append(name)
+          .append("</span>");
     }
   }
 
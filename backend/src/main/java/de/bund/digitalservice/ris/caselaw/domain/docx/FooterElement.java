@@ -1,5 +1,7 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
+
 /** Footer element in the docx file */
 public class FooterElement extends ParagraphElement {
 
@@ -10,8 +12,8 @@ public class FooterElement extends ParagraphElement {
   }
 
   @Override
-  public String toHtmlString() {
-    return paragraph.toHtmlString();
+  public void appendHtml(Appendable out) throws IOException {
+    paragraph.appendHtml(out);
   }
 
   @Override
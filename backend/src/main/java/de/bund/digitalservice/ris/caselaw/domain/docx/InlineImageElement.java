@@ -1,10 +1,12 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
 import java.awt.Dimension;
+import java.io.IOException;
 
 public class InlineImageElement extends StyledElement implements RunElement {
   private String contentType;
   private String base64Representation;
+  private String src;
   private String alternateText;
   private Dimension size;
 
@@ -24,6 +26,20 @@ public class InlineImageElement extends StyledElement implements RunElement {
     this.base64Representation = base64Representation;
   }
 
+  public String getSrc() {
+    return src;
+  }
+
+  /**
+   * Set the url of the externally stored image. If set, the image is referenced by this url instead
+   * of inlining the base64 representation.
+   *
+   * @param src url of the image
+   */
+  public void setSrc(String src) {
+    this.src = src;
+  }
+
   public String getAlternateText() {
     return alternateText;
   }
@@ -41,28 +57,35 @@ public class InlineImageElement extends StyledElement implements RunElement {
   }
 
   @Override
-  public String toHtmlString() {
-    if (contentType == null || base64Representation == null) {
-      return "<span style=\"color: #FF0000;\">no image information</span>";
+  public void appendHtml(Appendable out) throws IOException {
+    if (src != null) {
+      out.append("<img src=\"").append(src).append("\"");
+    } else if (contentType != null && base64Representation != null) {
+      out.append("<img src=\"data:")
+          .append(contentType)
+          .append(";base64, ")
+          .append(base64Representation)
+          .append("\"");
+    } else {
+      out.append("<span style=\"color: #FF0000;\">no image information</span>");
+      return;
     }
 
-    String html =
-        "<img src=\"data:"
-            + contentType
-            + ";base64, "
-            + base64Representation
-            + "\""
-            + (alternateText != null ? " alt=\"" + alternateText + "\"" : "");
+    if (alternateText != null) {
+      out.append(" alt=\"").append(alternateText).append("\"");
+    }
 
     if (size != null) {
-      html += size.width > 0 ? " width=\"" + size.width + "\"" : "";
-      html += size.height > 0 ? " height=\"" + size.height + "\"" : "";
+      if (size.width > 0) {
+        out.append(" width=\"").append(String.valueOf(size.width)).append("\"");
+      }
+      if (size.height > 0) {
+        out.append(" height=\"").append(String.valueOf(size.height)).append("\"");
+      }
     }
 
-    html += super.getStyleString();
-
-    html += " />";
+    out.append(super.getStyleString());
 
-    return html;
+    out.append(" />");
   }
 }
@@ -12,8 +12,8 @@ public class MetadataProperty implements DocumentationUnitDocx {
   }
 
   @Override
-  public String toHtmlString() {
-    return null;
+  public void appendHtml(Appendable out) {
+    // the properties are returned separately from the html
   }
 
   public DocxMetadataProperty getKey() {
@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -26,61 +27,58 @@ public class NumberingList implements DocumentationUnitDocx {
   }
 
   @Override
-  public String toHtmlString() {
-    StringBuilder sb = new StringBuilder();
+  public void appendHtml(Appendable out) throws IOException {
     LinkedList<String> closeTags = new LinkedList<>();
-    int[] cLvl = {-1};
+    int cLvl = -1;
     List<DocumentationUnitNumberingListNumberFormat> currentNumberFormat = new ArrayList<>();
 
-    entries.forEach(
-        entry -> {
-          /*Get level of list entry*/
-          int lvl = stringToInt(entry.numberingListEntryIndex().iLvl(), 0);
-
-          /*Open new List if change number format at lv 0*/
-          if (shouldCreateNewList(
-              cLvl[0], lvl, currentNumberFormat, entry.numberingListEntryIndex().numberFormat())) {
-            while (!closeTags.isEmpty()) {
-              sb.append(closeTags.removeFirst());
-            }
-            sb.append(getOpenListTag(entry.numberingListEntryIndex()));
-            closeTags.addFirst(getCloseListTag(entry.numberingListEntryIndex().numberFormat()));
-            cLvl[0] = lvl;
-          }
-
-          /* Open list/sub-list Tag*/
-          while (lvl > cLvl[0]) {
-            sb.append(getOpenListTag(entry.numberingListEntryIndex()));
-            closeTags.addFirst(getCloseListTag(entry.numberingListEntryIndex().numberFormat()));
-            cLvl[0]++;
-          }
-
-          /* Close list/sub-list Tag*/
-          while (lvl < cLvl[0]) {
-            sb.append(closeTags.removeFirst());
-            cLvl[0]--;
-          }
-
-          if (entry.numberingListEntryIndex().isLgl()) {
-            sb.append("<li style=\"list-style-type:decimal\">")
-                .append(entry.toHtmlString())
-                .append("</li>");
-          } else {
-            sb.append("<li>").append(entry.toHtmlString()).append("</li>");
-          }
-
-          if (!currentNumberFormat.isEmpty()) {
-            currentNumberFormat.remove(0);
-          }
-          currentNumberFormat.add(entry.numberingListEntryIndex().numberFormat());
-          cLvl[0] = lvl;
-        });
+    for (NumberingListEntry entry : entries) {
+      /*Get level of list entry*/
+      int lvl = stringToInt(entry.numberingListEntryIndex().iLvl(), 0);
+
+      /*Open new List if change number format at lv 0*/
+      if (shouldCreateNewList(
+          cLvl, lvl, currentNumberFormat, entry.numberingListEntryIndex().numberFormat())) {
+        while (!closeTags.isEmpty()) {
+          out.append(closeTags.removeFirst());
+        }
+        out.append(getOpenListTag(entry.numberingListEntryIndex()));
+        closeTags.addFirst(getCloseListTag(entry.numberingListEntryIndex().numberFormat()));
+        cLvl = lvl;
+      }
+
+      /* Open list/sub-list Tag*/
+      while (lvl > cLvl) {
+        out.append(getOpenListTag(entry.numberingListEntryIndex()));
+        closeTags.addFirst(getCloseListTag(entry.numberingListEntryIndex().numberFormat()));
+        cLvl++;
+      }
+
+      /* Close list/sub-list Tag*/
+      while (lvl < cLvl) {
+        out.append(closeTags.removeFirst());
+        cLvl--;
+      }
+
+      if (entry.numberingListEntryIndex().isLgl()) {
+        out.append("<li style=\"list-style-type:decimal\">");
+      } else {
+        out.append("<li>");
+      }
+      entry.appendHtml(out);
+      out.append("</li>");
+
+      if (!currentNumberFormat.isEmpty()) {
+        currentNumberFormat.remove(0);
+      }
+      currentNumberFormat.add(entry.numberingListEntryIndex().numberFormat());
+      cLvl = lvl;
+    }
 
     /* Close all list/sub-list tag when last element*/
     while (!closeTags.isEmpty()) {
-      sb.append(closeTags.removeFirst());
+      out.append(closeTags.removeFirst());
     }
-    return sb.toString();
   }
 
   public enum DocumentationUnitNumberingListNumberFormat {
@@ -1,10 +1,12 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
+
 public record NumberingListEntry(
     DocumentationUnitDocx paragraphElement, NumberingListEntryIndex numberingListEntryIndex)
     implements DocumentationUnitDocx {
   @Override
-  public String toHtmlString() {
-    return paragraphElement.toHtmlString();
+  public void appendHtml(Appendable out) throws IOException {
+    paragraphElement.appendHtml(out);
   }
 }
@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,21 +29,19 @@ public class ParagraphElement extends TextElement {
   }
 
   @Override
-  public String toHtmlString() {
-    StringBuilder sb = new StringBuilder("<p");
+  public void appendHtml(Appendable out) throws IOException {
+    out.append("<p");
 
     if (clearfix) {
-      sb.append(" class=\"clearfix\"");
+      out.append(" class=\"clearfix\"");
     }
-    sb.append(getStyleString());
-    sb.append(">");
+    out.append(getStyleString());
+    out.append(">");
 
     for (RunElement element : runElements) {
-      sb.append(element.toHtmlString());
+      element.appendHtml(out);
     }
-    sb.append("</p>");
-
-    return sb.toString();
+    out.append("</p>");
   }
 
   public String getText() {
@@ -1,9 +1,11 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
+
 public class RunTabElement extends TextElement implements RunElement {
   @Override
-  public String toHtmlString() {
-    return "&nbsp;&nbsp;&nbsp;&nbsp;";
+  public void appendHtml(Appendable out) throws IOException {
+    out.append("&nbsp;&nbsp;&nbsp;&nbsp;");
   }
 
   @Override
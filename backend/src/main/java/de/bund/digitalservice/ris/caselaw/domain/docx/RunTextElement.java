@@ -1,5 +1,7 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
+
 public class RunTextElement extends TextElement implements RunElement {
   private String text;
 
@@ -12,23 +14,19 @@ public class RunTextElement extends TextElement implements RunElement {
   }
 
   @Override
-  public String toHtmlString() {
-    StringBuilder sb = new StringBuilder();
-
+  public void appendHtml(Appendable out) throws IOException {
     boolean hasStyle = hasStyle();
     if (hasStyle) {
-      sb.append("<span");
-      sb.append(getStyleString());
-      sb.append(">");
+      out.append("<span");
+      out.append(getStyleString());
+      out.append(">");
     }
 
-    sb.append(text);
+    out.append(text);
 
     if (hasStyle) {
-      sb.append("</span>");
+      out.append("</span>");
     }
-
-    return sb.toString();
   }
 
   @Override
@@ -1,7 +1,7 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class TableCellElement extends BlockElement implements DocumentationUnitDocx {
   public final List<DocumentationUnitDocx> paragraphElements;
@@ -28,15 +28,11 @@ public class TableCellElement extends BlockElement implements DocumentationUnitD
   }
 
   @Override
-  public String toHtmlString() {
-
-    return "<td"
-        + columnSpanToHtmlString()
-        + super.getStyleString()
-        + ">"
-        + paragraphElements.stream()
-            .map(DocumentationUnitDocx::toHtmlString)
-            .collect(Collectors.joining())
-        + "</td>";
+  public void appendHtml(Appendable out) throws IOException {
+    out.append("<td").append(columnSpanToHtmlString()).append(super.getStyleString()).append(">");
+    for (DocumentationUnitDocx paragraphElement : paragraphElements) {
+      paragraphElement.appendHtml(out);
+    }
+    out.append("</td>");
   }
 }
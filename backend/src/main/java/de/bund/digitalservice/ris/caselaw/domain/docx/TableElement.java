@@ -1,7 +1,7 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class TableElement extends BlockElement implements DocumentationUnitDocx {
   public final List<TableRowElement> rows;
@@ -12,11 +12,11 @@ public class TableElement extends BlockElement implements DocumentationUnitDocx
   }
 
   @Override
-  public String toHtmlString() {
-    return "<table"
-        + super.getStyleString()
-        + ">"
-        + rows.stream().map(TableRowElement::toHtmlString).collect(Collectors.joining())
-        + "</table>";
+  public void appendHtml(Appendable out) throws IOException {
+    out.append("<table").append(super.getStyleString()).append(">");
+    for (TableRowElement row : rows) {
+      row.appendHtml(out);
+    }
+    out.append("</table>");
   }
 }
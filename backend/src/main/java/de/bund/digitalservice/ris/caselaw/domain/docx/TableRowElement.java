@@ -1,12 +1,15 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public record TableRowElement(List<TableCellElement> cells) implements DocumentationUnitDocx {
-  public String toHtmlString() {
-    return "<tr>"
-        + cells.stream().map(TableCellElement::toHtmlString).collect(Collectors.joining())
-        + "</tr>";
+  @Override
+  public void appendHtml(Appendable out) throws IOException {
+    out.append("<tr>");
+    for (TableCellElement cell : cells) {
+      cell.appendHtml(out);
+    }
+    out.append("</tr>");
   }
 }
@@ -4,14 +4,17 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 
 public abstract class TextElement extends StyledElement implements DocumentationUnitDocx {
-  private static final DecimalFormat DECIMAL_FORMATTER;
+  // DecimalFormat isn't thread safe, but docx files are converted in parallel
+  private static final ThreadLocal<DecimalFormat> DECIMAL_FORMATTER =
+      ThreadLocal.withInitial(TextElement::createDecimalFormatter);
 
-  static {
-    DECIMAL_FORMATTER = new DecimalFormat();
+  private static DecimalFormat createDecimalFormatter() {
+    DecimalFormat decimalFormatter = new DecimalFormat();
     DecimalFormatSymbols formatSymbol = DecimalFormatSymbols.getInstance();
     formatSymbol.setDecimalSeparator('.');
-    DECIMAL_FORMATTER.setDecimalFormatSymbols(formatSymbol);
-    DECIMAL_FORMATTER.setMaximumFractionDigits(2);
+    decimalFormatter.setDecimalFormatSymbols(formatSymbol);
+    decimalFormatter.setMaximumFractionDigits(2);
+    return decimalFormatter;
   }
 
   public void setBold(boolean bold) {
@@ -27,7 +30,7 @@ public abstract class TextElement extends StyledElement implements Documentation
   }
 
   public void setSize(Integer size) {
-    addStyle("font-size", DECIMAL_FORMATTER.format(size / 2.0f) + "pt");
+    addStyle("font-size", DECIMAL_FORMATTER.get().format(size / 2.0f) + "pt");
   }
 
   public void setUnderline(String underline) {
@@ -18,18 +18,19 @@ public interface PatchMapperService {
   JsonPatch calculatePatch(UUID uuid, Long documentationUnitVersion);
 
   /**
-   * Handle operations which are in both patch. Remove all operation with the same path from the
-   * first patch. Add the path in the error path list. Special cases add and remove operations:
-   *
-   * <ol>
-   *   <li>Add operation: Generate a remove operation for this path
-   *   <li>Remove operation: Generate a add operation for this path with the value of the existing
-   *       documentation unit
-   * </ol>
+   * Handle operations which are in both patch. Operations conflict if their paths are equal or one
+   * path is an ancestor of the other. Add the path of the conflicting client operation in the error
+   * path list and revert it in the client at the path where it is in the client document. The
+   * backend operations are rebased on the non conflicting client operations (array indices). If a
+   * conflict can't be reverted without the old value, the whole conflicting subtree is replaced by
+   * the value of the server. Applying the result to the client document leads to the saved
+   * documentation unit.
    *
    * @param existingDocumentationUnit documentation unit in the database before the patch is applied
-   * @param patch1 calculated patch for the client (frontend)
-   * @param patch2 patch with operations which doesn't exist in the client (frontend)
+   * @param patch1 calculated patch for the client (frontend), based on the patched documentation
+   *     unit
+   * @param patch2 patch of the client (frontend)
+   * @param patch3 patch with operations which doesn't exist in the client (frontend)
    * @return extended JsonPatch {@link RisJsonPatch} with version information and error paths
    */
   RisJsonPatch handlePatchForSamePath(
@@ -69,11 +70,14 @@ public interface PatchMapperService {
   JsonPatch getDiffPatch(DocumentationUnit existed, DocumentationUnit updated);
 
   /**
-   * Generate a patch without operation on the same path
+   * Generate a patch without operations which conflict with the operations of the second patch.
+   * Operations conflict if their paths are equal or one path is an ancestor of the other. The
+   * remaining operations are rebased to be applied after the second patch, e.g. an array index is
+   * decreased if the second patch removed an element in front of it.
    *
    * @param patch1 patch to remove operations
-   * @param patch2 patch to check for same path
-   * @return new patch without operation on the same path
+   * @param patch2 patch to check for conflicting paths
+   * @return new patch without conflicting operations
    */
   JsonPatch removePatchForSamePath(JsonPatch patch1, JsonPatch patch2);
 
@@ -0,0 +1,27 @@
+CREATE TABLE IF NOT EXISTS
+  bulk_handover_job (
+    id UUID NOT NULL,
+    documentation_office_id UUID NOT NULL,
+    issuer_address VARCHAR(255),
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id)
+  );
+
+CREATE INDEX IF NOT EXISTS
+  bulk_handover_job_status_created_at_idx ON bulk_handover_job (status, created_at);
+
+CREATE TABLE IF NOT EXISTS
+  bulk_handover_job_item (
+    id UUID NOT NULL,
+    job_id UUID NOT NULL REFERENCES bulk_handover_job (id) ON DELETE CASCADE,
+    rank INTEGER NOT NULL,
+    documentation_unit_id UUID NOT NULL,
+    document_number VARCHAR(255),
+    status VARCHAR(20) NOT NULL,
+    status_messages TEXT[],
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (job_id, documentation_unit_id)
+  );
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS
+  docx_conversion_job (
+    id UUID NOT NULL,
+    documentation_unit_id UUID NOT NULL,
+    s3_object_path VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    result TEXT,
+    error_message TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id)
+  );
+
+CREATE INDEX IF NOT EXISTS
+  docx_conversion_job_status_created_at_idx ON docx_conversion_job (status, created_at);
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS
+  handover_mail_outbox (
+    id UUID NOT NULL,
+    handover_mail_id UUID NOT NULL REFERENCES handover_mail (id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    error_message TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id)
+  );
+
+CREATE INDEX IF NOT EXISTS
+  handover_mail_outbox_status_next_attempt_at_idx ON handover_mail_outbox (status, next_attempt_at);
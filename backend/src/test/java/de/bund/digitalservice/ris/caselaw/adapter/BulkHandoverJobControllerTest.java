@@ -0,0 +1,121 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static de.bund.digitalservice.ris.caselaw.AuthUtils.buildDSDocOffice;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.DocumentationUnitControllerTestConfig;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseApiKeyRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationOfficeRepository;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJob;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJobService;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJobStatus;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverRequest;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOfficeUserGroupService;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitHandoverException;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitService;
+import de.bund.digitalservice.ris.caselaw.domain.ProcedureService;
+import de.bund.digitalservice.ris.caselaw.domain.UserService;
+import de.bund.digitalservice.ris.caselaw.domain.mapper.PatchMapperService;
+import de.bund.digitalservice.ris.caselaw.webtestclient.RisWebTestClient;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(controllers = BulkHandoverJobController.class)
+@Import({DocumentationUnitControllerTestConfig.class})
+class BulkHandoverJobControllerTest {
+  @Autowired private RisWebTestClient risWebClient;
+  @MockBean private BulkHandoverJobService jobService;
+  @MockBean private DocumentationUnitService documentationUnitService;
+  @MockBean private UserService userService;
+  @MockBean private ClientRegistrationRepository clientRegistrationRepository;
+  @MockBean private DatabaseApiKeyRepository apiKeyRepository;
+  @MockBean private DatabaseDocumentationOfficeRepository officeRepository;
+  @MockBean private PatchMapperService patchMapperService;
+  @MockBean private ProcedureService procedureService;
+  @MockBean private DocumentationOfficeUserGroupService documentationOfficeUserGroupService;
+
+  private static final UUID TEST_UUID = UUID.fromString("88888888-4444-4444-4444-121212121212");
+  private static final UUID JOB_ID = UUID.fromString("99999999-4444-4444-4444-121212121212");
+
+  @BeforeEach
+  void setup() {
+    doReturn(buildDSDocOffice()).when(userService).getDocumentationOffice(any());
+    doReturn(true).when(userService).isInternal(any());
+  }
+
+  @Test
+  void testCreateBulkHandoverJob_shouldReturnAcceptedWithJobLocation() {
+    var request = new BulkHandoverRequest(List.of(TEST_UUID), null);
+    when(jobService.createJob(any(), any()))
+        .thenReturn(
+            BulkHandoverJob.builder()
+                .id(JOB_ID)
+                .status(BulkHandoverJobStatus.PENDING)
+                .items(List.of())
+                .build());
+
+    risWebClient
+        .withDefaultLogin()
+        .post()
+        .uri("/api/v1/caselaw/documentunits/handover/jobs")
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isAccepted()
+        .expectHeader()
+        .valueEquals("Location", "/api/v1/caselaw/documentunits/handover/jobs/" + JOB_ID)
+        .expectBody(BulkHandoverJob.class)
+        .consumeWith(
+            response -> {
+              assertThat(response.getResponseBody()).isNotNull();
+              assertThat(response.getResponseBody().id()).isEqualTo(JOB_ID);
+              assertThat(response.getResponseBody().status())
+                  .isEqualTo(BulkHandoverJobStatus.PENDING);
+            });
+
+    verify(jobService).createJob(any(), any());
+  }
+
+  @Test
+  void testCreateBulkHandoverJob_withoutDocumentationUnits_shouldReturnBadRequest() {
+    when(jobService.createJob(any(), any()))
+        .thenThrow(new DocumentationUnitHandoverException("No documentation units selected."));
+
+    risWebClient
+        .withDefaultLogin()
+        .post()
+        .uri("/api/v1/caselaw/documentunits/handover/jobs")
+        .bodyValue(new BulkHandoverRequest(List.of(), null))
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+  }
+
+  @Test
+  void testGetBulkHandoverJob_withUnknownJob_shouldReturnNotFound() {
+    when(jobService.getJob(any(), any())).thenReturn(Optional.empty());
+
+    risWebClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/documentunits/handover/jobs/" + JOB_ID)
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+  }
+}
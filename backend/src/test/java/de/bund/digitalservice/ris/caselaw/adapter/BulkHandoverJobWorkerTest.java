@@ -0,0 +1,180 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverItem;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverItemStatus;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJob;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJobService;
+import de.bund.digitalservice.ris.caselaw.domain.BulkHandoverJobStatus;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMail;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverService;
+import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BulkHandoverJobWorkerTest {
+  private BulkHandoverJobService jobService;
+  private HandoverService handoverService;
+  private BulkHandoverJobWorker worker;
+
+  @BeforeEach
+  void setUp() {
+    jobService = mock(BulkHandoverJobService.class);
+    handoverService = mock(HandoverService.class);
+    when(jobService.finishJob(any())).thenReturn(true);
+    worker =
+        new BulkHandoverJobWorker(jobService, handoverService, 1, 2, 2, 0, Duration.ofSeconds(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    worker.destroy();
+  }
+
+  @Test
+  void testProcessJobs_shouldHandOverAllPendingUnitsInBatches() throws Exception {
+    var first = item(BulkHandoverItemStatus.PENDING);
+    var second = item(BulkHandoverItemStatus.PENDING);
+    var third = item(BulkHandoverItemStatus.PENDING);
+    var done = item(BulkHandoverItemStatus.ENQUEUED);
+    var job = runningJob(first, done, second, third);
+    var handoverMail = HandoverMail.builder().success(true).build();
+    when(jobService.claimNextJob()).thenReturn(Optional.of(job), Optional.empty());
+    when(handoverService.handoverAsMail(any(), eq("test@example.com"))).thenReturn(handoverMail);
+
+    worker.processJobs();
+
+    verify(jobService, timeout(5000)).finishJob(job);
+    verify(jobService).completeItem(job, first, handoverMail);
+    verify(jobService).completeItem(job, second, handoverMail);
+    verify(jobService).completeItem(job, third, handoverMail);
+    verify(handoverService, never()).handoverAsMail(eq(done.documentationUnitId()), any());
+  }
+
+  @Test
+  void testProcessJobs_withFailedHandover_shouldFailUnitAndContinue() throws Exception {
+    var missing = item(BulkHandoverItemStatus.PENDING);
+    var broken = item(BulkHandoverItemStatus.PENDING);
+    var valid = item(BulkHandoverItemStatus.PENDING);
+    var job = runningJob(missing, broken, valid);
+    var handoverMail = HandoverMail.builder().success(true).build();
+    when(jobService.claimNextJob()).thenReturn(Optional.of(job), Optional.empty());
+    when(handoverService.handoverAsMail(eq(missing.documentationUnitId()), any()))
+        .thenThrow(new DocumentationUnitNotExistsException());
+    when(handoverService.handoverAsMail(eq(broken.documentationUnitId()), any()))
+        .thenThrow(new IllegalStateException("broken"));
+    when(handoverService.handoverAsMail(eq(valid.documentationUnitId()), any()))
+        .thenReturn(handoverMail);
+
+    worker.processJobs();
+
+    verify(jobService, timeout(5000)).finishJob(job);
+    verify(jobService).failItem(job, missing, "Documentation unit does not exist");
+    verify(jobService).failItem(job, broken, "broken");
+    verify(jobService).completeItem(job, valid, handoverMail);
+  }
+
+  @Test
+  void testProcessJobs_withRunningJob_shouldNotClaimMoreJobs() throws Exception {
+    var job = runningJob(item(BulkHandoverItemStatus.PENDING));
+    when(jobService.claimNextJob()).thenReturn(Optional.of(job));
+    when(handoverService.handoverAsMail(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(200);
+              return HandoverMail.builder().success(true).build();
+            });
+
+    worker.processJobs();
+
+    verify(jobService).claimNextJob();
+    verify(jobService, timeout(5000)).finishJob(job);
+  }
+
+  @Test
+  void testDestroy_withRunningJob_shouldKeepUnitsPendingAndReleaseTheJob() throws Exception {
+    // the second documentation unit waits a minute for its mail slot
+    worker.destroy();
+    worker =
+        new BulkHandoverJobWorker(jobService, handoverService, 1, 2, 2, 1, Duration.ofSeconds(5));
+    var first = item(BulkHandoverItemStatus.PENDING);
+    var second = item(BulkHandoverItemStatus.PENDING);
+    var job = runningJob(first, second);
+    var handoverMail = HandoverMail.builder().success(true).build();
+    when(jobService.claimNextJob()).thenReturn(Optional.of(job), Optional.empty());
+    when(handoverService.handoverAsMail(any(), any())).thenReturn(handoverMail);
+
+    worker.processJobs();
+    verify(jobService, timeout(5000)).completeItem(eq(job), any(), eq(handoverMail));
+    worker.destroy();
+
+    verify(jobService).releaseJobs(Set.of(job.id()));
+    verify(jobService, times(1)).completeItem(any(), any(), any());
+    verify(jobService, never()).failItem(any(), any(), any());
+    verify(jobService, never()).finishJob(job);
+  }
+
+  @Test
+  void testProcessJobs_withMailsPerMinute_shouldSpaceTheHandovers() throws Exception {
+    // 600 mails per minute are one mail every 100 ms
+    worker.destroy();
+    worker =
+        new BulkHandoverJobWorker(jobService, handoverService, 1, 3, 3, 600, Duration.ofSeconds(5));
+    var job =
+        runningJob(
+            item(BulkHandoverItemStatus.PENDING),
+            item(BulkHandoverItemStatus.PENDING),
+            item(BulkHandoverItemStatus.PENDING));
+    List<Long> handoverTimes = new CopyOnWriteArrayList<>();
+    when(jobService.claimNextJob()).thenReturn(Optional.of(job), Optional.empty());
+    when(handoverService.handoverAsMail(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              handoverTimes.add(System.nanoTime());
+              return HandoverMail.builder().success(true).build();
+            });
+    long start = System.nanoTime();
+
+    worker.processJobs();
+
+    verify(jobService, timeout(5000)).finishJob(job);
+    List<Long> sortedTimes = handoverTimes.stream().sorted().toList();
+    assertThat(sortedTimes).hasSize(3);
+    for (int i = 0; i < sortedTimes.size(); i++) {
+      assertThat(sortedTimes.get(i) - start).isGreaterThanOrEqualTo(i * 100_000_000L);
+    }
+  }
+
+  private static BulkHandoverJob runningJob(BulkHandoverItem... items) {
+    return BulkHandoverJob.builder()
+        .id(UUID.randomUUID())
+        .issuerAddress("test@example.com")
+        .status(BulkHandoverJobStatus.RUNNING)
+        .items(List.of(items))
+        .build();
+  }
+
+  private static BulkHandoverItem item(BulkHandoverItemStatus status) {
+    return BulkHandoverItem.builder()
+        .documentationUnitId(UUID.randomUUID())
+        .status(status)
+        .statusMessages(List.of())
+        .build();
+  }
+}
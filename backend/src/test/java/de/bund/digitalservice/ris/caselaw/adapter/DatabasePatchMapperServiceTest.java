@@ -0,0 +1,183 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.gravity9.jsonpatch.AddOperation;
+import com.gravity9.jsonpatch.JsonPatch;
+import com.gravity9.jsonpatch.JsonPatchOperation;
+import com.gravity9.jsonpatch.RemoveOperation;
+import com.gravity9.jsonpatch.ReplaceOperation;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitPatchRepository;
+import de.bund.digitalservice.ris.caselaw.config.ConverterConfig;
+import de.bund.digitalservice.ris.caselaw.domain.CoreData;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
+import de.bund.digitalservice.ris.caselaw.domain.RisJsonPatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class DatabasePatchMapperServiceTest {
+  private static final ObjectMapper objectMapper = new ConverterConfig().objectMapper();
+
+  private final DatabasePatchMapperService service =
+      new DatabasePatchMapperService(
+          objectMapper, mock(DatabaseDocumentationUnitPatchRepository.class));
+
+  @Test
+  void testHandlePatchForSamePath_withReplacedListInClientAndChangedElementOnServer() {
+    DocumentationUnit base = documentationUnit(List.of("a", "b", "c"));
+
+    RisJsonPatch toFrontend =
+        assertClientConvergesToServer(
+            base,
+            List.of(new ReplaceOperation("/coreData/fileNumbers", objectMapper.createArrayNode())),
+            List.of(new ReplaceOperation("/coreData/fileNumbers/1", new TextNode("server"))));
+
+    assertThat(toFrontend.errorPaths()).containsExactly("/coreData/fileNumbers");
+  }
+
+  @Test
+  void testHandlePatchForSamePath_withChangedElementInClientAndReplacedListOnServer() {
+    DocumentationUnit base = documentationUnit(List.of("a", "b", "c"));
+
+    RisJsonPatch toFrontend =
+        assertClientConvergesToServer(
+            base,
+            List.of(new ReplaceOperation("/coreData/fileNumbers/1", new TextNode("client"))),
+            List.of(
+                new ReplaceOperation(
+                    "/coreData/fileNumbers", objectMapper.createArrayNode().add("server"))));
+
+    assertThat(toFrontend.errorPaths()).containsExactly("/coreData/fileNumbers/1");
+  }
+
+  @Test
+  void testHandlePatchForSamePath_withRemovedElementOnBothSidesAndShiftedClientPath() {
+    DocumentationUnit base = documentationUnit(List.of("a", "b", "c"));
+
+    RisJsonPatch toFrontend =
+        assertClientConvergesToServer(
+            base,
+            List.of(
+                new RemoveOperation("/coreData/fileNumbers/2"),
+                new AddOperation("/coreData/fileNumbers/0", new TextNode("client"))),
+            List.of(new RemoveOperation("/coreData/fileNumbers/2")));
+
+    assertThat(toFrontend.errorPaths()).containsExactly("/coreData/fileNumbers/2");
+  }
+
+  @Test
+  void testHandlePatchForSamePath_withSameEcli_shouldSendServerValue() {
+    DocumentationUnit base = documentationUnit(List.of());
+
+    RisJsonPatch toFrontend =
+        assertClientConvergesToServer(
+            base,
+            List.of(new ReplaceOperation("/coreData/ecli", new TextNode("client"))),
+            List.of(new ReplaceOperation("/coreData/ecli", new TextNode("server"))));
+
+    assertThat(toFrontend.patch().getOperations())
+        .extracting(JsonPatchOperation::getOp, JsonPatchOperation::getPath)
+        .containsExactly(
+            tuple("replace", "/coreData/ecli"), tuple("add", "/coreData/fileNumbers/-"));
+    assertThat(toFrontend.errorPaths()).containsExactly("/coreData/ecli");
+  }
+
+  static LongStream seeds() {
+    return LongStream.range(0, 300);
+  }
+
+  /**
+   * Property: after the client applied the returned patch to its documentation unit, it is equal to
+   * the documentation unit saved on the server.
+   */
+  @ParameterizedTest
+  @MethodSource("seeds")
+  void testHandlePatchForSamePath_withRandomConcurrentPatches_shouldConverge(long seed) {
+    Random random = new Random(seed);
+    List<String> fileNumbers = new ArrayList<>();
+    for (int i = random.nextInt(4); i > 0; i--) {
+      fileNumbers.add("base" + i);
+    }
+    DocumentationUnit base = documentationUnit(fileNumbers);
+
+    assertClientConvergesToServer(base, generatePatch(random, base), generatePatch(random, base));
+  }
+
+  /**
+   * Run the update of the documentation unit like the documentation unit service: the server
+   * applies the non conflicting client operations and adds a generated file number, the client
+   * applies the returned patch.
+   */
+  private RisJsonPatch assertClientConvergesToServer(
+      DocumentationUnit base,
+      List<JsonPatchOperation> clientOperations,
+      List<JsonPatchOperation> serverOperations) {
+    JsonPatch clientPatch = new JsonPatch(clientOperations);
+    JsonPatch serverPatch = new JsonPatch(serverOperations);
+    DocumentationUnit existing = service.applyPatchToEntity(serverPatch, base);
+
+    JsonPatch toUpdate = service.removePatchForSamePath(clientPatch, serverPatch);
+    DocumentationUnit patched = service.applyPatchToEntity(toUpdate, existing);
+    List<String> savedFileNumbers = new ArrayList<>(patched.coreData().fileNumbers());
+    savedFileNumbers.add("generated");
+    DocumentationUnit saved =
+        patched.toBuilder()
+            .coreData(patched.coreData().toBuilder().fileNumbers(savedFileNumbers).build())
+            .build();
+    JsonPatch generated = service.getDiffPatch(patched, saved);
+
+    RisJsonPatch toFrontend =
+        service.handlePatchForSamePath(existing, generated, clientPatch, serverPatch);
+
+    DocumentationUnit client = service.applyPatchToEntity(clientPatch, base);
+    assertThat(service.applyPatchToEntity(toFrontend.patch(), client))
+        .as("client %s, server %s, to frontend %s", clientPatch, serverPatch, toFrontend.patch())
+        .isEqualTo(saved);
+    return toFrontend;
+  }
+
+  private static DocumentationUnit documentationUnit(List<String> fileNumbers) {
+    return DocumentationUnit.builder()
+        .uuid(UUID.fromString("88888888-4444-4444-4444-121212121212"))
+        .coreData(CoreData.builder().fileNumbers(fileNumbers).ecli("base").build())
+        .build();
+  }
+
+  /** Generate a valid sequence of operations for the documentation unit. */
+  private List<JsonPatchOperation> generatePatch(Random random, DocumentationUnit base) {
+    List<JsonPatchOperation> operations = new ArrayList<>();
+    DocumentationUnit current = base;
+    for (int i = 1 + random.nextInt(3); i > 0; i--) {
+      JsonPatchOperation operation =
+          generateOperation(random, current.coreData().fileNumbers().size());
+      current = service.applyPatchToEntity(new JsonPatch(List.of(operation)), current);
+      operations.add(operation);
+    }
+    return operations;
+  }
+
+  private static JsonPatchOperation generateOperation(Random random, int size) {
+    TextNode value = new TextNode("value" + random.nextInt(1000));
+    String fileNumbers = "/coreData/fileNumbers";
+    int choice = random.nextInt(size == 0 ? 3 : 7);
+
+    return switch (choice) {
+      case 0 -> new ReplaceOperation("/coreData/ecli", value);
+      case 1 -> new ReplaceOperation(
+          fileNumbers, objectMapper.createArrayNode().add(value).add("other"));
+      case 2 -> new AddOperation(fileNumbers + "/" + random.nextInt(size + 1), value);
+      case 3, 4 -> new RemoveOperation(fileNumbers + "/" + random.nextInt(size));
+      default -> new ReplaceOperation(fileNumbers + "/" + random.nextInt(size), value);
+    };
+  }
+}
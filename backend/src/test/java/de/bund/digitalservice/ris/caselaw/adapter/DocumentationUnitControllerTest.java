@@ -18,6 +18,7 @@ import com.gravity9.jsonpatch.JsonPatch;
 import com.gravity9.jsonpatch.JsonPatchOperation;
 import com.gravity9.jsonpatch.ReplaceOperation;
 import de.bund.digitalservice.ris.caselaw.DocumentationUnitControllerTestConfig;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConversionRejectedException;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseApiKeyRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationOfficeRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationOfficeDTO;
@@ -29,6 +30,7 @@ import de.bund.digitalservice.ris.caselaw.domain.CoreData;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOfficeUserGroupService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessDescriptor;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitDocxMetadataInitializationService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.EventRecord;
@@ -43,12 +45,14 @@ import de.bund.digitalservice.ris.caselaw.domain.XmlTransformationResult;
 import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
 import de.bund.digitalservice.ris.caselaw.domain.mapper.PatchMapperService;
 import de.bund.digitalservice.ris.caselaw.webtestclient.RisWebTestClient;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -59,6 +63,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
@@ -106,6 +111,12 @@ class DocumentationUnitControllerTest {
             DocumentationUnit.builder()
                 .coreData(CoreData.builder().documentationOffice(docOffice).build())
                 .build());
+    when(service.getAccessDescriptorByUuid(TEST_UUID))
+        .thenReturn(
+            DocumentationUnitAccessDescriptor.builder()
+                .uuid(TEST_UUID)
+                .documentationOffice(docOffice)
+                .build());
   }
 
   @Test
@@ -154,6 +165,12 @@ class DocumentationUnitControllerTest {
             DocumentationUnit.builder()
                 .coreData(CoreData.builder().documentationOffice(docOffice).build())
                 .build());
+    when(service.getAccessDescriptorByDocumentNumber("ABCD202200001"))
+        .thenReturn(
+            DocumentationUnitAccessDescriptor.builder()
+                .documentNumber("ABCD202200001")
+                .documentationOffice(docOffice)
+                .build());
 
     risWebClient
         .withDefaultLogin()
@@ -164,8 +181,9 @@ class DocumentationUnitControllerTest {
         .isOk()
         .expectBody(DocumentationUnit.class);
 
-    // once by the AuthService and once by the controller asking the service
-    verify(service, times(2)).getByDocumentNumber("ABCD202200001");
+    // the AuthService only loads the access descriptor
+    verify(service).getAccessDescriptorByDocumentNumber("ABCD202200001");
+    verify(service).getByDocumentNumber("ABCD202200001");
   }
 
   @Test
@@ -546,8 +564,32 @@ class DocumentationUnitControllerTest {
         .expectStatus()
         .isOk();
 
-    // once by the AuthService and once by the controller asking the service
-    verify(service, times(2)).getByUuid(TEST_UUID);
+    // the AuthService only loads the access descriptor
+    verify(service).getAccessDescriptorByUuid(TEST_UUID);
+    verify(service).getByUuid(TEST_UUID);
     verify(docxConverterService).getConvertedObject("123");
   }
+
+  @Test
+  void testGetHtml_withBusyConversionWorkers_shouldReturnServiceUnavailable() {
+    when(service.getByUuid(TEST_UUID))
+        .thenReturn(
+            DocumentationUnit.builder()
+                .coreData(CoreData.builder().documentationOffice(docOffice).build())
+                .build());
+    when(docxConverterService.getConvertedObject("123"))
+        .thenThrow(
+            new DocxConversionRejectedException(
+                Duration.ofSeconds(10), new RejectedExecutionException()));
+
+    risWebClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/documentunits/" + TEST_UUID + "/docx/123")
+        .exchange()
+        .expectStatus()
+        .isServiceUnavailable()
+        .expectHeader()
+        .valueEquals(HttpHeaders.RETRY_AFTER, "10");
+  }
 }
@@ -0,0 +1,124 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverter;
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocxMetadataProperty;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+
+@TestPropertySource(properties = "otc.obs.bucket-name:testBucket")
+@ExtendWith(SpringExtension.class)
+@Import({DocxConversionCache.class, ObjectMapper.class})
+class DocxConversionCacheTest {
+  @Autowired DocxConversionCache cache;
+
+  @MockBean S3Client s3Client;
+
+  @Test
+  void testGetKey_shouldContainPathAndVersionWithoutRequestToTheBucket() {
+    assertThat(cache.getKey("file.docx"))
+        .isEqualTo("docx2html/file.docx/v" + DocxConverter.VERSION + ".json.gz");
+    verifyNoInteractions(s3Client);
+  }
+
+  @Test
+  void testPutAndGet_shouldReadStoredResult() {
+    var docx2Html =
+        new Docx2Html(
+            "<p>text</p>",
+            List.of("ECLI:DE:BGH:2023:1"),
+            Map.of(DocxMetadataProperty.FILE_NUMBER, "VII ZR 10/23"));
+
+    cache.put("key", docx2Html);
+
+    var putRequest = ArgumentCaptor.forClass(PutObjectRequest.class);
+    var requestBody = ArgumentCaptor.forClass(RequestBody.class);
+    verify(s3Client).putObject(putRequest.capture(), requestBody.capture());
+    assertThat(putRequest.getValue().bucket()).isEqualTo("testBucket");
+    assertThat(putRequest.getValue().key()).isEqualTo("key");
+    assertThat(putRequest.getValue().contentEncoding()).isEqualTo("gzip");
+
+    when(s3Client.getObject(any(GetObjectRequest.class)))
+        .thenAnswer(
+            invocation ->
+                new ResponseInputStream<>(
+                    GetObjectResponse.builder().build(),
+                    AbortableInputStream.create(
+                        requestBody.getValue().contentStreamProvider().newStream())));
+
+    assertThat(cache.get("key")).contains(docx2Html);
+  }
+
+  @Test
+  void testGet_withMissingEntry_shouldReturnEmpty() {
+    when(s3Client.getObject(any(GetObjectRequest.class)))
+        .thenThrow(NoSuchKeyException.builder().build());
+
+    assertThat(cache.get("key")).isEmpty();
+  }
+
+  @Test
+  void testGet_withBrokenEntry_shouldReturnEmpty() {
+    when(s3Client.getObject(any(GetObjectRequest.class)))
+        .thenReturn(
+            new ResponseInputStream<>(
+                GetObjectResponse.builder().build(),
+                AbortableInputStream.create(new ByteArrayInputStream(new byte[] {1, 2, 3}))));
+
+    assertThat(cache.get("key")).isEmpty();
+  }
+
+  @Test
+  void testEvict_shouldDeleteAllEntriesOfFile() {
+    var iterable = mock(ListObjectsV2Iterable.class);
+    when(iterable.contents())
+        .thenReturn(
+            () ->
+                List.of(
+                        S3Object.builder().key("docx2html/file.docx/v1-a.json.gz").build(),
+                        S3Object.builder().key("docx2html/file.docx/v2-a.json.gz").build())
+                    .iterator());
+    when(s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class))).thenReturn(iterable);
+
+    cache.evict("file.docx");
+
+    var listRequest = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+    verify(s3Client).listObjectsV2Paginator(listRequest.capture());
+    assertThat(listRequest.getValue().prefix()).isEqualTo("docx2html/file.docx/");
+    var deleteRequest = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+    verify(s3Client, times(2)).deleteObject(deleteRequest.capture());
+    assertThat(deleteRequest.getAllValues())
+        .extracting(DeleteObjectRequest::key)
+        .containsExactly("docx2html/file.docx/v1-a.json.gz", "docx2html/file.docx/v2-a.json.gz");
+  }
+}
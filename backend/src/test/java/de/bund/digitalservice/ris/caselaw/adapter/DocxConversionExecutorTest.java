@@ -0,0 +1,187 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConversionRejectedException;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverterException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class DocxConversionExecutorTest {
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final DocxConversionExecutor executor =
+      new DocxConversionExecutor(
+          1,
+          1,
+          30,
+          1,
+          new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry))
+              .getBeanProvider(MeterRegistry.class));
+
+  @AfterEach
+  void tearDown() {
+    executor.destroy();
+  }
+
+  @Test
+  void testExecute_shouldReturnResultAndRecordMetrics() {
+    String result = executor.execute(() -> "html");
+
+    assertThat(result).isEqualTo("html");
+    assertThat(meterRegistry.get("docx.conversion.duration").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("docx.conversion.queue.wait").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("docx.conversion.in.flight").gauge().value()).isZero();
+  }
+
+  @Test
+  void testExecute_withRuntimeException_shouldRethrowException() {
+    assertThatThrownBy(
+            () ->
+                executor.execute(
+                    () -> {
+                      throw new DocxConverterException("broken docx");
+                    }))
+        .isInstanceOf(DocxConverterException.class)
+        .hasMessage("broken docx");
+  }
+
+  @Test
+  void testExecute_withFullQueue_shouldReject() throws Exception {
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    // occupies the only worker
+    CompletableFuture<String> first =
+        CompletableFuture.supplyAsync(
+            () ->
+                executor.execute(
+                    () -> {
+                      running.countDown();
+                      await(release);
+                      return "first";
+                    }));
+    assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(meterRegistry.get("docx.conversion.in.flight").gauge().value()).isEqualTo(1);
+
+    // waits in the queue
+    CompletableFuture<String> second =
+        CompletableFuture.supplyAsync(() -> executor.execute(() -> "second"));
+    waitForQueueSize(1);
+
+    assertThatThrownBy(() -> executor.execute(() -> "third"))
+        .isInstanceOf(DocxConversionRejectedException.class)
+        .extracting(exception -> ((DocxConversionRejectedException) exception).getRetryAfter())
+        .isEqualTo(Duration.ofSeconds(30));
+    assertThat(meterRegistry.get("docx.conversion.rejected").counter().count()).isEqualTo(1);
+
+    release.countDown();
+    assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("first");
+    assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("second");
+  }
+
+  @Test
+  void testCancel_withRunningConversion_shouldInterruptTheWorker() throws Exception {
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CompletableFuture<String> conversion =
+        executor.submit(
+            () -> {
+              running.countDown();
+              try {
+                Thread.sleep(10_000);
+              } catch (InterruptedException e) {
+                interrupted.countDown();
+              }
+              return "html";
+            });
+    assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+
+    conversion.cancel(true);
+
+    assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(conversion).isCancelled();
+  }
+
+  @Test
+  void testCancel_withWaitingConversion_shouldNotStartIt() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicBoolean started = new AtomicBoolean();
+    CompletableFuture<String> first =
+        executor.submit(
+            () -> {
+              await(release);
+              return "first";
+            });
+    CompletableFuture<String> second =
+        executor.submit(
+            () -> {
+              started.set(true);
+              return "second";
+            });
+
+    second.cancel(false);
+    release.countDown();
+
+    assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("first");
+    assertThat(executor.execute(() -> "third")).isEqualTo("third");
+    assertThat(started).isFalse();
+  }
+
+  @Test
+  void testSubmitBackground_withUsedBackgroundCapacity_shouldRejectOnlyBackgroundConversions()
+      throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<String> background =
+        executor.submitBackground(
+            () -> {
+              await(release);
+              return "background";
+            });
+
+    assertThat(executor.hasBackgroundCapacity()).isFalse();
+    assertThatThrownBy(() -> executor.submitBackground(() -> "second background"))
+        .isInstanceOf(DocxConversionRejectedException.class);
+    // the queue place is left for the conversions a user waits for
+    CompletableFuture<String> interactive = executor.submit(() -> "interactive");
+
+    release.countDown();
+    assertThat(background.get(10, TimeUnit.SECONDS)).isEqualTo("background");
+    assertThat(interactive.get(10, TimeUnit.SECONDS)).isEqualTo("interactive");
+    waitForBackgroundCapacity();
+    assertThat(executor.submitBackground(() -> "next").get(10, TimeUnit.SECONDS)).isEqualTo("next");
+  }
+
+  private void waitForBackgroundCapacity() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!executor.hasBackgroundCapacity()) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(10);
+    }
+  }
+
+  private void waitForQueueSize(int size) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (meterRegistry.get("docx.conversion.queue.size").gauge().value() < size) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(10);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,189 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static de.bund.digitalservice.ris.caselaw.AuthUtils.buildDSDocOffice;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.DocumentationUnitControllerTestConfig;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseApiKeyRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationOfficeRepository;
+import de.bund.digitalservice.ris.caselaw.domain.Attachment;
+import de.bund.digitalservice.ris.caselaw.domain.AttachmentService;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOfficeUserGroupService;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessDescriptor;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitService;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJob;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJobService;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJobStatus;
+import de.bund.digitalservice.ris.caselaw.domain.ProcedureService;
+import de.bund.digitalservice.ris.caselaw.domain.UserService;
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import de.bund.digitalservice.ris.caselaw.domain.mapper.PatchMapperService;
+import de.bund.digitalservice.ris.caselaw.webtestclient.RisWebTestClient;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(controllers = DocxConversionJobController.class)
+@Import({DocumentationUnitControllerTestConfig.class})
+class DocxConversionJobControllerTest {
+  @Autowired private RisWebTestClient risWebClient;
+  @MockBean private DocxConversionJobService jobService;
+  @MockBean private AttachmentService attachmentService;
+  @MockBean private DocumentationUnitService documentationUnitService;
+  @MockBean private UserService userService;
+  @MockBean private ClientRegistrationRepository clientRegistrationRepository;
+  @MockBean private DatabaseApiKeyRepository apiKeyRepository;
+  @MockBean private DatabaseDocumentationOfficeRepository officeRepository;
+  @MockBean private PatchMapperService patchMapperService;
+  @MockBean private ProcedureService procedureService;
+  @MockBean private DocumentationOfficeUserGroupService documentationOfficeUserGroupService;
+
+  private static final UUID TEST_UUID = UUID.fromString("88888888-4444-4444-4444-121212121212");
+  private static final UUID JOB_ID = UUID.fromString("99999999-4444-4444-4444-121212121212");
+  private final DocumentationOffice docOffice = buildDSDocOffice();
+
+  @BeforeEach
+  void setup() {
+    doReturn(docOffice).when(userService).getDocumentationOffice(any());
+    doReturn(true).when(userService).isInternal(any());
+    when(documentationUnitService.getAccessDescriptorByUuid(TEST_UUID))
+        .thenReturn(
+            DocumentationUnitAccessDescriptor.builder()
+                .uuid(TEST_UUID)
+                .documentNumber("YYTestDoc0001")
+                .documentationOffice(docOffice)
+                .build());
+  }
+
+  @Test
+  void testAttachFileAsync_shouldReturnAcceptedWithJobLocation() {
+    var attachment = new byte[] {1, 2, 3};
+    when(attachmentService.attachFileToDocumentationUnit(
+            eq(TEST_UUID), any(), any(HttpHeaders.class)))
+        .thenReturn(Attachment.builder().s3path("fooPath").build());
+    when(jobService.createJob(TEST_UUID, "fooPath"))
+        .thenReturn(
+            DocxConversionJob.builder()
+                .id(JOB_ID)
+                .documentationUnitId(TEST_UUID)
+                .s3Path("fooPath")
+                .status(DocxConversionJobStatus.PENDING)
+                .build());
+
+    risWebClient
+        .withDefaultLogin()
+        .put()
+        .uri("/api/v1/caselaw/documentunits/" + TEST_UUID + "/file/async")
+        .contentType(
+            MediaType.parseMediaType(
+                "application/vnd.openxmlformats-officedocument.wordprocessingml.document"))
+        .bodyAsByteArray(attachment)
+        .exchange()
+        .expectStatus()
+        .isAccepted()
+        .expectHeader()
+        .valueEquals(
+            "Location", "/api/v1/caselaw/documentunits/" + TEST_UUID + "/file/jobs/" + JOB_ID)
+        .expectBody(DocxConversionJob.class)
+        .consumeWith(
+            response -> {
+              assertThat(response.getResponseBody()).isNotNull();
+              assertThat(response.getResponseBody().id()).isEqualTo(JOB_ID);
+              assertThat(response.getResponseBody().status())
+                  .isEqualTo(DocxConversionJobStatus.PENDING);
+            });
+
+    verify(jobService).createJob(TEST_UUID, "fooPath");
+  }
+
+  @Test
+  void testGetConversionJob_shouldReturnJob() {
+    when(jobService.getJob(TEST_UUID, JOB_ID))
+        .thenReturn(
+            Optional.of(
+                DocxConversionJob.builder()
+                    .id(JOB_ID)
+                    .documentationUnitId(TEST_UUID)
+                    .status(DocxConversionJobStatus.RUNNING)
+                    .build()));
+
+    risWebClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/documentunits/" + TEST_UUID + "/file/jobs/" + JOB_ID)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(DocxConversionJob.class)
+        .consumeWith(
+            response ->
+                assertThat(response.getResponseBody().status())
+                    .isEqualTo(DocxConversionJobStatus.RUNNING));
+  }
+
+  @Test
+  void testGetConversionJob_withSucceededJob_shouldScopeImagesToDocumentationUnit() {
+    String hash = "a12871fee210fb8619291eaea194581cbd2531e4b23759d225f6806923f63222";
+    when(jobService.getJob(TEST_UUID, JOB_ID))
+        .thenReturn(
+            Optional.of(
+                DocxConversionJob.builder()
+                    .id(JOB_ID)
+                    .documentationUnitId(TEST_UUID)
+                    .status(DocxConversionJobStatus.SUCCEEDED)
+                    .result(
+                        new Docx2Html(
+                            "<img src=\"/api/v1/caselaw/images/" + hash + "\" />",
+                            List.of(),
+                            Collections.emptyMap()))
+                    .build()));
+
+    risWebClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/documentunits/" + TEST_UUID + "/file/jobs/" + JOB_ID)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(DocxConversionJob.class)
+        .consumeWith(
+            response ->
+                assertThat(response.getResponseBody().result().html())
+                    .isEqualTo(
+                        "<img src=\"/api/v1/caselaw/documentunits/YYTestDoc0001/images/"
+                            + hash
+                            + "\" />"));
+  }
+
+  @Test
+  void testGetConversionJob_withUnknownJob_shouldReturnNotFound() {
+    when(jobService.getJob(TEST_UUID, JOB_ID)).thenReturn(Optional.empty());
+
+    risWebClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/documentunits/" + TEST_UUID + "/file/jobs/" + JOB_ID)
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+  }
+}
@@ -0,0 +1,142 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConversionRejectedException;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverterException;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitDocxMetadataInitializationService;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJob;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJobService;
+import de.bund.digitalservice.ris.caselaw.domain.DocxConversionJobStatus;
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DocxConversionJobWorkerTest {
+  private DocxConversionJobService jobService;
+  private DocxConverterService converterService;
+  private DocxConversionExecutor conversionExecutor;
+  private DocumentationUnitDocxMetadataInitializationService initializationService;
+  private DocxConversionJobWorker worker;
+
+  @BeforeEach
+  void setUp() {
+    jobService = mock(DocxConversionJobService.class);
+    converterService = mock(DocxConverterService.class);
+    conversionExecutor = mock(DocxConversionExecutor.class);
+    when(conversionExecutor.hasBackgroundCapacity()).thenReturn(true);
+    initializationService = mock(DocumentationUnitDocxMetadataInitializationService.class);
+    worker =
+        new DocxConversionJobWorker(
+            jobService, converterService, conversionExecutor, initializationService);
+  }
+
+  @Test
+  void testProcessJobs_shouldConvertAllClaimedJobs() {
+    var first = runningJob("first");
+    var second = runningJob("second");
+    var html = new Docx2Html("<p>foo</p>", List.of(), Collections.emptyMap());
+    when(jobService.claimNextJob())
+        .thenReturn(Optional.of(first), Optional.of(second), Optional.empty());
+    when(converterService.getConvertedObjectAsync(any()))
+        .thenReturn(CompletableFuture.completedFuture(html));
+
+    worker.processJobs();
+
+    verify(initializationService).initializeCoreData(first.documentationUnitId(), html);
+    verify(initializationService).initializeCoreData(second.documentationUnitId(), html);
+    verify(jobService).completeJob(first, html);
+    verify(jobService).completeJob(second, html);
+  }
+
+  @Test
+  void testProcessJobs_withFailedConversion_shouldFailJobWithGenericMessage() {
+    var job = runningJob("broken");
+    when(jobService.claimNextJob()).thenReturn(Optional.of(job), Optional.empty());
+    when(converterService.getConvertedObjectAsync("broken"))
+        .thenReturn(CompletableFuture.failedFuture(new DocxConverterException("broken file")));
+
+    worker.processJobs();
+
+    verify(jobService).failJob(job, "Couldn't convert the docx file");
+    verify(jobService, never()).completeJob(any(), any());
+  }
+
+  @Test
+  void testProcessJobs_withMissingFile_shouldFailJob() {
+    var job = runningJob("missing");
+    when(jobService.claimNextJob()).thenReturn(Optional.of(job), Optional.empty());
+    when(converterService.getConvertedObjectAsync("missing"))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    worker.processJobs();
+
+    verify(jobService).failJob(eq(job), any());
+    verify(initializationService, never()).initializeCoreData(any(), any());
+  }
+
+  @Test
+  void testRefreshRunningJobs_shouldRefreshOnlyJobsInConversion() {
+    var job = runningJob("slow");
+    var conversion = new CompletableFuture<Docx2Html>();
+    when(jobService.claimNextJob()).thenReturn(Optional.of(job), Optional.empty());
+    when(converterService.getConvertedObjectAsync("slow")).thenReturn(conversion);
+
+    worker.processJobs();
+    worker.refreshRunningJobs();
+
+    verify(jobService).refreshRunningJobs(Set.of(job.id()));
+
+    conversion.complete(new Docx2Html("<p>foo</p>", List.of(), Collections.emptyMap()));
+    worker.refreshRunningJobs();
+
+    verify(jobService, times(1)).refreshRunningJobs(any());
+  }
+
+  @Test
+  void testProcessJobs_withBusyConversionWorkers_shouldReleaseJobAndStop() {
+    var job = runningJob("busy");
+    when(jobService.claimNextJob()).thenReturn(Optional.of(job), Optional.of(runningJob("next")));
+    when(converterService.getConvertedObjectAsync("busy"))
+        .thenThrow(
+            new DocxConversionRejectedException(
+                Duration.ofSeconds(10), new RejectedExecutionException()));
+
+    worker.processJobs();
+
+    verify(jobService).releaseJob(job);
+    verify(jobService, times(1)).claimNextJob();
+  }
+
+  @Test
+  void testProcessJobs_withoutBackgroundCapacity_shouldNotClaimJobs() {
+    when(conversionExecutor.hasBackgroundCapacity()).thenReturn(false);
+
+    worker.processJobs();
+
+    verify(jobService, never()).claimNextJob();
+  }
+
+  private static DocxConversionJob runningJob(String s3Path) {
+    return DocxConversionJob.builder()
+        .id(UUID.randomUUID())
+        .documentationUnitId(UUID.randomUUID())
+        .s3Path(s3Path)
+        .status(DocxConversionJobStatus.RUNNING)
+        .build();
+  }
+}
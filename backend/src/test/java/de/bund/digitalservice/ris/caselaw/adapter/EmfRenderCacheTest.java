@@ -0,0 +1,206 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Dimension;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EmfRenderCacheTest {
+  private static final byte[] EMF = new byte[] {1, 2};
+  private static final byte[] PNG = new byte[] {3};
+
+  private final AtomicInteger renderings = new AtomicInteger();
+  private EmfRenderCache cache;
+
+  @AfterEach
+  void tearDown() {
+    cache.destroy();
+  }
+
+  @Test
+  void testRender_withSameImageAndSize_shouldRenderOnce() {
+    cache = new EmfRenderCache(2, 10, Duration.ofSeconds(5), this::countingRenderer);
+
+    assertThat(cache.render(EMF, new Dimension(10, 20))).contains(PNG);
+    assertThat(cache.render(new byte[] {1, 2}, new Dimension(10, 20))).contains(PNG);
+
+    assertThat(renderings.get()).isEqualTo(1);
+  }
+
+  @Test
+  void testRender_withOtherSize_shouldRenderAgain() {
+    cache = new EmfRenderCache(2, 10, Duration.ofSeconds(5), this::countingRenderer);
+
+    cache.render(EMF, new Dimension(10, 20));
+    cache.render(EMF, new Dimension(20, 40));
+
+    assertThat(renderings.get()).isEqualTo(2);
+  }
+
+  @Test
+  void testRender_withFullCache_shouldRemoveLeastRecentlyUsedImage() {
+    cache = new EmfRenderCache(2, 1, Duration.ofSeconds(5), this::countingRenderer);
+
+    cache.render(EMF, new Dimension(10, 20));
+    cache.render(new byte[] {4}, new Dimension(10, 20));
+    cache.render(EMF, new Dimension(10, 20));
+
+    assertThat(renderings.get()).isEqualTo(3);
+  }
+
+  @Test
+  void testRender_withSlowRendering_shouldNotRenderTheImage() {
+    var latch = new CountDownLatch(1);
+    cache = new EmfRenderCache(1, 10, Duration.ofMillis(50), (emf, size) -> awaitLatch(latch));
+
+    assertThat(cache.render(EMF, new Dimension(10, 20))).isEmpty();
+
+    latch.countDown();
+  }
+
+  @Test
+  void testRender_withTimedOutRendering_shouldNotRenderTheImageAgain() {
+    var latch = new CountDownLatch(1);
+    cache =
+        new EmfRenderCache(
+            1,
+            10,
+            Duration.ofMillis(50),
+            (emf, size) -> {
+              renderings.incrementAndGet();
+              return awaitLatch(latch);
+            });
+
+    assertThat(cache.render(EMF, new Dimension(10, 20))).isEmpty();
+    assertThat(cache.render(EMF, new Dimension(10, 20))).isEmpty();
+
+    assertThat(renderings.get()).isEqualTo(1);
+    latch.countDown();
+  }
+
+  @Test
+  void testRender_withRenderingIgnoringInterrupts_shouldAbandonItAndRenderTheNextImage() {
+    var latch = new CountDownLatch(1);
+    cache =
+        new EmfRenderCache(
+            1,
+            10,
+            Duration.ofMillis(50),
+            (emf, size) -> {
+              if (emf == EMF) {
+                awaitLatchUninterruptibly(latch);
+              }
+              return PNG;
+            });
+
+    assertThat(cache.render(EMF, new Dimension(10, 20))).isEmpty();
+    assertThat(cache.render(new byte[] {4}, new Dimension(10, 20))).contains(PNG);
+
+    latch.countDown();
+  }
+
+  @Test
+  void testRender_withWaitingImage_shouldStartTheTimeoutWithTheRendering() {
+    cache =
+        new EmfRenderCache(
+            1,
+            10,
+            Duration.ofMillis(300),
+            (emf, size) -> {
+              try {
+                Thread.sleep(200);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return emf;
+              }
+              return PNG;
+            });
+
+    // the second image waits 200 ms for the first, so both together take longer than the timeout
+    cache.prepare(EMF, new Dimension(10, 20));
+    cache.prepare(new byte[] {4}, new Dimension(10, 20));
+
+    assertThat(cache.render(EMF, new Dimension(10, 20))).contains(PNG);
+    assertThat(cache.render(new byte[] {4}, new Dimension(10, 20))).contains(PNG);
+  }
+
+  @Test
+  void testRender_withRendererReturningTheOriginalImage_shouldNotRenderTheImage() {
+    cache = new EmfRenderCache(1, 10, Duration.ofSeconds(5), (emf, size) -> emf);
+
+    assertThat(cache.render(EMF, new Dimension(10, 20))).isEmpty();
+  }
+
+  @Test
+  void testRender_withFailingRendering_shouldNotRenderTheImageAndRetry() {
+    cache =
+        new EmfRenderCache(
+            1,
+            10,
+            Duration.ofSeconds(5),
+            (emf, size) -> {
+              renderings.incrementAndGet();
+              throw new IllegalStateException("broken emf");
+            });
+
+    assertThat(cache.render(EMF, new Dimension(10, 20))).isEmpty();
+    assertThat(cache.render(EMF, new Dimension(10, 20))).isEmpty();
+
+    assertThat(renderings.get()).isEqualTo(2);
+  }
+
+  @Test
+  void testPrepare_shouldRenderImagesInParallel() {
+    var started = new CountDownLatch(2);
+    cache =
+        new EmfRenderCache(
+            2,
+            10,
+            Duration.ofSeconds(5),
+            (emf, size) -> {
+              started.countDown();
+              try {
+                // both images are only rendered, if they are rendered at the same time
+                if (!started.await(5, TimeUnit.SECONDS)) {
+                  return emf;
+                }
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return PNG;
+            });
+
+    cache.prepare(EMF, new Dimension(10, 20));
+    cache.prepare(new byte[] {4}, new Dimension(10, 20));
+
+    assertThat(cache.render(EMF, new Dimension(10, 20))).contains(PNG);
+    assertThat(cache.render(new byte[] {4}, new Dimension(10, 20))).contains(PNG);
+  }
+
+  private static byte[] awaitLatch(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return PNG;
+  }
+
+  /** Wait like a renderer, which doesn't check the interrupt flag. */
+  private static void awaitLatchUninterruptibly(CountDownLatch latch) {
+    long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (latch.getCount() > 0 && System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private byte[] countingRenderer(byte[] emf, Dimension size) {
+    renderings.incrementAndGet();
+    return PNG;
+  }
+}
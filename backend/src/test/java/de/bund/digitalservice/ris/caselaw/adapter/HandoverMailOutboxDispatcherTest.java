@@ -0,0 +1,173 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitHandoverException;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMail;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxEntry;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxService;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxStatus;
+import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
+import de.bund.digitalservice.ris.caselaw.domain.MailAttachment;
+import de.bund.digitalservice.ris.caselaw.domain.MailServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HandoverMailOutboxDispatcherTest {
+  private static final String SENDER_ADDRESS = "export@neuris";
+
+  private HandoverMailOutboxService outboxService;
+  private HttpMailSender mailSender;
+  private SimpleMeterRegistry meterRegistry;
+  private HandoverMailOutboxDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    outboxService = mock(HandoverMailOutboxService.class);
+    mailSender = mock(HttpMailSender.class);
+    meterRegistry = new SimpleMeterRegistry();
+    dispatcher =
+        new HandoverMailOutboxDispatcher(
+            outboxService, mailSender, SENDER_ADDRESS, 3, meterRegistry);
+  }
+
+  @Test
+  void testDispatchMails_shouldSendAllClaimedMailsWithIdempotencyKey() {
+    var first = sendingEntry("first.xml");
+    var second = sendingEntry("second.xml");
+    when(outboxService.claimNextEntry())
+        .thenReturn(Optional.of(first), Optional.of(second), Optional.empty());
+
+    dispatcher.dispatchMails();
+
+    verify(mailSender)
+        .sendMail(
+            SENDER_ADDRESS,
+            "receiver@example.com",
+            "subject",
+            "neuris",
+            Collections.singletonList(
+                MailAttachment.builder().fileName("first.xml").fileContent("xml").build()),
+            first.handoverMail().documentationUnitId().toString(),
+            first.id().toString());
+    verify(outboxService).markSent(first);
+    verify(outboxService).markSent(second);
+  }
+
+  @Test
+  void testDispatchMails_withFailedSend_shouldScheduleRetryAndContinue() {
+    var failing = sendingEntry("failing.xml");
+    var second = sendingEntry("second.xml");
+    when(outboxService.claimNextEntry())
+        .thenReturn(Optional.of(failing), Optional.of(second), Optional.empty());
+    doThrow(new DocumentationUnitHandoverException("Couldn't send email."))
+        .when(mailSender)
+        .sendMail(
+            anyString(),
+            anyString(),
+            anyString(),
+            anyString(),
+            anyList(),
+            anyString(),
+            eq(failing.id().toString()));
+
+    dispatcher.dispatchMails();
+
+    verify(outboxService).markAttemptFailed(failing, "Couldn't send email.");
+    verify(outboxService, never()).markSent(failing);
+    verify(outboxService).markSent(second);
+  }
+
+  @Test
+  void testDispatchMails_withLastFailedAttempt_shouldCountTheFailedMail() {
+    var failing = sendingEntry("failing.xml");
+    when(outboxService.claimNextEntry()).thenReturn(Optional.of(failing), Optional.empty());
+    doThrow(new DocumentationUnitHandoverException("Couldn't send email."))
+        .when(mailSender)
+        .sendMail(
+            anyString(), anyString(), anyString(), anyString(), anyList(), anyString(), any());
+    when(outboxService.markAttemptFailed(failing, "Couldn't send email."))
+        .thenReturn(failing.toBuilder().status(HandoverMailOutboxStatus.FAILED).build());
+
+    dispatcher.dispatchMails();
+
+    assertThat(meterRegistry.get("handover.mail.outbox.failed").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void testDispatchMails_withOpenCircuit_shouldPostponeWithoutUsingAnAttemptAndStop() {
+    var rejected = sendingEntry("rejected.xml");
+    when(outboxService.claimNextEntry())
+        .thenReturn(Optional.of(rejected), Optional.of(sendingEntry("second.xml")));
+    doThrow(new MailServiceUnavailableException("circuit open"))
+        .when(mailSender)
+        .sendMail(
+            anyString(), anyString(), anyString(), anyString(), anyList(), anyString(), any());
+
+    dispatcher.dispatchMails();
+
+    verify(outboxService).postpone(rejected, "circuit open");
+    verify(outboxService, never()).markAttemptFailed(any(), any());
+    verify(outboxService, times(1)).claimNextEntry();
+  }
+
+  @Test
+  void testDispatchMails_withMoreEntriesThanBatchSize_shouldStopAfterBatch() {
+    when(outboxService.claimNextEntry())
+        .thenAnswer(invocation -> Optional.of(sendingEntry("entry.xml")));
+
+    dispatcher.dispatchMails();
+
+    verify(outboxService, times(3)).claimNextEntry();
+    verify(outboxService, times(3)).markSent(any());
+  }
+
+  @Test
+  void testDispatchMails_withoutDueEntries_shouldSendNothing() {
+    when(outboxService.claimNextEntry()).thenReturn(Optional.empty());
+
+    dispatcher.dispatchMails();
+
+    verify(mailSender, never())
+        .sendMail(
+            anyString(), anyString(), anyString(), anyString(), anyList(), anyString(), any());
+  }
+
+  private static HandoverMailOutboxEntry sendingEntry(String fileName) {
+    Instant now = Instant.now();
+    return HandoverMailOutboxEntry.builder()
+        .id(UUID.randomUUID())
+        .handoverMail(
+            HandoverMail.builder()
+                .documentationUnitId(UUID.randomUUID())
+                .receiverAddress("receiver@example.com")
+                .mailSubject("subject")
+                .xml("xml")
+                .success(true)
+                .statusMessages(List.of("succeed"))
+                .fileName(fileName)
+                .build())
+        .status(HandoverMailOutboxStatus.SENDING)
+        .attempts(1)
+        .nextAttemptAt(now)
+        .createdAt(now)
+        .updatedAt(now)
+        .build();
+  }
+}
@@ -1,22 +1,22 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStore;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStoreException;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
 import de.bund.digitalservice.ris.caselaw.domain.CoreData;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitHandoverException;
 import de.bund.digitalservice.ris.caselaw.domain.HandoverMail;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxService;
 import de.bund.digitalservice.ris.caselaw.domain.HandoverRepository;
-import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
-import de.bund.digitalservice.ris.caselaw.domain.MailAttachment;
+import de.bund.digitalservice.ris.caselaw.domain.Texts;
 import de.bund.digitalservice.ris.caselaw.domain.XmlExporter;
 import de.bund.digitalservice.ris.caselaw.domain.XmlTransformationResult;
 import de.bund.digitalservice.ris.caselaw.domain.court.Court;
@@ -25,7 +25,6 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import javax.xml.parsers.ParserConfigurationException;
@@ -53,7 +52,6 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 class HandoverMailServiceTest {
   private static final String RECEIVER_ADDRESS = "test-to@mail.com";
   private static final String ISSUER_ADDRESS = "neuris-user@example.com";
-  private static final String SENDER_ADDRESS = "export@neuris";
   private static final String JURIS_USERNAME = "test-user";
   private static final Instant CREATED_DATE = Instant.parse("2020-05-05T10:21:35.00Z");
   private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -107,15 +105,18 @@ class HandoverMailServiceTest {
 
   @MockBean private DatabaseDocumentationUnitRepository documentationUnitRepository;
 
-  @MockBean private HttpMailSender mailSender;
+  @MockBean private HandoverMailOutboxService outboxService;
+
+  @MockBean private ImageStore imageStore;
 
   @BeforeEach
   void setUp() throws ParserConfigurationException, TransformerException {
+    when(imageStore.inlineImages(any())).then(returnsFirstArg());
     documentationUnit =
         DocumentationUnit.builder().uuid(TEST_UUID).documentNumber("test-document-number").build();
     when(xmlExporter.transformToXml(any(DocumentationUnit.class))).thenReturn(FORMATTED_XML);
 
-    when(repository.save(EXPECTED_BEFORE_SAVE)).thenReturn(SAVED_XML_MAIL);
+    when(outboxService.enqueue(EXPECTED_BEFORE_SAVE)).thenReturn(SAVED_XML_MAIL);
   }
 
   @Test
@@ -138,19 +139,7 @@ class HandoverMailServiceTest {
                         .fileNumbers(List.of("TEST"))
                         .build())
                 .build());
-    verify(repository).save(EXPECTED_BEFORE_SAVE);
-    verify(mailSender)
-        .sendMail(
-            SENDER_ADDRESS,
-            RECEIVER_ADDRESS,
-            SAVED_XML_MAIL.mailSubject(),
-            "neuris",
-            Collections.singletonList(
-                MailAttachment.builder()
-                    .fileName(SAVED_XML_MAIL.fileName())
-                    .fileContent(SAVED_XML_MAIL.xml())
-                    .build()),
-            SAVED_XML_MAIL.documentationUnitId().toString());
+    verify(outboxService).enqueue(EXPECTED_BEFORE_SAVE);
   }
 
   @Test
@@ -171,9 +160,7 @@ class HandoverMailServiceTest {
     var response = service.handOver(documentationUnit, RECEIVER_ADDRESS, ISSUER_ADDRESS);
     assertThat(response).usingRecursiveComparison().isEqualTo(expected);
 
-    verify(repository, times(0)).save(any(HandoverMail.class));
-    verify(mailSender, times(0))
-        .sendMail(anyString(), anyString(), anyString(), anyString(), anyList(), anyString());
+    verify(outboxService, times(0)).enqueue(any(HandoverMail.class));
   }
 
   @Test
@@ -188,9 +175,25 @@ class HandoverMailServiceTest {
             () -> service.handOver(documentationUnit, RECEIVER_ADDRESS, ISSUER_ADDRESS));
     Assertions.assertEquals("Couldn't generate xml.", ex.getMessage());
 
-    verify(repository, times(0)).save(any(HandoverMail.class));
-    verify(mailSender, times(0))
-        .sendMail(anyString(), anyString(), anyString(), anyString(), anyList(), anyString());
+    verify(outboxService, times(0)).enqueue(any(HandoverMail.class));
+  }
+
+  @Test
+  void testSend_withUnavailableImages() {
+    documentationUnit =
+        documentationUnit.toBuilder()
+            .texts(Texts.builder().reasons("<p>reasons</p>").build())
+            .build();
+    when(imageStore.inlineImages("<p>reasons</p>"))
+        .thenThrow(new ImageStoreException("unavailable", null));
+
+    DocumentationUnitHandoverException ex =
+        Assertions.assertThrows(
+            DocumentationUnitHandoverException.class,
+            () -> service.handOver(documentationUnit, RECEIVER_ADDRESS, ISSUER_ADDRESS));
+    Assertions.assertEquals("Couldn't read the images.", ex.getMessage());
+
+    verify(outboxService, times(0)).enqueue(any(HandoverMail.class));
   }
 
   @Test
@@ -206,23 +209,19 @@ class HandoverMailServiceTest {
     assertThat(throwable.getMessage())
         .isEqualTo("No document number has set in the document unit.");
 
-    // Verify that repository.save and mailSender.sendMail were not called
-    verify(repository, times(0)).save(any(HandoverMail.class));
-    verify(mailSender, times(0))
-        .sendMail(anyString(), anyString(), anyString(), anyString(), any(List.class), anyString());
+    // Verify that the mail isn't put into the outbox
+    verify(outboxService, times(0)).enqueue(any(HandoverMail.class));
   }
 
   @Test
   void testSend_withExceptionBySaving() {
-    when(repository.save(EXPECTED_BEFORE_SAVE)).thenThrow(IllegalArgumentException.class);
+    when(outboxService.enqueue(EXPECTED_BEFORE_SAVE)).thenThrow(IllegalArgumentException.class);
 
     Assert.assertThrows(
         IllegalArgumentException.class,
         () -> service.handOver(documentationUnit, RECEIVER_ADDRESS, ISSUER_ADDRESS));
 
-    verify(repository).save(any(HandoverMail.class));
-    verify(mailSender)
-        .sendMail(anyString(), anyString(), anyString(), anyString(), anyList(), anyString());
+    verify(outboxService).enqueue(any(HandoverMail.class));
   }
 
   @Test
@@ -234,38 +233,7 @@ class HandoverMailServiceTest {
 
     assertThat(throwable.getMessage()).isEqualTo("No receiver mail address is set");
 
-    verify(repository, times(0)).save(any(HandoverMail.class));
-    verify(mailSender, times(0))
-        .sendMail(anyString(), anyString(), anyString(), anyString(), anyList(), anyString());
-  }
-
-  @Test
-  void testSend_withExceptionBySendingEmail() {
-    doThrow(DocumentationUnitHandoverException.class)
-        .when(mailSender)
-        .sendMail(
-            SENDER_ADDRESS,
-            RECEIVER_ADDRESS,
-            MAIL_SUBJECT,
-            "neuris",
-            Collections.singletonList(
-                MailAttachment.builder().fileName("test.xml").fileContent("xml").build()),
-            TEST_UUID.toString());
-
-    Assert.assertThrows(
-        DocumentationUnitHandoverException.class,
-        () -> service.handOver(documentationUnit, RECEIVER_ADDRESS, ISSUER_ADDRESS));
-
-    verify(repository, times(0)).save(any(HandoverMail.class));
-    verify(mailSender)
-        .sendMail(
-            SENDER_ADDRESS,
-            RECEIVER_ADDRESS,
-            MAIL_SUBJECT,
-            "neuris",
-            Collections.singletonList(
-                MailAttachment.builder().fileName("test.xml").fileContent("xml").build()),
-            TEST_UUID.toString());
+    verify(outboxService, times(0)).enqueue(any(HandoverMail.class));
   }
 
   @Test
@@ -0,0 +1,134 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static de.bund.digitalservice.ris.caselaw.AuthUtils.buildBGHDocOffice;
+import static de.bund.digitalservice.ris.caselaw.AuthUtils.buildDSDocOffice;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.DocumentationUnitControllerTestConfig;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStore;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStoreException;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseApiKeyRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationOfficeRepository;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOfficeUserGroupService;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessDescriptor;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitService;
+import de.bund.digitalservice.ris.caselaw.domain.ProcedureService;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import de.bund.digitalservice.ris.caselaw.domain.Status;
+import de.bund.digitalservice.ris.caselaw.domain.UserService;
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocxImagePart;
+import de.bund.digitalservice.ris.caselaw.domain.mapper.PatchMapperService;
+import de.bund.digitalservice.ris.caselaw.webtestclient.RisWebTestClient;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(controllers = ImageController.class)
+@Import({DocumentationUnitControllerTestConfig.class})
+class ImageControllerTest {
+  @Autowired private RisWebTestClient risWebClient;
+  @MockBean private ImageStore imageStore;
+  @MockBean private DocumentationUnitService documentationUnitService;
+  @MockBean private UserService userService;
+  @MockBean private ClientRegistrationRepository clientRegistrationRepository;
+  @MockBean private DatabaseApiKeyRepository apiKeyRepository;
+  @MockBean private DatabaseDocumentationOfficeRepository officeRepository;
+  @MockBean private PatchMapperService patchMapperService;
+  @MockBean private ProcedureService procedureService;
+  @MockBean private DocumentationOfficeUserGroupService documentationOfficeUserGroupService;
+
+  private static final String HASH =
+      "a12871fee210fb8619291eaea194581cbd2531e4b23759d225f6806923f63222";
+  private static final String IMAGE_URL =
+      "/api/v1/caselaw/documentunits/YYTestDoc0001/images/" + HASH;
+
+  @BeforeEach
+  void setUp() {
+    doReturn(buildDSDocOffice()).when(userService).getDocumentationOffice(any());
+    mockDocumentationUnit(buildDSDocOffice());
+  }
+
+  @Test
+  void testGetImage_shouldReturnImageWithCacheHeaders() {
+    when(imageStore.get(HASH))
+        .thenReturn(Optional.of(new DocxImagePart("image/png", new byte[] {1, 2})));
+
+    risWebClient
+        .withDefaultLogin()
+        .get()
+        .uri(IMAGE_URL)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentType(MediaType.IMAGE_PNG)
+        .expectHeader()
+        .valueEquals("Cache-Control", "max-age=31536000, private, immutable")
+        .expectHeader()
+        .valueEquals("ETag", "\"" + HASH + "\"");
+  }
+
+  @Test
+  void testGetImage_withUnknownImage_shouldReturnNotFound() {
+    when(imageStore.get(HASH)).thenReturn(Optional.empty());
+
+    risWebClient.withDefaultLogin().get().uri(IMAGE_URL).exchange().expectStatus().isNotFound();
+  }
+
+  @Test
+  void testGetImage_withUnavailableImageStore_shouldReturnServiceUnavailable() {
+    when(imageStore.get(HASH)).thenThrow(new ImageStoreException("unavailable", null));
+
+    risWebClient
+        .withDefaultLogin()
+        .get()
+        .uri(IMAGE_URL)
+        .exchange()
+        .expectStatus()
+        .isServiceUnavailable();
+  }
+
+  @Test
+  void testGetImage_withInvalidHash_shouldReturnNotFound() {
+    risWebClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/documentunits/YYTestDoc0001/images/not-a-hash")
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+  }
+
+  @Test
+  void testGetImage_withUnpublishedDocumentationUnitOfOtherOffice_shouldReturnForbidden() {
+    mockDocumentationUnit(buildBGHDocOffice());
+
+    risWebClient.withDefaultLogin().get().uri(IMAGE_URL).exchange().expectStatus().isForbidden();
+
+    verify(imageStore, never()).get(any());
+  }
+
+  private void mockDocumentationUnit(DocumentationOffice documentationOffice) {
+    when(documentationUnitService.getAccessDescriptorByDocumentNumber("YYTestDoc0001"))
+        .thenReturn(
+            DocumentationUnitAccessDescriptor.builder()
+                .documentNumber("YYTestDoc0001")
+                .documentationOffice(documentationOffice)
+                .status(Status.builder().publicationStatus(PublicationStatus.UNPUBLISHED).build())
+                .build());
+  }
+}
@@ -0,0 +1,304 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.gravity9.jsonpatch.AddOperation;
+import com.gravity9.jsonpatch.JsonPatch;
+import com.gravity9.jsonpatch.JsonPatchException;
+import com.gravity9.jsonpatch.JsonPatchOperation;
+import com.gravity9.jsonpatch.RemoveOperation;
+import com.gravity9.jsonpatch.ReplaceOperation;
+import de.bund.digitalservice.ris.caselaw.adapter.JsonPatchConflictResolver.Resolution;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JsonPatchConflictResolverTest {
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final JsonPatchConflictResolver resolver = new JsonPatchConflictResolver();
+
+  @Test
+  void testResolve_withDifferentPaths_shouldKeepAllOperations() {
+    JsonPatchOperation ecli = new ReplaceOperation("/coreData/ecli", new TextNode("ecli"));
+    JsonPatchOperation court = new RemoveOperation("/coreData/court");
+
+    Resolution resolution = resolver.resolve(List.of(ecli), List.of(court));
+
+    assertThat(resolution.operations()).containsExactly(ecli);
+    assertThat(resolution.concurrentOperations()).containsExactly(court);
+    assertThat(resolution.conflicts()).isEmpty();
+    assertThat(resolution.conflictPaths()).isEmpty();
+  }
+
+  @Test
+  void testResolve_withSamePath_shouldReturnConflict() {
+    JsonPatchOperation user1 = new AddOperation("/coreData/ecli", new TextNode("ecliUser1"));
+    JsonPatchOperation user2 = new AddOperation("/coreData/ecli", new TextNode("ecliUser2"));
+
+    Resolution resolution = resolver.resolve(List.of(user2), List.of(user1));
+
+    assertThat(resolution.operations()).isEmpty();
+    assertThat(resolution.conflicts()).containsExactly(user2);
+    assertThat(resolution.conflictPaths()).containsExactly("/coreData/ecli");
+  }
+
+  @Test
+  void testResolve_withAncestorPath_shouldReturnConflict() {
+    JsonPatchOperation fileNumber =
+        new ReplaceOperation("/coreData/fileNumbers/2", new TextNode("fileNumber"));
+    JsonPatchOperation fileNumbers =
+        new ReplaceOperation("/coreData/fileNumbers", objectMapper.createArrayNode());
+
+    Resolution resolution = resolver.resolve(List.of(fileNumber), List.of(fileNumbers));
+
+    assertThat(resolution.operations()).isEmpty();
+    assertThat(resolution.conflictPaths()).containsExactly("/coreData/fileNumbers/2");
+  }
+
+  @Test
+  void testResolve_withDescendantPath_shouldReturnConflict() {
+    JsonPatchOperation fileNumbers = new RemoveOperation("/coreData/fileNumbers");
+    JsonPatchOperation fileNumber =
+        new ReplaceOperation("/coreData/fileNumbers/2", new TextNode("fileNumber"));
+
+    Resolution resolution = resolver.resolve(List.of(fileNumbers), List.of(fileNumber));
+
+    assertThat(resolution.operations()).isEmpty();
+    assertThat(resolution.conflictPaths()).containsExactly("/coreData/fileNumbers");
+  }
+
+  @Test
+  void testResolve_withSimilarPrefix_shouldNotReturnConflict() {
+    JsonPatchOperation fileNumber =
+        new ReplaceOperation("/coreData/fileNumbers/1", new TextNode("fileNumber"));
+    JsonPatchOperation deviatingFileNumber =
+        new ReplaceOperation("/coreData/fileNumbers1", new TextNode("fileNumber"));
+
+    Resolution resolution = resolver.resolve(List.of(fileNumber), List.of(deviatingFileNumber));
+
+    assertThat(resolution.operations()).containsExactly(fileNumber);
+    assertThat(resolution.conflicts()).isEmpty();
+  }
+
+  @Test
+  void testResolve_withRemovedArrayElementBefore_shouldShiftIndex() {
+    JsonPatchOperation fileNumber =
+        new ReplaceOperation("/coreData/fileNumbers/2", new TextNode("fileNumber"));
+    JsonPatchOperation remove = new RemoveOperation("/coreData/fileNumbers/0");
+
+    Resolution resolution = resolver.resolve(List.of(fileNumber), List.of(remove));
+
+    assertThat(resolution.conflicts()).isEmpty();
+    assertThat(resolution.operations())
+        .singleElement()
+        .isInstanceOf(ReplaceOperation.class)
+        .extracting(JsonPatchOperation::getPath)
+        .isEqualTo("/coreData/fileNumbers/1");
+    assertThat(((ReplaceOperation) resolution.operations().get(0)).getValue().textValue())
+        .isEqualTo("fileNumber");
+    assertThat(resolution.concurrentOperations()).containsExactly(remove);
+  }
+
+  @Test
+  void testResolve_withAddedArrayElementBefore_shouldShiftIndexOfBothPatches() {
+    JsonPatchOperation user1 = new AddOperation("/previousDecisions/0", new TextNode("first"));
+    JsonPatchOperation user2 =
+        new ReplaceOperation("/previousDecisions/3/fileNumber", new TextNode("fileNumber"));
+    JsonPatchOperation user2Remove = new RemoveOperation("/previousDecisions/1");
+
+    Resolution resolution = resolver.resolve(List.of(user2, user2Remove), List.of(user1));
+
+    assertThat(resolution.conflicts()).isEmpty();
+    assertThat(resolution.operations())
+        .extracting(JsonPatchOperation::getPath)
+        .containsExactly("/previousDecisions/4/fileNumber", "/previousDecisions/2");
+    assertThat(resolution.concurrentOperations())
+        .extracting(JsonPatchOperation::getPath)
+        .containsExactly("/previousDecisions/0");
+  }
+
+  @Test
+  void testResolve_withRemovedElementInOtherPatch_shouldReturnConflictForChangeInElement() {
+    JsonPatchOperation user1 = new RemoveOperation("/previousDecisions/1");
+    JsonPatchOperation user2 =
+        new ReplaceOperation("/previousDecisions/1/fileNumber", new TextNode("fileNumber"));
+    JsonPatchOperation user2Other = new ReplaceOperation("/coreData/ecli", new TextNode("ecli"));
+
+    Resolution resolution = resolver.resolve(List.of(user2, user2Other), List.of(user1));
+
+    assertThat(resolution.operations()).containsExactly(user2Other);
+    assertThat(resolution.conflicts()).containsExactly(user2);
+  }
+
+  @Test
+  void testResolve_withRootPath_shouldConflictWithEverything() {
+    JsonPatchOperation root = new ReplaceOperation("", objectMapper.createObjectNode());
+    JsonPatchOperation ecli = new ReplaceOperation("/coreData/ecli", new TextNode("ecli"));
+    JsonPatchOperation court = new RemoveOperation("/coreData/court");
+
+    Resolution resolution = resolver.resolve(List.of(ecli, court), List.of(root));
+
+    assertThat(resolution.operations()).isEmpty();
+    assertThat(resolution.conflictPaths()).containsExactly("/coreData/ecli", "/coreData/court");
+  }
+
+  static LongStream seeds() {
+    return LongStream.range(0, 500);
+  }
+
+  /**
+   * Property: applying the client operations to the document of the client leads to the same
+   * document as applying the concurrent patch and then the rebased patch on the server.
+   */
+  @ParameterizedTest
+  @MethodSource("seeds")
+  void testResolve_withRandomConcurrentPatches_shouldConverge(long seed) throws JsonPatchException {
+    Random random = new Random(seed);
+    JsonNode base = generateDocument(random);
+    List<JsonPatchOperation> operations = generatePatch(random, base);
+    List<JsonPatchOperation> concurrentOperations = generatePatch(random, base);
+
+    Resolution resolution = resolver.resolve(operations, concurrentOperations);
+
+    JsonNode server =
+        new JsonPatch(resolution.operations())
+            .apply(new JsonPatch(concurrentOperations).apply(base));
+    List<JsonPatchOperation> clientOperations = new ArrayList<>(resolution.clientOperations());
+    resolution
+        .replacedPaths()
+        .forEach(path -> clientOperations.add(new AddOperation(path, server.at(path))));
+    JsonNode client = new JsonPatch(clientOperations).apply(new JsonPatch(operations).apply(base));
+
+    assertThat(client).as("seed %d", seed).isEqualTo(server);
+  }
+
+  @Test
+  void testResolve_withReplacedAncestorInClient_shouldReplaceSubtreeWithServerValue() {
+    JsonPatchOperation list = new ReplaceOperation("/list", objectMapper.createArrayNode());
+    JsonPatchOperation value = new ReplaceOperation("/list/0/value", new TextNode("server"));
+
+    Resolution resolution = resolver.resolve(List.of(list), List.of(value));
+
+    assertThat(resolution.conflictPaths()).containsExactly("/list");
+    assertThat(resolution.clientOperations()).isEmpty();
+    assertThat(resolution.replacedPaths()).containsExactly("/list");
+  }
+
+  @Test
+  void testResolve_withShiftedConflict_shouldRevertAtClientPath() {
+    JsonPatchOperation insert = new AddOperation("/list/1", new TextNode("client"));
+    JsonPatchOperation insertBefore = new AddOperation("/list/0", new TextNode("client"));
+    JsonPatchOperation replace = new ReplaceOperation("/list/1", new TextNode("server"));
+
+    Resolution resolution = resolver.resolve(List.of(insert, insertBefore), List.of(replace));
+
+    assertThat(resolution.conflictPaths()).containsExactly("/list/1");
+    assertThat(resolution.clientOperations())
+        .extracting(JsonPatchOperation::getOp, JsonPatchOperation::getPath)
+        .containsExactly(tuple("remove", "/list/2"), tuple("replace", "/list/2"));
+    assertThat(resolution.replacedPaths()).isEmpty();
+  }
+
+  /**
+   * Property: the first operations of both patches are based on the same document, so the same path
+   * is always a conflict. Operations outside of arrays are never rebased.
+   */
+  @ParameterizedTest
+  @MethodSource("seeds")
+  void testResolve_withRandomConcurrentPatches_shouldDetectSamePathConflicts(long seed) {
+    Random random = new Random(seed);
+    JsonNode base = generateDocument(random);
+    List<JsonPatchOperation> operations = generatePatch(random, base);
+    List<JsonPatchOperation> concurrentOperations = generatePatch(random, base);
+
+    Resolution resolution = resolver.resolve(operations, concurrentOperations);
+
+    if (operations.get(0).getPath().equals(concurrentOperations.get(0).getPath())) {
+      assertThat(resolution.conflicts()).contains(operations.get(0));
+    }
+    assertThat(resolution.operations().size() + resolution.conflicts().size())
+        .isEqualTo(operations.size());
+    assertThat(resolution.concurrentOperations()).hasSameSizeAs(concurrentOperations);
+    resolution.operations().stream()
+        .filter(operation -> operation.getPath().startsWith("/text"))
+        .forEach(operation -> assertThat(operations).contains(operation));
+  }
+
+  private static JsonNode generateDocument(Random random) {
+    ObjectNode document = objectMapper.createObjectNode();
+    document.put("text", "text");
+    ArrayNode list = document.putArray("list");
+    int size = random.nextInt(5);
+    for (int i = 0; i < size; i++) {
+      list.add(generateElement("base" + i, random));
+    }
+    return document;
+  }
+
+  private static ObjectNode generateElement(String value, Random random) {
+    ObjectNode element = objectMapper.createObjectNode();
+    element.put("value", value);
+    ArrayNode items = element.putArray("items");
+    int size = random.nextInt(3);
+    for (int i = 0; i < size; i++) {
+      items.add(value + "-item" + i);
+    }
+    return element;
+  }
+
+  /** Generate a valid sequence of operations for the document. */
+  private static List<JsonPatchOperation> generatePatch(Random random, JsonNode document) {
+    List<JsonPatchOperation> operations = new ArrayList<>();
+    JsonNode current = document;
+    int size = 1 + random.nextInt(4);
+    for (int i = 0; i < size; i++) {
+      JsonPatchOperation operation = generateOperation(random, current);
+      try {
+        current = operation.apply(current);
+      } catch (JsonPatchException e) {
+        throw new IllegalStateException("invalid generated operation: " + operation, e);
+      }
+      operations.add(operation);
+    }
+    return operations;
+  }
+
+  private static JsonPatchOperation generateOperation(Random random, JsonNode document) {
+    int listSize = document.get("list").size();
+    String value = "value" + random.nextInt(1000);
+    int choice = random.nextInt(listSize == 0 ? 4 : 10);
+
+    return switch (choice) {
+      case 0 -> new ReplaceOperation("/text", new TextNode(value));
+      case 1 -> new AddOperation("/list/-", generateElement(value, random));
+      case 2 -> random.nextInt(4) == 0
+          ? new ReplaceOperation("/list", objectMapper.createArrayNode())
+          : new ReplaceOperation("/text", new TextNode(value));
+      case 3 -> new AddOperation(
+          "/list/" + random.nextInt(listSize + 1), generateElement(value, random));
+      case 4 -> new RemoveOperation("/list/" + random.nextInt(listSize));
+      case 5, 6 -> new ReplaceOperation(
+          "/list/" + random.nextInt(listSize) + "/value", new TextNode(value));
+      default -> {
+        int index = random.nextInt(listSize);
+        int itemsSize = document.at("/list/" + index + "/items").size();
+        String items = "/list/" + index + "/items/";
+        if (itemsSize == 0 || random.nextBoolean()) {
+          yield new AddOperation(items + random.nextInt(itemsSize + 1), new TextNode(value));
+        }
+        yield new RemoveOperation(items + random.nextInt(itemsSize));
+      }
+    };
+  }
+}
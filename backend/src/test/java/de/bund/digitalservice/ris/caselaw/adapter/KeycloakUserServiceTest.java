@@ -0,0 +1,96 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOfficeUserGroup;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOfficeUserGroupService;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(SpringExtension.class)
+@Import({KeycloakUserService.class})
+class KeycloakUserServiceTest {
+  private static final DocumentationOffice DS =
+      DocumentationOffice.builder().abbreviation("DS").build();
+  private static final DocumentationOfficeUserGroup DS_INTERNAL =
+      DocumentationOfficeUserGroup.builder()
+          .docOffice(DS)
+          .userGroupPathName("/DS")
+          .isInternal(true)
+          .build();
+  private static final DocumentationOfficeUserGroup DS_EXTERNAL =
+      DocumentationOfficeUserGroup.builder()
+          .docOffice(DS)
+          .userGroupPathName("/DS/Extern")
+          .isInternal(false)
+          .build();
+
+  @Autowired private KeycloakUserService service;
+  @MockBean private DocumentationOfficeUserGroupService documentationOfficeUserGroupService;
+  @MockBean private OidcUser oidcUser;
+
+  @BeforeEach
+  void setUp() {
+    when(documentationOfficeUserGroupService.getAllUserGroups())
+        .thenReturn(List.of(DS_INTERNAL, DS_EXTERNAL));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void testGetUserGroup_withMultipleMatchingGroups_shouldReturnFirstGroupOfService() {
+    when(oidcUser.getAttribute("groups")).thenReturn(List.of("/unknown", "/DS/Extern", "/DS"));
+
+    assertThat(service.getUserGroup(oidcUser)).contains(DS_INTERNAL);
+  }
+
+  @Test
+  void testGetUserGroup_withoutMatchingGroup_shouldReturnEmpty() {
+    when(oidcUser.getAttribute("groups")).thenReturn(List.of("/unknown"));
+
+    assertThat(service.getUserGroup(oidcUser)).isEmpty();
+    assertThat(service.getDocumentationOffice(oidcUser)).isNull();
+  }
+
+  @Test
+  void testGetDocumentationOffice_withinRequest_shouldResolveUserOnlyOnce() {
+    when(oidcUser.getAttribute("groups")).thenReturn(List.of("/DS/Extern"));
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    assertThat(service.getDocumentationOffice(oidcUser)).isEqualTo(DS);
+    assertThat(service.getUserGroup(oidcUser)).contains(DS_EXTERNAL);
+    assertThat(service.getUser(oidcUser).documentationOffice()).isEqualTo(DS);
+
+    verify(oidcUser, times(1)).getAttribute("groups");
+    verify(documentationOfficeUserGroupService, times(1)).getAllUserGroups();
+  }
+
+  @Test
+  void testGetDocumentationOffice_withoutRequest_shouldResolveUserForEveryCall() {
+    when(oidcUser.getAttribute("groups")).thenReturn(List.of("/DS"));
+
+    assertThat(service.getDocumentationOffice(oidcUser)).isEqualTo(DS);
+    assertThat(service.getDocumentationOffice(oidcUser)).isEqualTo(DS);
+
+    verify(oidcUser, times(2)).getAttribute("groups");
+  }
+}
@@ -0,0 +1,154 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.bund.digitalservice.ris.caselaw.adapter.MailCircuitBreaker.State;
+import de.bund.digitalservice.ris.caselaw.domain.MailServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MailCircuitBreakerTest {
+  private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+  private MutableClock clock;
+  private SimpleMeterRegistry meterRegistry;
+  private MailCircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+    meterRegistry = new SimpleMeterRegistry();
+    circuitBreaker = new MailCircuitBreaker(3, OPEN_DURATION, meterRegistry, clock);
+  }
+
+  @Test
+  void testOnFailure_withConsecutiveFailures_shouldOpenTheCircuit() {
+    fail(2);
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+
+    fail(1);
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    assertThatThrownBy(circuitBreaker::acquirePermission)
+        .isInstanceOf(MailServiceUnavailableException.class)
+        .hasMessageContaining("circuit breaker is open");
+  }
+
+  @Test
+  void testOnSuccess_shouldResetTheConsecutiveFailures() {
+    fail(2);
+    circuitBreaker.acquirePermission();
+    circuitBreaker.onSuccess();
+    fail(2);
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void testAcquirePermission_afterOpenDuration_shouldPermitOneTrialCall() {
+    fail(3);
+    clock.advance(OPEN_DURATION);
+
+    circuitBreaker.acquirePermission();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+    assertThatThrownBy(circuitBreaker::acquirePermission)
+        .isInstanceOf(MailServiceUnavailableException.class);
+  }
+
+  @Test
+  void testOnSuccess_withTrialCall_shouldCloseTheCircuit() {
+    fail(3);
+    clock.advance(OPEN_DURATION);
+    circuitBreaker.acquirePermission();
+
+    circuitBreaker.onSuccess();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    circuitBreaker.acquirePermission();
+  }
+
+  @Test
+  void testOnFailure_withTrialCall_shouldOpenTheCircuitAgain() {
+    fail(3);
+    clock.advance(OPEN_DURATION);
+    circuitBreaker.acquirePermission();
+
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    clock.advance(OPEN_DURATION.minusSeconds(1));
+    assertThatThrownBy(circuitBreaker::acquirePermission)
+        .isInstanceOf(MailServiceUnavailableException.class);
+  }
+
+  @Test
+  void testMetrics_shouldCountTheCallsByOutcomeAndPublishTheState() {
+    circuitBreaker.acquirePermission();
+    circuitBreaker.onSuccess();
+    fail(3);
+    assertThatThrownBy(circuitBreaker::acquirePermission)
+        .isInstanceOf(MailServiceUnavailableException.class);
+
+    assertThat(callCount("success")).isEqualTo(1);
+    assertThat(callCount("failure")).isEqualTo(3);
+    assertThat(callCount("rejected")).isEqualTo(1);
+    assertThat(meterRegistry.get("mail.sender.circuit.state").gauge().value())
+        .isEqualTo(State.OPEN.ordinal());
+  }
+
+  @Test
+  void testMetrics_afterOpenDuration_shouldPublishHalfOpenState() {
+    fail(3);
+
+    clock.advance(OPEN_DURATION);
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+    assertThat(meterRegistry.get("mail.sender.circuit.state").gauge().value())
+        .isEqualTo(State.HALF_OPEN.ordinal());
+  }
+
+  private void fail(int times) {
+    for (int i = 0; i < times; i++) {
+      circuitBreaker.acquirePermission();
+      circuitBreaker.onFailure();
+    }
+  }
+
+  private double callCount(String outcome) {
+    return meterRegistry.get("mail.sender.calls").tag("outcome", outcome).counter().count();
+  }
+
+  private static class MutableClock extends Clock {
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
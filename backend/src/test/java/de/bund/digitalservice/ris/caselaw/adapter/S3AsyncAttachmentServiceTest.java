@@ -0,0 +1,245 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationUnitDTO;
+import de.bund.digitalservice.ris.caselaw.domain.AttachmentException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+@TestPropertySource(
+    properties = {"otc.obs.bucket-name:testBucket", "otc.obs.async-attachments:true"})
+@ExtendWith(SpringExtension.class)
+@Import({S3AsyncAttachmentService.class})
+class S3AsyncAttachmentServiceTest {
+  @SpyBean S3AsyncAttachmentService service;
+
+  @MockBean AttachmentRepository repository;
+  @MockBean S3AsyncClient s3AsyncClient;
+  @MockBean DatabaseDocumentationUnitRepository documentationUnitRepository;
+  @MockBean DocxConversionCache conversionCache;
+
+  @TempDir Path tempDir;
+
+  private DocumentationUnitDTO documentationUnitDTO;
+
+  @BeforeEach
+  void setup() {
+    documentationUnitDTO = DocumentationUnitDTO.builder().id(UUID.randomUUID()).build();
+    when(documentationUnitRepository.findById(documentationUnitDTO.getId()))
+        .thenReturn(Optional.of(documentationUnitDTO));
+
+    when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+        .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+    when(s3AsyncClient.deleteObject(any(DeleteObjectRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(DeleteObjectResponse.builder().build()));
+    when(s3AsyncClient.deleteObjects(any(DeleteObjectsRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(DeleteObjectsResponse.builder().build()));
+
+    when(repository.save(any(AttachmentDTO.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @Test
+  void testAttachFileToDocumentationUnit_shouldStreamFileIntoBucket() {
+    var file = writeFile(new byte[] {1, 2, 3});
+    var headerMap = new LinkedMultiValueMap<String, String>();
+    headerMap.put("Content-Type", List.of("content/extension"));
+    headerMap.put("X-Filename", List.of("testfile.docx"));
+    var httpHeaders = HttpHeaders.readOnlyHttpHeaders(headerMap);
+    doNothing().when(service).checkDocx(any(Path.class));
+
+    service.attachFileToDocumentationUnit(documentationUnitDTO.getId(), file, httpHeaders);
+
+    var putObjectRequestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+    var requestBodyCaptor = ArgumentCaptor.forClass(AsyncRequestBody.class);
+    verify(s3AsyncClient).putObject(putObjectRequestCaptor.capture(), requestBodyCaptor.capture());
+    assertEquals("testBucket", putObjectRequestCaptor.getValue().bucket());
+    assertEquals("content/extension", putObjectRequestCaptor.getValue().contentType());
+    assertEquals(3L, requestBodyCaptor.getValue().contentLength().orElse(0L));
+
+    var attachmentDtoCaptor = ArgumentCaptor.forClass(AttachmentDTO.class);
+    verify(repository).save(attachmentDtoCaptor.capture());
+    assertEquals("testfile.docx", attachmentDtoCaptor.getValue().getFilename());
+    assertEquals("docx", attachmentDtoCaptor.getValue().getFormat());
+  }
+
+  @Test
+  void testAttachFileToDocumentationUnit_withExceptionFromBucket_shouldThrowCause() {
+    var file = writeFile(new byte[] {});
+    doNothing().when(service).checkDocx(any(Path.class));
+    when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+        .thenReturn(CompletableFuture.failedFuture(SdkException.create("exception", null)));
+    var documentationUnitDTOId = documentationUnitDTO.getId();
+
+    assertThrows(
+        SdkException.class,
+        () ->
+            service.attachFileToDocumentationUnit(documentationUnitDTOId, file, HttpHeaders.EMPTY));
+
+    verify(repository, never()).save(any(AttachmentDTO.class));
+  }
+
+  @Test
+  void testDeleteByS3Path() {
+    var testS3Path = UUID.randomUUID().toString();
+
+    service.deleteByS3Path(testS3Path);
+
+    var deleteObjectRequestCaptor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+    verify(s3AsyncClient).deleteObject(deleteObjectRequestCaptor.capture());
+    assertEquals("testBucket", deleteObjectRequestCaptor.getValue().bucket());
+    assertEquals(testS3Path, deleteObjectRequestCaptor.getValue().key());
+    verify(conversionCache).evict(testS3Path);
+    verify(repository).deleteByS3ObjectPath(testS3Path);
+  }
+
+  @Test
+  void testDeleteByS3Path_withoutS3Path() {
+    assertThrows(AttachmentException.class, () -> service.deleteByS3Path(" "));
+
+    verifyNoInteractions(s3AsyncClient);
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  void testDeleteAllObjectsFromBucketForDocumentationUnit_shouldDeleteInBatchesOf1000Keys() {
+    List<AttachmentDTO> attachments =
+        IntStream.range(0, 2500)
+            .mapToObj(i -> AttachmentDTO.builder().s3ObjectPath("path" + i).build())
+            .toList();
+    when(repository.findAllByDocumentationUnitId(documentationUnitDTO.getId()))
+        .thenReturn(attachments);
+
+    service.deleteAllObjectsFromBucketForDocumentationUnit(documentationUnitDTO.getId());
+
+    var deleteObjectsRequestCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+    verify(s3AsyncClient, times(3)).deleteObjects(deleteObjectsRequestCaptor.capture());
+    List<DeleteObjectsRequest> requests = deleteObjectsRequestCaptor.getAllValues();
+    assertEquals(
+        List.of(1000, 1000, 500),
+        requests.stream().map(request -> request.delete().objects().size()).toList());
+    assertEquals("testBucket", requests.get(0).bucket());
+    assertEquals("path0", requests.get(0).delete().objects().get(0).key());
+    assertEquals("path2499", requests.get(2).delete().objects().get(499).key());
+    verify(s3AsyncClient, never()).deleteObject(any(DeleteObjectRequest.class));
+    verify(conversionCache, times(2500)).evict(any(String.class));
+    verify(repository, never()).deleteByS3ObjectPath(any(String.class));
+  }
+
+  @Test
+  void testDeleteAllObjectsFromBucketForDocumentationUnit_withoutAttachments() {
+    when(repository.findAllByDocumentationUnitId(documentationUnitDTO.getId()))
+        .thenReturn(List.of());
+
+    service.deleteAllObjectsFromBucketForDocumentationUnit(documentationUnitDTO.getId());
+
+    verifyNoInteractions(s3AsyncClient);
+  }
+
+  @Test
+  void testDeleteAllObjectsFromBucketForDocumentationUnit_withFailedKey_shouldThrowException() {
+    when(repository.findAllByDocumentationUnitId(documentationUnitDTO.getId()))
+        .thenReturn(
+            List.of(
+                AttachmentDTO.builder().s3ObjectPath("fooS3Path").build(),
+                AttachmentDTO.builder().s3ObjectPath("barS3Path").build()));
+    when(s3AsyncClient.deleteObjects(any(DeleteObjectsRequest.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                DeleteObjectsResponse.builder()
+                    .errors(S3Error.builder().key("barS3Path").code("AccessDenied").build())
+                    .build()));
+    var documentationUnitId = documentationUnitDTO.getId();
+
+    assertThrows(
+        AttachmentException.class,
+        () -> service.deleteAllObjectsFromBucketForDocumentationUnit(documentationUnitId));
+
+    verify(conversionCache).evict("fooS3Path");
+    verify(conversionCache, never()).evict("barS3Path");
+  }
+
+  @Test
+  void testWithS3AsyncMockClient_shouldStoreAndDeleteFilesInLocalStorage() throws IOException {
+    Path storage = Files.createDirectory(tempDir.resolve("storage"));
+    S3AsyncMockClient mockClient = new S3AsyncMockClient();
+    ReflectionTestUtils.setField(mockClient, "relativeLocalStorageDirectory", storage);
+    mockClient.init();
+    S3AsyncAttachmentService localService =
+        new S3AsyncAttachmentService(
+            repository, mockClient, documentationUnitRepository, conversionCache);
+    ReflectionTestUtils.setField(localService, "bucketName", "local");
+    mockClient.putObject(
+        PutObjectRequest.builder().bucket("local").key("foo").build(),
+        AsyncRequestBody.fromBytes(new byte[] {1, 2}));
+    mockClient.putObject(
+        PutObjectRequest.builder().bucket("local").key("bar").build(),
+        AsyncRequestBody.fromBytes(new byte[] {3}));
+    when(repository.findAllByDocumentationUnitId(documentationUnitDTO.getId()))
+        .thenReturn(
+            List.of(
+                AttachmentDTO.builder().s3ObjectPath("foo").build(),
+                AttachmentDTO.builder().s3ObjectPath("bar").build()));
+
+    assertArrayEquals(new byte[] {1, 2}, Files.readAllBytes(storage.resolve("foo")));
+    assertArrayEquals(new byte[] {3}, Files.readAllBytes(storage.resolve("bar")));
+
+    localService.deleteAllObjectsFromBucketForDocumentationUnit(documentationUnitDTO.getId());
+
+    assertFalse(Files.exists(storage.resolve("foo")));
+    assertFalse(Files.exists(storage.resolve("bar")));
+    assertTrue(Files.isDirectory(storage));
+  }
+
+  private Path writeFile(byte[] content) {
+    try {
+      return Files.write(Files.createTempFile(tempDir, "upload", ".docx"), content);
+    } catch (IOException exception) {
+      throw new RuntimeException("Failed to write file", exception);
+    }
+  }
+}
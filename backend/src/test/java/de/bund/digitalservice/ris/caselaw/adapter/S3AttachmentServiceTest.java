@@ -19,7 +19,8 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationUnit
 import de.bund.digitalservice.ris.caselaw.domain.AttachmentException;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -29,6 +30,7 @@ import java.util.zip.ZipOutputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -58,6 +60,9 @@ class S3AttachmentServiceTest {
   @MockBean AttachmentRepository repository;
   @MockBean S3Client s3Client;
   @MockBean DatabaseDocumentationUnitRepository documentationUnitRepository;
+  @MockBean DocxConversionCache conversionCache;
+
+  @TempDir Path tempDir;
 
   private DocumentationUnitDTO documentationUnitDTO;
 
@@ -76,14 +81,14 @@ class S3AttachmentServiceTest {
 
   @Test
   void testAttachFileToDocumentationUnit() {
-    var byteBuffer = ByteBuffer.wrap(new byte[] {});
+    var file = writeFile(new byte[] {});
     var headerMap = new LinkedMultiValueMap<String, String>();
     headerMap.put("Content-Type", List.of("content/extension"));
     headerMap.put("X-Filename", List.of("testfile.docx"));
     var httpHeaders = HttpHeaders.readOnlyHttpHeaders(headerMap);
-    doNothing().when(service).checkDocx(any(ByteBuffer.class));
+    doNothing().when(service).checkDocx(any(Path.class));
 
-    service.attachFileToDocumentationUnit(documentationUnitDTO.getId(), byteBuffer, httpHeaders);
+    service.attachFileToDocumentationUnit(documentationUnitDTO.getId(), file, httpHeaders);
 
     // s3 interaction
     var putObjectRequestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
@@ -92,7 +97,7 @@ class S3AttachmentServiceTest {
     assertEquals("testBucket", putObjectRequestCaptor.getValue().bucket());
     assertEquals("content/extension", putObjectRequestCaptor.getValue().contentType());
     var value = requestBodyCaptor.getValue();
-    var expected = RequestBody.fromByteBuffer(ByteBuffer.wrap(new byte[] {}));
+    var expected = RequestBody.fromFile(file);
     assertEquals(
         expected.optionalContentLength().orElse(0L), value.optionalContentLength().orElse(0L));
     assertEquals(expected.contentType(), value.contentType());
@@ -106,13 +111,13 @@ class S3AttachmentServiceTest {
 
   @Test
   void testAttachFileToDocumentationUnit_withoutFileName() {
-    var byteBuffer = ByteBuffer.wrap(new byte[] {});
+    var file = writeFile(new byte[] {});
     var headerMap = new LinkedMultiValueMap<String, String>();
     headerMap.put("Content-Type", List.of("content/extension"));
     var httpHeaders = HttpHeaders.readOnlyHttpHeaders(headerMap);
-    doNothing().when(service).checkDocx(any(ByteBuffer.class));
+    doNothing().when(service).checkDocx(any(Path.class));
 
-    service.attachFileToDocumentationUnit(documentationUnitDTO.getId(), byteBuffer, httpHeaders);
+    service.attachFileToDocumentationUnit(documentationUnitDTO.getId(), file, httpHeaders);
 
     var attachmentDtoCaptor = ArgumentCaptor.forClass(AttachmentDTO.class);
     verify(repository).save(attachmentDtoCaptor.capture());
@@ -129,6 +134,7 @@ class S3AttachmentServiceTest {
     verify(s3Client).deleteObject(deleteObjectRequestCaptor.capture());
     assertEquals("testBucket", deleteObjectRequestCaptor.getValue().bucket());
     assertEquals(testS3Path, deleteObjectRequestCaptor.getValue().key());
+    verify(conversionCache).evict(testS3Path);
 
     // repo interaction
     verify(repository).deleteByS3ObjectPath(testS3Path);
@@ -168,38 +174,38 @@ class S3AttachmentServiceTest {
 
   @Test
   void testCheckDocx_withValidDocument() {
-    ByteBuffer byteBuffer = buildBuffer("word/document.xml");
-    assertDoesNotThrow(() -> service.checkDocx(byteBuffer));
+    Path file = buildZip("word/document.xml");
+    assertDoesNotThrow(() -> service.checkDocx(file));
   }
 
   @Test
   void testCheckDocx_withInvalidFormat() {
-    ByteBuffer byteBuffer = buildBuffer("word/document.csv");
-    assertThrows(ResponseStatusException.class, () -> service.checkDocx(byteBuffer));
+    Path file = buildZip("word/document.csv");
+    assertThrows(ResponseStatusException.class, () -> service.checkDocx(file));
   }
 
   @Test
   void testCheckDocx_withCorruptedDocx() {
     byte[] corruptedData = new byte[1024];
     new Random().nextBytes(corruptedData);
-    ByteBuffer byteBuffer = ByteBuffer.wrap(corruptedData);
+    Path file = writeFile(corruptedData);
 
-    assertThrows(ResponseStatusException.class, () -> service.checkDocx(byteBuffer));
+    assertThrows(ResponseStatusException.class, () -> service.checkDocx(file));
   }
 
   @Test
   void testCheckDocx_withEmptyBuffer() {
     byte[] emptyData = new byte[] {};
-    ByteBuffer byteBuffer = ByteBuffer.wrap(emptyData);
+    Path file = writeFile(emptyData);
 
-    assertThrows(ResponseStatusException.class, () -> service.checkDocx(byteBuffer));
+    assertThrows(ResponseStatusException.class, () -> service.checkDocx(file));
   }
 
   @Test
   void testGenerateNewDocumentationUnitAndAttachFile_withExceptionFromBucket() throws S3Exception {
-    var byteBuffer = ByteBuffer.wrap(new byte[] {});
+    var file = writeFile(new byte[] {});
 
-    doNothing().when(service).checkDocx(any(ByteBuffer.class));
+    doNothing().when(service).checkDocx(any(Path.class));
     when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
         .thenThrow(SdkException.create("exception", null));
     var documentationUnitDTOId = documentationUnitDTO.getId();
@@ -207,13 +213,20 @@ class S3AttachmentServiceTest {
     assertThrows(
         SdkException.class,
         () ->
-            service.attachFileToDocumentationUnit(
-                documentationUnitDTOId, byteBuffer, HttpHeaders.EMPTY));
+            service.attachFileToDocumentationUnit(documentationUnitDTOId, file, HttpHeaders.EMPTY));
 
     verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
   }
 
-  private ByteBuffer buildBuffer(String entry) {
+  private Path writeFile(byte[] content) {
+    try {
+      return Files.write(Files.createTempFile(tempDir, "upload", ".docx"), content);
+    } catch (IOException exception) {
+      throw new RuntimeException("Failed to write file", exception);
+    }
+  }
+
+  private Path buildZip(String entry) {
     try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
         ZipOutputStream zipOutputStream = new ZipOutputStream(byteArrayOutputStream)) {
       ZipEntry zipEntry = new ZipEntry(entry);
@@ -222,7 +235,7 @@ class S3AttachmentServiceTest {
       zipOutputStream.finish();
 
       byte[] zipBytes = byteArrayOutputStream.toByteArray();
-      return ByteBuffer.wrap(zipBytes);
+      return writeFile(zipBytes);
     } catch (IOException exception) {
       throw new RuntimeException("Failed to create zip", exception);
     }
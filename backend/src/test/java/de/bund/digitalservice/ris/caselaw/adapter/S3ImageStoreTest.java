@@ -0,0 +1,145 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStoreException;
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocxImagePart;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+@TestPropertySource(properties = "otc.obs.bucket-name:testBucket")
+@ExtendWith(SpringExtension.class)
+@Import({S3ImageStore.class})
+class S3ImageStoreTest {
+  // SHA-256 of the bytes 1, 2
+  private static final String HASH =
+      "a12871fee210fb8619291eaea194581cbd2531e4b23759d225f6806923f63222";
+
+  @Autowired S3ImageStore imageStore;
+
+  @MockBean S3Client s3Client;
+
+  @Test
+  void testStore_withNewImage_shouldPutImageByContentHash() {
+    when(s3Client.headObject(any(HeadObjectRequest.class)))
+        .thenThrow(NoSuchKeyException.builder().build());
+
+    var src = imageStore.store("image/png", new byte[] {1, 2});
+
+    assertThat(src).contains("/api/v1/caselaw/images/" + HASH);
+    var putRequest = ArgumentCaptor.forClass(PutObjectRequest.class);
+    verify(s3Client).putObject(putRequest.capture(), any(RequestBody.class));
+    assertThat(putRequest.getValue().bucket()).isEqualTo("testBucket");
+    assertThat(putRequest.getValue().key()).isEqualTo("images/" + HASH);
+    assertThat(putRequest.getValue().contentType()).isEqualTo("image/png");
+  }
+
+  @Test
+  void testStore_withStoredImage_shouldNotPutImageAgain() {
+    when(s3Client.headObject(any(HeadObjectRequest.class)))
+        .thenReturn(HeadObjectResponse.builder().build());
+
+    var src = imageStore.store("image/png", new byte[] {1, 2});
+
+    assertThat(src).contains("/api/v1/caselaw/images/" + HASH);
+    verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+  }
+
+  @Test
+  void testStore_withUnavailableBucket_shouldReturnEmpty() {
+    when(s3Client.headObject(any(HeadObjectRequest.class)))
+        .thenThrow(S3Exception.builder().message("unavailable").build());
+
+    assertThat(imageStore.store("image/png", new byte[] {1, 2})).isEmpty();
+  }
+
+  @Test
+  void testGet_shouldReturnStoredImage() {
+    when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+        .thenReturn(
+            ResponseBytes.fromByteArray(
+                GetObjectResponse.builder().contentType("image/png").build(), new byte[] {1, 2}));
+
+    assertThat(imageStore.get(HASH)).contains(new DocxImagePart("image/png", new byte[] {1, 2}));
+  }
+
+  @Test
+  void testGet_withUnknownImage_shouldReturnEmpty() {
+    when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+        .thenThrow(NoSuchKeyException.builder().build());
+
+    assertThat(imageStore.get(HASH)).isEmpty();
+  }
+
+  @Test
+  void testGet_withUnavailableBucket_shouldThrowException() {
+    when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+        .thenThrow(S3Exception.builder().message("unavailable").build());
+
+    assertThatThrownBy(() -> imageStore.get(HASH)).isInstanceOf(ImageStoreException.class);
+  }
+
+  @Test
+  void testInlineImages_shouldReplaceReferencesByDataUrls() {
+    when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+        .thenReturn(
+            ResponseBytes.fromByteArray(
+                GetObjectResponse.builder().contentType("image/png").build(), new byte[] {1, 2}));
+
+    var html =
+        imageStore.inlineImages("<p><img src=\"/api/v1/caselaw/images/" + HASH + "\" /></p>");
+
+    assertThat(html).isEqualTo("<p><img src=\"data:image/png;base64, AQI=\" /></p>");
+  }
+
+  @Test
+  void testInlineImages_withScopedReference_shouldReplaceReferenceByDataUrl() {
+    when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+        .thenReturn(
+            ResponseBytes.fromByteArray(
+                GetObjectResponse.builder().contentType("image/png").build(), new byte[] {1, 2}));
+
+    var html =
+        imageStore.inlineImages(
+            "<img src=\"/api/v1/caselaw/documentunits/YYTestDoc0001/images/" + HASH + "\" />");
+
+    assertThat(html).isEqualTo("<img src=\"data:image/png;base64, AQI=\" />");
+  }
+
+  @Test
+  void testInlineImages_withUnknownImage_shouldKeepReference() {
+    when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+        .thenThrow(NoSuchKeyException.builder().build());
+    var html = "<p><img src=\"/api/v1/caselaw/images/" + HASH + "\" /></p>";
+
+    assertThat(imageStore.inlineImages(html)).isEqualTo(html);
+  }
+
+  @Test
+  void testInlineImages_withoutReferences_shouldNotReadBucket() {
+    assertThat(imageStore.inlineImages("<p>text</p>")).isEqualTo("<p>text</p>");
+    assertThat(imageStore.inlineImages(null)).isNull();
+    verify(s3Client, never()).getObjectAsBytes(any(GetObjectRequest.class));
+  }
+}
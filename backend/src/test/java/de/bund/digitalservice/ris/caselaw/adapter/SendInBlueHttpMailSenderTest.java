@@ -0,0 +1,171 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.bund.digitalservice.ris.caselaw.adapter.MailCircuitBreaker.State;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitHandoverException;
+import de.bund.digitalservice.ris.caselaw.domain.MailAttachment;
+import de.bund.digitalservice.ris.caselaw.domain.MailServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Sends the mails to a local fake of the SendInBlue api. */
+class SendInBlueHttpMailSenderTest {
+  private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private final AtomicReference<String> requestBody = new AtomicReference<>();
+  private final AtomicReference<String> requestApiKey = new AtomicReference<>();
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+  private volatile int status = 201;
+  private volatile Duration latency = Duration.ZERO;
+
+  private MailCircuitBreaker circuitBreaker;
+  private SendInBlueHttpMailSender sender;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/v3/smtp/email", this::handle);
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    circuitBreaker = new MailCircuitBreaker(2, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    sender =
+        new SendInBlueHttpMailSender(
+            "test-api-key",
+            "http://localhost:" + server.getAddress().getPort() + "/v3",
+            Duration.ofSeconds(1),
+            READ_TIMEOUT,
+            circuitBreaker);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void testSendMail_shouldPostTheMailWithApiKeyAndIdempotencyKey() {
+    sendMail();
+
+    assertThat(requestCount.get()).isEqualTo(1);
+    assertThat(requestApiKey.get()).isEqualTo("test-api-key");
+    assertThat(requestBody.get())
+        .contains("\"idempotencyKey\":\"key-1\"")
+        .contains("\"subject\":\"subject\"")
+        .contains("\"tags\":[\"tag\"]");
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void testSendMail_shouldReuseTheConnection() {
+    sendMail();
+    sendMail();
+    sendMail();
+
+    assertThat(requestCount.get()).isEqualTo(3);
+    assertThat(clientPorts).hasSize(1);
+  }
+
+  @Test
+  void testSendMail_withSlowMailService_shouldFailAfterReadTimeout() {
+    latency = Duration.ofSeconds(2);
+    long start = System.nanoTime();
+
+    assertThatThrownBy(this::sendMail).isInstanceOf(DocumentationUnitHandoverException.class);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+  }
+
+  @Test
+  void testSendMail_withUnavailableMailService_shouldOpenTheCircuitAndFailFast() {
+    status = 503;
+
+    assertThatThrownBy(this::sendMail).isInstanceOf(DocumentationUnitHandoverException.class);
+    assertThatThrownBy(this::sendMail).isInstanceOf(DocumentationUnitHandoverException.class);
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+
+    assertThatThrownBy(this::sendMail)
+        .isInstanceOf(MailServiceUnavailableException.class)
+        .hasMessageContaining("circuit breaker is open");
+    assertThat(requestCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  void testSendMail_withStoppedMailService_shouldOpenTheCircuit() {
+    server.stop(0);
+
+    assertThatThrownBy(this::sendMail).isInstanceOf(DocumentationUnitHandoverException.class);
+    assertThatThrownBy(this::sendMail).isInstanceOf(DocumentationUnitHandoverException.class);
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  void testSendMail_withRejectedMail_shouldKeepTheCircuitClosed() {
+    status = 400;
+
+    assertThatThrownBy(this::sendMail).isInstanceOf(DocumentationUnitHandoverException.class);
+    assertThatThrownBy(this::sendMail).isInstanceOf(DocumentationUnitHandoverException.class);
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(requestCount.get()).isEqualTo(2);
+  }
+
+  private void sendMail() {
+    sender.sendMail(
+        "sender@example.com",
+        "receiver@example.com",
+        "subject",
+        "neuris",
+        List.of(MailAttachment.builder().fileName("test.xml").fileContent("<xml/>").build()),
+        "tag",
+        "key-" + (requestCount.get() + 1));
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    requestCount.incrementAndGet();
+    clientPorts.add(exchange.getRemoteAddress().getPort());
+    requestApiKey.set(exchange.getRequestHeaders().getFirst("api-key"));
+    requestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+    try {
+      Thread.sleep(latency.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+
+    byte[] response =
+        (status == 201 ? "{\"messageId\":\"<42@smtp-relay.mailin.fr>\"}" : "{\"code\":\"error\"}")
+            .getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, response.length);
+    try (OutputStream body = exchange.getResponseBody()) {
+      body.write(response);
+    }
+  }
+}
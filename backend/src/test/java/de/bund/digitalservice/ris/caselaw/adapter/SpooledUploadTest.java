@@ -0,0 +1,25 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class SpooledUploadTest {
+
+  @Test
+  void testOf_shouldStoreBodyInTemporaryFileAndDeleteItOnClose() throws IOException {
+    byte[] body = new byte[] {1, 2, 3};
+    Path file;
+
+    try (var upload = SpooledUpload.of(new ByteArrayInputStream(body))) {
+      file = upload.file();
+      assertThat(Files.readAllBytes(file)).isEqualTo(body);
+    }
+
+    assertThat(file).doesNotExist();
+  }
+}
@@ -1,18 +1,19 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStore;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
 import de.bund.digitalservice.ris.caselaw.domain.Attachment;
 import de.bund.digitalservice.ris.caselaw.domain.CoreData;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
 import de.bund.digitalservice.ris.caselaw.domain.HandoverMail;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxService;
 import de.bund.digitalservice.ris.caselaw.domain.HandoverRepository;
-import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
-import de.bund.digitalservice.ris.caselaw.domain.MailAttachment;
 import de.bund.digitalservice.ris.caselaw.domain.XmlExporter;
 import de.bund.digitalservice.ris.caselaw.domain.XmlTransformationResult;
 import de.bund.digitalservice.ris.caselaw.domain.court.Court;
@@ -48,7 +49,6 @@ class XmlMailServiceProdTest {
   private static final String RECEIVER_ADDRESS = "test-to@mail.com";
 
   private static final String ISSUER_ADDRESS = "neuris-user@example.com";
-  private static final String SENDER_ADDRESS = "export@neuris";
   private static final Instant CREATED_DATE = Instant.parse("2020-05-05T10:21:35.00Z");
   private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
   private static final String DELIVER_DATE =
@@ -94,10 +94,13 @@ class XmlMailServiceProdTest {
 
   @MockBean private DatabaseDocumentationUnitRepository documentationUnitRepository;
 
-  @MockBean private HttpMailSender mailSender;
+  @MockBean private HandoverMailOutboxService outboxService;
+
+  @MockBean private ImageStore imageStore;
 
   @BeforeEach
   void setUp() throws ParserConfigurationException, TransformerException {
+    when(imageStore.inlineImages(any())).then(returnsFirstArg());
     documentationUnit =
         DocumentationUnit.builder()
             .uuid(TEST_UUID)
@@ -110,7 +113,7 @@ class XmlMailServiceProdTest {
             .build();
     when(xmlExporter.transformToXml(any(DocumentationUnit.class))).thenReturn(FORMATTED_XML);
 
-    when(repository.save(EXPECTED_BEFORE_SAVE_PROD)).thenReturn(SAVED_XML_MAIL_PROD);
+    when(outboxService.enqueue(EXPECTED_BEFORE_SAVE_PROD)).thenReturn(SAVED_XML_MAIL_PROD);
   }
 
   @Test
@@ -122,18 +125,6 @@ class XmlMailServiceProdTest {
     assertThat(response.mailSubject()).isEqualTo(PROD_MAIL_SUBJECT);
 
     verify(xmlExporter).transformToXml(documentationUnit);
-    verify(repository).save(EXPECTED_BEFORE_SAVE_PROD);
-    verify(mailSender)
-        .sendMail(
-            SENDER_ADDRESS,
-            RECEIVER_ADDRESS,
-            SAVED_XML_MAIL_PROD.mailSubject(),
-            "neuris",
-            Collections.singletonList(
-                MailAttachment.builder()
-                    .fileName(SAVED_XML_MAIL_PROD.fileName())
-                    .fileContent(SAVED_XML_MAIL_PROD.xml())
-                    .build()),
-            SAVED_XML_MAIL_PROD.documentationUnitId().toString());
+    verify(outboxService).enqueue(EXPECTED_BEFORE_SAVE_PROD);
   }
 }
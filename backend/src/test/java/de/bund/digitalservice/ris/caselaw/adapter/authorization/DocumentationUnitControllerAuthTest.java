@@ -6,7 +6,6 @@ import static de.bund.digitalservice.ris.caselaw.AuthUtils.setUpDocumentationOff
 import static de.bund.digitalservice.ris.caselaw.domain.PublicationStatus.PUBLISHED;
 import static de.bund.digitalservice.ris.caselaw.domain.PublicationStatus.UNPUBLISHED;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
@@ -21,6 +20,7 @@ import de.bund.digitalservice.ris.caselaw.domain.AttachmentService;
 import de.bund.digitalservice.ris.caselaw.domain.CoreData;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessDescriptor;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitDocxMetadataInitializationService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.HandoverService;
@@ -30,7 +30,7 @@ import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
 import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
 import de.bund.digitalservice.ris.caselaw.domain.mapper.PatchMapperService;
 import de.bund.digitalservice.ris.caselaw.webtestclient.RisWebTestClient;
-import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -83,7 +83,7 @@ class DocumentationUnitControllerAuthTest {
   @Test
   void testGetByDocumentNumber_nonExistentDocumentNumber_shouldYield403Too() {
     // testGetByDocumentNumber() is also in DocumentationUnitControllerAuthIntegrationTest
-    when(service.getByDocumentNumber(any(String.class))).thenReturn(null);
+    when(service.getAccessDescriptorByDocumentNumber(any(String.class))).thenReturn(null);
 
     risWebTestClient
         .withLogin(docOffice1Group)
@@ -105,9 +105,10 @@ class DocumentationUnitControllerAuthTest {
   @Test
   void testAttachFileToDocumentationUnit() {
     when(attachmentService.attachFileToDocumentationUnit(
-            eq(TEST_UUID), any(ByteBuffer.class), any(HttpHeaders.class)))
+            eq(TEST_UUID), any(Path.class), any(HttpHeaders.class)))
         .thenReturn(Attachment.builder().s3path("fooPath").build());
-    when(docxConverterService.getConvertedObject(anyString())).thenReturn(Docx2Html.EMPTY);
+    when(docxConverterService.getConvertedObject(any(Path.class), any()))
+        .thenReturn(Docx2Html.EMPTY);
     mockDocumentationUnit(docOffice1, null, null);
 
     String uri = "/api/v1/caselaw/documentunits/" + TEST_UUID + "/file";
@@ -206,7 +207,7 @@ class DocumentationUnitControllerAuthTest {
         .isOk();
 
     UUID nonExistentUuid = UUID.fromString("12345678-1111-2222-3333-787878787878");
-    when(service.getByUuid(nonExistentUuid)).thenReturn(null);
+    when(service.getAccessDescriptorByUuid(nonExistentUuid)).thenReturn(null);
     uri = "/api/v1/caselaw/documentunits/" + nonExistentUuid;
 
     risWebTestClient
@@ -311,6 +312,13 @@ class DocumentationUnitControllerAuthTest {
             .coreData(CoreData.builder().documentationOffice(docOffice).build())
             .build();
     when(service.getByUuid(TEST_UUID)).thenReturn(docUnit);
+    when(service.getAccessDescriptorByUuid(TEST_UUID))
+        .thenReturn(
+            DocumentationUnitAccessDescriptor.builder()
+                .uuid(TEST_UUID)
+                .status(status)
+                .documentationOffice(docOffice)
+                .build());
     return docUnit;
   }
 }
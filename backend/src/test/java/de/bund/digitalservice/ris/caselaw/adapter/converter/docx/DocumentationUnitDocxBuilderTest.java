@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import de.bund.digitalservice.ris.caselaw.domain.docx.AnchorImageElement;
@@ -28,6 +30,7 @@ import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 import javax.xml.namespace.QName;
 import org.docx4j.dml.CTBlip;
@@ -694,12 +697,11 @@ class DocumentationUnitDocxBuilderTest {
             .setParagraphStyle(pPr)
             .build();
 
-    var converter = new DocxConverter();
-    converter.setStyles(styles);
+    var context = ConversionContext.builder().styles(styles).build();
     var result =
         DocumentationUnitDocxBuilder.newInstance()
             .setParagraph(paragraph)
-            .setConverter(converter)
+            .setContext(context)
             .build();
 
     assertInstanceOf(ParagraphElement.class, result);
@@ -755,9 +757,8 @@ class DocumentationUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-extension", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var converter = new DocxConverter();
-    converter.setImages(images);
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var context = ConversionContext.builder().images(images).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
 
     assertInstanceOf(ParagraphElement.class, result);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -772,6 +773,146 @@ class DocumentationUnitDocxBuilderTest {
     assertEquals("<p><img src=\"data:content-extension;base64, AQI=\" /></p>", htmlString);
   }
 
+  @Test
+  void testBuild_withInlineImage_withImageStore_shouldReferenceStoredImage() {
+    DocumentationUnitDocxBuilder builder = DocumentationUnitDocxBuilder.newInstance();
+    P paragraph = new P();
+    R run = new R();
+    Drawing drawing = new Drawing();
+    drawing.getAnchorOrInline().add(generateInline(null, null, null));
+    JAXBElement<Drawing> element = new JAXBElement<>(new QName("drawing"), Drawing.class, drawing);
+    run.getContent().add(element);
+    paragraph.getContent().add(run);
+
+    HashMap<String, DocxImagePart> images = new HashMap<>();
+    DocxImagePart image = new DocxImagePart("content-extension", new byte[] {1, 2});
+    images.put("image-ref", image);
+    ImageStore imageStore = mock(ImageStore.class);
+    when(imageStore.store("content-extension", new byte[] {1, 2}))
+        .thenReturn(Optional.of("/images/abc"));
+
+    var context = ConversionContext.builder().images(images).imageStore(imageStore).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
+
+    assertInstanceOf(ParagraphElement.class, result);
+    ParagraphElement paragraphElement = (ParagraphElement) result;
+    var runImageElement = (InlineImageElement) paragraphElement.getRunElements().get(0);
+    assertEquals("/images/abc", runImageElement.getSrc());
+    assertNull(runImageElement.getBase64Representation());
+    assertEquals("<p><img src=\"/images/abc\" /></p>", paragraphElement.toHtmlString());
+  }
+
+  @Test
+  void testBuild_withInlineImage_withFailingImageStore_shouldInlineImage() {
+    DocumentationUnitDocxBuilder builder = DocumentationUnitDocxBuilder.newInstance();
+    P paragraph = new P();
+    R run = new R();
+    Drawing drawing = new Drawing();
+    drawing.getAnchorOrInline().add(generateInline(null, null, null));
+    JAXBElement<Drawing> element = new JAXBElement<>(new QName("drawing"), Drawing.class, drawing);
+    run.getContent().add(element);
+    paragraph.getContent().add(run);
+
+    HashMap<String, DocxImagePart> images = new HashMap<>();
+    DocxImagePart image = new DocxImagePart("content-extension", new byte[] {1, 2});
+    images.put("image-ref", image);
+    ImageStore imageStore = mock(ImageStore.class);
+    when(imageStore.store("content-extension", new byte[] {1, 2})).thenReturn(Optional.empty());
+
+    var context = ConversionContext.builder().images(images).imageStore(imageStore).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
+
+    assertEquals(
+        "<p><img src=\"data:content-extension;base64, AQI=\" /></p>", result.toHtmlString());
+  }
+
+  @Test
+  void testBuild_withEmfImage_withEmfRenderer_shouldUseRenderedImage() {
+    DocumentationUnitDocxBuilder builder = DocumentationUnitDocxBuilder.newInstance();
+    P paragraph = new P();
+    R run = new R();
+    Drawing drawing = new Drawing();
+    drawing.getAnchorOrInline().add(generateInline(null, null, new Dimension(10, 20)));
+    JAXBElement<Drawing> element = new JAXBElement<>(new QName("drawing"), Drawing.class, drawing);
+    run.getContent().add(element);
+    paragraph.getContent().add(run);
+
+    HashMap<String, DocxImagePart> images = new HashMap<>();
+    images.put("image-ref", new DocxImagePart("image/x-emf", new byte[] {1, 2}));
+    EmfRenderer emfRenderer = mock(EmfRenderer.class);
+    when(emfRenderer.render(new byte[] {1, 2}, new Dimension(10, 20)))
+        .thenReturn(Optional.of(new byte[] {3}));
+
+    var context = ConversionContext.builder().images(images).emfRenderer(emfRenderer).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
+
+    var runImageElement = (InlineImageElement) ((ParagraphElement) result).getRunElements().get(0);
+    assertEquals("image/png", runImageElement.getContentType());
+    assertEquals("Aw==", runImageElement.getBase64Representation());
+  }
+
+  @Test
+  void testBuild_withEmfImage_withFailedRendering_shouldKeepTheEmfImage() {
+    DocumentationUnitDocxBuilder builder = DocumentationUnitDocxBuilder.newInstance();
+    P paragraph = new P();
+    R run = new R();
+    Drawing drawing = new Drawing();
+    drawing.getAnchorOrInline().add(generateInline(null, null, new Dimension(10, 20)));
+    JAXBElement<Drawing> element = new JAXBElement<>(new QName("drawing"), Drawing.class, drawing);
+    run.getContent().add(element);
+    paragraph.getContent().add(run);
+
+    HashMap<String, DocxImagePart> images = new HashMap<>();
+    images.put("image-ref", new DocxImagePart("image/x-emf", new byte[] {1, 2}));
+    EmfRenderer emfRenderer = mock(EmfRenderer.class);
+    when(emfRenderer.render(new byte[] {1, 2}, new Dimension(10, 20))).thenReturn(Optional.empty());
+
+    var context = ConversionContext.builder().images(images).emfRenderer(emfRenderer).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
+
+    var runImageElement = (InlineImageElement) ((ParagraphElement) result).getRunElements().get(0);
+    assertEquals("image/x-emf", runImageElement.getContentType());
+    assertEquals("AQI=", runImageElement.getBase64Representation());
+  }
+
+  @Test
+  void testPrepareEmfImages_shouldStartRenderingOfEmfImages() {
+    P paragraph = new P();
+    R run = new R();
+    Drawing drawing = new Drawing();
+    drawing.getAnchorOrInline().add(generateInline(null, null, new Dimension(10, 20)));
+    run.getContent().add(new JAXBElement<>(new QName("drawing"), Drawing.class, drawing));
+    paragraph.getContent().add(run);
+
+    HashMap<String, DocxImagePart> images = new HashMap<>();
+    images.put("image-ref", new DocxImagePart("image/x-emf", new byte[] {1, 2}));
+    EmfRenderer emfRenderer = mock(EmfRenderer.class);
+    var context = ConversionContext.builder().images(images).emfRenderer(emfRenderer).build();
+
+    RunElementConverter.prepareEmfImages(List.of(paragraph), context);
+
+    verify(emfRenderer).prepare(new byte[] {1, 2}, new Dimension(10, 20));
+  }
+
+  @Test
+  void testPrepareEmfImages_withOtherImage_shouldNotStartRendering() {
+    P paragraph = new P();
+    R run = new R();
+    Drawing drawing = new Drawing();
+    drawing.getAnchorOrInline().add(generateInline(null, null, new Dimension(10, 20)));
+    run.getContent().add(new JAXBElement<>(new QName("drawing"), Drawing.class, drawing));
+    paragraph.getContent().add(run);
+
+    HashMap<String, DocxImagePart> images = new HashMap<>();
+    images.put("image-ref", new DocxImagePart("image/png", new byte[] {1, 2}));
+    EmfRenderer emfRenderer = mock(EmfRenderer.class);
+    var context = ConversionContext.builder().images(images).emfRenderer(emfRenderer).build();
+
+    RunElementConverter.prepareEmfImages(List.of(paragraph), context);
+
+    verifyNoInteractions(emfRenderer);
+  }
+
   @Test
   void testBuild_withInlineImage_withAlternateText() {
     DocumentationUnitDocxBuilder builder = DocumentationUnitDocxBuilder.newInstance();
@@ -787,9 +928,8 @@ class DocumentationUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-extension", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var converter = new DocxConverter();
-    converter.setImages(images);
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var context = ConversionContext.builder().images(images).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
 
     assertInstanceOf(ParagraphElement.class, result);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -821,9 +961,8 @@ class DocumentationUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-extension", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var converter = new DocxConverter();
-    converter.setImages(images);
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var context = ConversionContext.builder().images(images).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
 
     assertInstanceOf(ParagraphElement.class, result);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -855,9 +994,8 @@ class DocumentationUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-extension", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var converter = new DocxConverter();
-    converter.setImages(images);
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var context = ConversionContext.builder().images(images).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
 
     assertInstanceOf(ParagraphElement.class, result);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -889,9 +1027,8 @@ class DocumentationUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-extension", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var converter = new DocxConverter();
-    converter.setImages(images);
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var context = ConversionContext.builder().images(images).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
 
     assertInstanceOf(ParagraphElement.class, result);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -921,9 +1058,8 @@ class DocumentationUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-extension", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var converter = new DocxConverter();
-    converter.setImages(images);
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var context = ConversionContext.builder().images(images).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
 
     assertInstanceOf(ParagraphElement.class, result);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -955,9 +1091,8 @@ class DocumentationUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-extension", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var converter = new DocxConverter();
-    converter.setImages(images);
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var context = ConversionContext.builder().images(images).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
 
     assertInstanceOf(ParagraphElement.class, result);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -989,9 +1124,8 @@ class DocumentationUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-extension", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var converter = new DocxConverter();
-    converter.setImages(images);
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var context = ConversionContext.builder().images(images).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
 
     assertInstanceOf(ParagraphElement.class, result);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -1072,9 +1206,9 @@ class DocumentationUnitDocxBuilderTest {
     when(abstractListDefinition.getListLevels()).thenReturn(listLevels);
     listNumberingDefinitions.put("1", listNumberingDefinition);
 
-    var converter = new DocxConverter();
-    converter.setListNumberingDefinitions(listNumberingDefinitions);
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var context =
+        ConversionContext.builder().listNumberingDefinitions(listNumberingDefinitions).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
 
     assertTrue(result instanceof NumberingListEntry);
     var numberingListEntry = (NumberingListEntry) result;
@@ -1114,10 +1248,10 @@ class DocumentationUnitDocxBuilderTest {
     listLevels.put("0", listLevel);
     when(abstractListDefinition.getListLevels()).thenReturn(listLevels);
     listNumberingDefinitions.put("1", listNumberingDefinition);
-    var converter = new DocxConverter();
-    converter.setListNumberingDefinitions(listNumberingDefinitions);
+    var context =
+        ConversionContext.builder().listNumberingDefinitions(listNumberingDefinitions).build();
 
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
     assertTrue(result instanceof NumberingListEntry);
     var numberingListEntry = (NumberingListEntry) result;
     assertEquals(
@@ -1136,12 +1270,11 @@ class DocumentationUnitDocxBuilderTest {
             .addRunElement(TestDocxBuilder.buildTextRunElement("test 3"))
             .build();
 
-    var converter = new DocxConverter();
-    converter.setImages(TestDocxBuilder.getImageMap());
+    var context = ConversionContext.builder().images(TestDocxBuilder.getImageMap()).build();
     var result =
         DocumentationUnitDocxBuilder.newInstance()
             .setParagraph(paragraph)
-            .setConverter(converter)
+            .setContext(context)
             .build();
 
     assertThat(result).isInstanceOf(ParagraphElement.class);
@@ -1164,12 +1297,11 @@ class DocumentationUnitDocxBuilderTest {
             .addRunElement(TestDocxBuilder.buildVmlImage())
             .build();
 
-    var converter = new DocxConverter();
-    converter.setImages(TestDocxBuilder.getImageMap());
+    var context = ConversionContext.builder().images(TestDocxBuilder.getImageMap()).build();
     var result =
         DocumentationUnitDocxBuilder.newInstance()
             .setParagraph(paragraph)
-            .setConverter(converter)
+            .setContext(context)
             .build();
 
     assertThat(result).isInstanceOf(ParagraphElement.class);
@@ -1227,9 +1359,9 @@ class DocumentationUnitDocxBuilderTest {
     when(abstractListDefinition.getListLevels()).thenReturn(listLevels);
     listNumberingDefinitions.put("0", listNumberingDefinition);
 
-    var converter = new DocxConverter();
-    converter.setListNumberingDefinitions(listNumberingDefinitions);
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var context =
+        ConversionContext.builder().listNumberingDefinitions(listNumberingDefinitions).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
 
     assertTrue(result instanceof ParagraphElement);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -1273,9 +1405,9 @@ class DocumentationUnitDocxBuilderTest {
     when(abstractListDefinition.getListLevels()).thenReturn(listLevels);
     listNumberingDefinitions.put("0", listNumberingDefinition);
 
-    var converter = new DocxConverter();
-    converter.setListNumberingDefinitions(listNumberingDefinitions);
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var context =
+        ConversionContext.builder().listNumberingDefinitions(listNumberingDefinitions).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
 
     assertTrue(result instanceof ParagraphElement);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -1314,9 +1446,9 @@ class DocumentationUnitDocxBuilderTest {
     when(listNumberingDefinition.getAbstractListDefinition()).thenReturn(abstractListDefinition);
     listNumberingDefinitions.put("1", listNumberingDefinition);
 
-    var converter = new DocxConverter();
-    converter.setListNumberingDefinitions(listNumberingDefinitions);
-    var result = builder.setParagraph(paragraph).setConverter(converter).build();
+    var context =
+        ConversionContext.builder().listNumberingDefinitions(listNumberingDefinitions).build();
+    var result = builder.setParagraph(paragraph).setContext(context).build();
 
     assertTrue(result instanceof ParagraphElement);
     ParagraphElement paragraphElement = (ParagraphElement) result;
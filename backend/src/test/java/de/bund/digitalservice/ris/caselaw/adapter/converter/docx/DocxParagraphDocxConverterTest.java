@@ -33,7 +33,7 @@ class DocxParagraphDocxConverterTest {
     Tbl table = new Tbl();
     JAXBElement<Tbl> tblElement = new JAXBElement<>(new QName("table"), Tbl.class, table);
 
-    var result = converter.convert(tblElement);
+    var result = converter.convert(tblElement, ConversionContext.EMPTY);
 
     assertTrue(result instanceof TableElement);
   }
@@ -48,7 +48,7 @@ class DocxParagraphDocxConverterTest {
     run.getContent().add(element);
     paragraph.getContent().add(run);
 
-    var result = converter.convert(paragraph);
+    var result = converter.convert(paragraph, ConversionContext.EMPTY);
 
     assertTrue(result instanceof TextElement);
   }
@@ -63,7 +63,7 @@ class DocxParagraphDocxConverterTest {
     pPr.setInd(ind);
     paragraph.setPPr(pPr);
 
-    var result = converter.convert(paragraph);
+    var result = converter.convert(paragraph, ConversionContext.EMPTY);
 
     assertThat(result.toHtmlString()).contains("margin-left: " + expectedMarginLeft + ".0px");
   }
@@ -80,7 +80,7 @@ class DocxParagraphDocxConverterTest {
     pPr.setInd(ind);
     paragraph.setPPr(pPr);
 
-    var result = converter.convert(paragraph);
+    var result = converter.convert(paragraph, ConversionContext.EMPTY);
 
     assertThat(result.toHtmlString()).contains("margin-left: " + expectedMarginLeft + ".0px");
   }
@@ -102,7 +102,7 @@ class DocxParagraphDocxConverterTest {
     run.getContent().add(element);
     paragraph.getContent().add(run);
 
-    var result = converter.convert(paragraph);
+    var result = converter.convert(paragraph, ConversionContext.EMPTY);
 
     assertThat(result.toHtmlString()).contains("text");
     assertThat(result.toHtmlString()).doesNotContain("margin-left:");
@@ -111,7 +111,7 @@ class DocxParagraphDocxConverterTest {
   @Test
   void testConvert_withUnknownElement() {
 
-    var result = converter.convert(new Object());
+    var result = converter.convert(new Object(), ConversionContext.EMPTY);
 
     assertEquals("unknown element: java.lang.Object", result.toString());
   }
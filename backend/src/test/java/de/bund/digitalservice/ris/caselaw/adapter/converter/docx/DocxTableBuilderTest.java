@@ -203,9 +203,8 @@ class DocxTableBuilderTest {
     style.setTblPr(externalTblPr);
     styles.put("external-style", style);
 
-    var converter = new DocxConverter();
-    converter.setStyles(styles);
-    var result = DocxTableBuilder.newInstance().setTable(table).setConverter(converter).build();
+    var context = ConversionContext.builder().styles(styles).build();
+    var result = DocxTableBuilder.newInstance().setTable(table).setContext(context).build();
 
     assertThat(result).isInstanceOf(TableElement.class);
     TableElement tableElement = (TableElement) result;
@@ -240,9 +239,8 @@ class DocxTableBuilderTest {
     internalTblBorder.setLeft(internalLeftBorder);
     tblPr.setTblBorders(internalTblBorder);
 
-    var converter = new DocxConverter();
-    converter.setStyles(styles);
-    var result = DocxTableBuilder.newInstance().setTable(table).setConverter(converter).build();
+    var context = ConversionContext.builder().styles(styles).build();
+    var result = DocxTableBuilder.newInstance().setTable(table).setContext(context).build();
 
     assertThat(result).isInstanceOf(TableElement.class);
     TableElement tableElement = (TableElement) result;
@@ -280,9 +278,8 @@ class DocxTableBuilderTest {
     style.setRPr(styleRPr);
     styles.put("external-style", style);
 
-    var converter = new DocxConverter();
-    converter.setStyles(styles);
-    var result = DocxTableBuilder.newInstance().setTable(table).setConverter(converter).build();
+    var context = ConversionContext.builder().styles(styles).build();
+    var result = DocxTableBuilder.newInstance().setTable(table).setContext(context).build();
 
     assertThat(result).isInstanceOf(TableElement.class);
     TableElement tableElement = (TableElement) result;
@@ -307,9 +304,8 @@ class DocxTableBuilderTest {
     putTableStylePrToStyle(style);
     styles.put("external-style", style);
 
-    var converter = new DocxConverter();
-    converter.setStyles(styles);
-    var result = DocxTableBuilder.newInstance().setTable(table).setConverter(converter).build();
+    var context = ConversionContext.builder().styles(styles).build();
+    var result = DocxTableBuilder.newInstance().setTable(table).setContext(context).build();
 
     assertThat(result).isInstanceOf(TableElement.class);
     TableElement tableElement = (TableElement) result;
@@ -355,9 +351,8 @@ class DocxTableBuilderTest {
       tcJAXBElement.getValue().setTcPr(tcPr);
       styles.put("external-style", style);
 
-      var converter = new DocxConverter();
-      converter.setStyles(styles);
-      return DocxTableBuilder.newInstance().setTable(table).setConverter(converter).build();
+      var context = ConversionContext.builder().styles(styles).build();
+      return DocxTableBuilder.newInstance().setTable(table).setContext(context).build();
     }
 
     @Test
@@ -388,6 +383,56 @@ class DocxTableBuilderTest {
     }
   }
 
+  @Test
+  void testBuild_withExternalTableStyleContainsTableStylePropertiesForAllCellPositions() {
+    Tbl table =
+        generateTable(
+            List.of(
+                List.of("r1c1", "r1c2", "r1c3"),
+                List.of("r2c1", "r2c2", "r2c3"),
+                List.of("r3c1", "r3c2", "r3c3")));
+    TblPr tblPr = new TblPr();
+    TblStyle tblStyle = new TblStyle();
+    tblStyle.setVal("external-style");
+    tblPr.setTblStyle(tblStyle);
+    table.setTblPr(tblPr);
+    table.getContent().stream()
+        .map(Tr.class::cast)
+        .flatMap(tr -> tr.getContent().stream())
+        .map(tc -> ((JAXBElement<Tc>) tc).getValue())
+        .forEach(
+            tc -> {
+              CTCnf ctCnf = new CTCnf();
+              ctCnf.setVal(Integer.toBinaryString(4095));
+              tc.getTcPr().setCnfStyle(ctCnf);
+            });
+
+    Style style = new Style();
+    putTableStylePrToStyle(style);
+    var context = ConversionContext.builder().styles(Map.of("external-style", style)).build();
+    var result = DocxTableBuilder.newInstance().setTable(table).setContext(context).build();
+
+    assertThat(result.toHtmlString())
+        .isEqualTo(
+            "<table style=\"border-collapse: collapse;\">"
+                + "<tr>"
+                + "<td style=\"border-left: 2.75px solid #000; min-width: 5px; padding: 5px;\"><p>r1c1</p></td>"
+                + "<td style=\"border-left: 2px solid #000; min-width: 5px; padding: 5px;\"><p>r1c2</p></td>"
+                + "<td style=\"border-left: 2.5px solid #000; min-width: 5px; padding: 5px;\"><p>r1c3</p></td>"
+                + "</tr>"
+                + "<tr>"
+                + "<td style=\"border-left: 1.5px solid #000; min-width: 5px; padding: 5px;\"><p>r2c1</p></td>"
+                + "<td style=\"border-left: 1px solid #000; min-width: 5px; padding: 5px;\"><p>r2c2</p></td>"
+                + "<td style=\"border-left: 1.75px solid #000; min-width: 5px; padding: 5px;\"><p>r2c3</p></td>"
+                + "</tr>"
+                + "<tr>"
+                + "<td style=\"border-left: 3.25px solid #000; min-width: 5px; padding: 5px;\"><p>r3c1</p></td>"
+                + "<td style=\"border-left: 2.25px solid #000; min-width: 5px; padding: 5px;\"><p>r3c2</p></td>"
+                + "<td style=\"border-left: 3px solid #000; min-width: 5px; padding: 5px;\"><p>r3c3</p></td>"
+                + "</tr>"
+                + "</table>");
+  }
+
   private void putTableStylePrToStyle(Style style) {
     style
         .getTblStylePr()
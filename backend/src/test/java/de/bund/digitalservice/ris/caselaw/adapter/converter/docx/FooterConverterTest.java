@@ -15,18 +15,18 @@ class FooterConverterTest {
 
   @Test
   void testConvert() {
-    DocxConverter mockConverter = mock(DocxConverter.class);
+    ConversionContext context = ConversionContext.EMPTY;
     P mockP = mock(P.class);
 
     try (MockedStatic<ParagraphConverter> mockedStatic =
         Mockito.mockStatic(ParagraphConverter.class)) {
       ParagraphElement mockParagraphElement = new ParagraphElement();
       mockedStatic
-          .when(() -> ParagraphConverter.convert(mockP, mockConverter))
+          .when(() -> ParagraphConverter.convert(mockP, context))
           .thenReturn(mockParagraphElement);
       List<Object> content = Arrays.asList(mockP);
 
-      ParagraphElement result = FooterConverter.convert(content, mockConverter);
+      ParagraphElement result = FooterConverter.convert(content, context);
 
       Assertions.assertNotNull(result);
       Assertions.assertEquals(mockParagraphElement, result);
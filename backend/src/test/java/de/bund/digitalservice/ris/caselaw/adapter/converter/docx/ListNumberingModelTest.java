@@ -0,0 +1,72 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.NumberingList.DocumentationUnitNumberingListNumberFormat;
+import java.util.HashMap;
+import java.util.Map;
+import org.docx4j.model.listnumbering.AbstractListNumberingDefinition;
+import org.docx4j.model.listnumbering.ListLevel;
+import org.docx4j.model.listnumbering.ListNumberingDefinition;
+import org.docx4j.wml.NumberFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ListNumberingModelTest {
+  private ListNumberingDefinition listNumberingDefinition;
+  private ListNumberingModel model;
+
+  @BeforeEach
+  void setUp() {
+    listNumberingDefinition = mock(ListNumberingDefinition.class);
+    var abstractListDefinition = mock(AbstractListNumberingDefinition.class);
+    var listLevel = mock(ListLevel.class);
+    when(listLevel.getNumFmt()).thenReturn(NumberFormat.DECIMAL);
+    when(listNumberingDefinition.getAbstractListDefinition()).thenReturn(abstractListDefinition);
+    HashMap<String, ListLevel> listLevels = new HashMap<>();
+    listLevels.put("0", listLevel);
+    when(abstractListDefinition.getListLevels()).thenReturn(listLevels);
+
+    model = new ListNumberingModel(Map.of("1", listNumberingDefinition));
+  }
+
+  @Test
+  void testGetEntryIndex_shouldResolveListLevel() {
+    var entryIndex = model.getEntryIndex("1", "0");
+
+    assertThat(entryIndex).isPresent();
+    assertThat(entryIndex.get().numberFormat())
+        .isEqualTo(DocumentationUnitNumberingListNumberFormat.DECIMAL);
+    assertThat(entryIndex.get().iLvl()).isEqualTo("0");
+  }
+
+  @Test
+  void testGetEntryIndex_shouldResolveListLevelOnce() {
+    var first = model.getEntryIndex("1", "0");
+    var second = model.getEntryIndex("1", "0");
+
+    assertThat(second.get()).isSameAs(first.get());
+    verify(listNumberingDefinition, times(1)).getAbstractListDefinition();
+  }
+
+  @Test
+  void testGetEntryIndex_withUnknownLevel_shouldReturnEmpty() {
+    assertThat(model.getEntryIndex("1", "1")).isEmpty();
+    assertThat(model.getEntryIndex("2", "0")).isEmpty();
+  }
+
+  @Test
+  void testGetEntryIndex_withoutNumIdOrLevel_shouldReturnEmpty() {
+    assertThat(model.getEntryIndex(null, "0")).isEmpty();
+    assertThat(model.getEntryIndex("1", null)).isEmpty();
+  }
+
+  @Test
+  void testGetEntryIndex_withoutDefinitions_shouldReturnEmpty() {
+    assertThat(new ListNumberingModel(null).getEntryIndex("1", "0")).isEmpty();
+  }
+}
@@ -0,0 +1,98 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.docx4j.wml.CTTblStylePr;
+import org.docx4j.wml.STTblStyleOverrideType;
+import org.docx4j.wml.Style;
+import org.junit.jupiter.api.Test;
+
+class TableStyleCacheTest {
+  @Test
+  void testGetCellPosition_forCornerCells() {
+    assertThat(TableStyleCache.getCellPosition(0, 3, 0, 3))
+        .isEqualTo(
+            TableStyleCache.FIRST_ROW
+                | TableStyleCache.FIRST_COLUMN
+                | TableStyleCache.EVEN_COLUMN
+                | TableStyleCache.EVEN_ROW
+                | TableStyleCache.NORTH_WEST_CELL);
+    assertThat(TableStyleCache.getCellPosition(2, 3, 2, 3))
+        .isEqualTo(
+            TableStyleCache.LAST_ROW
+                | TableStyleCache.LAST_COLUMN
+                | TableStyleCache.EVEN_COLUMN
+                | TableStyleCache.EVEN_ROW
+                | TableStyleCache.SOUTH_EAST_CELL);
+  }
+
+  @Test
+  void testGetCellPosition_forInnerCell() {
+    assertThat(TableStyleCache.getCellPosition(1, 3, 1, 3))
+        .isEqualTo(TableStyleCache.ODD_COLUMN | TableStyleCache.ODD_ROW);
+  }
+
+  @Test
+  void testGetCellFormats_shouldSortAndFilterFormats() {
+    Style style = new Style();
+    CTTblStylePr firstRow = generateTableStylePr(STTblStyleOverrideType.FIRST_ROW);
+    CTTblStylePr lastRow = generateTableStylePr(STTblStyleOverrideType.LAST_ROW);
+    CTTblStylePr wholeTable = generateTableStylePr(STTblStyleOverrideType.WHOLE_TABLE);
+    style.getTblStylePr().add(firstRow);
+    style.getTblStylePr().add(lastRow);
+    style.getTblStylePr().add(wholeTable);
+    var cache = new TableStyleCache(Map.of("table-style", style));
+
+    var formats =
+        cache.getCellFormats("table-style", 4095, TableStyleCache.getCellPosition(0, 3, 1, 3));
+
+    assertThat(formats).containsExactly(wholeTable, firstRow);
+  }
+
+  @Test
+  void testGetCellFormats_withoutActivatedFormats_shouldOnlyUseWholeTable() {
+    Style style = new Style();
+    CTTblStylePr firstRow = generateTableStylePr(STTblStyleOverrideType.FIRST_ROW);
+    CTTblStylePr wholeTable = generateTableStylePr(STTblStyleOverrideType.WHOLE_TABLE);
+    style.getTblStylePr().add(firstRow);
+    style.getTblStylePr().add(wholeTable);
+    var cache = new TableStyleCache(Map.of("table-style", style));
+
+    var formats =
+        cache.getCellFormats("table-style", 0, TableStyleCache.getCellPosition(0, 3, 1, 3));
+
+    assertThat(formats).containsExactly(wholeTable);
+  }
+
+  @Test
+  void testGetCellFormats_shouldResolveEachCombinationOnce() {
+    Style style = new Style();
+    style.getTblStylePr().add(generateTableStylePr(STTblStyleOverrideType.FIRST_COL));
+    var cache = new TableStyleCache(Map.of("table-style", style));
+
+    int usedStyles = TableStyleCache.FIRST_COLUMN;
+
+    var first =
+        cache.getCellFormats(
+            "table-style", usedStyles, TableStyleCache.getCellPosition(0, 3, 0, 3));
+    var second =
+        cache.getCellFormats(
+            "table-style", usedStyles, TableStyleCache.getCellPosition(1, 3, 0, 3));
+
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void testGetCellFormats_withUnknownStyle_shouldReturnEmptyList() {
+    var cache = new TableStyleCache(Map.of());
+
+    assertThat(cache.getCellFormats("unknown", 4095, 4095)).isEmpty();
+  }
+
+  private CTTblStylePr generateTableStylePr(STTblStyleOverrideType type) {
+    CTTblStylePr tableStyleProperty = new CTTblStylePr();
+    tableStyleProperty.setType(type);
+    return tableStyleProperty;
+  }
+}
@@ -51,10 +51,10 @@ class AuthServiceTest {
   void testUserHasReadAccessByDocumentNumber_withStatusNull_shouldReturnTrue() {
     // Arrange
     String documentNumber = "DOC12345";
-    DocumentationUnit documentationUnit =
-        DocumentationUnit.builder().documentNumber(documentNumber).build();
-    when(documentationUnitService.getByDocumentNumber(documentNumber))
-        .thenReturn(documentationUnit);
+    DocumentationUnitAccessDescriptor accessDescriptor =
+        DocumentationUnitAccessDescriptor.builder().documentNumber(documentNumber).build();
+    when(documentationUnitService.getAccessDescriptorByDocumentNumber(documentNumber))
+        .thenReturn(accessDescriptor);
 
     // Act
     Function<String, Boolean> result = service.userHasReadAccessByDocumentNumber();
@@ -67,13 +67,13 @@ class AuthServiceTest {
   void testUserHasReadAccessByDocumentNumber_withStatusPublished_shouldReturnTrue() {
     // Arrange
     String documentNumber = "DOC12345";
-    DocumentationUnit documentationUnit =
-        DocumentationUnit.builder()
+    DocumentationUnitAccessDescriptor accessDescriptor =
+        DocumentationUnitAccessDescriptor.builder()
             .documentNumber(documentNumber)
             .status(Status.builder().publicationStatus(PublicationStatus.PUBLISHED).build())
             .build();
-    when(documentationUnitService.getByDocumentNumber(documentNumber))
-        .thenReturn(documentationUnit);
+    when(documentationUnitService.getAccessDescriptorByDocumentNumber(documentNumber))
+        .thenReturn(accessDescriptor);
 
     // Act
     Function<String, Boolean> result = service.userHasReadAccessByDocumentNumber();
@@ -90,14 +90,14 @@ class AuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     String documentNumber = "DOC12345";
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("DS").build();
-    DocumentationUnit documentationUnit =
-        DocumentationUnit.builder()
+    DocumentationUnitAccessDescriptor accessDescriptor =
+        DocumentationUnitAccessDescriptor.builder()
             .documentNumber(documentNumber)
             .status(Status.builder().publicationStatus(PublicationStatus.DUPLICATED).build())
-            .coreData(CoreData.builder().documentationOffice(office).build())
+            .documentationOffice(office)
             .build();
-    when(documentationUnitService.getByDocumentNumber(documentNumber))
-        .thenReturn(documentationUnit);
+    when(documentationUnitService.getAccessDescriptorByDocumentNumber(documentNumber))
+        .thenReturn(accessDescriptor);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     // Act
@@ -173,7 +173,7 @@ class AuthServiceTest {
   void test_userHasSameDocumentationOffice_withoutDocumentationUnit_shouldReturnFalse() {
     // Arrange
     UUID uuid = UUID.randomUUID();
-    when(documentationUnitService.getByUuid(uuid)).thenReturn(null);
+    when(documentationUnitService.getAccessDescriptorByUuid(uuid)).thenReturn(null);
 
     // Act
     Function<UUID, Boolean> result = service.userHasSameDocumentationOffice();
@@ -188,10 +188,10 @@ class AuthServiceTest {
     UUID uuid = UUID.randomUUID();
     DocumentationOffice documentationOffice = DocumentationOffice.builder().build();
     SecurityContextHolder.setContext(securityContext);
-    when(documentationUnitService.getByUuid(uuid))
+    when(documentationUnitService.getAccessDescriptorByUuid(uuid))
         .thenReturn(
-            DocumentationUnit.builder()
-                .coreData(CoreData.builder().documentationOffice(documentationOffice).build())
+            DocumentationUnitAccessDescriptor.builder()
+                .documentationOffice(documentationOffice)
                 .build());
     when(securityContext.getAuthentication()).thenReturn(authentication);
     when(authentication.getPrincipal()).thenReturn(oidcUser);
@@ -208,7 +208,7 @@ class AuthServiceTest {
   void test_isAssignedViaProcedure_withoutDocumentationUnit_shouldReturnFalse() {
     // Arrange
     UUID uuid = UUID.randomUUID();
-    when(documentationUnitService.getByUuid(uuid)).thenReturn(null);
+    when(documentationUnitService.getAccessDescriptorByUuid(uuid)).thenReturn(null);
 
     // Act
     Function<UUID, Boolean> result = service.isAssignedViaProcedure();
@@ -223,14 +223,9 @@ class AuthServiceTest {
     UUID documentationUnitId = UUID.randomUUID();
     UUID userGroupId = UUID.randomUUID();
     SecurityContextHolder.setContext(securityContext);
-    when(documentationUnitService.getByUuid(documentationUnitId))
+    when(documentationUnitService.getAccessDescriptorByUuid(documentationUnitId))
         .thenReturn(
-            DocumentationUnit.builder()
-                .coreData(
-                    CoreData.builder()
-                        .procedure(Procedure.builder().userGroupId(userGroupId).build())
-                        .build())
-                .build());
+            DocumentationUnitAccessDescriptor.builder().procedureUserGroupId(userGroupId).build());
     when(securityContext.getAuthentication()).thenReturn(authentication);
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     when(userService.getUserGroup(oidcUser))
@@ -250,14 +245,8 @@ class AuthServiceTest {
     UUID documentationUnitId = UUID.randomUUID();
     UUID userGroupId = UUID.randomUUID();
     SecurityContextHolder.setContext(securityContext);
-    when(documentationUnitService.getByUuid(documentationUnitId))
-        .thenReturn(
-            DocumentationUnit.builder()
-                .coreData(
-                    CoreData.builder()
-                        .procedure(Procedure.builder().userGroupId(null).build())
-                        .build())
-                .build());
+    when(documentationUnitService.getAccessDescriptorByUuid(documentationUnitId))
+        .thenReturn(DocumentationUnitAccessDescriptor.builder().procedureUserGroupId(null).build());
     when(securityContext.getAuthentication()).thenReturn(authentication);
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     when(userService.getUserGroup(oidcUser))
@@ -0,0 +1,236 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+
+class BulkHandoverJobServiceTest {
+  private static final DocumentationOffice DS =
+      DocumentationOffice.builder().abbreviation("DS").uuid(UUID.randomUUID()).build();
+  private static final DocumentationOffice BGH =
+      DocumentationOffice.builder().abbreviation("BGH").uuid(UUID.randomUUID()).build();
+
+  private BulkHandoverJobRepository repository;
+  private DocumentationUnitService documentationUnitService;
+  private OidcUser oidcUser;
+  private BulkHandoverJobService service;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(BulkHandoverJobRepository.class);
+    when(repository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    documentationUnitService = mock(DocumentationUnitService.class);
+    UserService userService = mock(UserService.class);
+    oidcUser = mock(OidcUser.class);
+    when(userService.getDocumentationOffice(oidcUser)).thenReturn(DS);
+    when(userService.getEmail(oidcUser)).thenReturn("test@example.com");
+    service =
+        new BulkHandoverJobService(
+            repository, documentationUnitService, userService, 3, Duration.ofMinutes(10));
+  }
+
+  @Test
+  void testCreateJob_withList_shouldValidateDocumentationUnits() {
+    UUID own = accessibleUnit("DS001", DS);
+    UUID foreign = accessibleUnit("BGH001", BGH);
+    UUID missing = UUID.randomUUID();
+
+    var job =
+        service.createJob(oidcUser, new BulkHandoverRequest(List.of(own, foreign, missing), null));
+
+    assertThat(job.status()).isEqualTo(BulkHandoverJobStatus.PENDING);
+    assertThat(job.documentationOfficeId()).isEqualTo(DS.uuid());
+    assertThat(job.issuerAddress()).isEqualTo("test@example.com");
+    assertThat(job.items())
+        .extracting(BulkHandoverItem::documentationUnitId, BulkHandoverItem::status)
+        .containsExactly(
+            tuple(own, BulkHandoverItemStatus.PENDING),
+            tuple(foreign, BulkHandoverItemStatus.FAILED),
+            tuple(missing, BulkHandoverItemStatus.FAILED));
+    assertThat(job.items().get(1).statusMessages())
+        .containsExactly("Documentation unit belongs to another documentation office");
+    verify(repository).create(job);
+  }
+
+  @Test
+  void testCreateJob_withFilter_shouldSearchAllPagesOfOwnDocumentationOffice() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    var filter = BulkHandoverFilter.builder().courtType("BGH").build();
+    when(documentationUnitService.searchByDocumentationUnitSearchInput(
+            eq(PageRequest.of(0, 100)),
+            eq(oidcUser),
+            any(),
+            any(),
+            eq(Optional.of("BGH")),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            eq(Optional.of(true))))
+        .thenReturn(
+            new SliceImpl<>(List.of(listItem(first, "DS001")), PageRequest.of(0, 100), true));
+    when(documentationUnitService.searchByDocumentationUnitSearchInput(
+            eq(PageRequest.of(1, 100)),
+            eq(oidcUser),
+            any(),
+            any(),
+            eq(Optional.of("BGH")),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            eq(Optional.of(true))))
+        .thenReturn(
+            new SliceImpl<>(List.of(listItem(second, "DS002")), PageRequest.of(1, 100), false));
+
+    var job = service.createJob(oidcUser, new BulkHandoverRequest(null, filter));
+
+    assertThat(job.items())
+        .extracting(BulkHandoverItem::documentNumber)
+        .containsExactly("DS001", "DS002");
+    assertThat(job.items()).allMatch(item -> item.status() == BulkHandoverItemStatus.PENDING);
+  }
+
+  @Test
+  void testCreateJob_withoutDocumentationUnits_shouldThrow() {
+    var request = new BulkHandoverRequest(List.of(), null);
+
+    assertThatThrownBy(() -> service.createJob(oidcUser, request))
+        .isInstanceOf(DocumentationUnitHandoverException.class)
+        .hasMessage("No documentation units selected.");
+    verify(repository, never()).create(any());
+  }
+
+  @Test
+  void testCreateJob_withTooManyDocumentationUnits_shouldThrow() {
+    var request =
+        new BulkHandoverRequest(
+            List.of(
+                accessibleUnit("DS001", DS),
+                accessibleUnit("DS002", DS),
+                accessibleUnit("DS003", DS),
+                accessibleUnit("DS004", DS)),
+            null);
+
+    assertThatThrownBy(() -> service.createJob(oidcUser, request))
+        .isInstanceOf(DocumentationUnitHandoverException.class)
+        .hasMessageContaining("at most 3");
+    verify(repository, never()).create(any());
+  }
+
+  @Test
+  void testGetJob_withJobOfOtherDocumentationOffice_shouldReturnEmpty() {
+    var job = BulkHandoverJob.builder().id(UUID.randomUUID()).documentationOfficeId(BGH.uuid());
+    var ownJob = BulkHandoverJob.builder().id(UUID.randomUUID()).documentationOfficeId(DS.uuid());
+    when(repository.findById(any())).thenReturn(Optional.of(job.build()));
+
+    assertThat(service.getJob(oidcUser, UUID.randomUUID())).isEmpty();
+
+    when(repository.findById(any())).thenReturn(Optional.of(ownJob.build()));
+    assertThat(service.getJob(oidcUser, UUID.randomUUID())).contains(ownJob.build());
+  }
+
+  @Test
+  void testCompleteItem_shouldSaveResultOfHandover() {
+    var job = BulkHandoverJob.builder().id(UUID.randomUUID()).build();
+    var item =
+        BulkHandoverItem.builder()
+            .documentationUnitId(UUID.randomUUID())
+            .status(BulkHandoverItemStatus.PENDING)
+            .build();
+    var handoverMail =
+        HandoverMail.builder().success(false).statusMessages(List.of("invalid")).build();
+
+    var result = service.completeItem(job, item, handoverMail);
+
+    assertThat(result.status()).isEqualTo(BulkHandoverItemStatus.FAILED);
+    assertThat(result.statusMessages()).containsExactly("invalid");
+    assertThat(result.updatedAt()).isNotNull();
+    verify(repository).saveItem(job.id(), result);
+  }
+
+  @Test
+  void testCompleteItem_withSuccessfulHandover_shouldEnqueueTheItem() {
+    var job = BulkHandoverJob.builder().id(UUID.randomUUID()).build();
+    var item =
+        BulkHandoverItem.builder()
+            .documentationUnitId(UUID.randomUUID())
+            .status(BulkHandoverItemStatus.PENDING)
+            .build();
+    var handoverMail =
+        HandoverMail.builder().success(true).statusMessages(List.of("succeed")).build();
+
+    var result = service.completeItem(job, item, handoverMail);
+
+    assertThat(result.status()).isEqualTo(BulkHandoverItemStatus.ENQUEUED);
+    verify(repository).saveItem(job.id(), result);
+  }
+
+  @Test
+  void testFinishJob_withPendingDocumentationUnits_shouldNotFinishTheJob() {
+    var job = BulkHandoverJob.builder().id(UUID.randomUUID()).build();
+    when(repository.finishJob(eq(job.id()), any())).thenReturn(false);
+
+    assertThat(service.finishJob(job)).isFalse();
+  }
+
+  @Test
+  void testReleaseJobs_shouldSetTheRunningJobsBackToPending() {
+    var jobIds = List.of(UUID.randomUUID());
+
+    service.releaseJobs(jobIds);
+
+    verify(repository).releaseRunningJobs(eq(jobIds), any());
+  }
+
+  @Test
+  void testClaimNextJob_shouldReclaimJobsWithoutProgressForStaleDuration() {
+    when(repository.claimNextJob(any())).thenReturn(Optional.empty());
+    Instant before = Instant.now();
+
+    service.claimNextJob();
+
+    var staleBefore = ArgumentCaptor.forClass(Instant.class);
+    verify(repository).claimNextJob(staleBefore.capture());
+    assertThat(staleBefore.getValue())
+        .isBetween(
+            before.minus(Duration.ofMinutes(10)), Instant.now().minus(Duration.ofMinutes(10)));
+  }
+
+  private UUID accessibleUnit(String documentNumber, DocumentationOffice documentationOffice) {
+    UUID uuid = UUID.randomUUID();
+    when(documentationUnitService.getAccessDescriptorByUuid(uuid))
+        .thenReturn(
+            DocumentationUnitAccessDescriptor.builder()
+                .uuid(uuid)
+                .documentNumber(documentNumber)
+                .documentationOffice(documentationOffice)
+                .build());
+    return uuid;
+  }
+
+  private static DocumentationUnitListItem listItem(UUID uuid, String documentNumber) {
+    return DocumentationUnitListItem.builder().uuid(uuid).documentNumber(documentNumber).build();
+  }
+}
@@ -2,6 +2,8 @@ package de.bund.digitalservice.ris.caselaw.domain;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -84,7 +86,7 @@ class DocumentationUnitDocxMetadataInitializationServiceTest {
 
     ArgumentCaptor<DocumentationUnit> documentationUnitCaptor =
         ArgumentCaptor.forClass(DocumentationUnit.class);
-    verify(repository, times(2)).save(documentationUnitCaptor.capture());
+    verify(repository).saveInitializedCoreData(documentationUnitCaptor.capture());
     CoreData savedCoreData = documentationUnitCaptor.getValue().coreData();
 
     assertEquals("ECLI:ABCD", savedCoreData.ecli());
@@ -108,7 +110,7 @@ class DocumentationUnitDocxMetadataInitializationServiceTest {
 
     ArgumentCaptor<DocumentationUnit> documentationUnitCaptor =
         ArgumentCaptor.forClass(DocumentationUnit.class);
-    verify(repository, times(2)).save(documentationUnitCaptor.capture());
+    verify(repository).saveInitializedCoreData(documentationUnitCaptor.capture());
     CoreData savedCoreData = documentationUnitCaptor.getValue().coreData();
 
     assertNull(savedCoreData.ecli());
@@ -125,7 +127,7 @@ class DocumentationUnitDocxMetadataInitializationServiceTest {
 
     ArgumentCaptor<DocumentationUnit> documentationUnitCaptor =
         ArgumentCaptor.forClass(DocumentationUnit.class);
-    verify(repository, times(2)).save(documentationUnitCaptor.capture());
+    verify(repository).saveInitializedCoreData(documentationUnitCaptor.capture());
     CoreData savedCoreData = documentationUnitCaptor.getValue().coreData();
 
     assertEquals("ECLI:ABCD", savedCoreData.ecli());
@@ -149,7 +151,7 @@ class DocumentationUnitDocxMetadataInitializationServiceTest {
 
     ArgumentCaptor<DocumentationUnit> documentationUnitCaptor =
         ArgumentCaptor.forClass(DocumentationUnit.class);
-    verify(repository, times(2)).save(documentationUnitCaptor.capture());
+    verify(repository).saveInitializedCoreData(documentationUnitCaptor.capture());
 
     CoreData savedCoreData = documentationUnitCaptor.getValue().coreData();
     assertEquals(LegalEffect.NO.getLabel(), savedCoreData.legalEffect());
@@ -166,7 +168,7 @@ class DocumentationUnitDocxMetadataInitializationServiceTest {
 
     ArgumentCaptor<DocumentationUnit> documentationUnitCaptor =
         ArgumentCaptor.forClass(DocumentationUnit.class);
-    verify(repository, times(2)).save(documentationUnitCaptor.capture());
+    verify(repository).saveInitializedCoreData(documentationUnitCaptor.capture());
     CoreData savedCoreData = documentationUnitCaptor.getValue().coreData();
 
     assertNull(savedCoreData.court());
@@ -183,7 +185,7 @@ class DocumentationUnitDocxMetadataInitializationServiceTest {
 
     ArgumentCaptor<DocumentationUnit> documentationUnitCaptor =
         ArgumentCaptor.forClass(DocumentationUnit.class);
-    verify(repository, times(2)).save(documentationUnitCaptor.capture());
+    verify(repository).saveInitializedCoreData(documentationUnitCaptor.capture());
     CoreData savedCoreData = documentationUnitCaptor.getValue().coreData();
 
     assertNull(savedCoreData.court());
@@ -202,7 +204,7 @@ class DocumentationUnitDocxMetadataInitializationServiceTest {
 
     ArgumentCaptor<DocumentationUnit> documentationUnitCaptor =
         ArgumentCaptor.forClass(DocumentationUnit.class);
-    verify(repository, times(2)).save(documentationUnitCaptor.capture());
+    verify(repository).saveInitializedCoreData(documentationUnitCaptor.capture());
     CoreData savedCoreData = documentationUnitCaptor.getValue().coreData();
 
     assertNull(savedCoreData.court());
@@ -219,7 +221,7 @@ class DocumentationUnitDocxMetadataInitializationServiceTest {
 
     ArgumentCaptor<DocumentationUnit> documentationUnitCaptor =
         ArgumentCaptor.forClass(DocumentationUnit.class);
-    verify(repository, times(2)).save(documentationUnitCaptor.capture());
+    verify(repository).saveInitializedCoreData(documentationUnitCaptor.capture());
     CoreData savedCoreData = documentationUnitCaptor.getValue().coreData();
 
     assertEquals("LG Bern", savedCoreData.court().label());
@@ -250,7 +252,7 @@ class DocumentationUnitDocxMetadataInitializationServiceTest {
 
     ArgumentCaptor<DocumentationUnit> documentationUnitCaptor =
         ArgumentCaptor.forClass(DocumentationUnit.class);
-    verify(repository, times(2)).save(documentationUnitCaptor.capture());
+    verify(repository).saveInitializedCoreData(documentationUnitCaptor.capture());
     CoreData savedCoreData = documentationUnitCaptor.getValue().coreData();
 
     assertEquals("LG Bern", savedCoreData.court().label());
@@ -268,7 +270,7 @@ class DocumentationUnitDocxMetadataInitializationServiceTest {
 
     ArgumentCaptor<DocumentationUnit> documentationUnitCaptor =
         ArgumentCaptor.forClass(DocumentationUnit.class);
-    verify(repository, times(2)).save(documentationUnitCaptor.capture());
+    verify(repository).saveInitializedCoreData(documentationUnitCaptor.capture());
     CoreData savedCoreData = documentationUnitCaptor.getValue().coreData();
 
     assertEquals("BFH", savedCoreData.court().label());
@@ -297,9 +299,34 @@ class DocumentationUnitDocxMetadataInitializationServiceTest {
 
     ArgumentCaptor<DocumentationUnit> documentationUnitCaptor =
         ArgumentCaptor.forClass(DocumentationUnit.class);
-    verify(repository, times(2)).save(documentationUnitCaptor.capture());
+    verify(repository).saveInitializedCoreData(documentationUnitCaptor.capture());
     CoreData savedCoreData = documentationUnitCaptor.getValue().coreData();
 
     assertEquals("LG Bernau", savedCoreData.court().label());
   }
+
+  @Test
+  void testInitializeCoreData_withAllCourtPropertiesNotFound_shouldLookUpCourtOnlyOnce() {
+    Map<DocxMetadataProperty, String> properties =
+        Map.of(
+            DocxMetadataProperty.COURT_TYPE,
+            "LG",
+            DocxMetadataProperty.COURT_LOCATION,
+            "Bern 1",
+            DocxMetadataProperty.COURT,
+            "LG Bern 1");
+    Docx2Html docx2html = new Docx2Html(null, List.of(), properties);
+
+    when(databaseCourtRepository.findOneByTypeAndLocation("LG", "Bern 1"))
+        .thenReturn(Optional.empty());
+    when(databaseCourtRepository.findByExactSearchString("LG Bern 1")).thenReturn(List.of());
+
+    service.initializeCoreData(TEST_UUID, docx2html);
+
+    verify(databaseCourtRepository, times(1)).findOneByTypeAndLocation("LG", "Bern 1");
+    verify(databaseCourtRepository, times(1)).findByExactSearchString("LG Bern 1");
+    verify(repository, times(1)).saveInitializedCoreData(any(DocumentationUnit.class));
+    verify(repository, never()).save(any(DocumentationUnit.class));
+    verify(repository, never()).saveProcedures(any(DocumentationUnit.class));
+  }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -38,8 +39,11 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(SpringExtension.class)
 @Import({DocumentationUnitService.class, DatabaseDocumentationUnitStatusService.class})
@@ -92,6 +96,59 @@ class DocumentationUnitServiceTest {
     verify(repository).findByDocumentNumber("ABCDE20220001");
   }
 
+  @Test
+  void testGetByUuid_withinRequest_shouldLoadDocumentationUnitOnlyOnce() {
+    DocumentationUnit documentationUnit =
+        DocumentationUnit.builder().uuid(TEST_UUID).documentNumber("ABCDE20220001").build();
+    when(repository.findByUuid(TEST_UUID)).thenReturn(Optional.of(documentationUnit));
+
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    try {
+      assertThat(service.getByUuid(TEST_UUID)).isEqualTo(documentationUnit);
+      assertThat(service.getByUuid(TEST_UUID)).isEqualTo(documentationUnit);
+      assertThat(service.getByDocumentNumber("ABCDE20220001")).isEqualTo(documentationUnit);
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+
+    verify(repository, times(1)).findByUuid(TEST_UUID);
+    verify(repository, never()).findByDocumentNumber("ABCDE20220001");
+  }
+
+  @Test
+  void testGetByUuid_withoutRequest_shouldLoadDocumentationUnitEveryTime() {
+    DocumentationUnit documentationUnit = DocumentationUnit.builder().uuid(TEST_UUID).build();
+    when(repository.findByUuid(TEST_UUID)).thenReturn(Optional.of(documentationUnit));
+
+    service.getByUuid(TEST_UUID);
+    service.getByUuid(TEST_UUID);
+
+    verify(repository, times(2)).findByUuid(TEST_UUID);
+  }
+
+  @Test
+  void testUpdateDocumentationUnit_withinRequest_shouldReplaceLoadedDocumentationUnit()
+      throws DocumentationUnitNotExistsException {
+    DocumentationUnit documentationUnit = DocumentationUnit.builder().uuid(TEST_UUID).build();
+    DocumentationUnit updatedDocumentationUnit =
+        DocumentationUnit.builder().uuid(TEST_UUID).version(2L).build();
+    when(repository.findByUuid(TEST_UUID))
+        .thenReturn(Optional.of(documentationUnit), Optional.of(updatedDocumentationUnit));
+
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    try {
+      assertThat(service.getByUuid(TEST_UUID)).isEqualTo(documentationUnit);
+      service.updateDocumentationUnit(documentationUnit);
+      assertThat(service.getByUuid(TEST_UUID)).isEqualTo(updatedDocumentationUnit);
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+
+    verify(repository, times(2)).findByUuid(TEST_UUID);
+  }
+
   @Test
   void testDeleteByUuid_withoutFileAttached() throws DocumentationUnitNotExistsException {
     // I think I shouldn't have to insert a specific DocumentationUnit object here?
@@ -0,0 +1,111 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class DocxConversionJobServiceTest {
+  private static final UUID DOCUMENTATION_UNIT_ID =
+      UUID.fromString("88888888-4444-4444-4444-121212121212");
+
+  private DocxConversionJobRepository repository;
+  private DocxConversionJobService service;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(DocxConversionJobRepository.class);
+    when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    service = new DocxConversionJobService(repository, Duration.ofMinutes(10), Duration.ofDays(1));
+  }
+
+  @Test
+  void testCreateJob_shouldSavePendingJob() {
+    var job = service.createJob(DOCUMENTATION_UNIT_ID, "fooPath");
+
+    assertThat(job.id()).isNotNull();
+    assertThat(job.documentationUnitId()).isEqualTo(DOCUMENTATION_UNIT_ID);
+    assertThat(job.s3Path()).isEqualTo("fooPath");
+    assertThat(job.status()).isEqualTo(DocxConversionJobStatus.PENDING);
+    assertThat(job.createdAt()).isNotNull();
+    verify(repository).save(job);
+  }
+
+  @Test
+  void testGetJob_withJobOfOtherDocumentationUnit_shouldReturnEmpty() {
+    var job = service.createJob(UUID.randomUUID(), "fooPath");
+    when(repository.findById(job.id())).thenReturn(Optional.of(job));
+
+    assertThat(service.getJob(DOCUMENTATION_UNIT_ID, job.id())).isEmpty();
+    assertThat(service.getJob(job.documentationUnitId(), job.id())).contains(job);
+  }
+
+  @Test
+  void testClaimNextJob_shouldReclaimJobsRunningLongerThanStaleDuration() {
+    when(repository.claimNextJob(any())).thenReturn(Optional.empty());
+    Instant before = Instant.now();
+
+    service.claimNextJob();
+
+    ArgumentCaptor<Instant> staleBefore = ArgumentCaptor.forClass(Instant.class);
+    verify(repository).claimNextJob(staleBefore.capture());
+    assertThat(staleBefore.getValue())
+        .isBetween(
+            before.minus(Duration.ofMinutes(10)), Instant.now().minus(Duration.ofMinutes(10)));
+  }
+
+  @Test
+  void testDeleteFinishedJobs_shouldDeleteJobsFinishedBeforeRetentionTime() {
+    Instant before = Instant.now();
+
+    service.deleteFinishedJobs();
+
+    ArgumentCaptor<Instant> finishedBefore = ArgumentCaptor.forClass(Instant.class);
+    verify(repository).deleteFinishedJobs(finishedBefore.capture());
+    assertThat(finishedBefore.getValue())
+        .isBetween(before.minus(Duration.ofDays(1)), Instant.now().minus(Duration.ofDays(1)));
+  }
+
+  @Test
+  void testCompleteJob_shouldSaveResult() {
+    var job = service.createJob(DOCUMENTATION_UNIT_ID, "fooPath");
+    var result = new Docx2Html("<p>foo</p>", List.of(), Collections.emptyMap());
+
+    var completed = service.completeJob(job, result);
+
+    assertThat(completed.status()).isEqualTo(DocxConversionJobStatus.SUCCEEDED);
+    assertThat(completed.result()).isEqualTo(result);
+  }
+
+  @Test
+  void testFailJob_shouldSaveErrorMessage() {
+    var job = service.createJob(DOCUMENTATION_UNIT_ID, "fooPath");
+
+    var failed = service.failJob(job, "broken file");
+
+    assertThat(failed.status()).isEqualTo(DocxConversionJobStatus.FAILED);
+    assertThat(failed.errorMessage()).isEqualTo("broken file");
+  }
+
+  @Test
+  void testReleaseJob_shouldSetJobPending() {
+    var job =
+        service.createJob(DOCUMENTATION_UNIT_ID, "fooPath").toBuilder()
+            .status(DocxConversionJobStatus.RUNNING)
+            .build();
+
+    assertThat(service.releaseJob(job).status()).isEqualTo(DocxConversionJobStatus.PENDING);
+  }
+}
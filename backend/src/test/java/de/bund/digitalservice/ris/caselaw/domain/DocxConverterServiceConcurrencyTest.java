@@ -0,0 +1,212 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.caselaw.adapter.DocxConversionCache;
+import de.bund.digitalservice.ris.caselaw.adapter.DocxConversionExecutor;
+import de.bund.digitalservice.ris.caselaw.adapter.DocxConverterService;
+import de.bund.digitalservice.ris.caselaw.adapter.EmfRenderCache;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocumentationUnitDocxListUtils;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverter;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStore;
+import de.bund.digitalservice.ris.caselaw.config.ConverterConfig;
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocumentationUnitDocx;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.docx4j.XmlUtils;
+import org.docx4j.jaxb.Context;
+import org.docx4j.model.table.TblFactory;
+import org.docx4j.openpackaging.exceptions.Docx4JException;
+import org.docx4j.openpackaging.packages.WordprocessingMLPackage;
+import org.docx4j.openpackaging.parts.WordprocessingML.MainDocumentPart;
+import org.docx4j.wml.BooleanDefaultTrue;
+import org.docx4j.wml.HpsMeasure;
+import org.docx4j.wml.ObjectFactory;
+import org.docx4j.wml.P;
+import org.docx4j.wml.R;
+import org.docx4j.wml.RPr;
+import org.docx4j.wml.Tbl;
+import org.docx4j.wml.Tc;
+import org.docx4j.wml.Text;
+import org.docx4j.wml.Tr;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Converts different docx files in parallel with the same {@link DocxConverterService} and the
+ * elements of one docx file in parallel and checks that the results are identical to the results of
+ * a serial conversion.
+ */
+@ExtendWith(SpringExtension.class)
+@Import({
+  DocxConverterService.class,
+  DocxConversionExecutor.class,
+  EmfRenderCache.class,
+  ConverterConfig.class
+})
+class DocxConverterServiceConcurrencyTest {
+  private static final int REPETITIONS = 8;
+  private static final int THREADS = 8;
+
+  @Autowired DocxConverterService service;
+  @Autowired DocxConverter converter;
+  @Autowired DocxConversionExecutor conversionExecutor;
+  @Autowired EmfRenderCache emfRenderCache;
+
+  @MockBean S3Client client;
+
+  @MockBean DocxConversionCache conversionCache;
+  @MockBean ImageStore imageStore;
+
+  @Test
+  void testParseAsDocumentationUnitDocxList_inParallel_shouldReturnSameResultAsSerial()
+      throws Exception {
+    List<byte[]> documents = new ArrayList<>();
+    documents.add(readFixture("fixtures/attachment.docx"));
+    documents.add(readFixture("fixtures/attachment_ecli.docx"));
+    documents.add(readFixture("fixtures/with_metadata.docx"));
+    for (int i = 0; i < 5; i++) {
+      documents.add(generateDocument(i));
+    }
+
+    List<String> serialResults = new ArrayList<>();
+    for (byte[] document : documents) {
+      serialResults.add(convert(document));
+    }
+
+    List<Integer> tasks = new ArrayList<>();
+    for (int repetition = 0; repetition < REPETITIONS; repetition++) {
+      for (int i = 0; i < documents.size(); i++) {
+        tasks.add(i);
+      }
+    }
+    Collections.shuffle(tasks, new Random(42));
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<String>> futures = new ArrayList<>();
+      for (Integer task : tasks) {
+        futures.add(executor.submit(() -> convert(documents.get(task))));
+      }
+
+      for (int i = 0; i < tasks.size(); i++) {
+        assertThat(futures.get(i).get())
+            .as("document %d", tasks.get(i))
+            .isEqualTo(serialResults.get(tasks.get(i)));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testParseAsDocumentationUnitDocxList_withParallelElements_shouldReturnSameResultAsSerial()
+      throws Exception {
+    DocxConverterService parallelService =
+        new DocxConverterService(
+            client,
+            converter,
+            conversionExecutor,
+            conversionCache,
+            imageStore,
+            emfRenderCache,
+            1,
+            2);
+    List<byte[]> documents = new ArrayList<>();
+    documents.add(readFixture("fixtures/attachment.docx"));
+    documents.add(readFixture("fixtures/attachment_ecli.docx"));
+    documents.add(readFixture("fixtures/with_metadata.docx"));
+    documents.add(generateDocument(500));
+
+    for (int i = 0; i < documents.size(); i++) {
+      assertThat(convert(parallelService, documents.get(i)))
+          .as("document %d", i)
+          .isEqualTo(convert(documents.get(i)));
+    }
+  }
+
+  private String convert(byte[] document) {
+    return convert(service, document);
+  }
+
+  private static String convert(DocxConverterService service, byte[] document) {
+    List<DocumentationUnitDocx> documentationUnitDocxList =
+        service.parseAsDocumentationUnitDocxList(new ByteArrayInputStream(document));
+
+    return DocumentationUnitDocxListUtils.packList(documentationUnitDocxList).stream()
+        .map(DocumentationUnitDocx::toHtmlString)
+        .collect(Collectors.joining());
+  }
+
+  private static byte[] readFixture(String name) throws IOException {
+    try (InputStream inputStream =
+        DocxConverterServiceConcurrencyTest.class.getClassLoader().getResourceAsStream(name)) {
+      assertThat(inputStream).as(name).isNotNull();
+      return inputStream.readAllBytes();
+    }
+  }
+
+  /** Generate a docx file with a different text, font sizes and table per index. */
+  private static byte[] generateDocument(int index) throws Docx4JException {
+    ObjectFactory factory = Context.getWmlObjectFactory();
+    WordprocessingMLPackage mlPackage = WordprocessingMLPackage.createPackage();
+    MainDocumentPart mainDocumentPart = mlPackage.getMainDocumentPart();
+
+    mainDocumentPart.addStyledParagraphOfText("Title", "document " + index);
+    for (int i = 0; i < 10 + index; i++) {
+      mainDocumentPart.addObject(generateParagraph(factory, "paragraph " + index + "-" + i, i));
+    }
+
+    Tbl table = TblFactory.createTable(2 + index, 3, 3000);
+    for (int row = 0; row < table.getContent().size(); row++) {
+      Tr tr = (Tr) XmlUtils.unwrap(table.getContent().get(row));
+      for (int column = 0; column < tr.getContent().size(); column++) {
+        Tc tc = (Tc) XmlUtils.unwrap(tr.getContent().get(column));
+        tc.getContent().clear();
+        tc.getContent().add(generateParagraph(factory, "cell " + row + "-" + column, column));
+      }
+    }
+    mainDocumentPart.addObject(table);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    mlPackage.save(outputStream);
+    return outputStream.toByteArray();
+  }
+
+  private static P generateParagraph(ObjectFactory factory, String value, int variant) {
+    Text text = factory.createText();
+    text.setValue(value);
+
+    RPr rPr = factory.createRPr();
+    HpsMeasure size = factory.createHpsMeasure();
+    size.setVal(BigInteger.valueOf(19L + variant));
+    rPr.setSz(size);
+    if (variant % 2 == 0) {
+      rPr.setB(new BooleanDefaultTrue());
+    }
+
+    R run = factory.createR();
+    run.setRPr(rPr);
+    run.getContent().add(factory.createRT(text));
+
+    P paragraph = factory.createP();
+    paragraph.getContent().add(run);
+    return paragraph;
+  }
+}
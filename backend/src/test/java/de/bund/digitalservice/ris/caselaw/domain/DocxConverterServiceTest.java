@@ -5,14 +5,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import de.bund.digitalservice.ris.caselaw.adapter.DocxConversionCache;
+import de.bund.digitalservice.ris.caselaw.adapter.DocxConversionExecutor;
 import de.bund.digitalservice.ris.caselaw.adapter.DocxConverterService;
+import de.bund.digitalservice.ris.caselaw.adapter.EmfRenderCache;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ConversionContext;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverter;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverterException;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStore;
 import de.bund.digitalservice.ris.caselaw.config.ConverterConfig;
 import de.bund.digitalservice.ris.caselaw.domain.docx.BorderNumber;
 import de.bund.digitalservice.ris.caselaw.domain.docx.DocumentationUnitDocx;
@@ -31,14 +39,17 @@ import jakarta.xml.bind.JAXBElement;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import javax.xml.namespace.QName;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
 import org.docx4j.docProps.custom.Properties;
 import org.docx4j.model.structure.DocumentModel;
 import org.docx4j.model.structure.HeaderFooterPolicy;
@@ -71,13 +82,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import software.amazon.awssdk.core.ResponseBytes;
@@ -87,25 +98,32 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 @ExtendWith(SpringExtension.class)
-@Import({DocxConverterService.class, ConverterConfig.class})
+@Import({DocxConverterService.class, EmfRenderCache.class, ConverterConfig.class})
 class DocxConverterServiceTest {
 
   @Autowired DocxConverterService service;
 
   @MockBean S3Client client;
 
-  @SpyBean DocumentBuilderFactory documentBuilderFactory;
-
   @Mock WordprocessingMLPackage mlPackage;
 
   @Mock ResponseBytes<GetObjectResponse> responseBytes;
 
   @MockBean DocxConverter converter;
 
-  @Captor ArgumentCaptor<Map<String, Style>> styleMapCaptor;
-  @Captor ArgumentCaptor<List<ParagraphElement>> footerCaptor;
+  @MockBean DocxConversionExecutor conversionExecutor;
+
+  @MockBean DocxConversionCache conversionCache;
+  @MockBean ImageStore imageStore;
 
-  @Captor ArgumentCaptor<Map<String, DocxImagePart>> imageMapCaptor;
+  @Captor ArgumentCaptor<ConversionContext> contextCaptor;
+
+  @BeforeEach
+  void setUpConversionExecutor() {
+    // run the conversion in the test thread, static mocks are only active in this thread
+    when(conversionExecutor.execute(any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+  }
 
   @Test
   void testGetOriginalText() {
@@ -126,13 +144,26 @@ class DocxConverterServiceTest {
   }
 
   @Test
-  void testGetOriginalText_throwsException() throws ParserConfigurationException {
+  void testGetOriginalText_withPrefixedElements() {
     MainDocumentPart mockedMainDocumentPart = mock(MainDocumentPart.class);
     when(mlPackage.getMainDocumentPart()).thenReturn(mockedMainDocumentPart);
     when(mlPackage.getMainDocumentPart().getXML())
-        .thenReturn("<document><p><t>text</t></p></document>");
+        .thenReturn(
+            "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\">"
+                + "<w:body><w:p><w:r><w:t>first </w:t></w:r><w:r><w:t>second</w:t></w:r></w:p>"
+                + "<w:p><w:r><w:tab/><w:t xml:space=\"preserve\"> third</w:t></w:r></w:p>"
+                + "</w:body></w:document>");
 
-    when(documentBuilderFactory.newDocumentBuilder()).thenThrow(new ParserConfigurationException());
+    var result = service.getOriginalText(mlPackage);
+
+    assertEquals("first second third", result);
+  }
+
+  @Test
+  void testGetOriginalText_throwsException() {
+    MainDocumentPart mockedMainDocumentPart = mock(MainDocumentPart.class);
+    when(mlPackage.getMainDocumentPart()).thenReturn(mockedMainDocumentPart);
+    when(mlPackage.getMainDocumentPart().getXML()).thenReturn("<document><p><t>text</t></p>");
 
     assertThatThrownBy(
             () -> {
@@ -190,7 +221,7 @@ class DocxConverterServiceTest {
     when(styleDefinitionsPart.getJaxbElement()).thenReturn(styles);
     when(mainDocumentPart.getStyleDefinitionsPart()).thenReturn(styleDefinitionsPart);
     when(mlPackage.getMainDocumentPart()).thenReturn(mainDocumentPart);
-    when(mainDocumentPart.getContent()).thenReturn(Collections.emptyList());
+    when(mainDocumentPart.getContent()).thenReturn(List.of("1"));
 
     try (MockedStatic<WordprocessingMLPackage> mockedMLPackageStatic =
         mockStatic(WordprocessingMLPackage.class)) {
@@ -201,9 +232,10 @@ class DocxConverterServiceTest {
       Docx2Html docx2Html = service.getConvertedObject("test.docx");
       Assertions.assertNotNull(docx2Html);
 
-      verify(converter).setStyles(styleMapCaptor.capture());
-      assertTrue(styleMapCaptor.getValue().containsKey("test-style"));
-      assertEquals(style, styleMapCaptor.getValue().get("test-style"));
+      verify(converter).convert(eq("1"), contextCaptor.capture());
+      Map<String, Style> styleMapValue = contextCaptor.getValue().styles();
+      assertTrue(styleMapValue.containsKey("test-style"));
+      assertEquals(style, styleMapValue.get("test-style"));
     }
   }
 
@@ -241,7 +273,7 @@ class DocxConverterServiceTest {
     when(parts.getParts()).thenReturn(partMap);
     when(mlPackage.getParts()).thenReturn(parts);
     when(mlPackage.getMainDocumentPart()).thenReturn(mainDocumentPart);
-    when(mainDocumentPart.getContent()).thenReturn(Collections.emptyList());
+    when(mainDocumentPart.getContent()).thenReturn(List.of("1"));
 
     try (MockedStatic<WordprocessingMLPackage> mockedMLPackageStatic =
         mockStatic(WordprocessingMLPackage.class)) {
@@ -252,8 +284,8 @@ class DocxConverterServiceTest {
       Docx2Html docx2Html = service.getConvertedObject("test.docx");
       Assertions.assertNotNull(docx2Html);
 
-      verify(converter).setImages(imageMapCaptor.capture());
-      Map<String, DocxImagePart> imageMapValue = imageMapCaptor.getValue();
+      verify(converter).convert(eq("1"), contextCaptor.capture());
+      Map<String, DocxImagePart> imageMapValue = contextCaptor.getValue().images();
       assertEquals(3, imageMapValue.values().size());
       assertTrue(imageMapValue.containsKey("emfPart"));
       assertEquals("image/x-emf", imageMapValue.get("emfPart").contentType());
@@ -1226,6 +1258,76 @@ class DocxConverterServiceTest {
     assertEquals(Docx2Html.EMPTY, docx2Html);
   }
 
+  @Test
+  void testGetHtml_withUploadedFile_shouldConvertWithoutDownload(@TempDir Path tempDir)
+      throws IOException {
+    Path file = Files.write(tempDir.resolve("upload.docx"), new byte[] {1, 2, 3});
+    runSubmittedConversionsInline();
+    when(conversionCache.getKey("fooPath")).thenReturn("cacheKey");
+    MainDocumentPart mainDocumentPart = mock(MainDocumentPart.class);
+    when(mlPackage.getMainDocumentPart()).thenReturn(mainDocumentPart);
+    when(mainDocumentPart.getContent()).thenReturn(List.of("1"));
+    when(converter.convert(eq("1"), any())).thenReturn(generateText("text"));
+
+    try (MockedStatic<WordprocessingMLPackage> mockedMLPackageStatic =
+        mockStatic(WordprocessingMLPackage.class)) {
+      mockedMLPackageStatic
+          .when(() -> WordprocessingMLPackage.load(any(InputStream.class)))
+          .thenReturn(mlPackage);
+
+      Docx2Html docx2Html = service.getConvertedObject(file, () -> "fooPath");
+
+      assertEquals("<p>text</p>", docx2Html.html());
+      verify(conversionCache).put("cacheKey", docx2Html);
+      verifyNoInteractions(client);
+    }
+  }
+
+  @Test
+  void testGetHtml_withUploadedFileAndFailedUpload_shouldThrowUploadException() {
+    CompletableFuture<Docx2Html> conversion = new CompletableFuture<>();
+    when(conversionExecutor.<Docx2Html>submit(any())).thenReturn(conversion);
+    Supplier<String> upload =
+        () -> {
+          throw new IllegalStateException("upload failed");
+        };
+
+    Path file = Path.of("upload.docx");
+
+    assertThatThrownBy(() -> service.getConvertedObject(file, upload))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("upload failed");
+    assertTrue(conversion.isCancelled());
+    verify(conversionCache, never()).put(any(), any());
+  }
+
+  @Test
+  void testGetHtml_withCachedResult_shouldNotConvertAgain() {
+    Docx2Html cached = new Docx2Html("<p>cached</p>", List.of(), Collections.emptyMap());
+    when(conversionCache.getKey("test.docx")).thenReturn("cacheKey");
+    when(conversionCache.get("cacheKey")).thenReturn(Optional.of(cached));
+
+    Docx2Html docx2Html = service.getConvertedObject("test.docx");
+
+    assertEquals(cached, docx2Html);
+    verify(conversionExecutor, never()).execute(any());
+    verifyNoInteractions(client);
+  }
+
+  @Test
+  void testGetHtml_withoutCachedResult_shouldCacheResult() {
+    when(conversionCache.getKey("test.docx")).thenReturn("cacheKey");
+    when(conversionCache.get("cacheKey")).thenReturn(Optional.empty());
+    when(client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class)))
+        .thenReturn(responseBytes);
+    when(responseBytes.asInputStream()).thenReturn(null);
+
+    Docx2Html docx2Html = service.getConvertedObject("test.docx");
+
+    assertEquals(Docx2Html.EMPTY, docx2Html);
+    verify(conversionCache).put("cacheKey", Docx2Html.EMPTY);
+  }
+
   @Test
   void testGetHtml_withLoadDocxThrowsException() {
     when(client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class)))
@@ -1303,6 +1405,7 @@ class DocxConverterServiceTest {
       assertEquals("BGH", docx2Html.properties().get(DocxMetadataProperty.COURT_TYPE));
       assertEquals("1. Senat", docx2Html.properties().get(DocxMetadataProperty.APPRAISAL_BODY));
       assertEquals("ja", docx2Html.properties().get(DocxMetadataProperty.LEGAL_EFFECT));
+      assertEquals("", docx2Html.html());
     }
   }
 
@@ -1328,6 +1431,15 @@ class DocxConverterServiceTest {
     return new TableElement(rows);
   }
 
+  private void runSubmittedConversionsInline() {
+    when(conversionExecutor.submit(any()))
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
+    when(conversionExecutor.await(any()))
+        .thenAnswer(invocation -> invocation.<CompletableFuture<?>>getArgument(0).join());
+  }
+
   private DocumentationUnitDocx generateNumberingListEntry(
       String text, NumberingListEntryIndex numberingListEntryIndex) {
     var paragraphElement = generateText(text);
@@ -1358,7 +1470,7 @@ class DocxConverterServiceTest {
     private TestDocumentGenerator addContent(
         String id, DocumentationUnitDocx documentationUnitDocx) {
       ids.add(id);
-      when(converter.convert(id)).thenReturn(documentationUnitDocx);
+      when(converter.convert(eq(id), any())).thenReturn(documentationUnitDocx);
 
       return this;
     }
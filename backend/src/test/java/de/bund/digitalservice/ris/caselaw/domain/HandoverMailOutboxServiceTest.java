@@ -0,0 +1,135 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class HandoverMailOutboxServiceTest {
+  private static final HandoverMail HANDOVER_MAIL =
+      HandoverMail.builder()
+          .documentationUnitId(UUID.fromString("88888888-4444-4444-4444-121212121212"))
+          .receiverAddress("receiver@example.com")
+          .mailSubject("subject")
+          .xml("xml")
+          .success(true)
+          .statusMessages(List.of("succeed"))
+          .fileName("test.xml")
+          .build();
+
+  private HandoverMailOutboxRepository repository;
+  private HandoverMailOutboxService service;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(HandoverMailOutboxRepository.class);
+    when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    service =
+        new HandoverMailOutboxService(
+            repository, Duration.ofSeconds(30), Duration.ofMinutes(5), 3, Duration.ofMinutes(5));
+  }
+
+  @Test
+  void testEnqueue_shouldSaveTheMailWithTheOutboxEntry() {
+    when(repository.saveAndEnqueue(eq(HANDOVER_MAIL), any())).thenReturn(HANDOVER_MAIL);
+
+    assertThat(service.enqueue(HANDOVER_MAIL)).isEqualTo(HANDOVER_MAIL);
+    verify(repository).saveAndEnqueue(eq(HANDOVER_MAIL), any());
+  }
+
+  @Test
+  void testClaimNextEntry_shouldReclaimEntriesSendingLongerThanStaleDuration() {
+    when(repository.claimNextEntry(any(), any())).thenReturn(Optional.empty());
+    Instant before = Instant.now();
+
+    service.claimNextEntry();
+
+    ArgumentCaptor<Instant> now = ArgumentCaptor.forClass(Instant.class);
+    ArgumentCaptor<Instant> staleBefore = ArgumentCaptor.forClass(Instant.class);
+    verify(repository).claimNextEntry(now.capture(), staleBefore.capture());
+    assertThat(now.getValue()).isBetween(before, Instant.now());
+    assertThat(staleBefore.getValue()).isEqualTo(now.getValue().minus(Duration.ofMinutes(5)));
+  }
+
+  @Test
+  void testMarkSent_shouldResetTheErrorMessage() {
+    var entry = sendingEntry(2).toBuilder().errorMessage("timeout").build();
+
+    var sent = service.markSent(entry);
+
+    assertThat(sent.status()).isEqualTo(HandoverMailOutboxStatus.SENT);
+    assertThat(sent.errorMessage()).isNull();
+    verify(repository).save(sent);
+  }
+
+  @Test
+  void testMarkAttemptFailed_shouldScheduleTheNextAttemptWithBackoff() {
+    Instant before = Instant.now();
+
+    var pending = service.markAttemptFailed(sendingEntry(2), "timeout");
+
+    assertThat(pending.status()).isEqualTo(HandoverMailOutboxStatus.PENDING);
+    assertThat(pending.errorMessage()).isEqualTo("timeout");
+    assertThat(pending.nextAttemptAt())
+        .isBetween(before.plus(Duration.ofMinutes(1)), Instant.now().plus(Duration.ofMinutes(1)));
+  }
+
+  @Test
+  void testMarkAttemptFailed_withLastAttempt_shouldFailTheEntry() {
+    var failed = service.markAttemptFailed(sendingEntry(3), "timeout");
+
+    assertThat(failed.status()).isEqualTo(HandoverMailOutboxStatus.FAILED);
+    assertThat(failed.errorMessage()).isEqualTo("timeout");
+    assertThat(failed.handoverMail().success()).isFalse();
+    assertThat(failed.handoverMail().statusMessages())
+        .endsWith("Handover mail couldn't be sent: timeout");
+  }
+
+  @Test
+  void testPostpone_shouldReturnTheEntryWithoutCountingTheAttempt() {
+    Instant before = Instant.now();
+
+    var pending = service.postpone(sendingEntry(3), "circuit open");
+
+    assertThat(pending.status()).isEqualTo(HandoverMailOutboxStatus.PENDING);
+    assertThat(pending.attempts()).isEqualTo(2);
+    assertThat(pending.errorMessage()).isEqualTo("circuit open");
+    assertThat(pending.nextAttemptAt())
+        .isBetween(before.plus(Duration.ofSeconds(30)), Instant.now().plus(Duration.ofSeconds(30)));
+    verify(repository).save(pending);
+  }
+
+  @Test
+  void testGetBackoff_shouldDoubleUpToTheMaximalBackoff() {
+    assertThat(service.getBackoff(1)).isEqualTo(Duration.ofSeconds(30));
+    assertThat(service.getBackoff(2)).isEqualTo(Duration.ofMinutes(1));
+    assertThat(service.getBackoff(3)).isEqualTo(Duration.ofMinutes(2));
+    assertThat(service.getBackoff(4)).isEqualTo(Duration.ofMinutes(4));
+    assertThat(service.getBackoff(5)).isEqualTo(Duration.ofMinutes(5));
+    assertThat(service.getBackoff(100)).isEqualTo(Duration.ofMinutes(5));
+  }
+
+  private static HandoverMailOutboxEntry sendingEntry(int attempts) {
+    Instant now = Instant.now();
+    return HandoverMailOutboxEntry.builder()
+        .id(UUID.randomUUID())
+        .handoverMail(HANDOVER_MAIL)
+        .status(HandoverMailOutboxStatus.SENDING)
+        .attempts(attempts)
+        .nextAttemptAt(now)
+        .createdAt(now)
+        .updatedAt(now)
+        .build();
+  }
+}
@@ -0,0 +1,60 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class HandoverPreviewCacheTest {
+  // 10 chars of xml are 20 bytes
+  private final HandoverPreviewCache cache = new HandoverPreviewCache(50);
+
+  @Test
+  void testGet_withSameVersion_shouldReturnStoredPreview() {
+    UUID uuid = UUID.randomUUID();
+    cache.get(uuid, 1L, () -> preview("0123456789"));
+
+    assertThat(cache.get(uuid, 1L, () -> preview("other")).xml()).isEqualTo("0123456789");
+    assertThat(cache.get(uuid, 2L, () -> preview("version 2")).xml()).isEqualTo("version 2");
+  }
+
+  @Test
+  void testGet_withFullCache_shouldDropLeastRecentlyUsedPreview() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    UUID third = UUID.randomUUID();
+    cache.get(first, 1L, () -> preview("0123456789"));
+    cache.get(second, 1L, () -> preview("0123456789"));
+    // uses the first preview, so the second is the least recently used
+    cache.get(first, 1L, () -> preview("new"));
+
+    cache.get(third, 1L, () -> preview("0123456789"));
+
+    assertThat(cache.get(first, 1L, () -> preview("new")).xml()).isEqualTo("0123456789");
+    assertThat(cache.get(second, 1L, () -> preview("new")).xml()).isEqualTo("new");
+  }
+
+  @Test
+  void testGet_withPreviewBiggerThanCache_shouldNotStoreIt() {
+    UUID uuid = UUID.randomUUID();
+    cache.get(uuid, 1L, () -> preview("0123456789012345678901234567890"));
+
+    assertThat(cache.get(uuid, 1L, () -> preview("new")).xml()).isEqualTo("new");
+  }
+
+  @Test
+  void testEvict_shouldDropStoredPreview() {
+    UUID uuid = UUID.randomUUID();
+    cache.get(uuid, 1L, () -> preview("0123456789"));
+
+    cache.evict(uuid);
+
+    assertThat(cache.get(uuid, 1L, () -> preview("new")).xml()).isEqualTo("new");
+  }
+
+  private static XmlTransformationResult preview(String xml) {
+    return new XmlTransformationResult(xml, true, List.of(), "test.xml", Instant.now());
+  }
+}
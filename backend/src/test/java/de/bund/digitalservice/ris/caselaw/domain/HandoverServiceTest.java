@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -19,8 +20,10 @@ import java.util.UUID;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -32,6 +35,8 @@ class HandoverServiceTest {
 
   @SpyBean private HandoverService service;
 
+  @Autowired private ApplicationEventPublisher eventPublisher;
+
   @MockBean private DatabaseDocumentationUnitRepository documentationUnitRepository;
   @MockBean private DocumentationUnitRepository repository;
   @MockBean private DocumentationUnitService documentationUnitService;
@@ -213,6 +218,92 @@ class HandoverServiceTest {
     Assertions.assertEquals(mockXmlTransformationResult, service.createPreviewXml(TEST_UUID));
   }
 
+  @Test
+  void testPreviewXml_withUnchangedDocumentationUnit_shouldReuseThePreviewWithCurrentDate()
+      throws DocumentationUnitNotExistsException {
+    UUID uuid = UUID.randomUUID();
+    DocumentationUnit testDocumentationUnit =
+        DocumentationUnit.builder().uuid(uuid).documentNumber("DOC123").version(1L).build();
+    Instant created = Instant.now().minusSeconds(60);
+    XmlTransformationResult mockXmlTransformationResult =
+        new XmlTransformationResult("some xml", true, List.of("success"), "foo.xml", created);
+    when(repository.findByUuid(uuid))
+        .thenReturn(Optional.of(testDocumentationUnit))
+        .thenReturn(Optional.of(testDocumentationUnit.toBuilder().build()));
+    when(mailService.getXmlPreview(testDocumentationUnit)).thenReturn(mockXmlTransformationResult);
+
+    Assertions.assertEquals(mockXmlTransformationResult, service.createPreviewXml(uuid));
+    Instant beforeReuse = Instant.now();
+    XmlTransformationResult reused = service.createPreviewXml(uuid);
+
+    assertThat(reused.xml()).isEqualTo("some xml");
+    assertThat(reused.creationDate()).isAfterOrEqualTo(beforeReuse);
+    verify(mailService, times(1)).getXmlPreview(testDocumentationUnit);
+  }
+
+  @Test
+  void testPreviewXml_withNewVersion_shouldCreateANewPreview()
+      throws DocumentationUnitNotExistsException {
+    UUID uuid = UUID.randomUUID();
+    DocumentationUnit version1 =
+        DocumentationUnit.builder().uuid(uuid).documentNumber("DOC123").version(1L).build();
+    DocumentationUnit version2 = version1.toBuilder().version(2L).build();
+    XmlTransformationResult preview1 =
+        new XmlTransformationResult("xml 1", true, List.of("success"), "foo.xml", Instant.now());
+    XmlTransformationResult preview2 =
+        new XmlTransformationResult("xml 2", true, List.of("success"), "foo.xml", Instant.now());
+    when(repository.findByUuid(uuid))
+        .thenReturn(Optional.of(version1))
+        .thenReturn(Optional.of(version2));
+    when(mailService.getXmlPreview(version1)).thenReturn(preview1);
+    when(mailService.getXmlPreview(version2)).thenReturn(preview2);
+
+    Assertions.assertEquals(preview1, service.createPreviewXml(uuid));
+    Assertions.assertEquals(preview2, service.createPreviewXml(uuid));
+  }
+
+  @Test
+  void testPreviewXml_withSaveWithoutNewVersion_shouldCreateANewPreview()
+      throws DocumentationUnitNotExistsException {
+    UUID uuid = UUID.randomUUID();
+    DocumentationUnit original =
+        DocumentationUnit.builder().uuid(uuid).documentNumber("DOC123").version(1L).build();
+    DocumentationUnit changed = original.toBuilder().documentNumber("DOC456").build();
+    XmlTransformationResult preview1 =
+        new XmlTransformationResult("xml 1", true, List.of("success"), "foo.xml", Instant.now());
+    XmlTransformationResult preview2 =
+        new XmlTransformationResult("xml 2", true, List.of("success"), "foo.xml", Instant.now());
+    when(repository.findByUuid(uuid))
+        .thenReturn(Optional.of(original))
+        .thenReturn(Optional.of(changed));
+    when(mailService.getXmlPreview(original)).thenReturn(preview1);
+    when(mailService.getXmlPreview(changed)).thenReturn(preview2);
+
+    Assertions.assertEquals(preview1, service.createPreviewXml(uuid));
+    eventPublisher.publishEvent(new DocumentationUnitChangedEvent(uuid));
+    Assertions.assertEquals(preview2, service.createPreviewXml(uuid));
+  }
+
+  @Test
+  void testPreviewXml_afterHandover_shouldCreateANewPreview()
+      throws DocumentationUnitNotExistsException {
+    UUID uuid = UUID.randomUUID();
+    DocumentationUnit documentationUnit =
+        DocumentationUnit.builder().uuid(uuid).documentNumber("DOC123").version(1L).build();
+    XmlTransformationResult preview =
+        new XmlTransformationResult("xml", true, List.of("success"), "foo.xml", Instant.now());
+    when(repository.findByUuid(uuid)).thenReturn(Optional.of(documentationUnit));
+    when(mailService.getXmlPreview(documentationUnit)).thenReturn(preview);
+    when(mailService.handOver(eq(documentationUnit), anyString(), eq(ISSUER_ADDRESS)))
+        .thenReturn(HandoverMail.builder().success(true).build());
+
+    service.createPreviewXml(uuid);
+    service.handoverAsMail(uuid, ISSUER_ADDRESS);
+    service.createPreviewXml(uuid);
+
+    verify(mailService, times(2)).getXmlPreview(documentationUnit);
+  }
+
   @Test
   void testPrettifyXml() {
     String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><root><child>value</child></root>";
@@ -221,4 +312,14 @@ class HandoverServiceTest {
         .isEqualTo(
             "<?xml version=\"1.0\" encoding=\"UTF-8\"?><root>\n  <child>value</child>\n</root>\n");
   }
+
+  @Test
+  void testPrettifyXml_reusedAfterInvalidXml() {
+    assertThat(HandoverService.prettifyXml("<root><child></root>"))
+        .isEqualTo("Could not prettify XML");
+
+    assertThat(HandoverService.prettifyXml("<root><child>value</child></root>"))
+        .isEqualTo(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?><root>\n  <child>value</child>\n</root>\n");
+  }
 }
@@ -0,0 +1,47 @@
+package de.bund.digitalservice.ris.caselaw.domain.docx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DocumentationUnitDocxTest {
+  @Test
+  void testAppendHtml_shouldWriteWholeTreeIntoOutput() throws IOException {
+    var text = new RunTextElement();
+    text.setText("cell");
+    text.setBold(true);
+    var paragraph = new ParagraphElement();
+    paragraph.addRunElement(text);
+    var cell = new TableCellElement(List.of(paragraph), 1);
+    cell.setColumnSpan(2);
+    var table = new TableElement(List.of(new TableRowElement(List.of(cell))));
+    var borderNumber = new BorderNumber();
+    borderNumber.addNumberText("1");
+    borderNumber.addChild(table);
+
+    var writer = new StringWriter();
+    borderNumber.appendHtml(writer);
+
+    assertThat(writer)
+        .hasToString(
+            "<border-number><number>1</number><content>"
+                + "<table style=\"border-collapse: collapse;\"><tr>"
+                + "<td colspan=\"2\" style=\"min-width: 5px; padding: 5px;\">"
+                + "<p><span style=\"font-weight: bold;\">cell</span></p>"
+                + "</td></tr></table>"
+                + "</content></border-number>");
+    assertThat(borderNumber.toHtmlString()).isEqualTo(writer.toString());
+  }
+
+  @Test
+  void testAppendHtml_withMetadataProperty_shouldWriteNothing() throws IOException {
+    var sb = new StringBuilder();
+
+    new MetadataProperty(DocxMetadataProperty.FILE_NUMBER, "VI ZR 20/23").appendHtml(sb);
+
+    assertThat(sb).isEmpty();
+  }
+}
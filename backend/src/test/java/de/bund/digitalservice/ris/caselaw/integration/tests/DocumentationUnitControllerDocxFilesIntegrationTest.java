@@ -14,10 +14,14 @@ import de.bund.digitalservice.ris.caselaw.adapter.DatabaseDocumentationUnitStatu
 import de.bund.digitalservice.ris.caselaw.adapter.DatabaseProcedureService;
 import de.bund.digitalservice.ris.caselaw.adapter.DocumentNumberPatternConfig;
 import de.bund.digitalservice.ris.caselaw.adapter.DocumentationUnitController;
+import de.bund.digitalservice.ris.caselaw.adapter.DocxConversionCache;
+import de.bund.digitalservice.ris.caselaw.adapter.DocxConversionExecutor;
 import de.bund.digitalservice.ris.caselaw.adapter.DocxConverterService;
+import de.bund.digitalservice.ris.caselaw.adapter.EmfRenderCache;
 import de.bund.digitalservice.ris.caselaw.adapter.KeycloakUserService;
 import de.bund.digitalservice.ris.caselaw.adapter.S3AttachmentService;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverter;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStore;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.CourtDTO;
@@ -58,7 +62,6 @@ import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
-import javax.xml.parsers.DocumentBuilderFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -103,6 +106,8 @@ import software.amazon.awssdk.services.s3.model.PutObjectResponse;
       DocumentNumberPatternConfig.class,
       S3AttachmentService.class,
       DocxConverterService.class,
+      DocxConversionExecutor.class,
+      EmfRenderCache.class,
       DocxConverter.class,
       PostgresCourtRepositoryImpl.class,
       PostgresDocumentTypeRepositoryImpl.class,
@@ -140,13 +145,14 @@ class DocumentationUnitControllerDocxFilesIntegrationTest {
   @Autowired private DocumentationUnitService documentationUnitService;
 
   @MockBean private S3Client s3Client;
+  @MockBean private DocxConversionCache conversionCache;
+  @MockBean private ImageStore imageStore;
 
   @MockBean private MailService mailService;
 
   @MockBean private HandoverService handoverService;
 
   @MockBean private ClientRegistrationRepository clientRegistrationRepository;
-  @MockBean private DocumentBuilderFactory documentBuilderFactory;
   @MockBean private PatchMapperService patchMapperService;
   @MockBean private ProcedureService procedureService;
   @MockBean private DocumentationOfficeUserGroupService documentationOfficeUserGroupService;
@@ -4,6 +4,9 @@ import static de.bund.digitalservice.ris.caselaw.AuthUtils.mockDocOfficeUserGrou
 import static de.bund.digitalservice.ris.caselaw.domain.PublicationStatus.UNPUBLISHED;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import de.bund.digitalservice.ris.caselaw.TestConfig;
@@ -17,17 +20,21 @@ import de.bund.digitalservice.ris.caselaw.adapter.DocxConverterService;
 import de.bund.digitalservice.ris.caselaw.adapter.HandoverMailService;
 import de.bund.digitalservice.ris.caselaw.adapter.KeycloakUserService;
 import de.bund.digitalservice.ris.caselaw.adapter.MockXmlExporter;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ImageStore;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationOfficeRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseHandoverMailOutboxRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseHandoverReportRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseStatusRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseXmlHandoverMailRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationOfficeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationUnitDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.HandoverMailDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.HandoverMailOutboxDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.HandoverReportDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PostgresDeltaMigrationRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PostgresDocumentationUnitRepositoryImpl;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PostgresHandoverMailOutboxRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PostgresHandoverReportRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PostgresHandoverRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.StatusDTO;
@@ -41,6 +48,8 @@ import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.EventRecord;
 import de.bund.digitalservice.ris.caselaw.domain.EventType;
 import de.bund.digitalservice.ris.caselaw.domain.HandoverMail;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxService;
+import de.bund.digitalservice.ris.caselaw.domain.HandoverMailOutboxStatus;
 import de.bund.digitalservice.ris.caselaw.domain.HandoverReport;
 import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
 import de.bund.digitalservice.ris.caselaw.domain.ProcedureService;
@@ -77,6 +86,8 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
       DatabaseDocumentNumberRecyclingService.class,
       PostgresDocumentationUnitRepositoryImpl.class,
       PostgresHandoverRepositoryImpl.class,
+      PostgresHandoverMailOutboxRepositoryImpl.class,
+      HandoverMailOutboxService.class,
       PostgresHandoverReportRepositoryImpl.class,
       HandoverMailService.class,
       DatabaseDocumentationUnitStatusService.class,
@@ -115,6 +126,7 @@ class HandoverMailDocumentationUnitIntegrationTest {
   @Autowired private RisWebTestClient risWebTestClient;
   @Autowired private DatabaseDocumentationUnitRepository repository;
   @Autowired private DatabaseXmlHandoverMailRepository xmlHandoverRepository;
+  @Autowired private DatabaseHandoverMailOutboxRepository outboxRepository;
   @Autowired private DatabaseStatusRepository statusRepository;
   @Autowired private DatabaseHandoverReportRepository databaseHandoverReportRepository;
 
@@ -123,6 +135,7 @@ class HandoverMailDocumentationUnitIntegrationTest {
   @MockBean ClientRegistrationRepository clientRegistrationRepository;
   @MockBean private S3AsyncClient s3AsyncClient;
   @MockBean private HttpMailSender mailSender;
+  @MockBean private ImageStore imageStore;
   @MockBean DocxConverterService docxConverterService;
   @MockBean AttachmentService attachmentService;
   @MockBean private PatchMapperService patchMapperService;
@@ -137,12 +150,14 @@ class HandoverMailDocumentationUnitIntegrationTest {
 
   @BeforeEach
   void setUp() {
+    when(imageStore.inlineImages(any())).then(returnsFirstArg());
     docOffice = documentationOfficeRepository.findByAbbreviation("DS");
     mockDocOfficeUserGroups(documentationOfficeUserGroupService);
   }
 
   @AfterEach
   void cleanUp() {
+    outboxRepository.deleteAll();
     xmlHandoverRepository.deleteAll();
     repository.deleteAll();
     statusRepository.deleteAll();
@@ -222,6 +237,11 @@ class HandoverMailDocumentationUnitIntegrationTest {
         .ignoringFields("sentDate", "id")
         .isEqualTo(expectedHandoverMailDTO);
 
+    List<HandoverMailOutboxDTO> outbox = outboxRepository.findAll();
+    assertThat(outbox).hasSize(1);
+    assertThat(outbox.get(0).getStatus()).isEqualTo(HandoverMailOutboxStatus.PENDING);
+    assertThat(outbox.get(0).getHandoverMail().getId()).isEqualTo(handoverMailDTO.getId());
+
     StatusDTO lastStatus =
         statusRepository.findFirstByDocumentationUnitDTOOrderByCreatedAtDesc(
             savedDocumentationUnitDTO);
@@ -32,6 +32,15 @@ public class RisStatusAssertions {
     return responseSpec;
   }
 
+  public RisResponseSpec isAccepted() {
+    try {
+      resultActions.andExpect(status().isAccepted());
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    return responseSpec;
+  }
+
   public RisResponseSpec isNoContent() {
     try {
       resultActions.andExpect(status().isNoContent());
@@ -50,6 +59,15 @@ public class RisStatusAssertions {
     return responseSpec;
   }
 
+  public RisResponseSpec isServiceUnavailable() {
+    try {
+      resultActions.andExpect(status().isServiceUnavailable());
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    return responseSpec;
+  }
+
   public RisResponseSpec isBadRequest() {
     try {
       resultActions.andExpect(status().isBadRequest());
@@ -68,6 +86,15 @@ public class RisStatusAssertions {
     return responseSpec;
   }
 
+  public RisResponseSpec isNotFound() {
+    try {
+      resultActions.andExpect(status().isNotFound());
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    return responseSpec;
+  }
+
   public RisResponseSpec isForbidden() {
     try {
       resultActions.andExpect(status().isForbidden());